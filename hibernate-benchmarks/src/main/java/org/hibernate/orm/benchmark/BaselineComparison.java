@@ -0,0 +1,134 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Compares two JMH result files in CSV format ({@code -rf csv}), typically the
+ * stored baseline and the results of the latest run, and reports the relative
+ * change of the score of every benchmark present in both.
+ * <p>
+ * Usage: {@code BaselineComparison <baseline.csv> <results.csv> [threshold-percent]}
+ * <p>
+ * Changes larger than the threshold are flagged. Whether a larger score is a
+ * regression depends on the benchmark mode: for throughput it is an improvement,
+ * for all time-based modes it is a regression.
+ */
+public final class BaselineComparison {
+
+	public static void main(String[] args) throws IOException {
+		if ( args.length < 2 ) {
+			System.err.println( "Usage: BaselineComparison <baseline.csv> <results.csv> [threshold-percent]" );
+			System.exit( 2 );
+		}
+		final Path baselineFile = Path.of( args[0] );
+		final Path resultsFile = Path.of( args[1] );
+		final double threshold = args.length > 2 ? Double.parseDouble( args[2] ) : 10d;
+
+		if ( !Files.exists( baselineFile ) ) {
+			System.out.println( "No baseline found at " + baselineFile + "; run 'jmhSaveBaseline' to create one" );
+			return;
+		}
+		if ( !Files.exists( resultsFile ) ) {
+			System.out.println( "No results found at " + resultsFile + "; run 'jmh' first" );
+			return;
+		}
+
+		final Map<String, Result> baseline = read( baselineFile );
+		final Map<String, Result> results = read( resultsFile );
+
+		int regressions = 0;
+		for ( Map.Entry<String, Result> entry : results.entrySet() ) {
+			final Result current = entry.getValue();
+			final Result previous = baseline.get( entry.getKey() );
+			if ( previous == null ) {
+				System.out.printf( Locale.ROOT, "  NEW  %-90s %14.3f %s%n",
+						entry.getKey(), current.score, current.unit );
+				continue;
+			}
+			final double change = ( current.score - previous.score ) / previous.score * 100d;
+			final boolean worse = current.higherIsBetter() ? change < -threshold : change > threshold;
+			final boolean better = current.higherIsBetter() ? change > threshold : change < -threshold;
+			if ( worse ) {
+				regressions++;
+			}
+			System.out.printf( Locale.ROOT, "%5s %-90s %14.3f -> %14.3f %s (%+.1f%%)%n",
+					worse ? "WORSE" : better ? "BETTER" : "",
+					entry.getKey(), previous.score, current.score, current.unit, change );
+		}
+		System.out.printf( Locale.ROOT, "%d regression(s) beyond %.1f%%%n", regressions, threshold );
+	}
+
+	private static Map<String, Result> read(Path file) throws IOException {
+		final List<String> lines = Files.readAllLines( file );
+		final Map<String, Result> results = new LinkedHashMap<>();
+		if ( lines.isEmpty() ) {
+			return results;
+		}
+		final List<String> header = parseLine( lines.get( 0 ) );
+		final int benchmarkColumn = header.indexOf( "Benchmark" );
+		final int modeColumn = header.indexOf( "Mode" );
+		final int scoreColumn = header.indexOf( "Score" );
+		final int unitColumn = header.indexOf( "Unit" );
+		for ( int i = 1; i < lines.size(); i++ ) {
+			final List<String> values = parseLine( lines.get( i ) );
+			if ( values.size() != header.size() ) {
+				continue;
+			}
+			final StringBuilder key = new StringBuilder( values.get( benchmarkColumn ) )
+					.append( ' ' ).append( values.get( modeColumn ) );
+			for ( int column = 0; column < header.size(); column++ ) {
+				if ( header.get( column ).startsWith( "Param: " ) ) {
+					key.append( ' ' ).append( header.get( column ).substring( 7 ) )
+							.append( '=' ).append( values.get( column ) );
+				}
+			}
+			results.put(
+					key.toString(),
+					new Result(
+							values.get( modeColumn ),
+							Double.parseDouble( values.get( scoreColumn ) ),
+							values.get( unitColumn )
+					)
+			);
+		}
+		return results;
+	}
+
+	private static List<String> parseLine(String line) {
+		final List<String> values = new ArrayList<>();
+		final StringBuilder current = new StringBuilder();
+		boolean quoted = false;
+		for ( int i = 0; i < line.length(); i++ ) {
+			final char c = line.charAt( i );
+			if ( c == '"' ) {
+				quoted = !quoted;
+			}
+			else if ( c == ',' && !quoted ) {
+				values.add( current.toString() );
+				current.setLength( 0 );
+			}
+			else {
+				current.append( c );
+			}
+		}
+		values.add( current.toString() );
+		return values;
+	}
+
+	private record Result(String mode, double score, String unit) {
+		boolean higherIsBetter() {
+			return "thrpt".equals( mode );
+		}
+	}
+}
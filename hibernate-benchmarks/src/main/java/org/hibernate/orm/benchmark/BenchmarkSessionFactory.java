@@ -0,0 +1,87 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.cfg.Configuration;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.orm.benchmark.model.Country;
+import org.hibernate.orm.benchmark.model.Person;
+import org.hibernate.testing.cache.CachingRegionFactory;
+import org.hibernate.tool.schema.Action;
+
+import static org.hibernate.cfg.AvailableSettings.CACHE_REGION_FACTORY;
+import static org.hibernate.cfg.AvailableSettings.HBM2DDL_AUTO;
+import static org.hibernate.cfg.AvailableSettings.JAKARTA_JDBC_PASSWORD;
+import static org.hibernate.cfg.AvailableSettings.JAKARTA_JDBC_URL;
+import static org.hibernate.cfg.AvailableSettings.JAKARTA_JDBC_USER;
+import static org.hibernate.cfg.AvailableSettings.ORDER_INSERTS;
+import static org.hibernate.cfg.AvailableSettings.STATEMENT_BATCH_SIZE;
+import static org.hibernate.cfg.AvailableSettings.USE_SECOND_LEVEL_CACHE;
+
+/**
+ * Builds the {@link org.hibernate.SessionFactory} shared by the benchmarks, backed
+ * by a private in-memory H2 database, and seeds it with data.
+ */
+public final class BenchmarkSessionFactory {
+	public static final int COUNTRY_COUNT = 200;
+
+	private static final AtomicInteger databaseCounter = new AtomicInteger();
+
+	private BenchmarkSessionFactory() {
+	}
+
+	public static SessionFactoryImplementor build(boolean secondLevelCache) {
+		final Configuration configuration = new Configuration()
+				.addAnnotatedClass( Person.class )
+				.addAnnotatedClass( Country.class )
+				.setProperty( JAKARTA_JDBC_URL,
+						"jdbc:h2:mem:benchmark_" + databaseCounter.incrementAndGet() + ";DB_CLOSE_DELAY=-1" )
+				.setProperty( JAKARTA_JDBC_USER, "sa" )
+				.setProperty( JAKARTA_JDBC_PASSWORD, "" )
+				.setProperty( HBM2DDL_AUTO, Action.CREATE_DROP )
+				.setProperty( STATEMENT_BATCH_SIZE, 50 )
+				.setProperty( ORDER_INSERTS, true )
+				.setProperty( USE_SECOND_LEVEL_CACHE, secondLevelCache );
+		if ( secondLevelCache ) {
+			configuration.setProperty( CACHE_REGION_FACTORY, CachingRegionFactory.class );
+		}
+		return (SessionFactoryImplementor) configuration.buildSessionFactory();
+	}
+
+	/**
+	 * Inserts {@value #COUNTRY_COUNT} countries and the given number of persons.
+	 */
+	public static void populate(SessionFactoryImplementor sessionFactory, int personCount) {
+		sessionFactory.inStatelessTransaction( session -> {
+			final List<Country> countries = new ArrayList<>( COUNTRY_COUNT );
+			for ( int i = 0; i < COUNTRY_COUNT; i++ ) {
+				countries.add( new Country( i, "C" + i, "Country #" + i ) );
+			}
+			session.insertMultiple( countries );
+
+			final List<Person> persons = new ArrayList<>( personCount );
+			for ( int i = 0; i < personCount; i++ ) {
+				persons.add( newPerson( i, countries.get( i % COUNTRY_COUNT ) ) );
+			}
+			session.insertMultiple( persons );
+		} );
+	}
+
+	public static Person newPerson(int i, Country country) {
+		return new Person(
+				"Person #" + i,
+				"person" + i + "@example.org",
+				18 + i % 60,
+				i * 0.5d,
+				LocalDate.of( 1950, 1, 1 ).plusDays( i % 20_000 ),
+				country
+		);
+	}
+}
@@ -0,0 +1,87 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.orm.benchmark.model.Person;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures a flush of a large persistence context, which is dominated by
+ * {@code DefaultFlushEntityEventListener} dirty-checking every managed entity.
+ * <p>
+ * Every {@code modifiedEvery}-th entity is modified before the flush; {@code 0}
+ * means nothing is modified, and so the flush is pure dirty-checking overhead.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DirtyCheckingBenchmark {
+	@Param({ "10000" })
+	public int entityCount;
+
+	@Param({ "0", "10" })
+	public int modifiedEvery;
+
+	private SessionFactoryImplementor sessionFactory;
+	private Session session;
+	private List<Person> persons;
+	private int round;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactory.build( false );
+		BenchmarkSessionFactory.populate( sessionFactory, entityCount );
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Setup(Level.Invocation)
+	public void openSession() {
+		session = sessionFactory.openSession();
+		session.getTransaction().begin();
+		persons = session.createSelectionQuery( "from Person", Person.class ).getResultList();
+		if ( modifiedEvery > 0 ) {
+			round++;
+			for ( int i = 0; i < persons.size(); i += modifiedEvery ) {
+				persons.get( i ).setScore( round );
+			}
+		}
+	}
+
+	@TearDown(Level.Invocation)
+	public void closeSession() {
+		session.getTransaction().rollback();
+		session.close();
+	}
+
+	@Benchmark
+	public void flush() {
+		session.flush();
+	}
+}
@@ -0,0 +1,75 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.orm.benchmark.model.Country;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@code persist()} of {@code N} new entities followed by a flush,
+ * exercising {@code SessionImpl}, the {@code ActionQueue} and JDBC batching.
+ * <p>
+ * The transaction is rolled back after each invocation so that the table
+ * does not grow over the course of the run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PersistFlushBenchmark {
+	@Param({ "100", "1000" })
+	public int entityCount;
+
+	private SessionFactoryImplementor sessionFactory;
+	private Country country;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactory.build( false );
+		BenchmarkSessionFactory.populate( sessionFactory, 0 );
+		country = sessionFactory.fromSession( session -> session.find( Country.class, 1 ) );
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public int persistAndFlush() {
+		try ( Session session = sessionFactory.openSession() ) {
+			session.getTransaction().begin();
+			try {
+				for ( int i = 0; i < entityCount; i++ ) {
+					session.persist( BenchmarkSessionFactory.newPerson( i, country ) );
+				}
+				session.flush();
+				return session.getStatistics().getEntityCount();
+			}
+			finally {
+				session.getTransaction().rollback();
+			}
+		}
+	}
+}
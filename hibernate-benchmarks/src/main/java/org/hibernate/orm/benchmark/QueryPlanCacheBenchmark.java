@@ -0,0 +1,80 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.orm.benchmark.model.Person;
+import org.hibernate.query.hql.HqlTranslator;
+import org.hibernate.query.spi.HqlInterpretation;
+import org.hibernate.query.spi.QueryInterpretationCache;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@code QueryInterpretationCacheStandardImpl} for HQL strings which are
+ * already cached, and for HQL strings which are never seen twice and therefore
+ * always pay for parsing and semantic analysis.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QueryPlanCacheBenchmark {
+	private static final String HQL = "select p from Person p join p.country c where c.code = :code and p.age > :age order by p.name";
+
+	private SessionFactoryImplementor sessionFactory;
+	private QueryInterpretationCache interpretationCache;
+	private HqlTranslator hqlTranslator;
+	private long missCounter;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactory.build( false );
+		interpretationCache = sessionFactory.getQueryEngine().getInterpretationCache();
+		hqlTranslator = sessionFactory.getQueryEngine().getHqlTranslator();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public HqlInterpretation<Person> hqlInterpretationHit() {
+		return interpretationCache.resolveHqlInterpretation( HQL, Person.class, hqlTranslator );
+	}
+
+	@Benchmark
+	public HqlInterpretation<Person> hqlInterpretationMiss() {
+		return interpretationCache.resolveHqlInterpretation(
+				HQL.replace( ":age", Long.toString( missCounter++ ) ),
+				Person.class,
+				hqlTranslator
+		);
+	}
+
+	@Benchmark
+	public Object createQueryHit() {
+		return sessionFactory.fromSession( session ->
+				session.createSelectionQuery( HQL, Person.class )
+						.setParameter( "code", "C1" )
+						.setParameter( "age", 30 ) );
+	}
+}
@@ -0,0 +1,76 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.orm.benchmark.model.Person;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures reading rows through {@code StandardRowReader}, both into managed
+ * entities (via {@code EntityInitializerImpl}) and into scalar projections.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RowHydrationBenchmark {
+	@Param({ "1000", "20000" })
+	public int rowCount;
+
+	private SessionFactoryImplementor sessionFactory;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactory.build( false );
+		BenchmarkSessionFactory.populate( sessionFactory, rowCount );
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public List<Person> entities() {
+		return sessionFactory.fromSession( session ->
+				session.createSelectionQuery( "from Person", Person.class ).getResultList() );
+	}
+
+	@Benchmark
+	public List<Person> readOnlyEntities() {
+		return sessionFactory.fromSession( session ->
+				session.createSelectionQuery( "from Person", Person.class )
+						.setReadOnly( true )
+						.getResultList() );
+	}
+
+	@Benchmark
+	public List<Object[]> projection() {
+		return sessionFactory.fromSession( session ->
+				session.createSelectionQuery(
+						"select p.id, p.name, p.age, p.score, p.birthDate from Person p",
+						Object[].class
+				).getResultList() );
+	}
+}
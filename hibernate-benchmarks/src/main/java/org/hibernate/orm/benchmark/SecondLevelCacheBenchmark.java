@@ -0,0 +1,98 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.orm.benchmark.model.Country;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static org.hibernate.orm.benchmark.BenchmarkSessionFactory.COUNTRY_COUNT;
+
+/**
+ * Measures second-level cache reads and writes through the
+ * {@link EntityDataAccess} handed out by a {@code DomainDataRegionTemplate},
+ * as well as a {@code find()} which is served from the cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SecondLevelCacheBenchmark {
+	private SessionFactoryImplementor sessionFactory;
+	private SessionImplementor session;
+	private EntityDataAccess cacheAccess;
+	private Object[] keys;
+	private Object[] entries;
+	private int position;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactory.build( true );
+		BenchmarkSessionFactory.populate( sessionFactory, 0 );
+
+		final EntityPersister persister =
+				sessionFactory.getMappingMetamodel().getEntityDescriptor( Country.class );
+		cacheAccess = persister.getCacheAccessStrategy();
+		session = (SessionImplementor) sessionFactory.openSession();
+
+		keys = new Object[COUNTRY_COUNT];
+		entries = new Object[COUNTRY_COUNT];
+		for ( int i = 0; i < COUNTRY_COUNT; i++ ) {
+			// loading the entity puts it in the cache
+			final int id = i;
+			sessionFactory.inSession( s -> s.find( Country.class, id ) );
+			keys[i] = cacheAccess.generateCacheKey( i, persister, sessionFactory, null );
+			entries[i] = cacheAccess.get( session, keys[i] );
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		session.close();
+		sessionFactory.close();
+	}
+
+	private int next() {
+		final int next = position;
+		position = next + 1 == COUNTRY_COUNT ? 0 : next + 1;
+		return next;
+	}
+
+	@Benchmark
+	public Object get() {
+		return cacheAccess.get( session, keys[next()] );
+	}
+
+	@Benchmark
+	public boolean put() {
+		final int i = next();
+		return cacheAccess.putFromLoad( session, keys[i], entries[i], null, false );
+	}
+
+	@Benchmark
+	public Country find() {
+		final int id = next();
+		return sessionFactory.fromSession( s -> s.find( Country.class, id ) );
+	}
+}
@@ -166,6 +166,10 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private boolean orderInsertsEnabled;
 	private boolean collectionsInDefaultFetchGroupEnabled = true;
 	private final boolean unownedAssociationTransientCheck;
+	private final boolean persistenceContextPrimitiveIdMap;
+	private final boolean dirtyCheckOptimizer;
+	private final boolean batchPipelining;
+	private final boolean parallelResultAssembly;
 	private final boolean passProcedureParameterNames;
 	private final boolean preferJdbcDatetimeTypes;
 
@@ -241,6 +245,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private final boolean xmlFunctionsEnabled;
 
 	private final int queryStatisticsMaxSize;
+	private final int statisticsSampleRate;
 
 	private final Map<String, Object> defaultSessionProperties;
 	private final CacheStoreMode defaultCacheStoreMode;
@@ -339,8 +344,10 @@ public BootstrapContext getBootstrapContext() {
 						settings.get( STATEMENT_INSPECTOR ) );
 
 
+		statisticsSampleRate = Math.max( 1, getInt( STATISTICS_SAMPLE_RATE, settings, 1 ) );
 		baselineSessionEventsListenerBuilder =
-				new BaselineSessionEventsListenerBuilder( getAutoSessionEventsListener( settings, strategySelector ) );
+				new BaselineSessionEventsListenerBuilder( getAutoSessionEventsListener( settings, strategySelector ),
+						statisticsSampleRate );
 
 		customEntityDirtinessStrategy =
 				strategySelector.resolveDefaultableStrategy( CustomEntityDirtinessStrategy.class,
@@ -520,6 +527,10 @@ public BootstrapContext getBootstrapContext() {
 
 		unownedAssociationTransientCheck =
 				getBoolean( UNOWNED_ASSOCIATION_TRANSIENT_CHECK, settings, isJpaBootstrap() );
+		persistenceContextPrimitiveIdMap = getBoolean( PERSISTENCE_CONTEXT_PRIMITIVE_ID_MAP, settings );
+		dirtyCheckOptimizer = getBoolean( DIRTY_CHECK_OPTIMIZER, settings );
+		batchPipelining = getBoolean( BATCH_PIPELINING, settings );
+		parallelResultAssembly = getBoolean( PARALLEL_RESULT_ASSEMBLY, settings );
 
 		passProcedureParameterNames = getBoolean( QUERY_PASS_PROCEDURE_PARAMETER_NAMES, settings );
 
@@ -1340,6 +1351,11 @@ public int getQueryStatisticsMaxSize() {
 		return queryStatisticsMaxSize;
 	}
 
+	@Override
+	public int getStatisticsSampleRate() {
+		return statisticsSampleRate;
+	}
+
 	@Override
 	public boolean areJPACallbacksEnabled() {
 		return callbacksEnabled;
@@ -1355,6 +1371,26 @@ public boolean isUnownedAssociationTransientCheck() {
 		return unownedAssociationTransientCheck;
 	}
 
+	@Override
+	public boolean isPersistenceContextPrimitiveIdMapEnabled() {
+		return persistenceContextPrimitiveIdMap;
+	}
+
+	@Override
+	public boolean isDirtyCheckOptimizerEnabled() {
+		return dirtyCheckOptimizer;
+	}
+
+	@Override
+	public boolean isBatchPipeliningEnabled() {
+		return batchPipelining;
+	}
+
+	@Override
+	public boolean isParallelResultAssemblyEnabled() {
+		return parallelResultAssembly;
+	}
+
 	@Override
 	public int getPreferredSqlTypeCodeForBoolean() {
 		return preferredSqlTypeCodeForBoolean;
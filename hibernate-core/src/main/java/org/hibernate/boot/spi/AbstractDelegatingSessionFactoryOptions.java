@@ -476,6 +476,11 @@ public int getQueryStatisticsMaxSize() {
 		return delegate.getQueryStatisticsMaxSize();
 	}
 
+	@Override
+	public int getStatisticsSampleRate() {
+		return delegate.getStatisticsSampleRate();
+	}
+
 	@Override
 	public boolean areJPACallbacksEnabled() {
 		return delegate.areJPACallbacksEnabled();
@@ -491,6 +496,26 @@ public boolean isUnownedAssociationTransientCheck() {
 		return delegate.isUnownedAssociationTransientCheck();
 	}
 
+	@Override
+	public boolean isPersistenceContextPrimitiveIdMapEnabled() {
+		return delegate.isPersistenceContextPrimitiveIdMapEnabled();
+	}
+
+	@Override
+	public boolean isDirtyCheckOptimizerEnabled() {
+		return delegate.isDirtyCheckOptimizerEnabled();
+	}
+
+	@Override
+	public boolean isBatchPipeliningEnabled() {
+		return delegate.isBatchPipeliningEnabled();
+	}
+
+	@Override
+	public boolean isParallelResultAssemblyEnabled() {
+		return delegate.isParallelResultAssemblyEnabled();
+	}
+
 	@Override
 	public boolean isUseOfJdbcNamedParametersEnabled() {
 		return delegate().isUseOfJdbcNamedParametersEnabled();
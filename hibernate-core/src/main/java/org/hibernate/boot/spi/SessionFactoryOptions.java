@@ -592,6 +592,16 @@ default boolean inClauseParameterPaddingEnabled() {
 	 */
 	int getQueryStatisticsMaxSize();
 
+	/**
+	 * Only one in this number of events is recorded in the statistics
+	 * of individual entities, collections, and queries.
+	 *
+	 * @since 7.2
+	 *
+	 * @see org.hibernate.cfg.StatisticsSettings#STATISTICS_SAMPLE_RATE
+	 */
+	int getStatisticsSampleRate();
+
 	/**
 	 * Should JPA entity lifecycle callbacks be processed by
 	 * the {@link org.hibernate.event.spi.EventEngine} and
@@ -636,6 +646,47 @@ default boolean isCollectionsInDefaultFetchGroupEnabled() {
 	 */
 	boolean isUnownedAssociationTransientCheck();
 
+	/**
+	 * Should the persistence context store entities with integral identifiers
+	 * in tables of primitive keys?
+	 *
+	 * @since 7.2
+	 *
+	 * @see org.hibernate.cfg.PersistenceSettings#PERSISTENCE_CONTEXT_PRIMITIVE_ID_MAP
+	 */
+	boolean isPersistenceContextPrimitiveIdMapEnabled();
+
+	/**
+	 * Should dirty checking of entities which are not enhanced use
+	 * generated {@linkplain org.hibernate.bytecode.spi.DirtyCheckOptimizer
+	 * dirty check optimizers}?
+	 *
+	 * @since 7.2
+	 *
+	 * @see org.hibernate.cfg.BytecodeSettings#DIRTY_CHECK_OPTIMIZER
+	 */
+	boolean isDirtyCheckOptimizerEnabled();
+
+	/**
+	 * Should JDBC batches affecting tables which do not depend on each
+	 * other be kept open together during flush?
+	 *
+	 * @since 7.2
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#BATCH_PIPELINING
+	 */
+	boolean isBatchPipeliningEnabled();
+
+	/**
+	 * Should the results of queries returning only scalar values be
+	 * assembled in parallel?
+	 *
+	 * @since 7.2
+	 *
+	 * @see org.hibernate.cfg.QuerySettings#PARALLEL_RESULT_ASSEMBLY
+	 */
+	boolean isParallelResultAssemblyEnabled();
+
 	/**
 	 * @see org.hibernate.cfg.MappingSettings#PREFERRED_BOOLEAN_JDBC_TYPE
 	 */
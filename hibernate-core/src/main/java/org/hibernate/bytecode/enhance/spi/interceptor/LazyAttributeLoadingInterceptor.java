@@ -105,6 +105,11 @@ protected Object loadAttribute(final Object target, final String attributeName)
 						);
 					}
 
+					final var fetchPlanObservation = session.getLoadQueryInfluencers().getFetchPlanObservation();
+					if ( fetchPlanObservation != null ) {
+						fetchPlanObservation.attributeInitialized( getEntityName(), attributeName );
+					}
+
 					final var initializer = (LazyPropertyInitializer) persister;
 					final Object loadedValue =
 							initializer.initializeLazyProperty( attributeName, target, session );
@@ -30,6 +30,7 @@
 import org.hibernate.bytecode.enhance.spi.EnhancementContext;
 import org.hibernate.bytecode.enhance.spi.Enhancer;
 import org.hibernate.bytecode.spi.BytecodeProvider;
+import org.hibernate.bytecode.spi.DirtyCheckOptimizer;
 import org.hibernate.bytecode.spi.ProxyFactoryFactory;
 import org.hibernate.bytecode.spi.ReflectionOptimizer;
 import org.hibernate.internal.util.ReflectHelper;
@@ -52,6 +53,8 @@
 import net.bytebuddy.jar.asm.Opcodes;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import static net.bytebuddy.matcher.ElementMatchers.named;
+import static org.hibernate.engine.internal.ManagedTypeHelper.isPersistentAttributeInterceptableType;
 import static org.hibernate.internal.CoreMessageLogger.CORE_LOGGER;
 
 public class BytecodeProviderImpl implements BytecodeProvider {
@@ -59,6 +62,7 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 	private static final String INSTANTIATOR_PROXY_NAMING_SUFFIX = "$HibernateInstantiator";
 	private static final String OPTIMIZER_PROXY_NAMING_SUFFIX = "HibernateAccessOptimizer";
 	private static final String OPTIMIZER_PROXY_BRIDGE_NAMING_SUFFIX = "$HibernateAccessOptimizerBridge";
+	private static final String DIRTY_CHECK_OPTIMIZER_NAMING_SUFFIX = "HibernateDirtyCheckOptimizer";
 
 	public static final Member EMBEDDED_MEMBER = new Member() {
 		@Override
@@ -259,6 +263,86 @@ public ReflectionOptimizer getReflectionOptimizer(
 		}
 	}
 
+	@Override
+	public @Nullable DirtyCheckOptimizer getDirtyCheckOptimizer(
+			Class<?> clazz,
+			@Nullable PropertyAccess[] propertyAccesses) {
+		if ( isPersistentAttributeInterceptableType( clazz ) ) {
+			// enhanced entities are dirty checked by other means
+			return null;
+		}
+		final Member[] getters = new Member[propertyAccesses.length];
+		final boolean[] optimized = new boolean[propertyAccesses.length];
+		boolean anyOptimized = false;
+		final int optimizable = Math.min( propertyAccesses.length, DirtyCheckOptimizer.MAX_OPTIMIZED_PROPERTIES );
+		for ( int i = 0; i < optimizable; i++ ) {
+			final PropertyAccess propertyAccess = propertyAccesses[i];
+			if ( propertyAccess != null ) {
+				final Member getter = accessibleGetterMember( clazz, propertyAccess.getGetter() );
+				if ( getter != null ) {
+					getters[i] = getter;
+					optimized[i] = true;
+					anyOptimized = true;
+				}
+			}
+		}
+		if ( !anyOptimized ) {
+			return null;
+		}
+
+		final Class<?> comparatorClass = byteBuddyState.load( clazz, byteBuddy -> byteBuddy
+				.with( new NamingStrategy.SuffixingRandom(
+						DIRTY_CHECK_OPTIMIZER_NAMING_SUFFIX,
+						new NamingStrategy.Suffixing.BaseNameResolver.ForFixedValue( clazz.getName() )
+				) )
+				.subclass( constants.TypeObject )
+				.implement( DirtyCheckOptimizerImpl.PropertyComparator.class )
+				.method( named( "compare" ) )
+				.intercept( new Implementation.Simple( new CompareProperties( clazz, getters ) ) )
+		);
+
+		try {
+			return new DirtyCheckOptimizerImpl(
+					optimized,
+					(DirtyCheckOptimizerImpl.PropertyComparator)
+							comparatorClass.getDeclaredConstructor().newInstance()
+			);
+		}
+		catch (Exception exception) {
+			throw new HibernateException( exception );
+		}
+	}
+
+	/**
+	 * The field or method of the given getter, if it may be accessed directly by
+	 * a class generated in the package of the given entity class.
+	 */
+	private static @Nullable Member accessibleGetterMember(Class<?> clazz, Getter getter) {
+		final Member member;
+		if ( getter instanceof GetterFieldImpl getterField ) {
+			member = getterField.getField();
+		}
+		else if ( getter instanceof GetterMethodImpl ) {
+			member = getter.getMethod();
+		}
+		else {
+			return null;
+		}
+		final int modifiers = member.getModifiers();
+		if ( Modifier.isPrivate( modifiers ) || Modifier.isStatic( modifiers ) ) {
+			return null;
+		}
+		final Class<?> declaringClass = member.getDeclaringClass();
+		if ( Modifier.isPublic( modifiers ) && Modifier.isPublic( declaringClass.getModifiers() ) ) {
+			return member;
+		}
+		// otherwise, the member is only accessible from the same package
+		return declaringClass.getPackageName().equals( clazz.getPackageName() )
+			&& declaringClass.getClassLoader() == clazz.getClassLoader()
+				? member
+				: null;
+	}
+
 	private Class<?> determineAccessOptimizerSuperClass(Class<?> clazz, String[] propertyNames, Member[] getters, Member[] setters) {
 		if ( clazz.isInterface() ) {
 			return Object.class;
@@ -0,0 +1,189 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.bytecode.internal.bytebuddy;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.List;
+
+import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.implementation.Implementation;
+import net.bytebuddy.implementation.bytecode.ByteCodeAppender;
+import net.bytebuddy.jar.asm.Label;
+import net.bytebuddy.jar.asm.MethodVisitor;
+import net.bytebuddy.jar.asm.Opcodes;
+import net.bytebuddy.jar.asm.Type;
+
+/**
+ * Generates the bytecode of {@link DirtyCheckOptimizerImpl.PropertyComparator#compare},
+ * which compares the value of each given getter with the corresponding element
+ * of the loaded state, setting the corresponding bit of the returned mask if
+ * they differ. Primitive values are compared without boxing, after unboxing the
+ * loaded state, and reference values are compared using {@link java.util.Objects#equals}.
+ */
+class CompareProperties implements ByteCodeAppender {
+	// local variable slots of the generated method
+	private static final int ENTITY = 1;
+	private static final int LOADED_STATE = 2;
+	private static final int LOADED_VALUE = 3;
+	// a long, occupying two slots
+	private static final int DIRTY = 4;
+
+	private static final TypeDescription OBJECT = TypeDescription.ForLoadedType.of( Object.class );
+	private static final TypeDescription OBJECT_ARRAY = TypeDescription.ForLoadedType.of( Object[].class );
+	private static final TypeDescription LONG = TypeDescription.ForLoadedType.of( long.class );
+
+	private final String internalClazzName;
+	private final Member[] getters;
+
+	/**
+	 * @param clazz The entity class
+	 * @param getters The field or method to read for each property,
+	 * or {@code null} for properties which are not compared
+	 */
+	CompareProperties(Class<?> clazz, Member[] getters) {
+		this.internalClazzName = Type.getInternalName( clazz );
+		this.getters = getters;
+	}
+
+	@Override
+	public Size apply(
+			MethodVisitor methodVisitor,
+			Implementation.Context implementationContext,
+			MethodDescription instrumentedMethod) {
+		final List<TypeDescription> locals = List.of(
+				implementationContext.getInstrumentedType(),
+				OBJECT,
+				OBJECT_ARRAY,
+				OBJECT,
+				LONG
+		);
+		methodVisitor.visitInsn( Opcodes.ACONST_NULL );
+		methodVisitor.visitVarInsn( Opcodes.ASTORE, LOADED_VALUE );
+		methodVisitor.visitInsn( Opcodes.LCONST_0 );
+		methodVisitor.visitVarInsn( Opcodes.LSTORE, DIRTY );
+		for ( int index = 0; index < getters.length; index++ ) {
+			final Member getter = getters[index];
+			if ( getter != null ) {
+				final Class<?> type = getter instanceof Field field
+						? field.getType()
+						: ( (Method) getter ).getReturnType();
+				final Label dirtyLabel = new Label();
+				final Label nextLabel = new Label();
+
+				// Load the loaded value of the property
+				methodVisitor.visitVarInsn( Opcodes.ALOAD, LOADED_STATE );
+				methodVisitor.visitLdcInsn( index );
+				methodVisitor.visitInsn( Opcodes.AALOAD );
+				if ( type.isPrimitive() ) {
+					final String wrapperName = wrapperInternalName( type );
+					methodVisitor.visitVarInsn( Opcodes.ASTORE, LOADED_VALUE );
+					// A null or unfetched loaded value is considered dirty
+					methodVisitor.visitVarInsn( Opcodes.ALOAD, LOADED_VALUE );
+					methodVisitor.visitTypeInsn( Opcodes.INSTANCEOF, wrapperName );
+					methodVisitor.visitJumpInsn( Opcodes.IFEQ, dirtyLabel );
+					// Unbox the loaded value
+					methodVisitor.visitVarInsn( Opcodes.ALOAD, LOADED_VALUE );
+					methodVisitor.visitTypeInsn( Opcodes.CHECKCAST, wrapperName );
+					methodVisitor.visitMethodInsn(
+							Opcodes.INVOKEVIRTUAL,
+							wrapperName,
+							type.getName() + "Value",
+							"()" + Type.getDescriptor( type ),
+							false
+					);
+					loadCurrentValue( methodVisitor, getter );
+					compareAndJumpIfEqual( methodVisitor, type, nextLabel );
+					methodVisitor.visitLabel( dirtyLabel );
+					implementationContext.getFrameGeneration()
+							.full( methodVisitor, Collections.emptyList(), locals );
+				}
+				else {
+					loadCurrentValue( methodVisitor, getter );
+					methodVisitor.visitMethodInsn(
+							Opcodes.INVOKESTATIC,
+							"java/util/Objects",
+							"equals",
+							"(Ljava/lang/Object;Ljava/lang/Object;)Z",
+							false
+					);
+					methodVisitor.visitJumpInsn( Opcodes.IFNE, nextLabel );
+				}
+
+				// Mark the property dirty
+				methodVisitor.visitVarInsn( Opcodes.LLOAD, DIRTY );
+				methodVisitor.visitLdcInsn( 1L << index );
+				methodVisitor.visitInsn( Opcodes.LOR );
+				methodVisitor.visitVarInsn( Opcodes.LSTORE, DIRTY );
+
+				methodVisitor.visitLabel( nextLabel );
+				implementationContext.getFrameGeneration()
+						.full( methodVisitor, Collections.emptyList(), locals );
+			}
+		}
+		methodVisitor.visitVarInsn( Opcodes.LLOAD, DIRTY );
+		methodVisitor.visitInsn( Opcodes.LRETURN );
+		return new Size( 4, DIRTY + 2 );
+	}
+
+	private void loadCurrentValue(MethodVisitor methodVisitor, Member getterMember) {
+		methodVisitor.visitVarInsn( Opcodes.ALOAD, ENTITY );
+		methodVisitor.visitTypeInsn( Opcodes.CHECKCAST, internalClazzName );
+		if ( getterMember instanceof Method getter ) {
+			final boolean isInterface = getter.getDeclaringClass().isInterface();
+			methodVisitor.visitMethodInsn(
+					isInterface ? Opcodes.INVOKEINTERFACE : Opcodes.INVOKEVIRTUAL,
+					Type.getInternalName( getter.getDeclaringClass() ),
+					getter.getName(),
+					Type.getMethodDescriptor( getter ),
+					isInterface
+			);
+		}
+		else {
+			final Field getter = (Field) getterMember;
+			methodVisitor.visitFieldInsn(
+					Opcodes.GETFIELD,
+					Type.getInternalName( getter.getDeclaringClass() ),
+					getter.getName(),
+					Type.getDescriptor( getter.getType() )
+			);
+		}
+	}
+
+	private static void compareAndJumpIfEqual(MethodVisitor methodVisitor, Class<?> type, Label equalLabel) {
+		if ( type == long.class ) {
+			methodVisitor.visitInsn( Opcodes.LCMP );
+			methodVisitor.visitJumpInsn( Opcodes.IFEQ, equalLabel );
+		}
+		else if ( type == float.class ) {
+			// Float.compare() agrees with Float.equals() for NaN and signed zeros
+			methodVisitor.visitMethodInsn( Opcodes.INVOKESTATIC, "java/lang/Float", "compare", "(FF)I", false );
+			methodVisitor.visitJumpInsn( Opcodes.IFEQ, equalLabel );
+		}
+		else if ( type == double.class ) {
+			methodVisitor.visitMethodInsn( Opcodes.INVOKESTATIC, "java/lang/Double", "compare", "(DD)I", false );
+			methodVisitor.visitJumpInsn( Opcodes.IFEQ, equalLabel );
+		}
+		else {
+			// int, short, byte, char, and boolean
+			methodVisitor.visitJumpInsn( Opcodes.IF_ICMPEQ, equalLabel );
+		}
+	}
+
+	private static String wrapperInternalName(Class<?> primitiveType) {
+		if ( primitiveType == boolean.class ) {
+			return "java/lang/Boolean";
+		}
+		else if ( primitiveType == char.class ) {
+			return "java/lang/Character";
+		}
+		else {
+			return "java/lang/Number";
+		}
+	}
+}
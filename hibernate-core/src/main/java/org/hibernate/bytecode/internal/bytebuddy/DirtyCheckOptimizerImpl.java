@@ -0,0 +1,40 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.bytecode.internal.bytebuddy;
+
+import org.hibernate.bytecode.spi.DirtyCheckOptimizer;
+
+/**
+ * A {@link DirtyCheckOptimizer} which delegates to a generated {@link PropertyComparator}.
+ *
+ * @since 7.2
+ */
+public class DirtyCheckOptimizerImpl implements DirtyCheckOptimizer {
+	private final boolean[] optimized;
+	private final PropertyComparator comparator;
+
+	public DirtyCheckOptimizerImpl(boolean[] optimized, PropertyComparator comparator) {
+		this.optimized = optimized;
+		this.comparator = comparator;
+	}
+
+	@Override
+	public boolean isOptimized(int propertyIndex) {
+		return optimized[propertyIndex];
+	}
+
+	@Override
+	public long findDirty(Object entity, Object[] loadedState) {
+		return comparator.compare( entity, loadedState );
+	}
+
+	/**
+	 * Implemented by generated classes, with straight-line code
+	 * comparing each optimized property with its loaded state.
+	 */
+	public interface PropertyComparator {
+		long compare(Object entity, Object[] loadedState);
+	}
+}
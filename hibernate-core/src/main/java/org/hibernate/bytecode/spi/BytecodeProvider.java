@@ -20,6 +20,7 @@
  * Bytecode requirements break down into the following areas<ol>
  *     <li>proxy generation (both for runtime-lazy-loading and basic proxy generation) {@link #getProxyFactoryFactory()}</li>
  *     <li>bean reflection optimization {@link #getReflectionOptimizer}</li>
+ *     <li>dirty checking optimization {@link #getDirtyCheckOptimizer}</li>
  * </ol>
  *
  * @author Steve Ebersole
@@ -58,6 +59,25 @@ public interface BytecodeProvider extends Service {
 	 */
 	@Nullable ReflectionOptimizer getReflectionOptimizer(Class<?> clazz, Map<String, PropertyAccess> propertyAccessMap);
 
+	/**
+	 * Retrieve a {@link DirtyCheckOptimizer} for the given entity class, capable
+	 * of dirty checking some or all of the given properties.
+	 *
+	 * @param clazz The entity class, which is not enhanced.
+	 * @param propertyAccesses The property accesses, indexed by position in the
+	 * state array, with a null element for each property which is not a candidate
+	 * for optimization. The value of each candidate property must be compared
+	 * with its loaded state using {@link Object#equals}.
+	 * @return The dirty check optimizer, or {@code null} if no property can be optimized
+	 *
+	 * @since 7.2
+	 */
+	default @Nullable DirtyCheckOptimizer getDirtyCheckOptimizer(
+			Class<?> clazz,
+			@Nullable PropertyAccess[] propertyAccesses) {
+		return null;
+	}
+
 	/**
 	 * Returns a byte code enhancer that implements the enhancements described in the supplied enhancement context.
 	 *
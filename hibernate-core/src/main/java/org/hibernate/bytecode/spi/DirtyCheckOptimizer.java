@@ -0,0 +1,48 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.bytecode.spi;
+
+import org.hibernate.Incubating;
+
+/**
+ * Represents optimized dirty checking for a particular entity class which
+ * is not enhanced for dirty tracking.
+ * <p>
+ * Some properties of the entity, typically those of a basic immutable type,
+ * are compared with their loaded state by generated code which reads the
+ * fields or getters of the entity directly, avoiding the virtual calls to
+ * {@link org.hibernate.type.Type#isDirty} and the boxing of primitive values.
+ *
+ * @see BytecodeProvider#getDirtyCheckOptimizer
+ *
+ * @since 7.2
+ */
+@Incubating
+public interface DirtyCheckOptimizer {
+	/**
+	 * Only the properties at positions less than this in the state array
+	 * may be optimized, so that the result of {@link #findDirty} fits in
+	 * a {@code long}.
+	 */
+	int MAX_OPTIMIZED_PROPERTIES = Long.SIZE;
+
+	/**
+	 * Is the property at the given position in the state array
+	 * checked by {@link #findDirty}?
+	 */
+	boolean isOptimized(int propertyIndex);
+
+	/**
+	 * Compare the current value of every {@linkplain #isOptimized optimized}
+	 * property of the given entity with its loaded state.
+	 *
+	 * @param entity The entity instance
+	 * @param loadedState The loaded state of the entity
+	 *
+	 * @return a bit mask in which the bit {@code 1L << i} is set if the
+	 *         optimized property at position {@code i} is modified
+	 */
+	long findDirty(Object entity, Object[] loadedState);
+}
@@ -0,0 +1,476 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.internal;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.hibernate.HibernateException;
+import org.hibernate.sql.results.jdbc.internal.CachedJdbcValuesMetadata;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Query results held in the query cache in a compact, column-wise binary
+ * encoding, as an alternative to a list of {@code Object[]} rows.
+ * <p>
+ * The list of results produced by
+ * {@link org.hibernate.sql.results.caching.internal.QueryCachePutManagerEnabledImpl}
+ * has an optional {@link CachedJdbcValuesMetadata} as its first element,
+ * followed by one element per row, followed by the result count. Each row
+ * is either an {@code Object[]} of JDBC values, or a single JDBC value.
+ * The values of each column are encoded according to their Java type:
+ * integral values as variable-length integers, floating point values as
+ * raw bits, and strings as UTF-8. A column holding values of any other
+ * type is stored as an array of the original values. The encoded columns
+ * may optionally be compressed.
+ * <p>
+ * The cached results are decoded by a {@linkplain #decode() view} which
+ * is created for each cache hit, and which decodes each column only when
+ * a row is first read from it.
+ *
+ * @see org.hibernate.cfg.CacheSettings#QUERY_CACHE_COMPACT_RESULTS
+ *
+ * @since 7.2
+ */
+final class CompactQueryResults implements Serializable {
+	@Serial
+	private static final long serialVersionUID = 1L;
+
+	private static final byte NULLS = 0;
+	private static final byte LONG = 1;
+	private static final byte INT = 2;
+	private static final byte DOUBLE = 3;
+	private static final byte BOOLEAN = 4;
+	private static final byte STRING = 5;
+	private static final byte OBJECT = 6;
+
+	// not worth compressing smaller columns
+	private static final int MIN_COMPRESSIBLE_LENGTH = 128;
+
+	private final @Nullable CachedJdbcValuesMetadata metadata;
+	private final int resultCount;
+	private final int rowCount;
+	// the number of values in each row, or -1 if each row is a single value
+	private final int width;
+	private final byte[] kinds;
+	private final byte[][] encodedColumns;
+	// the length of each column before compression, or -1 if not compressed
+	private final int[] uncompressedLengths;
+	private final Object[][] objectColumns;
+
+	private CompactQueryResults(
+			@Nullable CachedJdbcValuesMetadata metadata,
+			int resultCount,
+			int rowCount,
+			int width,
+			byte[] kinds,
+			byte[][] encodedColumns,
+			int[] uncompressedLengths,
+			Object[][] objectColumns) {
+		this.metadata = metadata;
+		this.resultCount = resultCount;
+		this.rowCount = rowCount;
+		this.width = width;
+		this.kinds = kinds;
+		this.encodedColumns = encodedColumns;
+		this.uncompressedLengths = uncompressedLengths;
+		this.objectColumns = objectColumns;
+	}
+
+	/**
+	 * Encode the given query results.
+	 *
+	 * @param results The results, in the form produced by the query cache put manager
+	 * @param compress Whether encoded columns should be compressed
+	 *
+	 * @return the encoded results, or {@code null} if the results do not have the
+	 *         expected form, in which case they should be cached as-is
+	 */
+	static @Nullable CompactQueryResults encode(List<?> results, boolean compress) {
+		final int size = results.size();
+		if ( size == 0 || !( results.get( size - 1 ) instanceof Integer resultCount ) ) {
+			return null;
+		}
+		final var metadata =
+				results.get( 0 ) instanceof CachedJdbcValuesMetadata cachedMetadata
+						? cachedMetadata
+						: null;
+		final int offset = metadata == null ? 0 : 1;
+		final int rowCount = size - offset - 1;
+		if ( rowCount < 0 ) {
+			return null;
+		}
+		final int width = rowCount > 0 && results.get( offset ) instanceof Object[] array ? array.length : -1;
+		final int columnCount = width < 0 ? 1 : width;
+		final var columns = new Object[columnCount][rowCount];
+		for ( int row = 0; row < rowCount; row++ ) {
+			final Object value = results.get( row + offset );
+			if ( width < 0 ) {
+				if ( value instanceof Object[] ) {
+					return null;
+				}
+				columns[0][row] = value;
+			}
+			else {
+				if ( !( value instanceof Object[] array ) || array.length != width ) {
+					return null;
+				}
+				for ( int column = 0; column < width; column++ ) {
+					columns[column][row] = array[column];
+				}
+			}
+		}
+
+		final var kinds = new byte[columnCount];
+		final var encodedColumns = new byte[columnCount][];
+		final var uncompressedLengths = new int[columnCount];
+		final var objectColumns = new Object[columnCount][];
+		for ( int column = 0; column < columnCount; column++ ) {
+			final var values = columns[column];
+			final byte kind = kind( values );
+			kinds[column] = kind;
+			uncompressedLengths[column] = -1;
+			if ( kind == OBJECT ) {
+				objectColumns[column] = values;
+			}
+			else if ( kind != NULLS ) {
+				final byte[] encoded = encodeColumn( kind, values );
+				if ( compress && encoded.length >= MIN_COMPRESSIBLE_LENGTH ) {
+					final byte[] compressed = compress( encoded );
+					if ( compressed != null ) {
+						encodedColumns[column] = compressed;
+						uncompressedLengths[column] = encoded.length;
+						continue;
+					}
+				}
+				encodedColumns[column] = encoded;
+			}
+		}
+		return new CompactQueryResults( metadata, resultCount, rowCount, width,
+				kinds, encodedColumns, uncompressedLengths, objectColumns );
+	}
+
+	/**
+	 * The total number of bytes occupied by the encoded columns, not including
+	 * columns held as arrays of objects.
+	 */
+	long getEncodedSize() {
+		long encodedSize = 0;
+		for ( byte[] encodedColumn : encodedColumns ) {
+			if ( encodedColumn != null ) {
+				encodedSize += encodedColumn.length;
+			}
+		}
+		return encodedSize;
+	}
+
+	/**
+	 * A new view of the cached results, in the form expected by
+	 * {@link org.hibernate.sql.results.jdbc.internal.JdbcValuesCacheHit}.
+	 * The view is not thread-safe, and so a new view must be obtained
+	 * for each cache hit.
+	 */
+	List<?> decode() {
+		return new DecodedResults();
+	}
+
+	private static byte kind(Object[] values) {
+		Class<?> type = null;
+		for ( Object value : values ) {
+			if ( value != null ) {
+				if ( type == null ) {
+					type = value.getClass();
+				}
+				else if ( type != value.getClass() ) {
+					return OBJECT;
+				}
+			}
+		}
+		if ( type == null ) {
+			return NULLS;
+		}
+		else if ( type == Long.class ) {
+			return LONG;
+		}
+		else if ( type == Integer.class ) {
+			return INT;
+		}
+		else if ( type == Double.class ) {
+			return DOUBLE;
+		}
+		else if ( type == Boolean.class ) {
+			return BOOLEAN;
+		}
+		else if ( type == String.class ) {
+			return STRING;
+		}
+		else {
+			return OBJECT;
+		}
+	}
+
+	private static byte[] encodeColumn(byte kind, Object[] values) {
+		final var nulls = new BitSet( values.length );
+		for ( int row = 0; row < values.length; row++ ) {
+			if ( values[row] == null ) {
+				nulls.set( row );
+			}
+		}
+		final var writer = new ByteWriter( values.length * 4 + 8 );
+		final byte[] nullBits = nulls.toByteArray();
+		writer.writeVarLong( nullBits.length );
+		writer.writeBytes( nullBits );
+		for ( Object value : values ) {
+			if ( value != null ) {
+				switch ( kind ) {
+					case LONG -> writer.writeVarLong( zigZag( (Long) value ) );
+					case INT -> writer.writeVarLong( zigZag( (Integer) value ) );
+					case DOUBLE -> writer.writeLong( Double.doubleToRawLongBits( (Double) value ) );
+					case BOOLEAN -> writer.writeByte( (Boolean) value ? 1 : 0 );
+					case STRING -> {
+						final byte[] bytes = ( (String) value ).getBytes( UTF_8 );
+						writer.writeVarLong( bytes.length );
+						writer.writeBytes( bytes );
+					}
+					default -> throw new AssertionError( "Unexpected column kind: " + kind );
+				}
+			}
+		}
+		return writer.toByteArray();
+	}
+
+	private Object[] decodeColumn(int column) {
+		final byte kind = kinds[column];
+		if ( kind == OBJECT ) {
+			return objectColumns[column];
+		}
+		final var values = new Object[rowCount];
+		if ( kind == NULLS ) {
+			return values;
+		}
+		final byte[] encoded =
+				uncompressedLengths[column] < 0
+						? encodedColumns[column]
+						: decompress( encodedColumns[column], uncompressedLengths[column] );
+		final var reader = new ByteReader( encoded );
+		final var nulls = BitSet.valueOf( reader.readBytes( (int) reader.readVarLong() ) );
+		for ( int row = 0; row < rowCount; row++ ) {
+			if ( !nulls.get( row ) ) {
+				values[row] = switch ( kind ) {
+					case LONG -> unZigZag( reader.readVarLong() );
+					case INT -> (int) unZigZag( reader.readVarLong() );
+					case DOUBLE -> Double.longBitsToDouble( reader.readLong() );
+					case BOOLEAN -> reader.readByte() != 0;
+					case STRING -> {
+						final int length = (int) reader.readVarLong();
+						yield new String( reader.readBytes( length ), UTF_8 );
+					}
+					default -> throw new AssertionError( "Unexpected column kind: " + kind );
+				};
+			}
+		}
+		return values;
+	}
+
+	private static long zigZag(long value) {
+		return ( value << 1 ) ^ ( value >> 63 );
+	}
+
+	private static long unZigZag(long value) {
+		return ( value >>> 1 ) ^ -( value & 1 );
+	}
+
+	private static byte @Nullable [] compress(byte[] bytes) {
+		final var deflater = new Deflater( Deflater.BEST_SPEED );
+		try {
+			deflater.setInput( bytes );
+			deflater.finish();
+			// if the compressed form does not fit, compression is useless
+			final var buffer = new byte[bytes.length];
+			final int length = deflater.deflate( buffer );
+			return deflater.finished() ? Arrays.copyOf( buffer, length ) : null;
+		}
+		finally {
+			deflater.end();
+		}
+	}
+
+	private static byte[] decompress(byte[] bytes, int uncompressedLength) {
+		final var inflater = new Inflater();
+		try {
+			inflater.setInput( bytes );
+			final var buffer = new byte[uncompressedLength];
+			int length = 0;
+			while ( length < uncompressedLength && !inflater.finished() ) {
+				final int inflated = inflater.inflate( buffer, length, uncompressedLength - length );
+				if ( inflated == 0 && inflater.needsInput() ) {
+					break;
+				}
+				length += inflated;
+			}
+			if ( length != uncompressedLength ) {
+				throw new HibernateException( "Cached query results were truncated" );
+			}
+			return buffer;
+		}
+		catch (DataFormatException e) {
+			throw new HibernateException( "Cached query results were corrupted", e );
+		}
+		finally {
+			inflater.end();
+		}
+	}
+
+	private class DecodedResults extends AbstractList<Object> implements RandomAccess {
+		private final int offset = metadata == null ? 0 : 1;
+		private final Object[][] columns = new Object[kinds.length][];
+		// JdbcValuesCacheHit reads the current row once per value
+		private int currentRow = -1;
+		private Object currentValues;
+
+		@Override
+		public int size() {
+			return rowCount + offset + 1;
+		}
+
+		@Override
+		public Object get(int index) {
+			Objects.checkIndex( index, size() );
+			if ( index < offset ) {
+				return metadata;
+			}
+			else if ( index == size() - 1 ) {
+				return resultCount;
+			}
+			else {
+				final int row = index - offset;
+				if ( row != currentRow ) {
+					currentValues = row( row );
+					currentRow = row;
+				}
+				return currentValues;
+			}
+		}
+
+		private Object row(int row) {
+			if ( width < 0 ) {
+				return column( 0 )[row];
+			}
+			else {
+				final var values = new Object[width];
+				for ( int column = 0; column < width; column++ ) {
+					values[column] = column( column )[row];
+				}
+				return values;
+			}
+		}
+
+		private Object[] column(int column) {
+			var values = columns[column];
+			if ( values == null ) {
+				values = decodeColumn( column );
+				columns[column] = values;
+			}
+			return values;
+		}
+	}
+
+	private static class ByteWriter {
+		private byte[] bytes;
+		private int length;
+
+		private ByteWriter(int capacity) {
+			bytes = new byte[capacity];
+		}
+
+		private void ensureCapacity(int extra) {
+			if ( length + extra > bytes.length ) {
+				bytes = Arrays.copyOf( bytes, Math.max( bytes.length * 2, length + extra ) );
+			}
+		}
+
+		private void writeByte(int value) {
+			ensureCapacity( 1 );
+			bytes[length++] = (byte) value;
+		}
+
+		private void writeBytes(byte[] values) {
+			ensureCapacity( values.length );
+			System.arraycopy( values, 0, bytes, length, values.length );
+			length += values.length;
+		}
+
+		private void writeVarLong(long value) {
+			ensureCapacity( 10 );
+			while ( ( value & ~0x7FL ) != 0 ) {
+				bytes[length++] = (byte) ( ( value & 0x7F ) | 0x80 );
+				value >>>= 7;
+			}
+			bytes[length++] = (byte) value;
+		}
+
+		private void writeLong(long value) {
+			ensureCapacity( 8 );
+			for ( int shift = 56; shift >= 0; shift -= 8 ) {
+				bytes[length++] = (byte) ( value >>> shift );
+			}
+		}
+
+		private byte[] toByteArray() {
+			return Arrays.copyOf( bytes, length );
+		}
+	}
+
+	private static class ByteReader {
+		private final byte[] bytes;
+		private int position;
+
+		private ByteReader(byte[] bytes) {
+			this.bytes = bytes;
+		}
+
+		private byte readByte() {
+			return bytes[position++];
+		}
+
+		private byte[] readBytes(int length) {
+			final byte[] values = Arrays.copyOfRange( bytes, position, position + length );
+			position += length;
+			return values;
+		}
+
+		private long readVarLong() {
+			long value = 0;
+			int shift = 0;
+			byte current;
+			do {
+				current = bytes[position++];
+				value |= (long) ( current & 0x7F ) << shift;
+				shift += 7;
+			}
+			while ( ( current & 0x80 ) != 0 );
+			return value;
+		}
+
+		private long readLong() {
+			long value = 0;
+			for ( int i = 0; i < 8; i++ ) {
+				value = ( value << 8 ) | ( bytes[position++] & 0xFF );
+			}
+			return value;
+		}
+	}
+}
@@ -37,6 +37,9 @@
 
 import static org.hibernate.cache.spi.RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME;
 import static org.hibernate.cache.spi.RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME;
+import static org.hibernate.cfg.CacheSettings.QUERY_CACHE_COMPACT_RESULTS;
+import static org.hibernate.cfg.CacheSettings.QUERY_CACHE_COMPRESSION;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getBoolean;
 import static org.hibernate.internal.util.StringHelper.qualifyConditionally;
 import static org.hibernate.pretty.MessageHelper.collectionInfoString;
 import static org.hibernate.pretty.MessageHelper.infoString;
@@ -96,7 +99,17 @@ private QueryResultsCache buildQueryResultsCache(SessionFactoryImplementor sessi
 						sessionFactory
 				);
 		regionsByName.put( queryResultsRegion.getName(), queryResultsRegion );
-		return new QueryResultsCacheImpl( queryResultsRegion, timestampsCache );
+		return newQueryResultsCache( queryResultsRegion );
+	}
+
+	private QueryResultsCache newQueryResultsCache(QueryResultsRegion queryResultsRegion) {
+		final var properties = sessionFactory.getProperties();
+		return new QueryResultsCacheImpl(
+				queryResultsRegion,
+				timestampsCache,
+				getBoolean( QUERY_CACHE_COMPACT_RESULTS, properties ),
+				getBoolean( QUERY_CACHE_COMPRESSION, properties )
+		);
 	}
 
 	private TimestampsCache buildTimestampsCache(SessionFactoryImplementor sessionFactory) {
@@ -490,7 +503,7 @@ else if ( regionName == null || regionName.equals( getDefaultResultCacheName() )
 	}
 
 	protected QueryResultsCache makeQueryResultsRegionAccess(String regionName) {
-		final var regionAccess = new QueryResultsCacheImpl( getQueryResultsRegion( regionName ), timestampsCache );
+		final var regionAccess = newQueryResultsCache( getQueryResultsRegion( regionName ) );
 		namedQueryResultsCacheMap.put( regionName, regionAccess );
 		legacySecondLevelCacheNames.add( regionName );
 		return regionAccess;
@@ -0,0 +1,48 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.internal;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Serial;
+import java.io.Serializable;
+
+import org.hibernate.cache.spi.entry.StandardCacheEntryImpl;
+
+/**
+ * An entity cache entry read back from off-heap storage, which defers decoding
+ * its disassembled state until the state is actually needed.
+ */
+final class OffHeapCacheEntry extends StandardCacheEntryImpl {
+	@Serial
+	private static final long serialVersionUID = 1L;
+
+	private final transient OffHeapValueCodec codec;
+	private final transient byte[] bytes;
+	private final int statePosition;
+	private Serializable[] disassembledState;
+
+	OffHeapCacheEntry(String subclass, Object version, OffHeapValueCodec codec, byte[] bytes, int statePosition) {
+		super( null, subclass, version );
+		this.codec = codec;
+		this.bytes = bytes;
+		this.statePosition = statePosition;
+	}
+
+	@Override
+	public Serializable[] getDisassembledState() {
+		if ( disassembledState == null ) {
+			disassembledState = codec.decodeState( bytes, statePosition );
+		}
+		return disassembledState;
+	}
+
+	@Serial
+	private void writeObject(ObjectOutputStream out) throws IOException {
+		// the encoded form is not serialized, so make sure the state is decoded
+		getDisassembledState();
+		out.defaultWriteObject();
+	}
+}
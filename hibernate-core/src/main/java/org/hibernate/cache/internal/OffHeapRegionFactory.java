@@ -0,0 +1,95 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.internal;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import static org.hibernate.cfg.CacheSettings.OFF_HEAP_REGION_MAX_BYTES;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getLong;
+
+/**
+ * A local {@link org.hibernate.cache.spi.RegionFactory} which stores cached data
+ * in direct memory, outside the Java heap, so that a large second-level cache does
+ * not add to the work of the garbage collector.
+ * <p>
+ * Each region is bounded by {@value org.hibernate.cfg.CacheSettings#OFF_HEAP_REGION_MAX_BYTES}
+ * bytes, and evicts its least recently used entries when full. Cached values are
+ * written using a compact binary encoding rather than Java serialization, and
+ * entity cache entries are decoded lazily.
+ * <p>
+ * This region factory is not clustered: each {@code SessionFactory} has its own
+ * private cache. To use it, set {@value org.hibernate.cfg.CacheSettings#CACHE_REGION_FACTORY}
+ * to the name of this class.
+ *
+ * @since 7.2
+ */
+public class OffHeapRegionFactory extends RegionFactoryTemplate {
+	/**
+	 * The default for {@value org.hibernate.cfg.CacheSettings#OFF_HEAP_REGION_MAX_BYTES}.
+	 */
+	public static final int DEFAULT_REGION_MAX_BYTES = 64 * 1024 * 1024;
+
+	private final Map<String, OffHeapStorageAccess> storageAccesses = new ConcurrentHashMap<>();
+	private OffHeapValueCodec codec;
+	private long regionMaxBytes;
+
+	@Override
+	protected void prepareForUse(SessionFactoryOptions settings, Map<String, Object> configValues) {
+		regionMaxBytes = getLong( OFF_HEAP_REGION_MAX_BYTES, configValues, DEFAULT_REGION_MAX_BYTES );
+		codec = new OffHeapValueCodec( settings.getServiceRegistry().requireService( ClassLoaderService.class ) );
+	}
+
+	@Override
+	protected DomainDataStorageAccess createDomainDataStorageAccess(
+			DomainDataRegionConfig regionConfig,
+			DomainDataRegionBuildingContext buildingContext) {
+		return createStorageAccess( regionConfig.getRegionName() );
+	}
+
+	@Override
+	protected StorageAccess createQueryResultsRegionStorageAccess(
+			String regionName,
+			SessionFactoryImplementor sessionFactory) {
+		return createStorageAccess( regionName );
+	}
+
+	@Override
+	protected StorageAccess createTimestampsRegionStorageAccess(
+			String regionName,
+			SessionFactoryImplementor sessionFactory) {
+		return createStorageAccess( regionName );
+	}
+
+	private OffHeapStorageAccess createStorageAccess(String regionName) {
+		final var storageAccess = new OffHeapStorageAccess( codec, regionMaxBytes );
+		storageAccesses.put( regionName, storageAccess );
+		return storageAccess;
+	}
+
+	/**
+	 * The number of entries evicted from the named region to make room for new entries.
+	 */
+	public long getEvictionCount(String regionName) {
+		final var storageAccess = storageAccesses.get( regionName );
+		return storageAccess == null ? 0 : storageAccess.getEvictionCount();
+	}
+
+	@Override
+	protected void releaseFromUse() {
+		storageAccesses.values().forEach( OffHeapStorageAccess::release );
+		storageAccesses.clear();
+		codec = null;
+	}
+}
@@ -0,0 +1,243 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.internal;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+/**
+ * A simple slab allocator over direct {@link ByteBuffer} pages.
+ * <p>
+ * Memory is divided into pages of {@value #PAGE_SIZE} bytes, allocated lazily up
+ * to a fixed budget. Each page in use is dedicated to a single size class, that
+ * is, to blocks of some power of two size between {@value #MIN_BLOCK_SIZE} bytes
+ * and the page size. A page whose blocks have all been freed returns to the pool
+ * and may be reused for a different size class.
+ * <p>
+ * Blocks are identified by an address encoding the page index in the high word
+ * and the offset within the page in the low word.
+ * <p>
+ * This class is not thread safe.
+ */
+final class OffHeapSlabAllocator {
+	static final int PAGE_SIZE = 1 << 20;
+	static final int MIN_BLOCK_SIZE = 1 << 6;
+
+	private static final int MIN_BLOCK_SHIFT = Integer.numberOfTrailingZeros( MIN_BLOCK_SIZE );
+	static final int SIZE_CLASSES =
+			Integer.numberOfTrailingZeros( PAGE_SIZE ) - MIN_BLOCK_SHIFT + 1;
+
+	private final ByteBuffer[] pages;
+	private final Page[] pageStates;
+	private final ArrayDeque<Integer> freePages = new ArrayDeque<>();
+	private final ArrayDeque<Page>[] availablePages;
+	private int allocatedPages;
+
+	@SuppressWarnings("unchecked")
+	OffHeapSlabAllocator(long maxBytes) {
+		final int maxPages = (int) Math.max( 1, Math.min( Integer.MAX_VALUE, maxBytes / PAGE_SIZE ) );
+		pages = new ByteBuffer[maxPages];
+		pageStates = new Page[maxPages];
+		availablePages = new ArrayDeque[SIZE_CLASSES];
+		for ( int i = 0; i < SIZE_CLASSES; i++ ) {
+			availablePages[i] = new ArrayDeque<>();
+		}
+	}
+
+	/**
+	 * @return the size class for a block of the given length, or {@code -1} if
+	 *         the length exceeds the {@linkplain #PAGE_SIZE page size}
+	 */
+	static int sizeClass(int length) {
+		if ( length > PAGE_SIZE ) {
+			return -1;
+		}
+		else if ( length <= MIN_BLOCK_SIZE ) {
+			return 0;
+		}
+		else {
+			return 32 - Integer.numberOfLeadingZeros( length - 1 ) - MIN_BLOCK_SHIFT;
+		}
+	}
+
+	/**
+	 * @return the address of a block of at least the given length, or {@code -1}
+	 *         if the memory budget is exhausted
+	 */
+	long allocate(int length) {
+		final int sizeClass = sizeClass( length );
+		if ( sizeClass < 0 ) {
+			return -1;
+		}
+		final var available = availablePages[sizeClass];
+		Page page = available.peekFirst();
+		if ( page == null ) {
+			final int pageIndex = nextFreePage();
+			if ( pageIndex < 0 ) {
+				return -1;
+			}
+			page = new Page( pageIndex, sizeClass );
+			pageStates[pageIndex] = page;
+			available.addFirst( page );
+		}
+		final int offset = page.take();
+		if ( page.isFull() ) {
+			available.removeFirst();
+		}
+		return ( (long) page.index << 32 ) | offset;
+	}
+
+	void free(long address, int length) {
+		final int pageIndex = (int) ( address >>> 32 );
+		final var page = pageStates[pageIndex];
+		final boolean wasFull = page.isFull();
+		page.release( (int) address );
+		final var available = availablePages[sizeClass( length )];
+		if ( page.isEmpty() ) {
+			if ( !wasFull ) {
+				available.remove( page );
+			}
+			pageStates[pageIndex] = null;
+			freePages.push( pageIndex );
+		}
+		else if ( wasFull ) {
+			available.addLast( page );
+		}
+	}
+
+	/**
+	 * @return the index of the page in use with the fewest blocks in use,
+	 *         or {@code -1} if no page is in use
+	 */
+	int leastUsedPage() {
+		int leastUsed = -1;
+		for ( int i = 0; i < allocatedPages; i++ ) {
+			final var page = pageStates[i];
+			if ( page != null && ( leastUsed < 0 || page.used < pageStates[leastUsed].used ) ) {
+				leastUsed = i;
+			}
+		}
+		return leastUsed;
+	}
+
+	/**
+	 * @return the number of blocks in use in the given page
+	 */
+	int usedBlocks(int pageIndex) {
+		final var page = pageStates[pageIndex];
+		return page == null ? 0 : page.used;
+	}
+
+	/**
+	 * Call the given action with the address of every block of the given page
+	 * which has ever been handed out, including blocks which have since been
+	 * freed. The action may free blocks of the page.
+	 */
+	void forEachBlock(int pageIndex, LongConsumer action) {
+		final var page = pageStates[pageIndex];
+		if ( page != null ) {
+			final int blockSize = page.blockSize;
+			final int bump = page.bump;
+			for ( int offset = 0; offset < bump; offset += blockSize ) {
+				action.accept( ( (long) pageIndex << 32 ) | offset );
+			}
+		}
+	}
+
+	void write(long address, byte[] bytes) {
+		pages[(int) ( address >>> 32 )].put( (int) address, bytes );
+	}
+
+	byte[] read(long address, int length) {
+		final byte[] bytes = new byte[length];
+		pages[(int) ( address >>> 32 )].get( (int) address, bytes );
+		return bytes;
+	}
+
+	/**
+	 * Free every block, keeping the pages for reuse.
+	 */
+	void clear() {
+		for ( var available : availablePages ) {
+			available.clear();
+		}
+		freePages.clear();
+		Arrays.fill( pageStates, null );
+		for ( int i = allocatedPages - 1; i >= 0; i-- ) {
+			freePages.push( i );
+		}
+	}
+
+	/**
+	 * Free every block and drop the pages.
+	 */
+	void release() {
+		clear();
+		freePages.clear();
+		Arrays.fill( pages, null );
+		allocatedPages = 0;
+	}
+
+	private int nextFreePage() {
+		if ( !freePages.isEmpty() ) {
+			return freePages.pop();
+		}
+		else if ( allocatedPages < pages.length ) {
+			pages[allocatedPages] = ByteBuffer.allocateDirect( PAGE_SIZE );
+			return allocatedPages++;
+		}
+		else {
+			return -1;
+		}
+	}
+
+	private static final class Page {
+		private final int index;
+		private final int blockSize;
+		private final int blockCount;
+		// offsets of blocks freed since the page was assigned
+		private int[] freed = new int[8];
+		private int freedCount;
+		// offset of the first block never handed out
+		private int bump;
+		private int used;
+
+		private Page(int index, int sizeClass) {
+			this.index = index;
+			this.blockSize = MIN_BLOCK_SIZE << sizeClass;
+			this.blockCount = PAGE_SIZE / blockSize;
+		}
+
+		boolean isFull() {
+			return used == blockCount;
+		}
+
+		boolean isEmpty() {
+			return used == 0;
+		}
+
+		int take() {
+			used++;
+			if ( freedCount > 0 ) {
+				return freed[--freedCount];
+			}
+			else {
+				final int offset = bump;
+				bump += blockSize;
+				return offset;
+			}
+		}
+
+		void release(int offset) {
+			used--;
+			if ( freedCount == freed.length ) {
+				freed = Arrays.copyOf( freed, Math.min( blockCount, freed.length << 1 ) );
+			}
+			freed[freedCount++] = offset;
+		}
+	}
+}
@@ -0,0 +1,217 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.internal;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.hibernate.cache.spi.support.AbstractReadWriteAccess;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+/**
+ * {@link DomainDataStorageAccess} which keeps cached values outside the Java heap,
+ * in memory obtained from an {@link OffHeapSlabAllocator}, and bounded by a fixed
+ * number of bytes. Values are {@linkplain OffHeapValueCodec encoded} on the way in,
+ * and decoded on the way out. Keys remain on the heap.
+ * <p>
+ * When the budget is exhausted, the least recently used entry of the same size
+ * class as the new entry is evicted. If there is no such entry, the page with the
+ * fewest blocks in use is reclaimed for the size class of the new entry, provided
+ * this evicts at most {@value #MAX_EVICTIONS_PER_PUT} entries. Otherwise, the new
+ * entry is not cached.
+ * <p>
+ * {@linkplain AbstractReadWriteAccess.SoftLockImpl Soft locks} are kept on the
+ * heap, since they're short-lived and are mutated in place.
+ */
+final class OffHeapStorageAccess implements DomainDataStorageAccess {
+	// the most entries evicted to make room for a single new entry
+	static final int MAX_EVICTIONS_PER_PUT = 64;
+
+	private final OffHeapValueCodec codec;
+	private final OffHeapSlabAllocator allocator;
+	private final ReentrantLock lock = new ReentrantLock();
+	// values are either a Block or an on-heap object
+	private final HashMap<Object, Object> entries = new HashMap<>();
+	// the blocks of each size class, in access order
+	private final LinkedHashMap<Object, Block>[] blocksBySizeClass;
+	// the key of the entry for each block address
+	private final HashMap<Long, Object> owners = new HashMap<>();
+	private long evictionCount;
+
+	private record Block(long address, int length) {
+	}
+
+	@SuppressWarnings("unchecked")
+	OffHeapStorageAccess(OffHeapValueCodec codec, long maxBytes) {
+		this.codec = codec;
+		this.allocator = new OffHeapSlabAllocator( maxBytes );
+		blocksBySizeClass = new LinkedHashMap[OffHeapSlabAllocator.SIZE_CLASSES];
+		for ( int i = 0; i < blocksBySizeClass.length; i++ ) {
+			blocksBySizeClass[i] = new LinkedHashMap<>( 16, 0.75f, true );
+		}
+	}
+
+	@Override
+	public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+		final byte[] bytes;
+		lock.lock();
+		try {
+			final Object entry = entries.get( key );
+			if ( entry instanceof Block block ) {
+				// mark the entry as recently used
+				blocksBySizeClass[OffHeapSlabAllocator.sizeClass( block.length )].get( key );
+				bytes = allocator.read( block.address, block.length );
+			}
+			else {
+				return entry;
+			}
+		}
+		finally {
+			lock.unlock();
+		}
+		return codec.decode( bytes );
+	}
+
+	@Override
+	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+		if ( value instanceof AbstractReadWriteAccess.SoftLockImpl ) {
+			lock.lock();
+			try {
+				remove( key );
+				entries.put( key, value );
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+		else {
+			final byte[] bytes = codec.encode( value );
+			lock.lock();
+			try {
+				remove( key );
+				if ( bytes != null && OffHeapSlabAllocator.sizeClass( bytes.length ) >= 0 ) {
+					final long address = allocate( bytes.length );
+					if ( address >= 0 ) {
+						allocator.write( address, bytes );
+						final var block = new Block( address, bytes.length );
+						entries.put( key, block );
+						blocksBySizeClass[OffHeapSlabAllocator.sizeClass( bytes.length )].put( key, block );
+						owners.put( address, key );
+					}
+				}
+				// otherwise the value is not cacheable off-heap,
+				// and we've already removed any stale entry
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+	}
+
+	private long allocate(int length) {
+		final long address = allocator.allocate( length );
+		if ( address >= 0 ) {
+			return address;
+		}
+		final var sameSizeClass = blocksBySizeClass[OffHeapSlabAllocator.sizeClass( length )];
+		if ( !sameSizeClass.isEmpty() ) {
+			// freeing any block of the size class leaves room for the new one
+			evict( sameSizeClass.keySet().iterator().next() );
+		}
+		else {
+			// reclaim a whole page for the size class
+			final int pageIndex = allocator.leastUsedPage();
+			if ( pageIndex < 0 || allocator.usedBlocks( pageIndex ) > MAX_EVICTIONS_PER_PUT ) {
+				return -1;
+			}
+			allocator.forEachBlock( pageIndex, blockAddress -> {
+				final Object key = owners.get( blockAddress );
+				if ( key != null ) {
+					evict( key );
+				}
+			} );
+		}
+		return allocator.allocate( length );
+	}
+
+	private void evict(Object key) {
+		remove( key );
+		evictionCount++;
+	}
+
+	private void remove(Object key) {
+		if ( entries.remove( key ) instanceof Block block ) {
+			blocksBySizeClass[OffHeapSlabAllocator.sizeClass( block.length )].remove( key );
+			owners.remove( block.address );
+			allocator.free( block.address, block.length );
+		}
+	}
+
+	long getEvictionCount() {
+		lock.lock();
+		try {
+			return evictionCount;
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public boolean contains(Object key) {
+		lock.lock();
+		try {
+			return entries.containsKey( key );
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public void evictData() {
+		lock.lock();
+		try {
+			clearEntries();
+			allocator.clear();
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public void evictData(Object key) {
+		lock.lock();
+		try {
+			remove( key );
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public void release() {
+		lock.lock();
+		try {
+			clearEntries();
+			allocator.release();
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	private void clearEntries() {
+		entries.clear();
+		owners.clear();
+		for ( var blocks : blocksBySizeClass ) {
+			blocks.clear();
+		}
+	}
+}
@@ -0,0 +1,460 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.internal;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.cache.spi.entry.CollectionCacheEntry;
+import org.hibernate.cache.spi.entry.StandardCacheEntryImpl;
+import org.hibernate.cache.spi.support.AbstractReadWriteAccess;
+import org.hibernate.internal.util.SerializationHelper;
+
+import static org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer.UNFETCHED_PROPERTY;
+import static org.hibernate.property.access.internal.PropertyAccessStrategyBackRefImpl.UNKNOWN;
+
+/**
+ * Encodes the values stored by the {@link OffHeapRegionFactory} into a compact,
+ * self-describing binary form, and decodes them again.
+ * <p>
+ * Each value is written as a one byte tag followed by a fixed or length-prefixed
+ * payload. The basic Java types produced by disassembling attribute values,
+ * arrays of disassembled state, {@linkplain StandardCacheEntryImpl entity cache
+ * entries}, {@linkplain CollectionCacheEntry collection cache entries} and
+ * {@linkplain AbstractReadWriteAccess.Item read-write items} have dedicated
+ * encodings. Any other {@link Serializable} value falls back to Java serialization.
+ * <p>
+ * The disassembled state of an entity cache entry is only decoded when it is
+ * first {@linkplain StandardCacheEntryImpl#getDisassembledState() accessed}.
+ */
+final class OffHeapValueCodec {
+	private static final byte NULL = 0;
+	private static final byte TRUE = 1;
+	private static final byte FALSE = 2;
+	private static final byte BYTE = 3;
+	private static final byte SHORT = 4;
+	private static final byte INTEGER = 5;
+	private static final byte LONG = 6;
+	private static final byte FLOAT = 7;
+	private static final byte DOUBLE = 8;
+	private static final byte CHARACTER = 9;
+	private static final byte STRING = 10;
+	private static final byte BIG_INTEGER = 11;
+	private static final byte BIG_DECIMAL = 12;
+	private static final byte BYTES = 13;
+	private static final byte UUID_VALUE = 14;
+	private static final byte LOCAL_DATE = 15;
+	private static final byte LOCAL_TIME = 16;
+	private static final byte LOCAL_DATE_TIME = 17;
+	private static final byte INSTANT = 18;
+	private static final byte SQL_DATE = 19;
+	private static final byte SQL_TIME = 20;
+	private static final byte SQL_TIMESTAMP = 21;
+	private static final byte DATE = 22;
+	private static final byte ENUM = 23;
+	private static final byte ARRAY = 30;
+	private static final byte ENTITY_ENTRY = 31;
+	private static final byte COLLECTION_ENTRY = 32;
+	private static final byte READ_WRITE_ITEM = 33;
+	private static final byte UNFETCHED = 34;
+	private static final byte UNKNOWN_BACKREF = 35;
+	private static final byte SERIALIZED = 40;
+
+	private final ClassLoaderService classLoaderService;
+	private final ConcurrentMap<String, Class<?>> enumClasses = new ConcurrentHashMap<>();
+
+	OffHeapValueCodec(ClassLoaderService classLoaderService) {
+		this.classLoaderService = classLoaderService;
+	}
+
+	/**
+	 * @return the encoded value, or {@code null} if the value cannot be encoded
+	 */
+	byte[] encode(Object value) {
+		final var output = new Output( 128 );
+		return write( value, output ) ? output.toByteArray() : null;
+	}
+
+	Object decode(byte[] bytes) {
+		return read( new Input( bytes, 0 ) );
+	}
+
+	private boolean write(Object value, Output output) {
+		if ( value == null ) {
+			output.writeByte( NULL );
+		}
+		else if ( value instanceof String string ) {
+			output.writeByte( STRING );
+			output.writeString( string );
+		}
+		else if ( value instanceof Long longValue ) {
+			output.writeByte( LONG );
+			output.writeLong( longValue );
+		}
+		else if ( value instanceof Integer integer ) {
+			output.writeByte( INTEGER );
+			output.writeInt( integer );
+		}
+		else if ( value instanceof Boolean bool ) {
+			output.writeByte( bool ? TRUE : FALSE );
+		}
+		else if ( value instanceof Short shortValue ) {
+			output.writeByte( SHORT );
+			output.writeShort( shortValue );
+		}
+		else if ( value instanceof Byte byteValue ) {
+			output.writeByte( BYTE );
+			output.writeByte( byteValue );
+		}
+		else if ( value instanceof Double doubleValue ) {
+			output.writeByte( DOUBLE );
+			output.writeLong( Double.doubleToRawLongBits( doubleValue ) );
+		}
+		else if ( value instanceof Float floatValue ) {
+			output.writeByte( FLOAT );
+			output.writeInt( Float.floatToRawIntBits( floatValue ) );
+		}
+		else if ( value instanceof Character character ) {
+			output.writeByte( CHARACTER );
+			output.writeShort( (short) character.charValue() );
+		}
+		else if ( value instanceof BigDecimal bigDecimal ) {
+			output.writeByte( BIG_DECIMAL );
+			output.writeInt( bigDecimal.scale() );
+			output.writeBytes( bigDecimal.unscaledValue().toByteArray() );
+		}
+		else if ( value instanceof BigInteger bigInteger ) {
+			output.writeByte( BIG_INTEGER );
+			output.writeBytes( bigInteger.toByteArray() );
+		}
+		else if ( value instanceof byte[] bytes ) {
+			output.writeByte( BYTES );
+			output.writeBytes( bytes );
+		}
+		else if ( value instanceof UUID uuid ) {
+			output.writeByte( UUID_VALUE );
+			output.writeLong( uuid.getMostSignificantBits() );
+			output.writeLong( uuid.getLeastSignificantBits() );
+		}
+		else if ( value instanceof LocalDate localDate ) {
+			output.writeByte( LOCAL_DATE );
+			output.writeLong( localDate.toEpochDay() );
+		}
+		else if ( value instanceof LocalTime localTime ) {
+			output.writeByte( LOCAL_TIME );
+			output.writeLong( localTime.toNanoOfDay() );
+		}
+		else if ( value instanceof LocalDateTime localDateTime ) {
+			output.writeByte( LOCAL_DATE_TIME );
+			output.writeLong( localDateTime.toLocalDate().toEpochDay() );
+			output.writeLong( localDateTime.toLocalTime().toNanoOfDay() );
+		}
+		else if ( value instanceof Instant instant ) {
+			output.writeByte( INSTANT );
+			output.writeLong( instant.getEpochSecond() );
+			output.writeInt( instant.getNano() );
+		}
+		else if ( value.getClass() == java.sql.Timestamp.class ) {
+			final var timestamp = (java.sql.Timestamp) value;
+			output.writeByte( SQL_TIMESTAMP );
+			output.writeLong( timestamp.getTime() );
+			output.writeInt( timestamp.getNanos() );
+		}
+		else if ( value.getClass() == java.sql.Date.class ) {
+			output.writeByte( SQL_DATE );
+			output.writeLong( ( (java.util.Date) value ).getTime() );
+		}
+		else if ( value.getClass() == java.sql.Time.class ) {
+			output.writeByte( SQL_TIME );
+			output.writeLong( ( (java.util.Date) value ).getTime() );
+		}
+		else if ( value.getClass() == java.util.Date.class ) {
+			output.writeByte( DATE );
+			output.writeLong( ( (java.util.Date) value ).getTime() );
+		}
+		else if ( value instanceof Enum<?> enumValue ) {
+			output.writeByte( ENUM );
+			output.writeString( enumValue.getDeclaringClass().getName() );
+			output.writeInt( enumValue.ordinal() );
+		}
+		else if ( value.getClass() == Object[].class || value.getClass() == Serializable[].class ) {
+			return writeArray( (Object[]) value, output );
+		}
+		else if ( value == UNFETCHED_PROPERTY ) {
+			output.writeByte( UNFETCHED );
+		}
+		else if ( value == UNKNOWN ) {
+			output.writeByte( UNKNOWN_BACKREF );
+		}
+		else if ( value instanceof AbstractReadWriteAccess.Item item ) {
+			output.writeByte( READ_WRITE_ITEM );
+			output.writeLong( item.getTimestamp() );
+			return write( item.getVersion(), output )
+				&& write( item.getValue(), output );
+		}
+		else if ( value instanceof StandardCacheEntryImpl entry ) {
+			output.writeByte( ENTITY_ENTRY );
+			output.writeString( entry.getSubclass() );
+			if ( !write( entry.getVersion(), output ) ) {
+				return false;
+			}
+			// the length of the state lets us skip it until it's needed
+			final int lengthPosition = output.reserveInt();
+			if ( !writeArray( entry.getDisassembledState(), output ) ) {
+				return false;
+			}
+			output.writeIntAt( lengthPosition, output.position() - lengthPosition - Integer.BYTES );
+		}
+		else if ( value instanceof CollectionCacheEntry entry ) {
+			output.writeByte( COLLECTION_ENTRY );
+			return writeArray( entry.getState(), output );
+		}
+		else if ( value instanceof Serializable serializable ) {
+			output.writeByte( SERIALIZED );
+			output.writeBytes( SerializationHelper.serialize( serializable ) );
+		}
+		else {
+			return false;
+		}
+		return true;
+	}
+
+	private boolean writeArray(Object[] array, Output output) {
+		output.writeByte( ARRAY );
+		output.writeInt( array.length );
+		for ( Object element : array ) {
+			if ( !write( element, output ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private Object read(Input input) {
+		final byte tag = input.readByte();
+		return switch ( tag ) {
+			case NULL -> null;
+			case TRUE -> Boolean.TRUE;
+			case FALSE -> Boolean.FALSE;
+			case BYTE -> input.readByte();
+			case SHORT -> input.readShort();
+			case INTEGER -> input.readInt();
+			case LONG -> input.readLong();
+			case FLOAT -> Float.intBitsToFloat( input.readInt() );
+			case DOUBLE -> Double.longBitsToDouble( input.readLong() );
+			case CHARACTER -> (char) input.readShort();
+			case STRING -> input.readString();
+			case BIG_INTEGER -> new BigInteger( input.readBytes() );
+			case BIG_DECIMAL -> {
+				final int scale = input.readInt();
+				yield new BigDecimal( new BigInteger( input.readBytes() ), scale );
+			}
+			case BYTES -> input.readBytes();
+			case UUID_VALUE -> new UUID( input.readLong(), input.readLong() );
+			case LOCAL_DATE -> LocalDate.ofEpochDay( input.readLong() );
+			case LOCAL_TIME -> LocalTime.ofNanoOfDay( input.readLong() );
+			case LOCAL_DATE_TIME -> LocalDateTime.of(
+					LocalDate.ofEpochDay( input.readLong() ),
+					LocalTime.ofNanoOfDay( input.readLong() )
+			);
+			case INSTANT -> Instant.ofEpochSecond( input.readLong(), input.readInt() );
+			case SQL_TIMESTAMP -> {
+				final var timestamp = new java.sql.Timestamp( input.readLong() );
+				timestamp.setNanos( input.readInt() );
+				yield timestamp;
+			}
+			case SQL_DATE -> new java.sql.Date( input.readLong() );
+			case SQL_TIME -> new java.sql.Time( input.readLong() );
+			case DATE -> new java.util.Date( input.readLong() );
+			case ENUM -> readEnum( input );
+			case ARRAY -> readArray( input );
+			case UNFETCHED -> UNFETCHED_PROPERTY;
+			case UNKNOWN_BACKREF -> UNKNOWN;
+			case READ_WRITE_ITEM -> {
+				final long timestamp = input.readLong();
+				final Object version = read( input );
+				yield new AbstractReadWriteAccess.Item( read( input ), version, timestamp );
+			}
+			case ENTITY_ENTRY -> {
+				final String subclass = input.readString();
+				final Object version = read( input );
+				final int stateLength = input.readInt();
+				final int statePosition = input.position();
+				input.skip( stateLength );
+				yield new OffHeapCacheEntry( subclass, version, this, input.bytes(), statePosition );
+			}
+			case COLLECTION_ENTRY -> new CollectionCacheEntry( (Serializable) read( input ) );
+			case SERIALIZED -> {
+				final byte[] bytes = input.readBytes();
+				yield classLoaderService.workWithClassLoader(
+						classLoader -> SerializationHelper.deserialize( bytes, classLoader )
+				);
+			}
+			default -> throw new IllegalStateException( "Unknown off-heap cache value tag: " + tag );
+		};
+	}
+
+	private Serializable[] readArray(Input input) {
+		final var array = new Serializable[input.readInt()];
+		for ( int i = 0; i < array.length; i++ ) {
+			array[i] = (Serializable) read( input );
+		}
+		return array;
+	}
+
+	/**
+	 * Decode the disassembled state of an {@linkplain OffHeapCacheEntry entity cache entry}.
+	 */
+	Serializable[] decodeState(byte[] bytes, int position) {
+		final var input = new Input( bytes, position );
+		if ( input.readByte() != ARRAY ) {
+			throw new IllegalStateException( "Corrupt off-heap cache entry" );
+		}
+		return readArray( input );
+	}
+
+	private Object readEnum(Input input) {
+		final String className = input.readString();
+		final int ordinal = input.readInt();
+		final Class<?> enumClass =
+				enumClasses.computeIfAbsent( className, classLoaderService::classForName );
+		return enumClass.getEnumConstants()[ordinal];
+	}
+
+	private static final class Output {
+		private byte[] buffer;
+		private int position;
+
+		private Output(int initialCapacity) {
+			buffer = new byte[initialCapacity];
+		}
+
+		private void ensureCapacity(int additional) {
+			if ( position + additional > buffer.length ) {
+				buffer = Arrays.copyOf( buffer, Math.max( buffer.length << 1, position + additional ) );
+			}
+		}
+
+		int position() {
+			return position;
+		}
+
+		void writeByte(byte value) {
+			ensureCapacity( 1 );
+			buffer[position++] = value;
+		}
+
+		void writeShort(short value) {
+			ensureCapacity( 2 );
+			buffer[position++] = (byte) ( value >>> 8 );
+			buffer[position++] = (byte) value;
+		}
+
+		void writeInt(int value) {
+			ensureCapacity( 4 );
+			writeIntAt( position, value );
+			position += 4;
+		}
+
+		void writeIntAt(int at, int value) {
+			buffer[at] = (byte) ( value >>> 24 );
+			buffer[at + 1] = (byte) ( value >>> 16 );
+			buffer[at + 2] = (byte) ( value >>> 8 );
+			buffer[at + 3] = (byte) value;
+		}
+
+		int reserveInt() {
+			final int reserved = position;
+			writeInt( 0 );
+			return reserved;
+		}
+
+		void writeLong(long value) {
+			writeInt( (int) ( value >>> 32 ) );
+			writeInt( (int) value );
+		}
+
+		void writeBytes(byte[] bytes) {
+			writeInt( bytes.length );
+			ensureCapacity( bytes.length );
+			System.arraycopy( bytes, 0, buffer, position, bytes.length );
+			position += bytes.length;
+		}
+
+		void writeString(String string) {
+			writeBytes( string.getBytes( StandardCharsets.UTF_8 ) );
+		}
+
+		byte[] toByteArray() {
+			return Arrays.copyOf( buffer, position );
+		}
+	}
+
+	private static final class Input {
+		private final byte[] buffer;
+		private int position;
+
+		private Input(byte[] buffer, int position) {
+			this.buffer = buffer;
+			this.position = position;
+		}
+
+		byte[] bytes() {
+			return buffer;
+		}
+
+		int position() {
+			return position;
+		}
+
+		void skip(int length) {
+			position += length;
+		}
+
+		byte readByte() {
+			return buffer[position++];
+		}
+
+		short readShort() {
+			return (short) ( ( ( buffer[position++] & 0xff ) << 8 ) | ( buffer[position++] & 0xff ) );
+		}
+
+		int readInt() {
+			return ( buffer[position++] & 0xff ) << 24
+					| ( buffer[position++] & 0xff ) << 16
+					| ( buffer[position++] & 0xff ) << 8
+					| ( buffer[position++] & 0xff );
+		}
+
+		long readLong() {
+			return ( (long) readInt() << 32 ) | ( readInt() & 0xffffffffL );
+		}
+
+		byte[] readBytes() {
+			final int length = readInt();
+			final byte[] bytes = Arrays.copyOfRange( buffer, position, position + length );
+			position += length;
+			return bytes;
+		}
+
+		String readString() {
+			final int length = readInt();
+			final String string = new String( buffer, position, length, StandardCharsets.UTF_8 );
+			position += length;
+			return string;
+		}
+	}
+}
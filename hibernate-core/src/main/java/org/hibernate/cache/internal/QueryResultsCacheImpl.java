@@ -22,6 +22,9 @@
  * The standard implementation of the {@link QueryResultsCache} interface.
  * Works in conjunction with {@link TimestampsCache} to help in recognizing
  * stale query results.
+ * <p>
+ * If {@value org.hibernate.cfg.CacheSettings#QUERY_CACHE_COMPACT_RESULTS} is
+ * enabled, results are stored as {@link CompactQueryResults}.
  *
  * @author Gavin King
  * @author Steve Ebersole
@@ -30,16 +33,43 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 
 	private final QueryResultsRegion cacheRegion;
 	private final TimestampsCache timestampsCache;
+	private final boolean compactResults;
+	private final boolean compressResults;
 
-	private record CacheItem(long timestamp, List<?> results)
+	/**
+	 * @param data either a {@link List} of results, or {@link CompactQueryResults}
+	 */
+	private record CacheItem(long timestamp, Object data)
 			implements Serializable {
+		private List<?> results() {
+			return data instanceof CompactQueryResults compact
+					? compact.decode()
+					: (List<?>) data;
+		}
+
+		private List<?> copyOfResults() {
+			return data instanceof CompactQueryResults compact
+					// the decoded view is already a new list
+					? compact.decode()
+					: deepCopy( (List<?>) data );
+		}
 	}
 
 	QueryResultsCacheImpl(
 			QueryResultsRegion cacheRegion,
 			TimestampsCache timestampsCache) {
+		this( cacheRegion, timestampsCache, false, false );
+	}
+
+	QueryResultsCacheImpl(
+			QueryResultsRegion cacheRegion,
+			TimestampsCache timestampsCache,
+			boolean compactResults,
+			boolean compressResults) {
 		this.cacheRegion = cacheRegion;
 		this.timestampsCache = timestampsCache;
+		this.compactResults = compactResults;
+		this.compressResults = compressResults;
 	}
 
 	@Override
@@ -61,7 +91,7 @@ public boolean put(
 		final var eventMonitor = session.getEventMonitor();
 		final var cachePutEvent = eventMonitor.beginCachePutEvent();
 		final var listenerManager = session.getEventListenerManager();
-		final var cacheItem = new CacheItem( synchronization.getCachingTimestamp(), deepCopy( results ) );
+		final var cacheItem = new CacheItem( synchronization.getCachingTimestamp(), dataToCache( results, session ) );
 		try {
 			listenerManager.cachePutStart();
 			cacheRegion.putIntoCache( key, cacheItem, session );
@@ -79,6 +109,20 @@ public boolean put(
 		return true;
 	}
 
+	private Object dataToCache(List<?> results, SharedSessionContractImplementor session) {
+		if ( compactResults ) {
+			final var compact = CompactQueryResults.encode( results, compressResults );
+			if ( compact != null ) {
+				final var statistics = session.getFactory().getStatistics();
+				if ( statistics.isStatisticsEnabled() ) {
+					statistics.queryCacheEncodedPut( cacheRegion.getName(), compact.getEncodedSize() );
+				}
+				return compact;
+			}
+		}
+		return deepCopy( results );
+	}
+
 	private static <T> List<T> deepCopy(List<T> results) {
 		return new ArrayList<>( results );
 	}
@@ -113,7 +157,7 @@ public List<?> get(
 		}
 
 		// No need to copy results, since consumers will never mutate
-		return cacheItem.results;
+		return cacheItem.results();
 	}
 
 	@Override
@@ -146,7 +190,7 @@ public List<?> get(
 			L2CACHE_LOGGER.returningCachedQueryResults();
 		}
 
-		return deepCopy( cacheItem.results );
+		return cacheItem.copyOfResults();
 	}
 
 	private CacheItem getCachedData(QueryKey key, SharedSessionContractImplementor session) {
@@ -11,6 +11,7 @@
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
+import static java.util.Arrays.asList;
 import static org.hibernate.cache.spi.SecondLevelCacheLogger.L2CACHE_LOGGER;
 import static org.hibernate.event.monitor.spi.EventMonitor.CacheActionDescription.TIMESTAMP_INVALIDATE;
 import static org.hibernate.event.monitor.spi.EventMonitor.CacheActionDescription.TIMESTAMP_PRE_INVALIDATE;
@@ -121,13 +122,7 @@ public boolean isUpToDate(
 			String[] spaces,
 			Long timestamp,
 			SharedSessionContractImplementor session) {
-		final var statistics = session.getFactory().getStatistics();
-		for ( String space : spaces ) {
-			if ( isSpaceOutOfDate( space, timestamp, session, statistics ) ) {
-				return false;
-			}
-		}
-		return true;
+		return isUpToDate( asList( spaces ), timestamp, session );
 	}
 
 	private boolean isSpaceOutOfDate(
@@ -158,6 +153,22 @@ public boolean isUpToDate(
 			Collection<String> spaces,
 			Long timestamp,
 			SharedSessionContractImplementor session) {
+		final var eventMonitor = session.getEventMonitor();
+		final var timestampsCheckEvent = eventMonitor.beginTimestampsCheckEvent();
+		boolean upToDate = false;
+		try {
+			upToDate = areSpacesUpToDate( spaces, timestamp, session );
+			return upToDate;
+		}
+		finally {
+			eventMonitor.completeTimestampsCheckEvent( timestampsCheckEvent, session, spaces, upToDate );
+		}
+	}
+
+	private boolean areSpacesUpToDate(
+			Collection<String> spaces,
+			Long timestamp,
+			SharedSessionContractImplementor session) {
 		final var statistics = session.getFactory().getStatistics();
 		for ( String space : spaces ) {
 			if ( isSpaceOutOfDate( space, timestamp, session, statistics ) ) {
@@ -28,7 +28,14 @@ public CollectionCacheEntry(PersistentCollection<?> collection, CollectionPersis
 		this.state = collection.disassemble( persister );
 	}
 
-	CollectionCacheEntry(Serializable state) {
+	/**
+	 * Constructs a collection cache entry from already disassembled state.
+	 *
+	 * @param state The disassembled collection state
+	 *
+	 * @since 7.2
+	 */
+	public CollectionCacheEntry(Serializable state) {
 		this.state = state;
 	}
 
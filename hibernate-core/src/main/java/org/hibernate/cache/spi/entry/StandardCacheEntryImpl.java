@@ -55,7 +55,17 @@ public StandardCacheEntryImpl(
 		this.version = version;
 	}
 
-	StandardCacheEntryImpl(Serializable[] disassembledState, String subclass, Object version) {
+	/**
+	 * Constructs an entry from already disassembled state.
+	 *
+	 * @param disassembledState The disassembled state, or {@code null} if a subclass
+	 *                          {@linkplain #getDisassembledState() supplies} it lazily
+	 * @param subclass The entity name
+	 * @param version The version, if any
+	 *
+	 * @since 7.2
+	 */
+	protected StandardCacheEntryImpl(Serializable[] disassembledState, String subclass, Object version) {
 		this.disassembledState = disassembledState;
 		this.subclass = subclass;
 		this.version = version;
@@ -127,7 +137,7 @@ public Object[] assemble(
 
 		// assembled state gets put in a new array (we read from cache by value!)
 		final Object[] state = CacheEntryHelper.assemble(
-				disassembledState,
+				getDisassembledState(),
 				persister.getPropertyTypes(),
 				session, instance
 		);
@@ -6,8 +6,10 @@
 
 import java.io.Serial;
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.Locale;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
@@ -19,6 +21,7 @@
 
 
 import static org.hibernate.cache.spi.SecondLevelCacheLogger.L2CACHE_LOGGER;
+import static org.hibernate.internal.util.collections.CollectionHelper.mapOfSize;
 
 /**
  * @author Steve Ebersole
@@ -97,6 +100,29 @@ public Object get(SharedSessionContractImplementor session, Object key) {
 		}
 	}
 
+	@Override
+	public Map<Object, Object> getAll(SharedSessionContractImplementor session, Collection<?> keys) {
+		if ( L2CACHE_LOGGER.isTraceEnabled() ) {
+			L2CACHE_LOGGER.tracef( "Getting cached data from region ['%s' (%s)] by %s keys",
+					getRegion().getName(), getAccessType(), keys.size() );
+		}
+		try {
+			readLock.lock();
+			final var items = getStorageAccess().getAllFromCache( keys, session );
+			final Map<Object, Object> values = mapOfSize( items.size() );
+			items.forEach( (key, item) -> {
+				final var lockable = (Lockable) item;
+				if ( isReadable( session, lockable ) ) {
+					values.put( key, lockable.getValue() );
+				}
+			} );
+			return values;
+		}
+		finally {
+			readLock.unlock();
+		}
+	}
+
 	private static boolean isReadable(SharedSessionContractImplementor session, Lockable item) {
 		return item.isReadable( session.getCacheTransactionSynchronization().getCachingTimestamp() );
 	}
@@ -294,7 +320,7 @@ public final static class Item implements Serializable, Lockable {
 		/**
 		 * Creates an unlocked item wrapping the given value with a version and creation timestamp.
 		 */
-		Item(Object value, Object version, long timestamp) {
+		public Item(Object value, Object version, long timestamp) {
 			this.value = value;
 			this.version = version;
 			this.timestamp = timestamp;
@@ -335,6 +361,20 @@ public Object getValue() {
 			return value;
 		}
 
+		/**
+		 * @since 7.2
+		 */
+		public Object getVersion() {
+			return version;
+		}
+
+		/**
+		 * @since 7.2
+		 */
+		public long getTimestamp() {
+			return timestamp;
+		}
+
 		@Override
 		public boolean isUnlockable(SoftLock lock) {
 			return false;
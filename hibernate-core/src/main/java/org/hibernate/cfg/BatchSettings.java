@@ -6,6 +6,7 @@
 
 import java.sql.PreparedStatement;
 
+import org.hibernate.Incubating;
 import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
 
 /**
@@ -65,6 +66,114 @@ public interface BatchSettings {
 	 */
 	String ORDER_INSERTS = "hibernate.order_inserts";
 
+	/**
+	 * Enable pipelining of JDBC batches affecting independent tables during flush.
+	 * <p>
+	 * By default, a session has at most one open JDBC batch, which is executed as
+	 * soon as a statement with a different {@linkplain org.hibernate.engine.jdbc.batch.spi.BatchKey
+	 * batch key} is issued, and at the end of each kind of action executed by the
+	 * flush. When this setting is enabled, a new batch is opened alongside the batches
+	 * already open, and only those open batches which affect the same table as the new
+	 * batch, or a table related to it by a foreign key, are executed first. The remaining
+	 * batches are executed together at the end of the flush. This results in fewer,
+	 * fuller batches when a flush interleaves changes to tables which do not depend on
+	 * each other, without the need to {@linkplain #ORDER_INSERTS sort} the actions.
+	 * <p>
+	 * Dependencies which are not expressed as foreign keys in the mapping, for example,
+	 * dependencies introduced by triggers, are not taken into account.
+	 * <p>
+	 * This setting has no effect unless {@linkplain #STATEMENT_BATCH_SIZE batching}
+	 * is enabled.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.2
+	 */
+	@Incubating
+	String BATCH_PIPELINING = "hibernate.jdbc.batch_pipelining";
+
+	/**
+	 * Enable adaptive sizing of JDBC batches. When enabled, the standard
+	 * {@link BatchBuilder} measures the execution time of each batch, and
+	 * adjusts the batch size for each {@linkplain org.hibernate.engine.jdbc.batch.spi.BatchKey
+	 * batch key} to approach the {@linkplain #ADAPTIVE_BATCH_TARGET_LATENCY target
+	 * latency} for a single round trip. Narrow tables therefore end up with larger
+	 * batches than wide tables.
+	 * <p>
+	 * The {@linkplain #STATEMENT_BATCH_SIZE configured batch size}, or the batch size
+	 * {@linkplain org.hibernate.Session#setJdbcBatchSize set for the session}, is used
+	 * as the starting size for each batch key. This setting has no effect unless
+	 * batching is enabled.
+	 *
+	 * @see org.hibernate.stat.Statistics#getJdbcBatchSizes
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.2
+	 */
+	@Incubating
+	String ADAPTIVE_BATCH_SIZE = "hibernate.jdbc.batch.adaptive";
+
+	/**
+	 * The target execution time, in milliseconds, of a single JDBC batch when
+	 * {@linkplain #ADAPTIVE_BATCH_SIZE adaptive batch sizing} is enabled.
+	 *
+	 * @settingDefault 10
+	 *
+	 * @since 7.2
+	 */
+	@Incubating
+	String ADAPTIVE_BATCH_TARGET_LATENCY = "hibernate.jdbc.batch.adaptive.target_latency";
+
+	/**
+	 * The smallest batch size chosen by {@linkplain #ADAPTIVE_BATCH_SIZE adaptive
+	 * batch sizing}.
+	 *
+	 * @settingDefault 2
+	 *
+	 * @since 7.2
+	 */
+	@Incubating
+	String ADAPTIVE_BATCH_MIN_SIZE = "hibernate.jdbc.batch.adaptive.min_size";
+
+	/**
+	 * The largest batch size chosen by {@linkplain #ADAPTIVE_BATCH_SIZE adaptive
+	 * batch sizing}.
+	 *
+	 * @settingDefault 1000
+	 *
+	 * @since 7.2
+	 */
+	@Incubating
+	String ADAPTIVE_BATCH_MAX_SIZE = "hibernate.jdbc.batch.adaptive.max_size";
+
+	/**
+	 * Enable execution of batched inserts as multi-row inserts, that is, as
+	 * {@code insert ... values (...), (...), ...} statements.
+	 * <p>
+	 * When this setting is enabled, the rows of a batch which are inserted
+	 * into a table are sent to the database using statements which insert
+	 * several rows at once. The number of rows per statement is always a
+	 * power of two, so that only a few distinct statements are prepared for
+	 * each table, and is limited by the {@linkplain #STATEMENT_BATCH_SIZE
+	 * batch size} and by the {@linkplain org.hibernate.dialect.Dialect#getParameterCountLimit
+	 * maximum number of JDBC parameters} supported by the database.
+	 * <p>
+	 * Only inserts with an assigned or pre-generated identifier, including
+	 * inserts performed by {@link org.hibernate.StatelessSession#insertMultiple},
+	 * are batched and are therefore affected. Inserts with custom SQL, and
+	 * inserts with an expectation other than a simple row count, are executed
+	 * normally. This setting has no effect unless {@linkplain #STATEMENT_BATCH_SIZE
+	 * batching} is enabled, and unless the {@linkplain org.hibernate.dialect.Dialect#supportsValuesListForInsert
+	 * dialect supports} multi-row inserts.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.2
+	 */
+	@Incubating
+	String MULTI_ROW_INSERTS = "hibernate.jdbc.batch.multi_row_inserts";
+
 	/**
 	 * @deprecated Use {@link #BUILDER} instead
 	 */
@@ -4,6 +4,8 @@
  */
 package org.hibernate.cfg;
 
+import org.hibernate.Incubating;
+
 /**
  * Settings which control the {@link org.hibernate.bytecode.spi.BytecodeProvider}
  * used for bytecode enhancement and reflection optimization.
@@ -58,4 +60,24 @@ public interface BytecodeSettings {
 	@SuppressWarnings("DeprecatedIsStillUsed")
 	@Deprecated(forRemoval = true)
 	String ENHANCER_ENABLE_LAZY_INITIALIZATION = "hibernate.enhancer.enableLazyInitialization";
+
+	/**
+	 * When enabled, Hibernate generates a class for each entity class which is not
+	 * enhanced, to compare the values of properties of basic immutable type with
+	 * their loaded state during flush-time dirty checking. The generated code reads
+	 * the fields or getters of the entity directly, and compares primitive values
+	 * without boxing them.
+	 * <p>
+	 * Requires a {@link org.hibernate.bytecode.spi.BytecodeProvider} capable of
+	 * generating classes at runtime. Properties accessed via a private field or
+	 * getter are dirty checked in the usual way.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @see org.hibernate.bytecode.spi.DirtyCheckOptimizer
+	 *
+	 * @since 7.2
+	 */
+	@Incubating
+	String DIRTY_CHECK_OPTIMIZER = "hibernate.bytecode.dirty_check_optimizer";
 }
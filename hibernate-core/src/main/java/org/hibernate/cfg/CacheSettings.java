@@ -107,6 +107,35 @@ public interface CacheSettings {
 	@Incubating
 	String QUERY_CACHE_LAYOUT = "hibernate.cache.query_cache_layout";
 
+	/**
+	 * When enabled, query results are stored in the query cache in a compact,
+	 * column-wise binary encoding, instead of as arrays of objects, reducing
+	 * the size of cached results, at the cost of decoding them on each cache
+	 * hit. Columns holding values of types other than {@code Long},
+	 * {@code Integer}, {@code Double}, {@code Boolean}, and {@code String}
+	 * are stored as-is.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @see #QUERY_CACHE_COMPRESSION
+	 * @see org.hibernate.stat.CacheRegionStatistics#getQueryResultsEncodedSize()
+	 * @since 7.2
+	 */
+	@Incubating
+	String QUERY_CACHE_COMPACT_RESULTS = "hibernate.cache.query_cache_compact_results";
+
+	/**
+	 * When enabled, along with {@value #QUERY_CACHE_COMPACT_RESULTS}, the
+	 * encoded columns of query results are compressed before being stored
+	 * in the query cache.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.2
+	 */
+	@Incubating
+	String QUERY_CACHE_COMPRESSION = "hibernate.cache.query_cache_compression";
+
 	/**
 	 * The {@link RegionFactory} implementation, either:
 	 * <ul>
@@ -210,6 +239,18 @@ public interface CacheSettings {
 	 */
 	String USE_DIRECT_REFERENCE_CACHE_ENTRIES = "hibernate.cache.use_reference_entries";
 
+	/**
+	 * The maximum number of bytes of off-heap memory which each cache region may
+	 * occupy when {@link org.hibernate.cache.internal.OffHeapRegionFactory} is used
+	 * as the {@linkplain #CACHE_REGION_FACTORY region factory}. When a region is
+	 * full, its least recently used entries are evicted.
+	 *
+	 * @settingDefault {@code 67108864} (64 MiB)
+	 *
+	 * @since 7.2
+	 */
+	String OFF_HEAP_REGION_MAX_BYTES = "hibernate.cache.off_heap.region_max_bytes";
+
 	/**
 	 * Specifies the {@link org.hibernate.cache.spi.CacheKeysFactory} to use, either:
 	 * <ul>
@@ -208,4 +208,18 @@ public interface PersistenceSettings {
 	 * @settingDefault {@code false}
 	 */
 	String UNOWNED_ASSOCIATION_TRANSIENT_CHECK = "hibernate.unowned_association_transient_check";
+
+	/**
+	 * When enabled, the persistence context keeps entities with {@code Long} or
+	 * {@code Integer} identifiers in open-addressing hash tables of primitive keys,
+	 * one per entity hierarchy, instead of in a {@link java.util.HashMap} keyed by
+	 * {@link org.hibernate.engine.spi.EntityKey}. This reduces the memory footprint
+	 * of a session holding very many entities, and the cost of looking them up.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.2
+	 */
+	@Incubating
+	String PERSISTENCE_CONTEXT_PRIMITIVE_ID_MAP = "hibernate.persistence_context.primitive_id_map";
 }
@@ -264,7 +264,13 @@ public interface QuerySettings {
 	 * When this setting is enabled, we expand the number of bind parameters to an
 	 * integer power of two: 4, 8, 16, 32, 64. Thus, if 5, 6, or 7 arguments are bound
 	 * to a parameter, a SQL statement with 8 bind parameters in the {@code IN} clause
-	 * will be used, and null will be bound to the left-over parameters.
+	 * will be used, and the last argument will be bound to the left-over parameters.
+	 * <p>
+	 * When this setting is enabled, a query with a multivalued parameter is eligible
+	 * for the {@linkplain #QUERY_PLAN_CACHE_ENABLED query plan cache}, which holds a
+	 * separate translation of the query for each padded length of the {@code IN} list.
+	 *
+	 * @see org.hibernate.stat.QueryStatistics#getDistinctSqlCount()
 	 *
 	 * @since 5.2.17
 	 */
@@ -305,6 +311,125 @@ public interface QuerySettings {
 	 */
 	String QUERY_PLAN_CACHE_MAX_SIZE = "hibernate.query.plan_cache_max_size";
 
+	/**
+	 * Selects the eviction policy of the caches backing the
+	 * {@linkplain org.hibernate.query.spi.QueryInterpretationCache query interpretation cache}.
+	 * Accepts:
+	 * <ul>
+	 *     <li>{@code legacy} - a concurrent map with LIRS eviction,
+	 *     <li>{@code tinylfu} - a W-TinyLFU policy which retains the most frequently
+	 *         used entries, and so copes better with workloads where many distinct
+	 *         queries are executed only once, or
+	 *     <li>an instance or the name of a class implementing
+	 *         {@link org.hibernate.internal.util.cache.InternalCacheFactory}.
+	 * </ul>
+	 *
+	 * @settingDefault {@code legacy}
+	 *
+	 * @since 7.2
+	 */
+	String QUERY_PLAN_CACHE_IMPLEMENTATION = "hibernate.query.plan_cache_implementation";
+
+	/**
+	 * When enabled, every named HQL query is translated to SQL when the
+	 * {@link org.hibernate.SessionFactory} is created, and the resulting
+	 * {@linkplain QueryPlan query plan} is placed in the
+	 * {@linkplain org.hibernate.query.spi.QueryInterpretationCache query plan cache},
+	 * so that the first execution of the query does not pay the cost of translation.
+	 * The queries are translated in parallel, using the
+	 * {@linkplain java.util.concurrent.ForkJoinPool#commonPool common pool}.
+	 * <p>
+	 * Queries with multivalued parameters are prepared as if a single value were
+	 * bound to each such parameter.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @see #QUERY_PLAN_WARMUP_FILE
+	 *
+	 * @since 7.2
+	 */
+	@Incubating
+	String QUERY_PLAN_WARMUP = "hibernate.query.plan_warmup";
+
+	/**
+	 * The path of a file to which the HQL queries held in the
+	 * {@linkplain org.hibernate.query.spi.QueryInterpretationCache query
+	 * interpretation cache} are written when the {@link org.hibernate.SessionFactory}
+	 * is closed. If the file exists when the {@code SessionFactory} is created, the
+	 * queries it lists are translated and cached ahead of their first execution, as
+	 * for {@value #QUERY_PLAN_WARMUP}.
+	 * <p>
+	 * A query listed in the file which can no longer be interpreted, for example,
+	 * because the domain model has changed, is ignored.
+	 *
+	 * @since 7.2
+	 */
+	@Incubating
+	String QUERY_PLAN_WARMUP_FILE = "hibernate.query.plan_warmup_file";
+
+	/**
+	 * When enabled, the results of a query which returns only scalar values,
+	 * {@linkplain jakarta.persistence.Tuple tuples}, or instances of a class
+	 * instantiated via its constructor, and no entities, embeddables, or
+	 * collections, are assembled in parallel using the
+	 * {@linkplain java.util.concurrent.ForkJoinPool#commonPool common pool}.
+	 * <p>
+	 * The JDBC values are still read from the {@link java.sql.ResultSet} by
+	 * the calling thread, in chunks, but the conversion of the JDBC values to
+	 * the Java types of the results, and the instantiation of the result
+	 * classes, are performed by other threads, overlapping with the reading
+	 * of subsequent chunks. The order of the results is preserved.
+	 * <p>
+	 * This is only worthwhile for queries which return many results, and is
+	 * never used for a query with a {@link org.hibernate.query.TupleTransformer},
+	 * for a query which removes duplicate results, or for a query which returns
+	 * fewer results than fit in a single chunk. Any
+	 * {@linkplain jakarta.persistence.AttributeConverter attribute converters}
+	 * applied to the results must be thread-safe.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.2
+	 */
+	@Incubating
+	String PARALLEL_RESULT_ASSEMBLY = "hibernate.query.parallel_result_assembly";
+
+	/**
+	 * When enabled, Hibernate observes which lazy associations of the entities
+	 * returned by an HQL query are initialized after the query executes, and,
+	 * once an association is usually initialized, fetches it in later executions
+	 * of the same query: a to-one association using a join, as if it were part of
+	 * a {@linkplain org.hibernate.graph.GraphSemantic#LOAD load graph}, and a
+	 * collection using a {@linkplain org.hibernate.annotations.FetchMode#SUBSELECT
+	 * subselect}.
+	 * <p>
+	 * The learned fetch plans are logged as they are learned, and may be obtained,
+	 * cleared, or switched off at runtime via the
+	 * {@link org.hibernate.query.spi.FetchPlanLearner}.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @see #FETCH_PLAN_LEARNING_THRESHOLD
+	 * @see org.hibernate.query.spi.QueryEngine#getFetchPlanLearner()
+	 *
+	 * @since 7.2
+	 */
+	@Incubating
+	String FETCH_PLAN_LEARNING = "hibernate.query.fetch_plan_learning";
+
+	/**
+	 * The number of executions of a query after which an association must have
+	 * been initialized before it is fetched by the query, when
+	 * {@value #FETCH_PLAN_LEARNING} is enabled. The association must also have
+	 * been initialized after more than half of all executions of the query.
+	 *
+	 * @settingDefault {@code 10}
+	 *
+	 * @since 7.2
+	 */
+	@Incubating
+	String FETCH_PLAN_LEARNING_THRESHOLD = "hibernate.query.fetch_plan_learning_threshold";
+
 	/**
 	 * The maximum number of {@link org.hibernate.query.ParameterMetadata} instances
 	 * maintained by the {@link org.hibernate.query.spi.QueryInterpretationCache}.
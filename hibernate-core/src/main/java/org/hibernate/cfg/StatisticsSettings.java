@@ -41,4 +41,27 @@ public interface StatisticsSettings {
 	 * @see org.hibernate.stat.Statistics#getQueries()
 	 */
 	String QUERY_STATISTICS_MAX_SIZE = "hibernate.statistics.query_max_size";
+
+	/**
+	 * When statistics are {@linkplain #GENERATE_STATISTICS enabled}, specifies
+	 * that only one in every {@code N} events is recorded in the statistics of
+	 * individual {@linkplain org.hibernate.stat.EntityStatistics entities},
+	 * {@linkplain org.hibernate.stat.CollectionStatistics collections}, and
+	 * {@linkplain org.hibernate.stat.QueryStatistics queries}, reducing the
+	 * overhead of collecting statistics under high load. Each recorded event
+	 * is counted {@code N} times, so that the reported counts and total times
+	 * are estimates of the true values.
+	 * <p>
+	 * The global counts reported directly by {@link org.hibernate.stat.Statistics},
+	 * the minimum and maximum execution times of each query, and statistics
+	 * relating to the second-level cache, are always exact.
+	 * <p>
+	 * When {@linkplain SessionEventSettings#LOG_SESSION_METRICS session metrics
+	 * are logged}, they are logged for only one session in every {@code N}.
+	 *
+	 * @settingDefault {@code 1}, that is, every event is recorded
+	 *
+	 * @since 7.2
+	 */
+	String STATISTICS_SAMPLE_RATE = "hibernate.statistics.sample_rate";
 }
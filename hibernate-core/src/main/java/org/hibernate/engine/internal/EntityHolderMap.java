@@ -0,0 +1,417 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.internal;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.hibernate.engine.spi.EntityHolder;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * The map of {@link EntityHolder}s by {@link EntityKey} held by a
+ * {@link StatefulPersistenceContext}.
+ * <p>
+ * When {@code primitiveIds} is enabled, holders of entities with
+ * {@code Long} or {@code Integer} identifiers are kept in one open-addressing
+ * table of primitive keys per entity hierarchy. Such a table does not allocate
+ * a node per entry, and may be searched by persister and identifier without
+ * instantiating an {@code EntityKey}. Holders of any other entity are kept in
+ * an ordinary {@link HashMap}.
+ *
+ * @param <V> the type of holder
+ *
+ * @see org.hibernate.cfg.PersistenceSettings#PERSISTENCE_CONTEXT_PRIMITIVE_ID_MAP
+ */
+final class EntityHolderMap<V extends EntityHolder> extends AbstractMap<EntityKey, V> {
+	private final boolean primitiveIds;
+
+	private @Nullable HashMap<EntityKey, V> otherHolders;
+	private IdTable[] idTables;
+	private int idTableCount;
+
+	private transient @Nullable EntrySet entrySet;
+
+	EntityHolderMap(boolean primitiveIds, int initialCapacity) {
+		this.primitiveIds = primitiveIds;
+		if ( !primitiveIds ) {
+			otherHolders = new HashMap<>( initialCapacity );
+		}
+	}
+
+	/**
+	 * Find the holder for the entity with the given persister and identifier,
+	 * without instantiating an {@link EntityKey} if possible.
+	 */
+	@Nullable V get(EntityPersister persister, Object id) {
+		if ( primitiveIds && isPrimitiveId( id ) ) {
+			final var table = findTable( persister, id.getClass() );
+			if ( table != null ) {
+				return table.get( longValue( id ) );
+			}
+		}
+		return otherHolders == null || otherHolders.isEmpty()
+				? null
+				: otherHolders.get( new EntityKey( id, persister ) );
+	}
+
+	@Override
+	public @Nullable V get(Object key) {
+		if ( key instanceof EntityKey entityKey ) {
+			final var table = tableFor( entityKey, false );
+			if ( table != null ) {
+				return table.get( longValue( entityKey.getIdentifier() ) );
+			}
+		}
+		return otherHolders == null ? null : otherHolders.get( key );
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return get( key ) != null;
+	}
+
+	@Override
+	public @Nullable V put(EntityKey key, V value) {
+		final var table = tableFor( key, true );
+		return table == null
+				? otherHolders().put( key, value )
+				: table.put( longValue( key.getIdentifier() ), value, true );
+	}
+
+	@Override
+	public @Nullable V putIfAbsent(EntityKey key, V value) {
+		final var table = tableFor( key, true );
+		return table == null
+				? otherHolders().putIfAbsent( key, value )
+				: table.put( longValue( key.getIdentifier() ), value, false );
+	}
+
+	@Override
+	public @Nullable V remove(Object key) {
+		if ( key instanceof EntityKey entityKey ) {
+			final var table = tableFor( entityKey, false );
+			if ( table != null ) {
+				return table.remove( longValue( entityKey.getIdentifier() ) );
+			}
+		}
+		return otherHolders == null ? null : otherHolders.remove( key );
+	}
+
+	@Override
+	public int size() {
+		int size = otherHolders == null ? 0 : otherHolders.size();
+		for ( int i = 0; i < idTableCount; i++ ) {
+			size += idTables[i].size;
+		}
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	@Override
+	public void clear() {
+		if ( otherHolders != null ) {
+			otherHolders.clear();
+		}
+		for ( int i = 0; i < idTableCount; i++ ) {
+			idTables[i] = null;
+		}
+		idTableCount = 0;
+	}
+
+	@Override
+	public Set<Entry<EntityKey, V>> entrySet() {
+		if ( entrySet == null ) {
+			entrySet = new EntrySet();
+		}
+		return entrySet;
+	}
+
+	private HashMap<EntityKey, V> otherHolders() {
+		if ( otherHolders == null ) {
+			otherHolders = new HashMap<>();
+		}
+		return otherHolders;
+	}
+
+	private static boolean isPrimitiveId(Object id) {
+		return id instanceof Long || id instanceof Integer;
+	}
+
+	private static long longValue(Object id) {
+		return ( (Number) id ).longValue();
+	}
+
+	private @Nullable IdTable tableFor(EntityKey key, boolean create) {
+		if ( !primitiveIds ) {
+			return null;
+		}
+		final Object id = key.getIdentifier();
+		if ( !isPrimitiveId( id ) ) {
+			return null;
+		}
+		final var persister = key.getPersister();
+		final var table = findTable( persister, id.getClass() );
+		if ( table != null || !create ) {
+			return table;
+		}
+		final var root = rootPersister( persister );
+		for ( int i = 0; i < idTableCount; i++ ) {
+			if ( idTables[i].root == root ) {
+				// the hierarchy has a table for the other primitive id type,
+				// which means its identifier type is something unusual
+				return null;
+			}
+		}
+		final var newTable = new IdTable( root, id.getClass() );
+		if ( idTables == null ) {
+			idTables = new IdTable[4];
+		}
+		else if ( idTableCount == idTables.length ) {
+			idTables = Arrays.copyOf( idTables, idTableCount * 2 );
+		}
+		idTables[idTableCount++] = newTable;
+		return newTable;
+	}
+
+	private @Nullable IdTable findTable(EntityPersister persister, Class<?> idClass) {
+		// a persistence context rarely holds more than a handful of
+		// entity hierarchies, so a linear search by identity is cheap
+		if ( idTableCount > 0 ) {
+			final var root = rootPersister( persister );
+			for ( int i = 0; i < idTableCount; i++ ) {
+				final var table = idTables[i];
+				if ( table.root == root ) {
+					return table.idClass == idClass ? table : null;
+				}
+			}
+		}
+		return null;
+	}
+
+	private static EntityPersister rootPersister(EntityPersister persister) {
+		return persister.getRootEntityDescriptor().getEntityPersister();
+	}
+
+	/**
+	 * An open-addressing hash table with linear probing, mapping
+	 * the identifiers of a single entity hierarchy to holders.
+	 */
+	private final class IdTable {
+		private static final Object TOMBSTONE = new Object();
+		private static final int INITIAL_CAPACITY = 16;
+
+		private final EntityPersister root;
+		private final Class<?> idClass;
+
+		private long[] ids;
+		private Object[] holders;
+		private int size;
+		// the number of slots which are in use or hold a tombstone
+		private int usedSlots;
+
+		private IdTable(EntityPersister root, Class<?> idClass) {
+			this.root = root;
+			this.idClass = idClass;
+			this.ids = new long[INITIAL_CAPACITY];
+			this.holders = new Object[INITIAL_CAPACITY];
+		}
+
+		private static int hash(long id) {
+			final long hash = id * 0x9E3779B97F4A7C15L;
+			return (int) ( hash ^ ( hash >>> 32 ) );
+		}
+
+		@SuppressWarnings("unchecked")
+		private @Nullable V get(long id) {
+			final int mask = ids.length - 1;
+			int index = hash( id ) & mask;
+			Object holder;
+			while ( ( holder = holders[index] ) != null ) {
+				if ( holder != TOMBSTONE && ids[index] == id ) {
+					return (V) holder;
+				}
+				index = ( index + 1 ) & mask;
+			}
+			return null;
+		}
+
+		@SuppressWarnings("unchecked")
+		private @Nullable V put(long id, V value, boolean replace) {
+			final int mask = ids.length - 1;
+			int index = hash( id ) & mask;
+			int tombstone = -1;
+			Object holder;
+			while ( ( holder = holders[index] ) != null ) {
+				if ( holder == TOMBSTONE ) {
+					if ( tombstone < 0 ) {
+						tombstone = index;
+					}
+				}
+				else if ( ids[index] == id ) {
+					if ( replace ) {
+						holders[index] = value;
+					}
+					return (V) holder;
+				}
+				index = ( index + 1 ) & mask;
+			}
+			if ( tombstone >= 0 ) {
+				index = tombstone;
+			}
+			else {
+				usedSlots++;
+			}
+			ids[index] = id;
+			holders[index] = value;
+			size++;
+			if ( usedSlots * 3 >= ids.length * 2 ) {
+				rehash();
+			}
+			return null;
+		}
+
+		@SuppressWarnings("unchecked")
+		private @Nullable V remove(long id) {
+			final int mask = ids.length - 1;
+			int index = hash( id ) & mask;
+			Object holder;
+			while ( ( holder = holders[index] ) != null ) {
+				if ( holder != TOMBSTONE && ids[index] == id ) {
+					removeAt( index );
+					return (V) holder;
+				}
+				index = ( index + 1 ) & mask;
+			}
+			return null;
+		}
+
+		private void removeAt(int index) {
+			holders[index] = TOMBSTONE;
+			size--;
+		}
+
+		private void rehash() {
+			final long[] oldIds = ids;
+			final Object[] oldHolders = holders;
+			// grow only if the table is full of live entries,
+			// otherwise just get rid of the tombstones
+			final int capacity = size * 3 >= oldIds.length ? oldIds.length * 2 : oldIds.length;
+			ids = new long[capacity];
+			holders = new Object[capacity];
+			usedSlots = size;
+			final int mask = capacity - 1;
+			for ( int i = 0; i < oldIds.length; i++ ) {
+				final Object holder = oldHolders[i];
+				if ( holder != null && holder != TOMBSTONE ) {
+					int index = hash( oldIds[i] ) & mask;
+					while ( holders[index] != null ) {
+						index = ( index + 1 ) & mask;
+					}
+					ids[index] = oldIds[i];
+					holders[index] = holder;
+				}
+			}
+		}
+	}
+
+	private final class EntrySet extends AbstractSet<Entry<EntityKey, V>> {
+		@Override
+		public Iterator<Entry<EntityKey, V>> iterator() {
+			return new EntryIterator();
+		}
+
+		@Override
+		public int size() {
+			return EntityHolderMap.this.size();
+		}
+
+		@Override
+		public void clear() {
+			EntityHolderMap.this.clear();
+		}
+	}
+
+	/**
+	 * Iterates the ordinary map first, and then each table of primitive ids.
+	 * Removal through the iterator leaves a tombstone, so it never moves
+	 * entries which are yet to be visited.
+	 */
+	private final class EntryIterator implements Iterator<Entry<EntityKey, V>> {
+		private final @Nullable Iterator<Entry<EntityKey, V>> otherIterator =
+				otherHolders == null ? null : otherHolders.entrySet().iterator();
+		private boolean inOtherHolders = otherIterator != null;
+		private boolean lastFromOtherHolders;
+		private int tableIndex;
+		private int slot = -1;
+		private @Nullable IdTable lastTable;
+		private int lastSlot;
+
+		@Override
+		public boolean hasNext() {
+			if ( inOtherHolders ) {
+				if ( otherIterator.hasNext() ) {
+					return true;
+				}
+				inOtherHolders = false;
+			}
+			while ( tableIndex < idTableCount ) {
+				final var holders = idTables[tableIndex].holders;
+				while ( ++slot < holders.length ) {
+					final Object holder = holders[slot];
+					if ( holder != null && holder != IdTable.TOMBSTONE ) {
+						slot--;
+						return true;
+					}
+				}
+				tableIndex++;
+				slot = -1;
+			}
+			return false;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public Entry<EntityKey, V> next() {
+			if ( !hasNext() ) {
+				throw new NoSuchElementException();
+			}
+			if ( inOtherHolders ) {
+				lastFromOtherHolders = true;
+				lastTable = null;
+				return otherIterator.next();
+			}
+			lastFromOtherHolders = false;
+			lastTable = idTables[tableIndex];
+			lastSlot = ++slot;
+			final var holder = (V) lastTable.holders[slot];
+			return new SimpleImmutableEntry<>( holder.getEntityKey(), holder );
+		}
+
+		@Override
+		public void remove() {
+			if ( lastFromOtherHolders ) {
+				otherIterator.remove();
+			}
+			else if ( lastTable == null || lastTable.holders[lastSlot] == IdTable.TOMBSTONE ) {
+				throw new IllegalStateException();
+			}
+			else {
+				lastTable.removeAt( lastSlot );
+			}
+		}
+	}
+}
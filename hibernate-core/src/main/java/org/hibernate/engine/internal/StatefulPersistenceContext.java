@@ -105,7 +105,7 @@ the following fields are used in all circumstances, and are not worth (or not su
 	 */
 
 	// Loaded entity instances, by EntityKey
-	private HashMap<EntityKey, EntityHolderImpl> entitiesByKey;
+	private EntityHolderMap<EntityHolderImpl> entitiesByKey;
 
 	// New entity holder cached instance
 	private EntityHolderImpl newEntityHolder;
@@ -172,13 +172,21 @@ the following fields are used in all circumstances, and are not worth (or not su
 		this.entityEntryContext = new EntityEntryContext( this );
 	}
 
-	private Map<EntityKey, EntityHolderImpl> getOrInitializeEntitiesByKey() {
+	private EntityHolderMap<EntityHolderImpl> getOrInitializeEntitiesByKey() {
 		if ( entitiesByKey == null ) {
-			entitiesByKey = mapOfSize( INIT_COLL_SIZE );
+			entitiesByKey = newEntityHolderMap( session, INIT_COLL_SIZE );
 		}
 		return entitiesByKey;
 	}
 
+	private static EntityHolderMap<EntityHolderImpl> newEntityHolderMap(
+			SharedSessionContractImplementor session, int initialCapacity) {
+		final boolean primitiveIds =
+				session.getFactory().getSessionFactoryOptions()
+						.isPersistenceContextPrimitiveIdMapEnabled();
+		return new EntityHolderMap<>( primitiveIds, initialCapacity );
+	}
+
 	private EntityHolderImpl getOrInitializeNewHolder() {
 		if ( newEntityHolder == null ) {
 			return newEntityHolder = new EntityHolderImpl();
@@ -417,6 +425,11 @@ public EntityHolder claimEntityHolderIfPossible(
 		return entitiesByKey == null ? null : entitiesByKey.get( key );
 	}
 
+	@Override
+	public @Nullable EntityHolder getEntityHolder(EntityPersister persister, Object id) {
+		return entitiesByKey == null ? null : entitiesByKey.get( persister, id );
+	}
+
 	@Override
 	public boolean containsEntityHolder(EntityKey key) {
 		return entitiesByKey != null && entitiesByKey.get( key ) != null;
@@ -505,6 +518,12 @@ public Object getEntity(EntityKey key) {
 		return holder == null || holder.state == EntityHolderState.UNINITIALIZED ? null : holder.entity;
 	}
 
+	@Override
+	public Object getEntity(EntityPersister persister, Object id) {
+		final var holder = entitiesByKey == null ? null : entitiesByKey.get( persister, id );
+		return holder == null || holder.state == EntityHolderState.UNINITIALIZED ? null : holder.entity;
+	}
+
 	@Override
 	public boolean containsEntity(EntityKey key) {
 		final var holder = entitiesByKey == null ? null : entitiesByKey.get( key );
@@ -1930,7 +1949,7 @@ public static StatefulPersistenceContext deserialize(ObjectInputStream ois, Sess
 				if ( traceEnabled ) {
 					PERSISTENCE_CONTEXT_LOGGER.startingDeserializationOfEntries( count, "entitiesByKey" );
 				}
-				context.entitiesByKey = mapOfSize( Math.max( count, INIT_COLL_SIZE ) );
+				context.entitiesByKey = newEntityHolderMap( session, Math.max( count, INIT_COLL_SIZE ) );
 				final var metamodel = factory.getMappingMetamodel();
 				for ( int i = 0; i < count; i++ ) {
 					final var entityKey = EntityKey.deserialize( ois, factory );
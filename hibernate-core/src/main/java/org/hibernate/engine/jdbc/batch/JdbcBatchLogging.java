@@ -61,6 +61,10 @@ public interface JdbcBatchLogging extends BasicLogger {
 	@Message("Executing JDBC batch (%s / %s) - [%s]")
 	void executeBatch(int batchPosition, int batchSize, String batchKey);
 
+	@LogMessage(level = TRACE)
+	@Message("Adjusting JDBC batch size from %s to %s - [%s]")
+	void adjustBatchSize(int oldBatchSize, int newBatchSize, String batchKey);
+
 	@LogMessage(level = TRACE)
 	@Message("Conditionally executing JDBC batch - [%s]")
 	void conditionallyExecuteBatch(String batchKey);
@@ -0,0 +1,96 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+/**
+ * Chooses a batch size for each {@link BatchKey}, based on the observed
+ * execution time of earlier batches with the same key, aiming for a
+ * given latency per round trip.
+ *
+ * @see org.hibernate.cfg.BatchSettings#ADAPTIVE_BATCH_SIZE
+ *
+ * @since 7.2
+ */
+public class AdaptiveBatchSizing {
+	// weight of the latest observation in the moving average
+	private static final double SMOOTHING = 0.25;
+
+	private final long targetNanos;
+	private final int minSize;
+	private final int maxSize;
+
+	private final Map<BatchKey, KeyStatistics> statisticsByKey = new ConcurrentHashMap<>();
+
+	public AdaptiveBatchSizing(long targetLatencyMillis, int minSize, int maxSize) {
+		if ( targetLatencyMillis <= 0 ) {
+			throw new IllegalArgumentException( "Target latency must be positive" );
+		}
+		if ( minSize < 1 || maxSize < minSize ) {
+			throw new IllegalArgumentException( "Invalid batch size bounds [" + minSize + ", " + maxSize + "]" );
+		}
+		this.targetNanos = targetLatencyMillis * 1_000_000L;
+		this.minSize = minSize;
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * The batch size to use for a new batch with the given key.
+	 *
+	 * @param initialSize The batch size to use if no batch with
+	 *                    the given key has been executed yet
+	 */
+	public int getBatchSize(BatchKey key, int initialSize) {
+		final var statistics = statisticsByKey.get( key );
+		return statistics == null
+				? max( minSize, min( maxSize, initialSize ) )
+				: statistics.batchSize;
+	}
+
+	/**
+	 * Record the execution of a batch, returning the adjusted batch
+	 * size for the key.
+	 *
+	 * @param key The batch key
+	 * @param batchSize The size of the executed batch
+	 * @param rowCount The number of rows actually executed
+	 * @param nanos The execution time in nanoseconds
+	 */
+	public int executed(BatchKey key, int batchSize, int rowCount, long nanos) {
+		return statisticsByKey.computeIfAbsent( key, k -> new KeyStatistics( batchSize ) )
+				.executed( rowCount, nanos );
+	}
+
+	private class KeyStatistics {
+		private volatile int batchSize;
+		private double nanosPerRow;
+
+		private KeyStatistics(int batchSize) {
+			this.batchSize = max( minSize, min( maxSize, batchSize ) );
+		}
+
+		private synchronized int executed(int rowCount, long nanos) {
+			// a small remainder batch, executed at the end of a flush,
+			// is dominated by the fixed cost of the round trip, and
+			// so tells us little about the cost per row
+			if ( rowCount > 0 && rowCount * 2 >= batchSize ) {
+				final double observed = (double) nanos / rowCount;
+				nanosPerRow = nanosPerRow == 0 ? observed : nanosPerRow + SMOOTHING * ( observed - nanosPerRow );
+				final long desired = nanosPerRow == 0 ? maxSize : Math.round( targetNanos / nanosPerRow );
+				// move gradually, by at most a factor of two each time
+				final long bounded = max( batchSize / 2, min( 2L * batchSize, desired ) );
+				batchSize = (int) max( minSize, min( maxSize, bounded ) );
+			}
+			return batchSize;
+		}
+	}
+}
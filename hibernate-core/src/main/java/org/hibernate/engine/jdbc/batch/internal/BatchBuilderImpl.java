@@ -6,6 +6,7 @@
 
 import java.util.function.Supplier;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.hibernate.Internal;
 import org.hibernate.engine.jdbc.batch.spi.Batch;
 import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
@@ -28,6 +29,8 @@
  */
 public class BatchBuilderImpl implements BatchBuilder {
 	private final int globalBatchSize;
+	private final @Nullable AdaptiveBatchSizing adaptiveBatchSizing;
+	private final @Nullable MultiRowInserts multiRowInserts;
 
 	/**
 	 * Constructs a BatchBuilderImpl
@@ -36,17 +39,47 @@ public class BatchBuilderImpl implements BatchBuilder {
 	 * on {@link #buildBatch}
 	 */
 	public BatchBuilderImpl(int globalBatchSize) {
+		this( globalBatchSize, null, null );
+	}
+
+	/**
+	 * Constructs a BatchBuilderImpl
+	 *
+	 * @param globalBatchSize The batch size to use.  Can be overridden
+	 * on {@link #buildBatch}
+	 * @param adaptiveBatchSizing If not null, adjusts the batch size for
+	 * each batch key, starting from the global or overridden batch size
+	 * @param multiRowInserts If not null, batched inserts are executed as
+	 * multi-row inserts, when possible
+	 *
+	 * @since 7.2
+	 */
+	public BatchBuilderImpl(
+			int globalBatchSize,
+			@Nullable AdaptiveBatchSizing adaptiveBatchSizing,
+			@Nullable MultiRowInserts multiRowInserts) {
 		if ( globalBatchSize > 1 ) {
 			BATCH_MESSAGE_LOGGER.batchingEnabled( globalBatchSize );
 		}
 		BATCH_MESSAGE_LOGGER.usingStandardBatchBuilder();
 		this.globalBatchSize = globalBatchSize;
+		this.adaptiveBatchSizing = adaptiveBatchSizing;
+		this.multiRowInserts = multiRowInserts;
 	}
 
 	public int getJdbcBatchSize() {
 		return globalBatchSize;
 	}
 
+	/**
+	 * The {@link AdaptiveBatchSizing}, if adaptive batch sizing is enabled.
+	 *
+	 * @since 7.2
+	 */
+	public @Nullable AdaptiveBatchSizing getAdaptiveBatchSizing() {
+		return adaptiveBatchSizing;
+	}
+
 	private int batchSize(Integer explicitBatchSize) {
 		return explicitBatchSize == null
 				? globalBatchSize
@@ -61,7 +94,16 @@ public Batch buildBatch(
 			JdbcCoordinator jdbcCoordinator) {
 		final int batchSize = batchSize( explicitBatchSize );
 		assert batchSize > 1;
-		return new BatchImpl( key, statementGroupSupplier.get(), batchSize, jdbcCoordinator );
+		return adaptiveBatchSizing == null && multiRowInserts == null
+				? new BatchImpl( key, statementGroupSupplier.get(), batchSize, jdbcCoordinator )
+				: new BatchImpl(
+						key,
+						statementGroupSupplier.get(),
+						adaptiveBatchSizing == null ? batchSize : adaptiveBatchSizing.getBatchSize( key, batchSize ),
+						jdbcCoordinator,
+						adaptiveBatchSizing,
+						multiRowInserts
+				);
 	}
 
 	/**
@@ -12,10 +12,17 @@
 import org.hibernate.service.spi.ServiceException;
 import org.hibernate.service.spi.ServiceRegistryImplementor;
 
+import static org.hibernate.cfg.BatchSettings.ADAPTIVE_BATCH_MAX_SIZE;
+import static org.hibernate.cfg.BatchSettings.ADAPTIVE_BATCH_MIN_SIZE;
+import static org.hibernate.cfg.BatchSettings.ADAPTIVE_BATCH_SIZE;
+import static org.hibernate.cfg.BatchSettings.ADAPTIVE_BATCH_TARGET_LATENCY;
 import static org.hibernate.cfg.BatchSettings.BATCH_STRATEGY;
 import static org.hibernate.cfg.BatchSettings.BUILDER;
+import static org.hibernate.cfg.BatchSettings.MULTI_ROW_INSERTS;
 import static org.hibernate.cfg.BatchSettings.STATEMENT_BATCH_SIZE;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getBoolean;
 import static org.hibernate.internal.util.config.ConfigurationHelper.getInt;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getLong;
 
 /**
  * Initiator for the {@link BatchBuilder} service
@@ -42,7 +49,17 @@ public BatchBuilder initiateService(Map<String, Object> configurationValues, Ser
 		}
 
 		if ( builder == null ) {
-			return new BatchBuilderImpl( getInt( STATEMENT_BATCH_SIZE, configurationValues, 1 ) );
+			return new BatchBuilderImpl(
+					getInt( STATEMENT_BATCH_SIZE, configurationValues, 1 ),
+					getBoolean( ADAPTIVE_BATCH_SIZE, configurationValues )
+							? new AdaptiveBatchSizing(
+									getLong( ADAPTIVE_BATCH_TARGET_LATENCY, configurationValues, 10 ),
+									getInt( ADAPTIVE_BATCH_MIN_SIZE, configurationValues, 2 ),
+									getInt( ADAPTIVE_BATCH_MAX_SIZE, configurationValues, 1000 )
+							)
+							: null,
+					getBoolean( MULTI_ROW_INSERTS, configurationValues ) ? new MultiRowInserts() : null
+			);
 		}
 
 		if ( builder instanceof BatchBuilder batchBuilder ) {
@@ -4,9 +4,15 @@
  */
 package org.hibernate.engine.jdbc.batch.internal;
 
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.hibernate.HibernateException;
 import org.hibernate.StaleStateException;
 import org.hibernate.engine.jdbc.batch.spi.Batch;
@@ -16,9 +22,12 @@
 import org.hibernate.engine.jdbc.mutation.TableInclusionChecker;
 import org.hibernate.engine.jdbc.mutation.group.PreparedStatementDetails;
 import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
+import org.hibernate.engine.jdbc.mutation.spi.Binding;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
 import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.jdbc.Expectation;
 
 import static java.util.Objects.requireNonNull;
 import static org.hibernate.engine.jdbc.JdbcLogging.JDBC_LOGGER;
@@ -32,24 +41,48 @@
  */
 public class BatchImpl implements Batch {
 	private final BatchKey key;
-	private final int batchSizeToUse;
+	private int batchSizeToUse;
 	private final PreparedStatementGroup statementGroup;
+	private final @Nullable AdaptiveBatchSizing adaptiveBatchSizing;
+	private final @Nullable MultiRowInserts multiRowInserts;
 
 	private final JdbcCoordinator jdbcCoordinator;
 	private final SqlStatementLogger sqlStatementLogger;
 	private final SqlExceptionHelper sqlExceptionHelper;
+	private final int parameterCountLimit;
+	private final @Nullable SharedSessionContractImplementor session;
 
 	private final LinkedHashSet<BatchObserver> observers = new LinkedHashSet<>();
 
 	private int batchPosition;
 	private boolean batchExecuted;
 	private StaleStateMapper[] staleStateMappers;
+	// the rows buffered for multi-row inserts, keyed by table name
+	private @Nullable Map<String, RowBuffer> rowBuffers;
 
 	public BatchImpl(
 			BatchKey key,
 			PreparedStatementGroup statementGroup,
 			int batchSizeToUse,
 			JdbcCoordinator jdbcCoordinator) {
+		this( key, statementGroup, batchSizeToUse, jdbcCoordinator, null, null );
+	}
+
+	/**
+	 * @param adaptiveBatchSizing If not null, is informed of the execution
+	 * time of the batch, and adjusts its size after each execution
+	 * @param multiRowInserts If not null, and if supported by the dialect,
+	 * is used to execute inserts as multi-row inserts
+	 *
+	 * @since 7.2
+	 */
+	public BatchImpl(
+			BatchKey key,
+			PreparedStatementGroup statementGroup,
+			int batchSizeToUse,
+			JdbcCoordinator jdbcCoordinator,
+			@Nullable AdaptiveBatchSizing adaptiveBatchSizing,
+			@Nullable MultiRowInserts multiRowInserts) {
 		requireNonNull( key, "Batch key cannot be null" );
 		requireNonNull( jdbcCoordinator, "JDBC coordinator cannot be null" );
 
@@ -57,12 +90,27 @@ public BatchImpl(
 		this.key = key;
 		this.jdbcCoordinator = jdbcCoordinator;
 		this.statementGroup = statementGroup;
+		this.adaptiveBatchSizing = adaptiveBatchSizing;
 
-		final var jdbcServices =
-				jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getJdbcServices();
+		final var jdbcSessionOwner = jdbcCoordinator.getJdbcSessionOwner();
+		final var jdbcServices = jdbcSessionOwner.getJdbcSessionContext().getJdbcServices();
 		sqlStatementLogger = jdbcServices.getSqlStatementLogger();
 		sqlExceptionHelper = jdbcServices.getSqlExceptionHelper();
 
+		final var dialect = jdbcServices.getDialect();
+		// we need the session to bind the buffered values
+		if ( multiRowInserts != null && dialect.supportsValuesListForInsert()
+				&& jdbcSessionOwner instanceof SharedSessionContractImplementor sharedSession ) {
+			this.multiRowInserts = multiRowInserts;
+			this.session = sharedSession;
+			this.parameterCountLimit = dialect.getParameterCountLimit();
+		}
+		else {
+			this.multiRowInserts = null;
+			this.session = null;
+			this.parameterCountLimit = 0;
+		}
+
 		if ( BATCH_MESSAGE_LOGGER.isTraceEnabled() ) {
 			BATCH_MESSAGE_LOGGER.createBatch(
 					batchSizeToUse,
@@ -126,23 +174,13 @@ public void addToBatch(JdbcValueBindings jdbcValueBindings, TableInclusionChecke
 							statementDetails.getMutatingTableDetails().getTableName(),
 							batchPosition+1
 					);
-					//noinspection resource
-					final var statement = statementDetails.resolveStatement();
-					final String sqlString = statementDetails.getSqlString();
-					sqlStatementLogger.logStatement( sqlString );
-					jdbcValueBindings.beforeStatement( statementDetails );
-					try {
-						statement.addBatch();
+					final var rowBuffer = resolveRowBuffer( statementDetails );
+					if ( rowBuffer != null ) {
+						// the row is executed later, as part of a multi-row insert
+						rowBuffer.addRow( jdbcValueBindings, statementDetails );
 					}
-					catch (SQLException exception) {
-						throw sqlExceptionHelper.convert(
-								exception,
-								"Could not perform addBatch",
-								sqlString
-						);
-					}
-					finally {
-						jdbcValueBindings.afterStatement( statementDetails.getMutatingTableDetails() );
+					else {
+						addBatch( jdbcValueBindings, statementDetails );
 					}
 				}
 			} );
@@ -159,8 +197,194 @@ public void addToBatch(JdbcValueBindings jdbcValueBindings, TableInclusionChecke
 		}
 	}
 
+	private void addBatch(JdbcValueBindings jdbcValueBindings, PreparedStatementDetails statementDetails) {
+		//noinspection resource
+		final var statement = statementDetails.resolveStatement();
+		final String sqlString = statementDetails.getSqlString();
+		sqlStatementLogger.logStatement( sqlString );
+		jdbcValueBindings.beforeStatement( statementDetails );
+		try {
+			statement.addBatch();
+		}
+		catch (SQLException exception) {
+			throw sqlExceptionHelper.convert(
+					exception,
+					"Could not perform addBatch",
+					sqlString
+			);
+		}
+		finally {
+			jdbcValueBindings.afterStatement( statementDetails.getMutatingTableDetails() );
+		}
+	}
+
 	protected void releaseStatements() {
 		statementGroup.release();
+		if ( rowBuffers != null ) {
+			for ( var rowBuffer : rowBuffers.values() ) {
+				rowBuffer.rows.clear();
+			}
+		}
+	}
+
+	/**
+	 * The buffer of rows to be inserted by multi-row inserts for the
+	 * given statement, or {@code null} if it can't be rewritten.
+	 */
+	private @Nullable RowBuffer resolveRowBuffer(PreparedStatementDetails statementDetails) {
+		if ( multiRowInserts == null ) {
+			return null;
+		}
+		else {
+			if ( rowBuffers == null ) {
+				rowBuffers = new HashMap<>();
+			}
+			final String tableName = statementDetails.getMutatingTableDetails().getTableName();
+			var rowBuffer = rowBuffers.get( tableName );
+			if ( rowBuffer == null ) {
+				rowBuffer = new RowBuffer(
+						isRewritable( statementDetails )
+								? multiRowInserts.getTemplate( statementDetails.getSqlString() )
+								: null
+				);
+				rowBuffers.put( tableName, rowBuffer );
+			}
+			return rowBuffer.template == null ? null : rowBuffer;
+		}
+	}
+
+	private static boolean isRewritable(PreparedStatementDetails statementDetails) {
+		final var expectation = statementDetails.getExpectation();
+		// a subclass of RowCount might expect a different row count
+		if ( !( expectation instanceof Expectation.None || expectation.getClass() == Expectation.RowCount.class ) ) {
+			return false;
+		}
+		final var insertDetails = statementDetails.getMutatingTableDetails().getInsertDetails();
+		return insertDetails == null
+			|| insertDetails.getCustomSql() == null && !insertDetails.isCallable();
+	}
+
+	/**
+	 * The values of the rows to be inserted using multi-row inserts.
+	 */
+	private static class RowBuffer {
+		private static final Binding[] NO_BINDINGS = new Binding[0];
+
+		private final MultiRowInserts.@Nullable Template template;
+		private final List<Binding[]> rows = new ArrayList<>();
+
+		private RowBuffer(MultiRowInserts.@Nullable Template template) {
+			this.template = template;
+		}
+
+		private void addRow(JdbcValueBindings jdbcValueBindings, PreparedStatementDetails statementDetails) {
+			final var table = statementDetails.getMutatingTableDetails();
+			final var bindingGroup = jdbcValueBindings.getBindingGroup( table.getTableName() );
+			rows.add( bindingGroup == null ? NO_BINDINGS : bindingGroup.getBindings().toArray( NO_BINDINGS ) );
+			jdbcValueBindings.afterStatement( table );
+		}
+	}
+
+	private void executeMultiRowInserts(PreparedStatementDetails statementDetails, RowBuffer rowBuffer) {
+		final var template = rowBuffer.template;
+		assert template != null;
+		final var rows = rowBuffer.rows;
+		try {
+			// insert as many rows as possible per statement, using
+			// statements for successively smaller powers of two
+			int start = 0;
+			for ( int rowCount = template.getMaxRowCount( batchSizeToUse, parameterCountLimit );
+					rowCount > 0 && start < rows.size();
+					rowCount >>= 1 ) {
+				final int statementCount = ( rows.size() - start ) / rowCount;
+				if ( statementCount > 0 ) {
+					executeMultiRowInsert( statementDetails, template, rows, start, rowCount, statementCount );
+					start += rowCount * statementCount;
+				}
+			}
+		}
+		finally {
+			rows.clear();
+		}
+	}
+
+	private void executeMultiRowInsert(
+			PreparedStatementDetails statementDetails,
+			MultiRowInserts.Template template,
+			List<Binding[]> rows,
+			int start,
+			int rowCount,
+			int statementCount) {
+		assert session != null;
+		final String sql = template.getSql( rowCount );
+		sqlStatementLogger.logStatement( sql );
+		final var statement = jdbcCoordinator.getMutationStatementPreparer().prepareStatement( sql, false );
+		try {
+			for ( int i = 0; i < statementCount; i++ ) {
+				for ( int row = 0; row < rowCount; row++ ) {
+					final int offset = row * template.getParameterCount();
+					for ( var binding : rows.get( start + i * rowCount + row ) ) {
+						binding.getValueBinder()
+								.bind( statement, binding.getValue(), offset + binding.getPosition(), session );
+					}
+				}
+				if ( statementCount > 1 ) {
+					statement.addBatch();
+				}
+			}
+			final int[] rowCounts = executeMultiRowInsert( statementDetails, statement, statementCount, sql );
+			for ( int rowCountForStatement : rowCounts ) {
+				// the expectation is for a single row
+				statementDetails.getExpectation().verifyOutcome(
+						rowCountForStatement < 0 || rowCountForStatement == rowCount ? 1 : 0,
+						statement,
+						-1,
+						sql
+				);
+			}
+		}
+		catch (SQLException e) {
+			abortBatch( e );
+			throw sqlExceptionHelper.convert( e, "could not execute multi-row insert", sql );
+		}
+		catch (RuntimeException re) {
+			abortBatch( re );
+			throw re;
+		}
+		finally {
+			jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( statement );
+		}
+	}
+
+	private int[] executeMultiRowInsert(
+			PreparedStatementDetails statementDetails,
+			PreparedStatement statement,
+			int statementCount,
+			String sql)
+			throws SQLException {
+		final var jdbcSessionOwner = jdbcCoordinator.getJdbcSessionOwner();
+		final var eventHandler = jdbcSessionOwner.getJdbcSessionContext().getEventHandler();
+		final var eventMonitor = jdbcSessionOwner.getEventMonitor();
+		final boolean identifierTable = statementDetails.getMutatingTableDetails().isIdentifierTable();
+		final var executionEvent = identifierTable ? eventMonitor.beginJdbcBatchExecutionEvent() : null;
+		try {
+			eventHandler.jdbcExecuteBatchStart();
+			return statementCount > 1
+					? statement.executeBatch()
+					: new int[] { statement.executeUpdate() };
+		}
+		finally {
+			if ( identifierTable ) {
+				eventMonitor.completeJdbcBatchExecutionEvent(
+						executionEvent,
+						sql,
+						getKey().toLoggableString(),
+						batchPosition,
+						batchSizeToUse
+				);
+			}
+			eventHandler.jdbcExecuteBatchEnd();
+		}
 	}
 
 	protected void clearBatch(PreparedStatementDetails statementDetails) {
@@ -241,8 +465,14 @@ protected void performExecution() {
 
 		final var jdbcSessionOwner = jdbcCoordinator.getJdbcSessionOwner();
 		final var eventHandler = jdbcSessionOwner.getJdbcSessionContext().getEventHandler();
+		final long startTime = adaptiveBatchSizing == null ? 0 : System.nanoTime();
 		try {
 			getStatementGroup().forEachStatement( (tableName, statementDetails) -> {
+				final var rowBuffer = rowBuffers == null ? null : rowBuffers.get( tableName );
+				if ( rowBuffer != null && !rowBuffer.rows.isEmpty() ) {
+					executeMultiRowInserts( statementDetails, rowBuffer );
+					return;
+				}
 				final String sql = statementDetails.getSqlString();
 				final var statement = statementDetails.getStatement();
 				if ( statement != null ) {
@@ -256,7 +486,13 @@ protected void performExecution() {
 								rowCounts = statement.executeBatch();
 							}
 							finally {
-								eventMonitor.completeJdbcBatchExecutionEvent( executionEvent, sql );
+								eventMonitor.completeJdbcBatchExecutionEvent(
+										executionEvent,
+										sql,
+										getKey().toLoggableString(),
+										batchPosition,
+										batchSizeToUse
+								);
 								eventHandler.jdbcExecuteBatchEnd();
 							}
 							checkRowCounts( rowCounts, statementDetails );
@@ -276,6 +512,9 @@ protected void performExecution() {
 				}
 			} );
 			batchExecuted = true;
+			if ( adaptiveBatchSizing != null ) {
+				adjustBatchSize( System.nanoTime() - startTime );
+			}
 		}
 		finally {
 			jdbcCoordinator.afterStatementExecution();
@@ -283,6 +522,26 @@ protected void performExecution() {
 		}
 	}
 
+	private void adjustBatchSize(long executionNanos) {
+		assert adaptiveBatchSizing != null;
+		final int newBatchSize =
+				adaptiveBatchSizing.executed( key, batchSizeToUse, batchPosition, executionNanos );
+		if ( newBatchSize != batchSizeToUse ) {
+			if ( BATCH_MESSAGE_LOGGER.isTraceEnabled() ) {
+				BATCH_MESSAGE_LOGGER.adjustBatchSize( batchSizeToUse, newBatchSize, key.toLoggableString() );
+			}
+			if ( staleStateMappers != null && staleStateMappers.length < newBatchSize ) {
+				// safe, since the batch has just been executed
+				staleStateMappers = new StaleStateMapper[newBatchSize];
+			}
+			batchSizeToUse = newBatchSize;
+			final var statistics = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getStatistics();
+			if ( statistics != null && statistics.isStatisticsEnabled() ) {
+				statistics.adaptiveJdbcBatchSize( key.toLoggableString(), newBatchSize );
+			}
+		}
+	}
+
 	private void checkRowCounts(int[] rowCounts, PreparedStatementDetails statementDetails)
 			throws SQLException, HibernateException {
 		final int numberOfRowCounts = rowCounts.length;
@@ -0,0 +1,136 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Rewrites single-row {@code insert ... values (?,...)} statements as
+ * multi-row {@code insert ... values (?,...),(?,...),...} statements,
+ * caching the rewritten SQL for each row count. Row counts are always
+ * powers of two, so that only a handful of distinct statements are
+ * prepared for each table.
+ *
+ * @see org.hibernate.cfg.BatchSettings#MULTI_ROW_INSERTS
+ *
+ * @since 7.2
+ */
+public class MultiRowInserts {
+	// the values clause of a statement we know how to rewrite
+	private static final Pattern VALUES_TUPLE = Pattern.compile( "\\(\\s*\\?(\\s*,\\s*\\?)*\\s*\\)" );
+	private static final Template NOT_REWRITABLE = new Template( "", "", 0 );
+
+	private final Map<String, Template> templates = new ConcurrentHashMap<>();
+
+	/**
+	 * The template for rewriting the given SQL insert statement,
+	 * or {@code null} if it cannot be rewritten.
+	 */
+	public @Nullable Template getTemplate(String sql) {
+		final var template = templates.computeIfAbsent( sql, MultiRowInserts::parse );
+		return template == NOT_REWRITABLE ? null : template;
+	}
+
+	private static Template parse(String sql) {
+		final String lowerCaseSql = sql.toLowerCase( Locale.ROOT );
+		int start = 0;
+		if ( lowerCaseSql.startsWith( "/*" ) ) {
+			// skip the comment added by hibernate.use_sql_comments
+			final int end = lowerCaseSql.indexOf( "*/" );
+			if ( end < 0 ) {
+				return NOT_REWRITABLE;
+			}
+			start = end + 2;
+		}
+		if ( !lowerCaseSql.startsWith( "insert into ", skipWhitespace( lowerCaseSql, start ) ) ) {
+			return NOT_REWRITABLE;
+		}
+		final int valuesIndex = lowerCaseSql.lastIndexOf( " values " );
+		if ( valuesIndex < 0 ) {
+			return NOT_REWRITABLE;
+		}
+		final String prefix = sql.substring( 0, valuesIndex + " values ".length() );
+		final String tuple = sql.substring( prefix.length() ).trim();
+		if ( prefix.indexOf( '?' ) >= 0 || !VALUES_TUPLE.matcher( tuple ).matches() ) {
+			return NOT_REWRITABLE;
+		}
+		final int parameterCount = (int) tuple.chars().filter( c -> c == '?' ).count();
+		return new Template( prefix, tuple, parameterCount );
+	}
+
+	private static int skipWhitespace(String sql, int start) {
+		int index = start;
+		while ( index < sql.length() && Character.isWhitespace( sql.charAt( index ) ) ) {
+			index++;
+		}
+		return index;
+	}
+
+	/**
+	 * The parsed form of a single-row insert statement.
+	 */
+	public static class Template {
+		private final String prefix;
+		private final String tuple;
+		private final int parameterCount;
+		// indexed by the base-2 logarithm of the row count
+		private final String[] sqlByRowCount = new String[Integer.SIZE];
+
+		private Template(String prefix, String tuple, int parameterCount) {
+			this.prefix = prefix;
+			this.tuple = tuple;
+			this.parameterCount = parameterCount;
+		}
+
+		/**
+		 * The number of JDBC parameters of a single row.
+		 */
+		public int getParameterCount() {
+			return parameterCount;
+		}
+
+		/**
+		 * The largest power of two number of rows to insert in one
+		 * statement, given the batch size, and the dialect's limit on
+		 * the number of JDBC parameters of a statement.
+		 *
+		 * @param parameterCountLimit The limit, or a non-positive integer
+		 *                            to indicate no limit
+		 */
+		public int getMaxRowCount(int batchSize, int parameterCountLimit) {
+			final int maxRowCount =
+					parameterCountLimit > 0 && parameterCount > 0
+							? Math.min( batchSize, parameterCountLimit / parameterCount )
+							: batchSize;
+			return Math.max( 1, Integer.highestOneBit( maxRowCount ) );
+		}
+
+		/**
+		 * The SQL for inserting the given number of rows.
+		 *
+		 * @param rowCount A power of two
+		 */
+		public String getSql(int rowCount) {
+			assert Integer.bitCount( rowCount ) == 1;
+			final int index = Integer.numberOfTrailingZeros( rowCount );
+			String sql = sqlByRowCount[index];
+			if ( sql == null ) {
+				final var result = new StringBuilder( prefix.length() + rowCount * ( tuple.length() + 1 ) );
+				result.append( prefix ).append( tuple );
+				for ( int i = 1; i < rowCount; i++ ) {
+					result.append( ',' ).append( tuple );
+				}
+				sql = result.toString();
+				sqlByRowCount[index] = sql;
+			}
+			return sql;
+		}
+	}
+}
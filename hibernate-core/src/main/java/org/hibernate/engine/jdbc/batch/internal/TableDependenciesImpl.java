@@ -0,0 +1,67 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.boot.model.relational.SqlStringGenerationContext;
+import org.hibernate.engine.jdbc.batch.spi.TableDependencies;
+import org.hibernate.mapping.Table;
+
+/**
+ * Standard implementation of {@link TableDependencies}, built from the
+ * foreign keys of the boot model. A table which does not occur in the
+ * boot model, or which is defined by a subselect, is considered to
+ * depend on every other table.
+ *
+ * @since 7.2
+ */
+public class TableDependenciesImpl implements TableDependencies {
+	private final Map<String, Set<String>> relatedTables = new HashMap<>();
+
+	public TableDependenciesImpl(Collection<Table> tables, SqlStringGenerationContext context) {
+		for ( var table : tables ) {
+			if ( table.getSubselect() == null ) {
+				final String tableName = context.format( table.getQualifiedTableName() );
+				relatedTables.computeIfAbsent( tableName, name -> new HashSet<>() );
+				for ( var foreignKey : table.getForeignKeyCollection() ) {
+					final var referencedTable = foreignKey.getReferencedTable();
+					if ( referencedTable != null && referencedTable.getSubselect() == null ) {
+						final String referencedTableName = context.format( referencedTable.getQualifiedTableName() );
+						relatedTables.computeIfAbsent( tableName, name -> new HashSet<>() )
+								.add( referencedTableName );
+						relatedTables.computeIfAbsent( referencedTableName, name -> new HashSet<>() )
+								.add( tableName );
+					}
+				}
+			}
+		}
+	}
+
+	@Override
+	public boolean areIndependent(Collection<String> tables, Collection<String> otherTables) {
+		for ( String otherTable : otherTables ) {
+			if ( !relatedTables.containsKey( otherTable ) ) {
+				return false;
+			}
+		}
+		for ( String table : tables ) {
+			final var related = relatedTables.get( table );
+			if ( related == null ) {
+				return false;
+			}
+			for ( String otherTable : otherTables ) {
+				if ( table.equals( otherTable ) || related.contains( otherTable ) ) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+}
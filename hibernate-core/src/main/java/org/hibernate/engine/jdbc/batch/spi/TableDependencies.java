@@ -0,0 +1,34 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.jdbc.batch.spi;
+
+import java.util.Collection;
+
+import org.hibernate.Incubating;
+
+/**
+ * Knows which mapped tables are related by foreign keys, and therefore
+ * which {@linkplain Batch batches} must be executed in the order their
+ * statements were issued.
+ *
+ * @see org.hibernate.cfg.BatchSettings#BATCH_PIPELINING
+ *
+ * @since 7.2
+ */
+@Incubating
+public interface TableDependencies {
+	/**
+	 * Are the given sets of tables disjoint, with no foreign key between
+	 * a table of the first set and a table of the second set, in either
+	 * direction?
+	 *
+	 * @param tables The names of some tables, as rendered in SQL
+	 * @param otherTables The names of some other tables, as rendered in SQL
+	 *
+	 * @return {@code true} if mutations of the first set of tables may be
+	 *         executed before or after mutations of the second set of tables
+	 */
+	boolean areIndependent(Collection<String> tables, Collection<String> otherTables);
+}
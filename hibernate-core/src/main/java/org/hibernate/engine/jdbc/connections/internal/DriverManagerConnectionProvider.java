@@ -64,6 +64,10 @@
 	public static final String INITIAL_SIZE = "hibernate.connection.initial_pool_size";
 	// in TimeUnit.SECONDS
 	public static final String VALIDATION_INTERVAL = "hibernate.connection.pool_validation_interval";
+	// in TimeUnit.MILLISECONDS, zero to fail immediately when the pool is exhausted
+	public static final String ACQUISITION_TIMEOUT = "hibernate.connection.acquisition_timeout";
+	// in TimeUnit.SECONDS, zero to disable leak detection
+	public static final String LEAK_DETECTION_THRESHOLD = "hibernate.connection.leak_detection_threshold";
 	public static final String INIT_SQL ="hibernate.connection.init_sql";
 	public static final String CONNECTION_CREATOR_FACTORY ="hibernate.connection.creator_factory_class";
 
@@ -101,6 +105,8 @@ private PooledConnections buildPool(Map<String,Object> configuration, ServiceReg
 		final int minSize = getInt( MIN_SIZE, configuration, 1 );
 		final int maxSize = getInt( POOL_SIZE, configuration, 20 );
 		final int initialSize = getInt( INITIAL_SIZE, configuration, minSize );
+		final long acquisitionTimeout = getLong( ACQUISITION_TIMEOUT, configuration, 30_000 );
+		final long leakDetectionThreshold = getLong( LEAK_DETECTION_THRESHOLD, configuration, 0 );
 
 		final Driver driver = loadDriver( driverClassName, serviceRegistry, url );
 		if ( driver == null ) {
@@ -153,6 +159,8 @@ private PooledConnections buildPool(Map<String,Object> configuration, ServiceReg
 				.initialSize( initialSize )
 				.minSize( minSize )
 				.maxSize( maxSize )
+				.acquisitionTimeout( acquisitionTimeout )
+				.leakDetectionThreshold( leakDetectionThreshold )
 				.validator( this )
 				.build();
 	}
@@ -336,6 +344,16 @@ protected int getOpenConnections() {
 		return state.getPool().getOpenConnectionCount();
 	}
 
+	/**
+	 * The number of connections which were not returned to the pool within
+	 * the {@linkplain #LEAK_DETECTION_THRESHOLD leak detection threshold}.
+	 *
+	 * @since 7.2
+	 */
+	protected long getLeakedConnections() {
+		return state.getPool().getLeakedConnectionCount();
+	}
+
 	protected void validateConnectionsReturned() {
 		final int allocationCount = getOpenConnections();
 		if ( allocationCount != 0 ) {
@@ -8,24 +8,54 @@
 
 import java.sql.Connection;
 import java.sql.SQLException;
-import java.util.concurrent.ConcurrentLinkedQueue;
-
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.hibernate.internal.log.ConnectionInfoLogger.CONNECTION_INFO_LOGGER;
 
+/**
+ * The pool of connections used by {@link DriverManagerConnectionProvider}.
+ * <p>
+ * The number of connections handed out is bounded by a fair {@link Semaphore},
+ * so that threads waiting for a connection obtain one in the order in which
+ * they asked, and give up after a timeout. The state of the pool is guarded
+ * by a {@link ReentrantLock} which is never held while a connection is being
+ * opened, validated, or closed. Unlike the monitor lock, neither of these
+ * pins the carrier thread of a virtual thread.
+ */
 class PooledConnections {
 
 	// Thanks to Oleg Varaksin and his article on object pooling using the {@link java.util.concurrent}
 	// package, from which the original pooling code here is was derived.
 	// See http://ovaraksin.blogspot.com/2013/08/simple-and-lightweight-pool.html
 
-	private final ConcurrentLinkedQueue<Connection> allConnections = new ConcurrentLinkedQueue<>();
-	private final ConcurrentLinkedQueue<Connection> availableConnections = new ConcurrentLinkedQueue<>();
+	private final Lock lock = new ReentrantLock();
+	private final Set<Connection> allConnections = Collections.newSetFromMap( new IdentityHashMap<>() );
+	private final ArrayDeque<Connection> availableConnections = new ArrayDeque<>();
+	private final Map<Connection, Checkout> checkedOutConnections = new IdentityHashMap<>();
+	private final Semaphore permits;
 
 	private final ConnectionCreator connectionCreator;
 	private final ConnectionValidator connectionValidator;
 	private final boolean autoCommit;
 	private final int minSize;
 	private final int maxSize;
+	private final long acquisitionTimeout;
+	private final long leakDetectionThreshold;
+
+	private final LongAdder leakedConnectionCount = new LongAdder();
 
 	private volatile boolean primed;
 
@@ -39,6 +69,9 @@ private PooledConnections(
 		autoCommit = builder.autoCommit;
 		maxSize = builder.maxSize;
 		minSize = builder.minSize;
+		acquisitionTimeout = builder.acquisitionTimeout;
+		leakDetectionThreshold = builder.leakDetectionThreshold;
+		permits = new Semaphore( maxSize, true );
 		addConnections( builder.initialSize );
 	}
 
@@ -62,12 +95,63 @@ else if ( size > maxSize ) {
 			CONNECTION_INFO_LOGGER.removingConnectionsFromPool( numberToBeRemoved );
 			removeConnections( numberToBeRemoved );
 		}
+
+		if ( leakDetectionThreshold > 0 ) {
+			detectLeaks();
+		}
+	}
+
+	private void detectLeaks() {
+		final long now = System.nanoTime();
+		final List<Checkout> leaks = new ArrayList<>();
+		lock.lock();
+		try {
+			for ( var checkout : checkedOutConnections.values() ) {
+				if ( !checkout.reported && now - checkout.time > SECONDS.toNanos( leakDetectionThreshold ) ) {
+					checkout.reported = true;
+					leaks.add( checkout );
+				}
+			}
+		}
+		finally {
+			lock.unlock();
+		}
+		for ( var leak : leaks ) {
+			leakedConnectionCount.increment();
+			CONNECTION_INFO_LOGGER.connectionLeakSuspected(
+					leak.thread,
+					NANOSECONDS.toSeconds( now - leak.time ),
+					leak.stackTrace
+			);
+		}
 	}
 
 	void add(Connection conn) {
-		final Connection connection = releaseConnection( conn );
-		if ( connection != null ) {
-			availableConnections.offer( connection );
+		final boolean checkedOut;
+		lock.lock();
+		try {
+			checkedOut = checkedOutConnections.remove( conn ) != null;
+		}
+		finally {
+			lock.unlock();
+		}
+		try {
+			final Connection connection = releaseConnection( conn );
+			if ( connection != null ) {
+				lock.lock();
+				try {
+					availableConnections.offer( connection );
+				}
+				finally {
+					lock.unlock();
+				}
+			}
+		}
+		finally {
+			// only once the connection is available again
+			if ( checkedOut ) {
+				permits.release();
+			}
 		}
 	}
 
@@ -89,23 +173,59 @@ private Connection releaseConnection(Connection conn) {
 	}
 
 	Connection poll() {
-		Connection conn;
-		do {
-			conn = availableConnections.poll();
-			if ( conn == null ) {
-				synchronized (allConnections) {
-					if ( allConnections.size() < maxSize ) {
-						addConnections( 1 );
-						return poll();
-					}
+		acquirePermit();
+		try {
+			Connection conn;
+			do {
+				conn = pollAvailableConnection();
+				if ( conn == null ) {
+					// we hold a permit, so the pool has not reached its maximum size
+					conn = createConnection();
 				}
-				throw new HibernateException(
-						"The internal connection pool has reached its maximum size and no connection is currently available" );
+				conn = prepareConnection( conn );
+			}
+			while ( conn == null );
+			lock.lock();
+			try {
+				checkedOutConnections.put( conn, new Checkout( leakDetectionThreshold > 0 ) );
+			}
+			finally {
+				lock.unlock();
 			}
-			conn = prepareConnection( conn );
+			return conn;
+		}
+		catch (RuntimeException e) {
+			permits.release();
+			throw e;
+		}
+	}
+
+	private void acquirePermit() {
+		final boolean acquired;
+		try {
+			acquired = acquisitionTimeout > 0
+					? permits.tryAcquire( acquisitionTimeout, MILLISECONDS )
+					: permits.tryAcquire();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new HibernateException( "Interrupted while waiting for a connection from the internal connection pool", e );
+		}
+		if ( !acquired ) {
+			throw new HibernateException(
+					"The internal connection pool has reached its maximum size and no connection became available within "
+							+ acquisitionTimeout + "ms" );
+		}
+	}
+
+	private Connection pollAvailableConnection() {
+		lock.lock();
+		try {
+			return availableConnections.poll();
+		}
+		finally {
+			lock.unlock();
 		}
-		while ( conn == null );
-		return conn;
 	}
 
 	protected Connection prepareConnection(Connection conn) {
@@ -135,7 +255,16 @@ protected void closeConnection(Connection conn, Throwable t) {
 			}
 		}
 		finally {
-			if ( !allConnections.remove( conn ) ) {
+			final boolean removed;
+			lock.lock();
+			try {
+				removed = allConnections.remove( conn );
+				availableConnections.remove( conn );
+			}
+			finally {
+				lock.unlock();
+			}
+			if ( !removed ) {
 				CONNECTION_INFO_LOGGER.connectionRemoveFailed();
 			}
 		}
@@ -143,7 +272,7 @@ protected void closeConnection(Connection conn, Throwable t) {
 
 	public void close() throws SQLException {
 		try {
-			final int allocationCount = allConnections.size() - availableConnections.size();
+			final int allocationCount = getOpenConnectionCount();
 			if ( allocationCount > 0 ) {
 				CONNECTION_INFO_LOGGER.error(
 						"Connection leak detected: there are " + allocationCount + " unclosed connections upon shutting down pool " + getUrl() );
@@ -155,12 +284,18 @@ public void close() throws SQLException {
 	}
 
 	public int size() {
-		return allConnections.size();
+		lock.lock();
+		try {
+			return allConnections.size();
+		}
+		finally {
+			lock.unlock();
+		}
 	}
 
 	protected void removeConnections(int numberToBeRemoved) {
 		for ( int i = 0; i < numberToBeRemoved; i++ ) {
-			final Connection connection = availableConnections.poll();
+			final Connection connection = pollAvailableConnection();
 			if ( connection == null ) {
 				break;
 			}
@@ -170,10 +305,27 @@ protected void removeConnections(int numberToBeRemoved) {
 
 	protected void addConnections(int numberOfConnections) {
 		for ( int i = 0; i < numberOfConnections; i++ ) {
-			Connection connection = connectionCreator.createConnection();
+			final Connection connection = createConnection();
+			lock.lock();
+			try {
+				availableConnections.add( connection );
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+	}
+
+	private Connection createConnection() {
+		final Connection connection = connectionCreator.createConnection();
+		lock.lock();
+		try {
 			allConnections.add( connection );
-			availableConnections.add( connection );
 		}
+		finally {
+			lock.unlock();
+		}
+		return connection;
 	}
 
 	public String getUrl() {
@@ -181,11 +333,41 @@ public String getUrl() {
 	}
 
 	int getOpenConnectionCount() {
-		return allConnections.size() - availableConnections.size();
+		lock.lock();
+		try {
+			return checkedOutConnections.size();
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	long getLeakedConnectionCount() {
+		return leakedConnectionCount.sum();
 	}
 
 	public Iterable<Connection> getAllConnections() {
-		return allConnections;
+		lock.lock();
+		try {
+			return new ArrayList<>( allConnections );
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Records when, and by which thread, a connection was handed out.
+	 */
+	private static class Checkout {
+		private final long time = System.nanoTime();
+		private final String thread = Thread.currentThread().getName();
+		private final Throwable stackTrace;
+		private boolean reported;
+
+		private Checkout(boolean captureStackTrace) {
+			stackTrace = captureStackTrace ? new Exception( "Connection obtained here" ) : null;
+		}
 	}
 
 	static class Builder {
@@ -195,6 +377,8 @@ static class Builder {
 		private int initialSize = 1;
 		private int minSize = 1;
 		private int maxSize = 20;
+		private long acquisitionTimeout = 30_000;
+		private long leakDetectionThreshold;
 
 		Builder(ConnectionCreator connectionCreator) {
 			this.connectionCreator = connectionCreator;
@@ -225,6 +409,16 @@ Builder validator(ConnectionValidator connectionValidator) {
 			return this;
 		}
 
+		Builder acquisitionTimeout(long acquisitionTimeout) {
+			this.acquisitionTimeout = acquisitionTimeout;
+			return this;
+		}
+
+		Builder leakDetectionThreshold(long leakDetectionThreshold) {
+			this.leakDetectionThreshold = leakDetectionThreshold;
+			return this;
+		}
+
 		PooledConnections build() {
 			return new PooledConnections( this );
 		}
@@ -9,6 +9,7 @@
 import org.hibernate.TransactionException;
 import org.hibernate.engine.jdbc.batch.spi.Batch;
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.batch.spi.TableDependencies;
 import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
@@ -32,6 +33,8 @@
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Supplier;
 
 import static org.hibernate.ConnectionReleaseMode.AFTER_STATEMENT;
@@ -55,6 +58,13 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 
 	private transient Batch currentBatch;
 
+	/**
+	 * When {@linkplain org.hibernate.cfg.BatchSettings#BATCH_PIPELINING
+	 * batch pipelining} is enabled, the open batches, in the order they
+	 * were opened, all affecting mutually independent tables
+	 */
+	private transient List<PipelinedBatch> pipelinedBatches;
+
 	private transient long transactionTimeOutInstant = -1;
 
 	private Statement lastQuery;
@@ -155,6 +165,10 @@ public Connection close() {
 				currentBatch.release();
 				currentBatch = null;
 			}
+			if ( pipelinedBatches != null && !pipelinedBatches.isEmpty() ) {
+				JDBC_LOGGER.closingUnreleasedBatch( hashCode() );
+				releasePipelinedBatches();
+			}
 		}
 		finally {
 			connection = logicalConnection.close();
@@ -164,6 +178,11 @@ public Connection close() {
 
 	@Override
 	public Batch getBatch(BatchKey key, Integer batchSize, Supplier<PreparedStatementGroup> statementGroupSupplier) {
+		final var tableDependencies = owner.getJdbcSessionContext().getTableDependencies();
+		if ( tableDependencies != null ) {
+			return getPipelinedBatch( key, batchSize, statementGroupSupplier, tableDependencies );
+		}
+
 		if ( currentBatch != null ) {
 			if ( currentBatch.getKey().equals( key ) ) {
 				return currentBatch;
@@ -187,6 +206,77 @@ public Batch getBatch(BatchKey key, Integer batchSize, Supplier<PreparedStatemen
 		return currentBatch;
 	}
 
+	private Batch getPipelinedBatch(
+			BatchKey key,
+			Integer batchSize,
+			Supplier<PreparedStatementGroup> statementGroupSupplier,
+			TableDependencies tableDependencies) {
+		if ( pipelinedBatches == null ) {
+			pipelinedBatches = new ArrayList<>();
+		}
+		else {
+			for ( var pipelinedBatch : pipelinedBatches ) {
+				if ( pipelinedBatch.batch.getKey().equals( key ) ) {
+					return pipelinedBatch.batch;
+				}
+			}
+		}
+
+		final var batch =
+				owner.getJdbcSessionContext().getBatchBuilder()
+						.buildBatch( key, batchSize, statementGroupSupplier, this );
+		final List<String> tables = new ArrayList<>();
+		batch.getStatementGroup().forEachStatement( (tableName, statementDetails) -> tables.add( tableName ) );
+		// execute the open batches which must precede the new batch,
+		// leaving open only those which affect independent tables
+		int index = 0;
+		while ( index < pipelinedBatches.size() ) {
+			final var pipelinedBatch = pipelinedBatches.get( index );
+			if ( tableDependencies.areIndependent( tables, pipelinedBatch.tables ) ) {
+				index++;
+			}
+			else {
+				pipelinedBatches.remove( index );
+				try {
+					pipelinedBatch.batch.execute();
+				}
+				catch (RuntimeException e) {
+					batch.release();
+					throw e;
+				}
+				finally {
+					pipelinedBatch.batch.release();
+				}
+			}
+		}
+		pipelinedBatches.add( new PipelinedBatch( batch, tables ) );
+		return batch;
+	}
+
+	private void executePipelinedBatches() {
+		while ( pipelinedBatches != null && !pipelinedBatches.isEmpty() ) {
+			// remove the batch before executing it, since abortBatch()
+			// might be called, and it releases the remaining batches
+			final var pipelinedBatch = pipelinedBatches.remove( 0 );
+			try {
+				pipelinedBatch.batch.execute();
+			}
+			finally {
+				pipelinedBatch.batch.release();
+			}
+		}
+	}
+
+	private void releasePipelinedBatches() {
+		for ( var pipelinedBatch : pipelinedBatches ) {
+			pipelinedBatch.batch.release();
+		}
+		pipelinedBatches.clear();
+	}
+
+	private record PipelinedBatch(Batch batch, List<String> tables) {
+	}
+
 	@Override
 	public void executeBatch() {
 		if ( currentBatch != null ) {
@@ -200,6 +290,7 @@ public void executeBatch() {
 				}
 			}
 		}
+		executePipelinedBatches();
 	}
 
 	@Override
@@ -219,6 +310,31 @@ public void conditionallyExecuteBatch(BatchKey key) {
 				}
 			}
 		}
+		if ( pipelinedBatches != null && !pipelinedBatches.isEmpty() ) {
+			// a statement which is not batched is about to be executed, and
+			// we don't know which tables it affects, so execute every batch
+			// with a different key
+			PipelinedBatch retained = null;
+			for ( var pipelinedBatch : pipelinedBatches ) {
+				if ( pipelinedBatch.batch.getKey().equals( key ) ) {
+					retained = pipelinedBatch;
+				}
+			}
+			if ( retained != null ) {
+				pipelinedBatches.remove( retained );
+				try {
+					executePipelinedBatches();
+				}
+				catch (RuntimeException e) {
+					retained.batch.release();
+					throw e;
+				}
+				pipelinedBatches.add( retained );
+			}
+			else {
+				executePipelinedBatches();
+			}
+		}
 	}
 
 	@Override
@@ -231,6 +347,15 @@ public void abortBatch() {
 			currentBatch.release();
 			currentBatch = null;
 		}
+		if ( pipelinedBatches != null && !pipelinedBatches.isEmpty() ) {
+			if ( BATCH_MESSAGE_LOGGER.isTraceEnabled() ) {
+				for ( var pipelinedBatch : pipelinedBatches ) {
+					BATCH_MESSAGE_LOGGER.abortBatch(
+							pipelinedBatch.batch.getKey().toLoggableString() );
+				}
+			}
+			releasePipelinedBatches();
+		}
 	}
 
 	private transient StatementPreparer statementPreparer;
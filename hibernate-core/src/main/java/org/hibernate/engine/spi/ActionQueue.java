@@ -501,8 +501,19 @@ public void executeActions() throws HibernateException {
 					path );
 		}
 
-		for ( var action : ORDERED_OPERATIONS ) {
-			executeActions( action.getActions( this ) );
+		if ( getSessionFactoryOptions().isBatchPipeliningEnabled() ) {
+			// batches affecting independent tables may be kept open
+			// across the different kinds of action, so execute them
+			// together once all the actions have been executed
+			for ( var action : ORDERED_OPERATIONS ) {
+				executeActions( action.getActions( this ), false );
+			}
+			session.getJdbcCoordinator().executeBatch();
+		}
+		else {
+			for ( var action : ORDERED_OPERATIONS ) {
+				executeActions( action.getActions( this ) );
+			}
 		}
 	}
 
@@ -624,6 +635,17 @@ private static boolean areTablesToBeUpdated(UnresolvedEntityInsertActions action
 	 */
 	private <E extends ComparableExecutable> void executeActions(@Nullable ExecutableList<E> queue)
 			throws HibernateException {
+		executeActions( queue, true );
+	}
+
+	/**
+	 * Perform {@link Executable#execute()} on each element of the list
+	 *
+	 * @param queue The list of Executable elements to be performed
+	 * @param executeBatch Whether to execute the current JDBC batch afterward
+	 */
+	private <E extends ComparableExecutable> void executeActions(@Nullable ExecutableList<E> queue, boolean executeBatch)
+			throws HibernateException {
 		if ( queue != null && !queue.isEmpty() ) {
 			// todo : consider ways to improve the double iteration of Executables here:
 			//		1) we explicitly iterate list here to perform Executable#execute()
@@ -655,7 +677,9 @@ private <E extends ComparableExecutable> void executeActions(@Nullable Executabl
 			}
 
 			queue.clear();
-			session.getJdbcCoordinator().executeBatch();
+			if ( executeBatch ) {
+				session.getJdbcCoordinator().executeBatch();
+			}
 		}
 	}
 
@@ -4,9 +4,12 @@
  */
 package org.hibernate.engine.spi;
 
-import java.util.LinkedHashMap;
-import java.util.LinkedHashSet;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.collection.spi.PersistentCollection;
@@ -23,7 +26,6 @@
 
 import static org.hibernate.engine.internal.CacheHelper.fromSharedCache;
 import static org.hibernate.internal.util.collections.CollectionHelper.linkedMapOfSize;
-import static org.hibernate.internal.util.collections.CollectionHelper.linkedSetOfSize;
 import static org.hibernate.internal.util.collections.CollectionHelper.mapOfSize;
 
 /**
@@ -55,13 +57,15 @@ public class BatchFetchQueue {
 	 * A Map structure is used to segment the keys by entity type since loading can only be done for a particular entity
 	 * type at a time.
 	 */
-	private @Nullable Map <String,LinkedHashSet<EntityKey>> batchLoadableEntityKeys;
+	private @Nullable Map<String, IndexedQueue<EntityKey, EntityKey>> batchLoadableEntityKeys;
 
 	/**
 	 * Used to hold information about the collections that are currently eligible for batch-fetching. Ultimately
 	 * used by {@link #getCollectionBatch} to build collection load batches.
+	 * <p>
+	 * The collections of each role are indexed by {@link CollectionKey}.
 	 */
-	private @Nullable Map<String, LinkedHashMap<CollectionEntry, PersistentCollection<?>>> batchLoadableCollections;
+	private @Nullable Map<String, IndexedQueue<CollectionKey, Map.Entry<CollectionEntry, PersistentCollection<?>>>> batchLoadableCollections;
 
 	/**
 	 * Constructs a queue for the given context.
@@ -151,8 +155,8 @@ public void addBatchLoadableEntityKey(EntityKey key) {
 			if ( batchLoadableEntityKeys == null ) {
 				batchLoadableEntityKeys = mapOfSize( 12 );
 			}
-			batchLoadableEntityKeys.computeIfAbsent( key.getEntityName(), k -> linkedSetOfSize( 8 ) )
-					.add( key );
+			batchLoadableEntityKeys.computeIfAbsent( key.getEntityName(), k -> new IndexedQueue<>() )
+					.add( key, key );
 		}
 	}
 
@@ -200,46 +204,30 @@ public <T> void collectBatchLoadableEntityIds(
 		// make sure we load the id being loaded in the batch!
 		collector.accept( 0, loadingId );
 
+		int batchPosition = 1;
 		if ( batchLoadableEntityKeys != null ) {
 			final var entityKeys = batchLoadableEntityKeys.get( entityDescriptor.getEntityName() );
 			if ( entityKeys != null ) {
-				final var session = context.getSession();
-				final var identifierMapping = entityDescriptor.getIdentifierMapping();
-				int batchPosition = 1;
-				int end = -1;
-				boolean checkForEnd = false;
-				for ( var entityKey : entityKeys ) {
-					if ( checkForEnd && batchPosition == end ) {
-						// the first id found after the given id
-						return; // end the loop
-					}
-					else {
-						final Object identifier = entityKey.getIdentifier();
-						if ( identifierMapping.areEqual( loadingId, identifier, session ) ) {
-							end = batchPosition;
-						}
-						else if ( !isCached( entityKey, entityDescriptor.getEntityPersister() ) ) {
-							//noinspection unchecked
-							collector.accept( batchPosition++, (T) identifier );
-						}
-					}
-
-					if ( batchPosition == domainBatchSize ) {
-						// end of array, start filling again from start
-						batchPosition = 1;
-						if ( end != -1 ) {
-							checkForEnd = true;
-						}
+				final var entityKeysToLoad = uncachedEntityKeys( entityKeys, loadingId, entityDescriptor, domainBatchSize );
+				while ( batchPosition < domainBatchSize ) {
+					final var entityKey = entityKeysToLoad.next();
+					if ( entityKey == null ) {
+						break; // we ran out of ids to try
 					}
+					//noinspection unchecked
+					collector.accept( batchPosition++, (T) entityKey.getIdentifier() );
 				}
 			}
 		}
+		batchFetched( domainBatchSize, batchPosition );
 	}
 
 	/**
-	 * Get a batch of unloaded identifiers for this class, using a slightly
-	 * complex algorithm that tries to grab keys registered immediately after
-	 * the given key.
+	 * Get a batch of unloaded identifiers for this class. The batch
+	 * is made of the keys registered immediately after the given key,
+	 * followed by the keys registered immediately before it, since
+	 * keys registered together were usually introduced by the same
+	 * owning entities.
 	 */
 	public Object [] getBatchLoadableEntityIds(
 			final EntityMappingType entityDescriptor,
@@ -250,40 +238,35 @@ else if ( !isCached( entityKey, entityDescriptor.getEntityPersister() ) ) {
 		// make sure we load the id being loaded in the batch!
 		ids[0] = loadingId;
 
+		int i = 1;
 		if ( batchLoadableEntityKeys != null ) {
-			int i = 1;
-			int end = -1;
-			boolean checkForEnd = false;
 			// TODO: this needn't exclude subclasses...
 			final var entityKeys = batchLoadableEntityKeys.get( entityDescriptor.getEntityName() );
 			if ( entityKeys != null ) {
-				final var entityPersister = entityDescriptor.getEntityPersister();
-				final var identifierType = entityPersister.getIdentifierType();
-				for ( var entityKey : entityKeys ) {
-					if ( checkForEnd && i == end ) {
-						// the first id found after the given id
-						return ids;
-					}
-					else if ( identifierType.isEqual( loadingId, entityKey.getIdentifier() ) ) {
-						end = i;
-					}
-					else if ( !isCached( entityKey, entityPersister ) ) {
-						ids[i++] = entityKey.getIdentifier();
-					}
-
-					if ( i == maxBatchSize ) {
-						i = 1; // end of array, start filling again from start
-						if ( end != -1 ) {
-							checkForEnd = true;
-						}
+				final var entityKeysToLoad = uncachedEntityKeys( entityKeys, loadingId, entityDescriptor, maxBatchSize );
+				while ( i < maxBatchSize ) {
+					final var entityKey = entityKeysToLoad.next();
+					if ( entityKey == null ) {
+						break; // we ran out of ids to try
 					}
+					ids[i++] = entityKey.getIdentifier();
 				}
 			}
-			//we ran out of ids to try
 		}
+		batchFetched( maxBatchSize, i );
 		return ids;
 	}
 
+	private CachedEntityKeys uncachedEntityKeys(
+			IndexedQueue<EntityKey, EntityKey> entityKeys,
+			Object loadingId,
+			EntityMappingType entityDescriptor,
+			int batchSize) {
+		final var persister = entityDescriptor.getEntityPersister();
+		final var loadingKey = getSession().generateEntityKey( loadingId, persister );
+		return new CachedEntityKeys( entityKeys.neighbours( loadingKey ), persister, batchSize );
+	}
+
 
 	// collection batch support ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
@@ -294,11 +277,15 @@ else if ( !isCached( entityKey, entityPersister ) ) {
 	public void addBatchLoadableCollection(PersistentCollection<?> collection, CollectionEntry ce) {
 		final var persister = ce.getLoadedPersister();
 		assert persister != null : "@AssumeAssertion(nullness)";
-		if ( batchLoadableCollections == null ) {
-			batchLoadableCollections = mapOfSize( 12 );
+		final Object loadedKey = ce.getLoadedKey();
+		// a collection without a key can never be part of a batch
+		if ( loadedKey != null ) {
+			if ( batchLoadableCollections == null ) {
+				batchLoadableCollections = mapOfSize( 12 );
+			}
+			batchLoadableCollections.computeIfAbsent( persister.getRole(), k -> new IndexedQueue<>() )
+					.add( new CollectionKey( persister, loadedKey ), Map.entry( ce, collection ) );
 		}
-		batchLoadableCollections.computeIfAbsent( persister.getRole(), k -> linkedMapOfSize( 16 ) )
-				.put( ce, collection );
 	}
 
 	/**
@@ -310,9 +297,20 @@ public void removeBatchLoadableCollection(CollectionEntry collectionEntry) {
 		final var persister = collectionEntry.getLoadedPersister();
 		assert persister != null : "@AssumeAssertion(nullness)";
 		if ( batchLoadableCollections != null ) {
-			final var map = batchLoadableCollections.get( persister.getRole() );
-			if ( map != null ) {
-				map.remove( collectionEntry );
+			final var queue = batchLoadableCollections.get( persister.getRole() );
+			if ( queue != null ) {
+				final Object loadedKey = collectionEntry.getLoadedKey();
+				if ( loadedKey == null ) {
+					// the loadedKey was reset after the collection was queued
+					queue.removeIf( entry -> entry.getKey() == collectionEntry );
+				}
+				else {
+					final var key = new CollectionKey( persister, loadedKey );
+					final var entry = queue.get( key );
+					if ( entry != null && entry.getKey() == collectionEntry ) {
+						queue.remove( key );
+					}
+				}
 			}
 		}
 	}
@@ -331,56 +329,24 @@ public <T> void collectBatchLoadableCollectionKeys(
 			PluralAttributeMapping pluralAttributeMapping) {
 		collector.accept( 0, keyBeingLoaded );
 
+		int i = 1;
 		if ( batchLoadableCollections != null ) {
-			final var map = batchLoadableCollections.get( pluralAttributeMapping.getNavigableRole().getFullPath() );
-			if ( map != null ) {
-				int i = 1;
-				int end = -1;
-				boolean checkForEnd = false;
-				for ( var me : map.entrySet() ) {
-					final var ce = me.getKey();
-					final Object loadedKey = ce.getLoadedKey();
-					final var collection = me.getValue();
-
-					// the loadedKey of the collectionEntry might be null as it might have been reset to null
-					// (see for example Collections.processDereferencedCollection()
-					// and CollectionEntry.afterAction())
-					// though we clear the queue on flush, it seems like a good idea to guard
-					// against potentially null loadedKeys (which leads to various NPEs as demonstrated in HHH-7821).
-
-					if ( loadedKey != null ) {
-						if ( collection.wasInitialized() ) {
-							throw new AssertionFailure( "Encountered initialized collection in BatchFetchQueue" );
-						}
-						else if ( checkForEnd && i == end ) {
-							// the first key found after the given key
-							return;
-						}
-						else {
-							final boolean isEqual =
-									pluralAttributeMapping.getKeyDescriptor()
-											.areEqual( keyBeingLoaded, loadedKey, context.getSession() );
-							if ( isEqual ) {
-								end = i;
-							}
-							else if ( !isCached( loadedKey, pluralAttributeMapping.getCollectionDescriptor() ) ) {
-								//noinspection unchecked
-								collector.accept( i++, (T) loadedKey );
-							}
-
-							if ( i == batchSize ) {
-								//end of array, start filling again from start
-								i = 1;
-								if ( end != -1 ) {
-									checkForEnd = true;
-								}
-							}
-						}
+			final var queue = batchLoadableCollections.get( pluralAttributeMapping.getNavigableRole().getFullPath() );
+			if ( queue != null ) {
+				final var persister = pluralAttributeMapping.getCollectionDescriptor();
+				final var keysToLoad = uncachedCollectionKeys( queue, keyBeingLoaded, persister, batchSize );
+				while ( i < batchSize ) {
+					final Object loadedKey = keysToLoad.next();
+					if ( loadedKey == null ) {
+						break;
 					}
+					//noinspection unchecked
+					collector.accept( i++, (T) loadedKey );
 				}
 				//we ran out of keys to try
 			}
 		}
+		batchFetched( batchSize, i );
 	}
 
 	/**
@@ -399,88 +365,318 @@ else if ( !isCached( loadedKey, pluralAttributeMapping.getCollectionDescriptor()
 		final Object[] keys = new Object[batchSize];
 		keys[0] = id;
 
+		int i = 1;
 		if ( batchLoadableCollections != null ) {
-			int i = 1;
-			int end = -1;
-			boolean checkForEnd = false;
-
-			final var map = batchLoadableCollections.get( collectionPersister.getRole() );
-			if ( map != null ) {
-				for ( var me : map.entrySet() ) {
-					final var collectionEntry = me.getKey();
-					final Object loadedKey = collectionEntry.getLoadedKey();
-					final var collection = me.getValue();
-
-					// the loadedKey of the collectionEntry might be null as it might have been reset to null
-					// (see for example Collections.processDereferencedCollection()
-					// and CollectionEntry.afterAction())
-					// though we clear the queue on flush, it seems like a good idea to guard
-					// against potentially null loadedKeys (which leads to various NPEs as demonstrated in HHH-7821).
-
-					if ( loadedKey != null ) {
-						if ( collection.wasInitialized() ) {
-							throw new AssertionFailure( "Encountered initialized collection in BatchFetchQueue" );
-						}
-						else if ( checkForEnd && i == end ) {
-							return keys; //the first key found after the given key
-						}
-						else {
-							final boolean isEqual =
-									collectionPersister.getKeyType()
-											.isEqual( id, loadedKey, collectionPersister.getFactory() );
-							if ( isEqual ) {
-								end = i;
-								//checkForEnd = false;
-							}
-							else if ( !isCached( loadedKey, collectionPersister ) ) {
-								keys[i++] = loadedKey;
-								//count++;
-							}
-
-							if ( i == batchSize ) {
-								i = 1; //end of array, start filling again from start
-								if ( end != -1 ) {
-									checkForEnd = true;
-								}
-							}
-						}
+			final var queue = batchLoadableCollections.get( collectionPersister.getRole() );
+			if ( queue != null ) {
+				final var keysToLoad = uncachedCollectionKeys( queue, id, collectionPersister, batchSize );
+				while ( i < batchSize ) {
+					final Object loadedKey = keysToLoad.next();
+					if ( loadedKey == null ) {
+						break;
 					}
+					keys[i++] = loadedKey;
 				}
 			}
 			//we ran out of keys to try
 		}
+		batchFetched( batchSize, i );
 		return keys;
 	}
 
+	private CachedCollectionKeys uncachedCollectionKeys(
+			IndexedQueue<CollectionKey, Map.Entry<CollectionEntry, PersistentCollection<?>>> queue,
+			Object keyBeingLoaded,
+			CollectionPersister persister,
+			int batchSize) {
+		return new CachedCollectionKeys( queue.neighbours( new CollectionKey( persister, keyBeingLoaded ) ),
+				persister, batchSize );
+	}
+
 	public SharedSessionContractImplementor getSession() {
 		return context.getSession();
 	}
 
-	private boolean isCached(Object collectionKey, CollectionPersister persister) {
-		final var session = getSession();
-		if ( session.getCacheMode().isGetEnabled() && persister.hasCache() ) {
-			final var cache = persister.getCacheAccessStrategy();
-			final Object cacheKey =
-					cache.generateCacheKey( collectionKey, persister,
-							session.getFactory(), session.getTenantIdentifier() );
-			return fromSharedCache( session, cacheKey, persister, cache ) != null;
+	private void batchFetched(int batchSize, int keyCount) {
+		final var statistics = getSession().getFactory().getStatistics();
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.batchFetch( batchSize, keyCount );
 		}
-		else {
-			return false;
+	}
+
+	/**
+	 * Filters out the entity keys queued for batch loading which have data
+	 * in the second-level cache. Keys are checked lazily, in chunks, so that
+	 * each interaction with the cache covers a batch worth of keys.
+	 */
+	private final class CachedEntityKeys {
+		private final Iterator<EntityKey> entityKeys;
+		private final EntityPersister persister;
+		private final int chunkSize;
+		private final boolean useCache;
+		private final ArrayDeque<EntityKey> uncached = new ArrayDeque<>();
+
+		private CachedEntityKeys(Iterator<EntityKey> entityKeys, EntityPersister persister, int chunkSize) {
+			this.entityKeys = entityKeys;
+			this.persister = persister;
+			this.chunkSize = Math.max( 1, chunkSize );
+			this.useCache = getSession().getCacheMode().isGetEnabled() && persister.canReadFromCache();
+		}
+
+		/**
+		 * The next key which does not have data in the second-level cache,
+		 * or {@code null} if there are no more keys.
+		 */
+		@Nullable EntityKey next() {
+			while ( uncached.isEmpty() && entityKeys.hasNext() ) {
+				if ( useCache ) {
+					check();
+				}
+				else {
+					uncached.add( entityKeys.next() );
+				}
+			}
+			return uncached.poll();
+		}
+
+		private void check() {
+			final var session = getSession();
+			final var cache = persister.getCacheAccessStrategy();
+			final Map<Object, EntityKey> entityKeysByCacheKey = linkedMapOfSize( chunkSize );
+			for ( int i = 0; i < chunkSize && entityKeys.hasNext(); i++ ) {
+				final var entityKey = entityKeys.next();
+				final Object cacheKey =
+						cache.generateCacheKey( entityKey.getIdentifier(), persister,
+								session.getFactory(), session.getTenantIdentifier() );
+				entityKeysByCacheKey.put( cacheKey, entityKey );
+			}
+			final var cachedValues = fromSharedCache( session, entityKeysByCacheKey.keySet(), persister, cache );
+			for ( var entry : entityKeysByCacheKey.entrySet() ) {
+				if ( !cachedValues.containsKey( entry.getKey() ) ) {
+					uncached.add( entry.getValue() );
+				}
+			}
 		}
 	}
 
-	private boolean isCached(EntityKey entityKey, EntityPersister persister) {
-		final var session = getSession();
-		if ( session.getCacheMode().isGetEnabled() && persister.canReadFromCache() ) {
+	/**
+	 * Filters out the collections queued for batch loading which have data
+	 * in the second-level cache, producing the keys of the others. Keys are
+	 * checked lazily, in chunks, like {@link CachedEntityKeys}.
+	 */
+	private final class CachedCollectionKeys {
+		private final Iterator<Map.Entry<CollectionEntry, PersistentCollection<?>>> entries;
+		private final CollectionPersister persister;
+		private final int chunkSize;
+		private final boolean useCache;
+		private final ArrayDeque<Object> uncached = new ArrayDeque<>();
+
+		private CachedCollectionKeys(
+				Iterator<Map.Entry<CollectionEntry, PersistentCollection<?>>> entries,
+				CollectionPersister persister,
+				int chunkSize) {
+			this.entries = entries;
+			this.persister = persister;
+			this.chunkSize = Math.max( 1, chunkSize );
+			this.useCache = getSession().getCacheMode().isGetEnabled() && persister.hasCache();
+		}
+
+		/**
+		 * The next key of a collection which does not have data in the
+		 * second-level cache, or {@code null} if there are no more keys.
+		 */
+		@Nullable Object next() {
+			while ( uncached.isEmpty() && entries.hasNext() ) {
+				if ( useCache ) {
+					check();
+				}
+				else {
+					final Object loadedKey = loadedKey( entries.next() );
+					if ( loadedKey != null ) {
+						uncached.add( loadedKey );
+					}
+				}
+			}
+			return uncached.poll();
+		}
+
+		private void check() {
+			final var session = getSession();
 			final var cache = persister.getCacheAccessStrategy();
-			final Object key =
-					cache.generateCacheKey( entityKey.getIdentifier(), persister,
-							session.getFactory(), session.getTenantIdentifier() );
-			return fromSharedCache( session, key, persister, cache ) != null;
+			final Map<Object, Object> loadedKeysByCacheKey = linkedMapOfSize( chunkSize );
+			for ( int i = 0; i < chunkSize && entries.hasNext(); i++ ) {
+				final Object loadedKey = loadedKey( entries.next() );
+				if ( loadedKey != null ) {
+					final Object cacheKey =
+							cache.generateCacheKey( loadedKey, persister,
+									session.getFactory(), session.getTenantIdentifier() );
+					loadedKeysByCacheKey.put( cacheKey, loadedKey );
+				}
+			}
+			if ( !loadedKeysByCacheKey.isEmpty() ) {
+				final var cachedValues = fromSharedCache( session, loadedKeysByCacheKey.keySet(), persister, cache );
+				for ( var entry : loadedKeysByCacheKey.entrySet() ) {
+					if ( !cachedValues.containsKey( entry.getKey() ) ) {
+						uncached.add( entry.getValue() );
+					}
+				}
+			}
+		}
+
+		/**
+		 * The key of the given queued collection, or {@code null} if it
+		 * should not be included in a batch.
+		 */
+		private @Nullable Object loadedKey(Map.Entry<CollectionEntry, PersistentCollection<?>> entry) {
+			final Object loadedKey = entry.getKey().getLoadedKey();
+			// the loadedKey of the collectionEntry might be null as it might have been reset to null
+			// (see for example Collections.processDereferencedCollection()
+			// and CollectionEntry.afterAction())
+			// though we clear the queue on flush, it seems like a good idea to guard
+			// against potentially null loadedKeys (which leads to various NPEs as demonstrated in HHH-7821).
+			if ( loadedKey == null ) {
+				return null;
+			}
+			else if ( entry.getValue().wasInitialized() ) {
+				throw new AssertionFailure( "Encountered initialized collection in BatchFetchQueue" );
+			}
+			else {
+				return loadedKey;
+			}
+		}
+	}
+
+	/**
+	 * The keys queued for batch fetching of an entity or collection role,
+	 * in the order in which they were queued, and indexed so that the
+	 * position of a key in the queue is found in constant time. A batch
+	 * may then be assembled from the neighbours of the key being loaded
+	 * without scanning the whole queue.
+	 */
+	private static final class IndexedQueue<K, V> {
+		private final Map<K, Node<V>> nodes = new HashMap<>();
+		private @Nullable Node<V> last;
+
+		void add(K key, V value) {
+			final var existing = nodes.get( key );
+			if ( existing != null ) {
+				// keep the original position, like a LinkedHashMap
+				existing.value = value;
+			}
+			else {
+				final var node = new Node<>( value, last );
+				if ( last != null ) {
+					last.next = node;
+				}
+				last = node;
+				nodes.put( key, node );
+			}
+		}
+
+		@Nullable V get(K key) {
+			final var node = nodes.get( key );
+			return node == null ? null : node.value;
+		}
+
+		boolean contains(K key) {
+			return nodes.containsKey( key );
+		}
+
+		void remove(K key) {
+			final var node = nodes.remove( key );
+			if ( node != null ) {
+				unlink( node );
+			}
+		}
+
+		void removeIf(Predicate<V> predicate) {
+			nodes.values().removeIf( node -> {
+				if ( predicate.test( node.value ) ) {
+					unlink( node );
+					return true;
+				}
+				else {
+					return false;
+				}
+			} );
 		}
-		else {
-			return false;
+
+		private void unlink(Node<V> node) {
+			if ( node.previous != null ) {
+				node.previous.next = node.next;
+			}
+			if ( node.next != null ) {
+				node.next.previous = node.previous;
+			}
+			else {
+				last = node.previous;
+			}
+		}
+
+		/**
+		 * The values queued after the given key, in the order they were queued,
+		 * followed by the values queued before the given key, in reverse order.
+		 * If the given key is not queued, the values in reverse order.
+		 */
+		Iterator<V> neighbours(K key) {
+			return new Neighbours<>( nodes.get( key ), last );
+		}
+	}
+
+	private static final class Node<V> {
+		private V value;
+		private @Nullable Node<V> previous;
+		private @Nullable Node<V> next;
+
+		private Node(V value, @Nullable Node<V> previous) {
+			this.value = value;
+			this.previous = previous;
+		}
+	}
+
+	private static final class Neighbours<V> implements Iterator<V> {
+		private final @Nullable Node<V> start;
+		private @Nullable Node<V> next;
+		private boolean forward;
+
+		private Neighbours(@Nullable Node<V> start, @Nullable Node<V> last) {
+			this.start = start;
+			if ( start == null ) {
+				next = last;
+			}
+			else if ( start.next == null ) {
+				next = start.previous;
+			}
+			else {
+				next = start.next;
+				forward = true;
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			return next != null;
+		}
+
+		@Override
+		public V next() {
+			final var node = next;
+			if ( node == null ) {
+				throw new NoSuchElementException();
+			}
+			if ( forward ) {
+				next = node.next;
+				if ( next == null ) {
+					// then go back to the nodes before the start
+					forward = false;
+					assert start != null : "@AssumeAssertion(nullness)";
+					next = start.previous;
+				}
+			}
+			else {
+				next = node.previous;
+			}
+			return node.value;
 		}
 	}
 }
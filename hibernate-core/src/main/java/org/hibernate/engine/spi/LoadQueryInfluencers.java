@@ -21,6 +21,7 @@
 import org.hibernate.loader.ast.spi.CascadingFetchProfile;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.query.spi.FetchPlanLearner;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
 
@@ -54,6 +55,14 @@ public class LoadQueryInfluencers implements Serializable {
 
 	private boolean subselectFetchEnabled;
 
+	//Lazily initialized!
+	private @Nullable HashSet<String> learnedSubselectFetchRoles;
+
+	//Lazily initialized!
+	private @Nullable HashSet<String> learnedSubselectFetchOwners;
+
+	private transient FetchPlanLearner.@Nullable Observation fetchPlanObservation;
+
 	private int batchSize;
 
 	private final EffectiveEntityGraph effectiveEntityGraph;
@@ -318,7 +327,8 @@ public void setSubselectFetchEnabled(boolean subselectFetchEnabled) {
 	public boolean effectiveSubselectFetchEnabled(CollectionPersister persister) {
 		return subselectFetchEnabled
 			|| persister.isSubselectLoadable()
-			|| isSubselectFetchEnabledInProfile( persister );
+			|| isSubselectFetchEnabledInProfile( persister )
+			|| learnedSubselectFetchRoles != null && learnedSubselectFetchRoles.contains( persister.getRole() );
 	}
 
 	private boolean isSubselectFetchEnabledInProfile(CollectionPersister persister) {
@@ -340,7 +350,8 @@ private boolean isSubselectFetchEnabledInProfile(CollectionPersister persister)
 	public boolean hasSubselectLoadableCollections(EntityPersister persister) {
 		return persister.hasSubselectLoadableCollections()
 			|| subselectFetchEnabled && persister.hasCollections()
-			|| hasSubselectLoadableCollectionsEnabledInProfile( persister );
+			|| hasSubselectLoadableCollectionsEnabledInProfile( persister )
+			|| learnedSubselectFetchOwners != null && learnedSubselectFetchOwners.contains( persister.getRootEntityName() );
 	}
 
 	private boolean hasSubselectLoadableCollectionsEnabledInProfile(EntityPersister persister) {
@@ -355,4 +366,59 @@ private boolean hasSubselectLoadableCollectionsEnabledInProfile(EntityPersister
 		}
 		return false;
 	}
+
+
+	// fetch plan learning support ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	/**
+	 * The observation of the query most recently executed in the session,
+	 * to which lazy initializations are attributed.
+	 *
+	 * @see org.hibernate.cfg.QuerySettings#FETCH_PLAN_LEARNING
+	 */
+	@Internal
+	public FetchPlanLearner.@Nullable Observation getFetchPlanObservation() {
+		return fetchPlanObservation;
+	}
+
+	@Internal
+	public void setFetchPlanObservation(FetchPlanLearner.@Nullable Observation fetchPlanObservation) {
+		this.fetchPlanObservation = fetchPlanObservation;
+	}
+
+	/**
+	 * Register a subselect for the given collection of each entity loaded
+	 * from now on, because it was learned that the collection is usually
+	 * initialized after the query which is about to be executed. Subselects
+	 * are registered until {@link #endLearnedSubselectFetch()} is called
+	 * once the query has executed, so that only the entities loaded by the
+	 * query are affected.
+	 * <p>
+	 * For the rest of the session, the collection is fetched using the
+	 * subselect registered for its owner, if any. Note that this includes
+	 * subselects registered for other reasons, for example, because another
+	 * collection of the owning entity is mapped for subselect fetching.
+	 *
+	 * @see org.hibernate.cfg.QuerySettings#FETCH_PLAN_LEARNING
+	 */
+	@Internal
+	public void beginLearnedSubselectFetch(CollectionPersister persister) {
+		if ( learnedSubselectFetchRoles == null ) {
+			learnedSubselectFetchRoles = new HashSet<>();
+		}
+		if ( learnedSubselectFetchOwners == null ) {
+			learnedSubselectFetchOwners = new HashSet<>();
+		}
+		learnedSubselectFetchRoles.add( persister.getRole() );
+		learnedSubselectFetchOwners.add( persister.getOwnerEntityPersister().getRootEntityName() );
+	}
+
+	/**
+	 * Stop registering subselects for the collections passed to
+	 * {@link #beginLearnedSubselectFetch(CollectionPersister)}.
+	 */
+	@Internal
+	public void endLearnedSubselectFetch() {
+		learnedSubselectFetchOwners = null;
+	}
 }
@@ -162,6 +162,21 @@ default boolean hasLoadContext() {
 	 */
 	Object getEntity(EntityKey key);
 
+	/**
+	 * Get the entity instance with the given persister and identifier,
+	 * without necessarily instantiating an {@link EntityKey}.
+	 *
+	 * @param persister The persister for the entity
+	 * @param id The identifier of the entity
+	 *
+	 * @return The matching entity, or {@code null}
+	 *
+	 * @since 7.2
+	 */
+	default Object getEntity(EntityPersister persister, Object id) {
+		return getEntity( getSession().generateEntityKey( id, persister ) );
+	}
+
 	/**
 	 * Is there an entity with the given key in the persistence context
 	 *
@@ -523,6 +538,22 @@ EntityHolder claimEntityHolderIfPossible(
 
 	@Nullable EntityHolder getEntityHolder(EntityKey key);
 
+	/**
+	 * Get the holder of the entity with the given persister and identifier,
+	 * without necessarily instantiating an {@link EntityKey}.
+	 *
+	 * @param persister The persister for the entity
+	 * @param id The identifier of the entity
+	 *
+	 * @return The matching holder, or {@code null}
+	 *
+	 * @since 7.2
+	 */
+	@Incubating
+	default @Nullable EntityHolder getEntityHolder(EntityPersister persister, Object id) {
+		return getEntityHolder( getSession().generateEntityKey( id, persister ) );
+	}
+
 	boolean containsEntityHolder(EntityKey key);
 
 	@Nullable EntityHolder removeEntityHolder(EntityKey key);
@@ -60,6 +60,7 @@
 import org.hibernate.query.criteria.HibernateCriteriaBuilder;
 import org.hibernate.query.criteria.JpaCriteriaInsert;
 import org.hibernate.query.spi.QueryImplementor;
+import org.hibernate.query.spi.KeysetPaginationMemory;
 import org.hibernate.query.spi.QueryParameterBindings;
 import org.hibernate.query.spi.QueryProducerImplementor;
 import org.hibernate.query.sql.spi.NativeQueryImplementor;
@@ -1281,11 +1282,21 @@ public Object loadFromSecondLevelCache(EntityPersister persister, EntityKey enti
 		return delegate.loadFromSecondLevelCache( persister, entityKey, instanceToLoad, lockMode );
 	}
 
+	@Override
+	public Object loadFromSecondLevelCacheEntry(EntityPersister persister, EntityKey entityKey, Object cacheEntry) {
+		return delegate.loadFromSecondLevelCacheEntry( persister, entityKey, cacheEntry );
+	}
+
 	@Override
 	public SessionAssociationMarkers getSessionAssociationMarkers() {
 		return delegate.getSessionAssociationMarkers();
 	}
 
+	@Override
+	public KeysetPaginationMemory getKeysetPaginationMemory() {
+		return delegate.getKeysetPaginationMemory();
+	}
+
 	@Override
 	public boolean isIdentifierRollbackEnabled() {
 		return delegate.isIdentifierRollbackEnabled();
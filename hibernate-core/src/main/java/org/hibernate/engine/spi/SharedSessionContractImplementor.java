@@ -29,6 +29,7 @@
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.query.spi.KeysetPaginationMemory;
 import org.hibernate.query.spi.QueryParameterBindings;
 import org.hibernate.query.spi.QueryProducerImplementor;
 import org.hibernate.resource.jdbc.spi.JdbcSessionOwner;
@@ -612,6 +613,23 @@ default boolean isStatelessSession() {
 	@Incubating
 	Object loadFromSecondLevelCache(EntityPersister persister, EntityKey entityKey, Object instanceToLoad, LockMode lockMode);
 
+	/**
+	 * Assembles an entity from an entry already obtained from the second-level
+	 * cache, usually as part of a batch.
+	 *
+	 * @param persister The persister for the entity being requested for load
+	 * @param entityKey The entity key
+	 * @param cacheEntry The entry obtained from the second-level cache
+	 *
+	 * @return The entity, or null.
+	 *
+	 * @see org.hibernate.loader.internal.CacheLoadHelper#getAllFromSecondLevelCache
+	 *
+	 * @since 7.2
+	 */
+	@Incubating
+	Object loadFromSecondLevelCacheEntry(EntityPersister persister, EntityKey entityKey, Object cacheEntry);
+
 	/**
 	 * Wrap all state that lazy loading interceptors might need to
 	 * manage association with this session, or to handle lazy loading
@@ -623,6 +641,17 @@ default boolean isStatelessSession() {
 	@Incubating
 	SessionAssociationMarkers getSessionAssociationMarkers();
 
+	/**
+	 * The positions of queries paginated by this session using transparent
+	 * key-based pagination.
+	 *
+	 * @see org.hibernate.jpa.HibernateHints#HINT_KEYSET_PAGINATION
+	 *
+	 * @since 7.2
+	 */
+	@Incubating
+	KeysetPaginationMemory getKeysetPaginationMemory();
+
 	@Override
 	<T> RootGraphImplementor<T> createEntityGraph(Class<T> rootType);
 
@@ -471,7 +471,12 @@ private static int[] performDirtyCheck(FlushEntityEvent event) {
 			final Object entity = event.getEntity();
 			if ( loadedState != null ) {
 				// dirty check against the usual snapshot of the entity
-				dirtyProperties = persister.findDirty( values, loadedState, entity, session );
+				dirtyProperties =
+						entry.getStatus() != Status.DELETED && !event.isDirtyCheckPossible()
+								// the values were just read from the entity, and
+								// have not been modified by an Interceptor
+								? persister.findDirtyInEntity( entity, values, loadedState, session )
+								: persister.findDirty( values, loadedState, entity, session );
 				dirtyCheckPossible = true;
 			}
 			else if ( entry.getStatus() == Status.DELETED && !entry.isModifiableEntity() ) {
@@ -13,6 +13,8 @@
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.sql.results.internal.ResultsHelper;
 
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static org.hibernate.collection.spi.AbstractPersistentCollection.checkPersister;
 import static org.hibernate.event.internal.EventListenerLogging.EVENT_LISTENER_LOGGER;
 import static org.hibernate.loader.internal.CacheLoadHelper.initializeCollectionFromCache;
@@ -39,6 +41,10 @@ public void onInitializeCollection(InitializeCollectionEvent event) throws Hiber
 			final var loadedPersister = collectionEntry.getLoadedPersister();
 			checkPersister(collection, loadedPersister);
 			final Object loadedKey = collectionEntry.getLoadedKey();
+			final var fetchPlanObservation = source.getLoadQueryInfluencers().getFetchPlanObservation();
+			if ( fetchPlanObservation != null ) {
+				fetchPlanObservation.collectionInitialized( loadedPersister );
+			}
 			if ( EVENT_LISTENER_LOGGER.isTraceEnabled() ) {
 				EVENT_LISTENER_LOGGER.initializingCollection(
 						collectionInfoString( loadedPersister, collection, loadedKey, source ) );
@@ -50,13 +56,15 @@ public void onInitializeCollection(InitializeCollectionEvent event) throws Hiber
 			}
 			else {
 				EVENT_LISTENER_LOGGER.collectionNotCached();
+				final var statistics = source.getFactory().getStatistics();
+				final long startTime = statistics.isStatisticsEnabled() ? System.nanoTime() : 0;
 				loadedPersister.initialize( loadedKey, source );
 				handlePotentiallyEmptyCollection( collection, persistenceContext, loadedKey, loadedPersister );
 				EVENT_LISTENER_LOGGER.collectionInitialized();
 
-				final var statistics = source.getFactory().getStatistics();
 				if ( statistics.isStatisticsEnabled() ) {
-					statistics.fetchCollection( loadedPersister.getRole() );
+					statistics.fetchCollection( loadedPersister.getRole(),
+							MICROSECONDS.convert( System.nanoTime() - startTime, NANOSECONDS ) );
 				}
 			}
 		}
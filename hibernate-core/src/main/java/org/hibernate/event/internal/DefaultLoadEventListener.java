@@ -24,6 +24,8 @@
 import org.hibernate.metamodel.mapping.NonAggregatedIdentifierMapping;
 import org.hibernate.persister.entity.EntityPersister;
 
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static org.hibernate.engine.internal.ManagedTypeHelper.asPersistentAttributeInterceptable;
 import static org.hibernate.engine.internal.ManagedTypeHelper.isPersistentAttributeInterceptable;
 import static org.hibernate.event.internal.EventListenerLogging.EVENT_LISTENER_LOGGER;
@@ -573,6 +575,8 @@ protected Object loadFromDatasource(final LoadEvent event, final EntityPersister
 					infoString( persister, event.getEntityId(), event.getFactory() ) );
 		}
 
+		final var statistics = event.getFactory().getStatistics();
+		final long startTime = statistics.isStatisticsEnabled() ? System.nanoTime() : 0;
 		final Object entity = persister.load(
 				event.getEntityId(),
 				event.getInstanceToLoad(),
@@ -589,9 +593,9 @@ protected Object loadFromDatasource(final LoadEvent event, final EntityPersister
 
 		final var lazyInitializer = extractLazyInitializer( entity );
 		final Object impl = lazyInitializer != null ? lazyInitializer.getImplementation() : entity;
-		final var statistics = event.getFactory().getStatistics();
 		if ( event.isAssociationFetch() && statistics.isStatisticsEnabled() ) {
-			statistics.fetchEntity( event.getEntityClassName() );
+			statistics.fetchEntity( event.getEntityClassName(),
+					MICROSECONDS.convert( System.nanoTime() - startTime, NANOSECONDS ) );
 		}
 		return impl;
 	}
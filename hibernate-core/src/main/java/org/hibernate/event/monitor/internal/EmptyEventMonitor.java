@@ -4,6 +4,8 @@
  */
 package org.hibernate.event.monitor.internal;
 
+import java.util.Collection;
+
 import org.hibernate.LockMode;
 import org.hibernate.cache.spi.Region;
 import org.hibernate.cache.spi.access.CachedDomainDataAccess;
@@ -103,6 +105,16 @@ public void completeJdbcBatchExecutionEvent(DiagnosticEvent jdbcBatchExecutionEv
 
 	}
 
+	@Override
+	public void completeJdbcBatchExecutionEvent(
+			DiagnosticEvent jdbcBatchExecutionEvent,
+			String statementSql,
+			String batchKey,
+			int rowCount,
+			int batchSize) {
+
+	}
+
 	@Override
 	public DiagnosticEvent beginCachePutEvent() {
 		return null;
@@ -330,4 +342,44 @@ public DiagnosticEvent beginCollectionRemoveEvent() {
 	public void completeCollectionRemoveEvent(DiagnosticEvent event, Object id, String role, boolean success, SharedSessionContractImplementor session) {
 
 	}
+
+	@Override
+	public DiagnosticEvent beginQueryInterpretationEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeQueryInterpretationEvent(DiagnosticEvent event, String queryString, boolean cacheHit) {
+
+	}
+
+	@Override
+	public DiagnosticEvent beginResultsProcessingEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeResultsProcessingEvent(DiagnosticEvent event, SharedSessionContractImplementor session, String queryIdentifier, int rowCount) {
+
+	}
+
+	@Override
+	public DiagnosticEvent beginTimestampsCheckEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeTimestampsCheckEvent(DiagnosticEvent event, SharedSessionContractImplementor session, Collection<String> spaces, boolean upToDate) {
+
+	}
+
+	@Override
+	public DiagnosticEvent beginProxyInitializationEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeProxyInitializationEvent(DiagnosticEvent event, SharedSessionContractImplementor session, String entityName, Object id, boolean success) {
+
+	}
 }
@@ -4,6 +4,8 @@
  */
 package org.hibernate.event.monitor.spi;
 
+import java.util.Collection;
+
 import org.hibernate.Incubating;
 import org.hibernate.LockMode;
 import org.hibernate.cache.spi.Region;
@@ -79,6 +81,23 @@ void completeJdbcBatchExecutionEvent(
 			DiagnosticEvent jdbcBatchExecutionEvent,
 			String statementSql);
 
+	/**
+	 * @param batchKey The {@linkplain org.hibernate.engine.jdbc.batch.spi.BatchKey batch key}
+	 * @param rowCount The number of rows in the executed batch
+	 * @param batchSize The size of the batch, which might have been
+	 *                  chosen by adaptive batch sizing
+	 *
+	 * @since 7.2
+	 */
+	default void completeJdbcBatchExecutionEvent(
+			DiagnosticEvent jdbcBatchExecutionEvent,
+			String statementSql,
+			String batchKey,
+			int rowCount,
+			int batchSize) {
+		completeJdbcBatchExecutionEvent( jdbcBatchExecutionEvent, statementSql );
+	}
+
 	DiagnosticEvent beginCachePutEvent();
 
 	void completeCachePutEvent(
@@ -201,6 +220,85 @@ void completePrePartialFlush(
 
 	void completeCollectionRemoveEvent(DiagnosticEvent event, Object id, String role, boolean success, SharedSessionContractImplementor session);
 
+	/**
+	 * @since 7.2
+	 */
+	default DiagnosticEvent beginQueryInterpretationEvent() {
+		return null;
+	}
+
+	/**
+	 * @param queryString The HQL query string
+	 * @param cacheHit Whether the interpretation of the query was
+	 *                 found in the query plan cache
+	 *
+	 * @since 7.2
+	 */
+	default void completeQueryInterpretationEvent(
+			DiagnosticEvent queryInterpretationEvent,
+			String queryString,
+			boolean cacheHit) {
+	}
+
+	/**
+	 * @since 7.2
+	 */
+	default DiagnosticEvent beginResultsProcessingEvent() {
+		return null;
+	}
+
+	/**
+	 * @param queryIdentifier The HQL query string, or the SQL statement,
+	 *                        identifying the query
+	 * @param rowCount The number of results, or {@code -1} if unknown
+	 *
+	 * @since 7.2
+	 */
+	default void completeResultsProcessingEvent(
+			DiagnosticEvent resultsProcessingEvent,
+			SharedSessionContractImplementor session,
+			String queryIdentifier,
+			int rowCount) {
+	}
+
+	/**
+	 * @since 7.2
+	 */
+	default DiagnosticEvent beginTimestampsCheckEvent() {
+		return null;
+	}
+
+	/**
+	 * @param spaces The query spaces whose update timestamps were checked
+	 * @param upToDate Whether the cached query results were up to date
+	 *
+	 * @since 7.2
+	 */
+	default void completeTimestampsCheckEvent(
+			DiagnosticEvent timestampsCheckEvent,
+			SharedSessionContractImplementor session,
+			Collection<String> spaces,
+			boolean upToDate) {
+	}
+
+	/**
+	 * @since 7.2
+	 */
+	default DiagnosticEvent beginProxyInitializationEvent() {
+		return null;
+	}
+
+	/**
+	 * @since 7.2
+	 */
+	default void completeProxyInitializationEvent(
+			DiagnosticEvent proxyInitializationEvent,
+			SharedSessionContractImplementor session,
+			String entityName,
+			Object id,
+			boolean success) {
+	}
+
 	enum CacheActionDescription {
 		ENTITY_INSERT( "Entity Insert" ),
 		ENTITY_AFTER_INSERT( "Entity After Insert" ),
@@ -68,4 +68,8 @@ public interface OptimizerLogger extends BasicLogger {
 	@LogMessage(level = WARN)
 	@Message(value = "Unable to instantiate specified optimizer [%s], falling back to noop optimizer", id = 90407)
 	void unableToInstantiateOptimizer(String type);
+
+	@LogMessage(level = TRACE)
+	@Message(value = "Creating pooled optimizer (concurrent) with [incrementSize=%s, returnClass=%s]", id = 90408)
+	void creatingPooledConcurrentOptimizer(int incrementSize, String returnClassName);
 }
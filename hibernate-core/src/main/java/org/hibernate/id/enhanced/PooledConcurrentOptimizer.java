@@ -0,0 +1,231 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.id.enhanced;
+
+import org.hibernate.HibernateException;
+import org.hibernate.Incubating;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.query.sqm.BinaryArithmeticOperator;
+import org.hibernate.sql.ast.tree.expression.BinaryArithmeticExpression;
+import org.hibernate.sql.ast.tree.expression.Expression;
+import org.hibernate.sql.ast.tree.expression.QueryLiteral;
+
+import java.io.Serializable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.hibernate.id.enhanced.OptimizerLogger.OPTIMIZER_MESSAGE_LOGGER;
+
+/**
+ * Variation of {@link PooledOptimizer} intended for use when many threads
+ * insert rows of the same entity concurrently.
+ * <p>
+ * Like {@link PooledOptimizer}, this optimizer interprets the value held
+ * by its underlying logical sequence as an upper bound on the range of
+ * already-allocated ids, and is therefore interchangeable with it. But
+ * instead of handing out ids while holding a lock, it claims an id from
+ * the current block with an atomic increment. A lock is only taken when
+ * the logical sequence must be accessed.
+ * <p>
+ * When a quarter of the current block remains, the thread which claims
+ * the id at that position reads the next block from the logical sequence,
+ * so that the other threads may continue to claim ids from the current
+ * block in the meantime, and rarely need to wait for a round trip to the
+ * database. Since the logical sequence must be accessed via the connection
+ * of the session requesting an id, the next block cannot be read in the
+ * background.
+ * <p>
+ * The price of prefetching is that, at shutdown, at most one block of ids
+ * per tenant is never used. Unlike {@link PooledLoThreadLocalOptimizer},
+ * ids are not reserved per thread.
+ *
+ * @see PooledOptimizer
+ * @see PooledLoThreadLocalOptimizer
+ *
+ * @since 7.2
+ */
+@Incubating
+public class PooledConcurrentOptimizer extends AbstractOptimizer implements InitialValueAwareOptimizer {
+
+	private final int prefetchThreshold;
+	private long initialValue = -1;
+
+	private volatile GenerationState noTenantState = new GenerationState();
+	private final Map<String,GenerationState> tenantSpecificState = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructs a {@code PooledConcurrentOptimizer}
+	 *
+	 * @param returnClass The Java type of the values to be generated
+	 * @param incrementSize The increment size.
+	 */
+	public PooledConcurrentOptimizer(Class<?> returnClass, int incrementSize) {
+		super( returnClass, incrementSize );
+		if ( incrementSize < 1 ) {
+			throw new HibernateException( "increment size cannot be less than 1" );
+		}
+		prefetchThreshold = Math.max( 1, incrementSize / 4 );
+		OPTIMIZER_MESSAGE_LOGGER.creatingPooledConcurrentOptimizer( incrementSize, returnClass.getName() );
+	}
+
+	@Override
+	public Serializable generate(AccessCallback callback) {
+		return locateGenerationState( callback.getTenantIdentifier() ).generate( callback );
+	}
+
+	private GenerationState locateGenerationState(String tenantIdentifier) {
+		return tenantIdentifier == null
+				? noTenantState
+				: tenantSpecificState.computeIfAbsent( tenantIdentifier, tenant -> new GenerationState() );
+	}
+
+	@Override
+	public void reset() {
+		noTenantState = new GenerationState();
+		tenantSpecificState.clear();
+	}
+
+	@Override
+	public IntegralDataTypeHolder getLastSourceValue() {
+		final var lastSourceValue = noTenantState.lastSourceValue;
+		if ( lastSourceValue == null ) {
+			throw new IllegalStateException( "Could not locate previous generation state for no-tenant" );
+		}
+		return lastSourceValue;
+	}
+
+	@Override
+	public boolean applyIncrementSizeToSourceValues() {
+		return true;
+	}
+
+	@Override
+	public void injectInitialValue(long initialValue) {
+		this.initialValue = initialValue;
+	}
+
+	@Override
+	public Expression createLowValueExpression(Expression databaseValue, SessionFactoryImplementor sessionFactory) {
+		final var integerType = sessionFactory.getTypeConfiguration().getBasicTypeForJavaType( Integer.class );
+		return new BinaryArithmeticExpression(
+				databaseValue,
+				BinaryArithmeticOperator.SUBTRACT,
+				new QueryLiteral<>( incrementSize - 1, integerType ),
+				integerType
+		);
+	}
+
+	@Override
+	public int getAdjustment() {
+		return incrementSize;
+	}
+
+	/**
+	 * A range of ids, which is never modified once published, except for
+	 * the offset of the next id to be claimed.
+	 */
+	private static final class Block {
+		private final IntegralDataTypeHolder loValue;
+		private final int size;
+		// the offset at which the next block is read
+		private final int prefetchOffset;
+		// the offset of the next id to be claimed
+		private final AtomicInteger next = new AtomicInteger();
+
+		private Block(IntegralDataTypeHolder loValue, int size, int prefetchThreshold) {
+			this.loValue = loValue;
+			this.size = size;
+			this.prefetchOffset = Math.max( 0, size - prefetchThreshold );
+		}
+
+		private Number valueAt(int offset) {
+			return loValue.copy().add( offset ).makeValue();
+		}
+	}
+
+	private final class GenerationState {
+		/**
+		 * Use a lock instead of the monitor lock to avoid pinning when using virtual threads.
+		 */
+		private final Lock lock = new ReentrantLock();
+		private volatile Block current;
+		private volatile Block prefetched;
+		private volatile IntegralDataTypeHolder lastSourceValue;
+
+		private Serializable generate(AccessCallback callback) {
+			while ( true ) {
+				final var block = current;
+				if ( block != null ) {
+					final int offset = block.next.getAndIncrement();
+					if ( offset < block.size ) {
+						if ( offset == block.prefetchOffset ) {
+							prefetch( block, callback );
+						}
+						return block.valueAt( offset );
+					}
+				}
+				advance( block, callback );
+			}
+		}
+
+		private void prefetch(Block block, AccessCallback callback) {
+			// if the lock is held, the current block is exhausted
+			// and the next block is already being read
+			if ( lock.tryLock() ) {
+				try {
+					if ( current == block && prefetched == null ) {
+						prefetched = nextBlock( callback );
+					}
+				}
+				finally {
+					lock.unlock();
+				}
+			}
+		}
+
+		private void advance(Block exhausted, AccessCallback callback) {
+			lock.lock();
+			try {
+				// another thread might already have replaced the block
+				if ( current == exhausted ) {
+					if ( exhausted == null ) {
+						current = firstBlock( callback );
+					}
+					else {
+						final var next = prefetched;
+						prefetched = null;
+						current = next == null ? nextBlock( callback ) : next;
+					}
+				}
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		private Block firstBlock(AccessCallback callback) {
+			final var hiValue = callback.getNextValue();
+			lastSourceValue = hiValue;
+			// see PooledOptimizer
+			if ( hiValue.lt( 1 ) ) {
+				OPTIMIZER_MESSAGE_LOGGER.pooledOptimizerReportedInitialValue( hiValue );
+			}
+			// the call to obtain next-value just gave us the initialValue
+			return initialValue == -1 && hiValue.lt( incrementSize ) || hiValue.eq( initialValue )
+					? new Block( hiValue.copy(), 1, prefetchThreshold )
+					: new Block( hiValue.copy().subtract( incrementSize - 1 ), incrementSize, prefetchThreshold );
+		}
+
+		private Block nextBlock(AccessCallback callback) {
+			final var hiValue = callback.getNextValue();
+			lastSourceValue = hiValue;
+			return new Block( hiValue.copy().subtract( incrementSize - 1 ), incrementSize, prefetchThreshold );
+		}
+	}
+}
@@ -40,7 +40,17 @@ public enum StandardOptimizerDescriptor implements OptimizerDescriptor {
 	 * Here, specifically the lo value is stored in the database and ThreadLocal used to cache
 	 * the generation state.
 	 */
-	POOLED_LOTL;
+	POOLED_LOTL,
+	/**
+	 * Describes the optimizer for use with tables/sequences that store the chunk information.
+	 * Here, specifically the hi value is stored in the database, and ids are handed out
+	 * without locking, while the next chunk is read before the current one is exhausted.
+	 *
+	 * @see PooledConcurrentOptimizer
+	 *
+	 * @since 7.2
+	 */
+	POOLED_CONCURRENT;
 
 	@Override
 	public String getExternalName() {
@@ -51,6 +61,7 @@ public String getExternalName() {
 			case POOLED -> "pooled";
 			case POOLED_LO -> "pooled-lo";
 			case POOLED_LOTL -> "pooled-lotl";
+			case POOLED_CONCURRENT -> "pooled-concurrent";
 		};
 	}
 
@@ -63,6 +74,7 @@ public Class<? extends Optimizer> getOptimizerClass() {
 			case POOLED -> PooledOptimizer.class;
 			case POOLED_LO -> PooledLoOptimizer.class;
 			case POOLED_LOTL -> PooledLoThreadLocalOptimizer.class;
+			case POOLED_CONCURRENT -> PooledConcurrentOptimizer.class;
 		};
 	}
 
@@ -70,7 +82,7 @@ public Class<? extends Optimizer> getOptimizerClass() {
 	public boolean isPooled() {
 		return switch ( this ) {
 			case NONE, HILO, LEGACY_HILO -> false;
-			case POOLED, POOLED_LO, POOLED_LOTL -> true;
+			case POOLED, POOLED_LO, POOLED_LOTL, POOLED_CONCURRENT -> true;
 		};
 	}
 
@@ -80,6 +80,7 @@
 import org.hibernate.query.specification.internal.MutationSpecificationImpl;
 import org.hibernate.query.specification.internal.SelectionSpecificationImpl;
 import org.hibernate.query.spi.HqlInterpretation;
+import org.hibernate.query.spi.KeysetPaginationMemory;
 import org.hibernate.query.spi.QueryImplementor;
 import org.hibernate.query.sql.internal.NativeQueryImpl;
 import org.hibernate.query.sql.spi.NamedNativeQueryMemento;
@@ -185,6 +186,7 @@ abstract class AbstractSharedSessionContract implements SharedSessionContractImp
 	//Lazily initialized
 	private transient ExceptionConverter exceptionConverter;
 	private transient SessionAssociationMarkers sessionAssociationMarkers;
+	private transient KeysetPaginationMemory keysetPaginationMemory;
 
 	AbstractSharedSessionContract(SessionFactoryImpl factory, SessionCreationOptions options) {
 		this.factory = factory;
@@ -313,6 +315,7 @@ private JdbcSessionContextImpl createJdbcSessionContext(StatementInspector state
 				connectionHandlingMode,
 				getJdbcServices(),
 				factory.batchBuilder,
+				factory.tableDependencies,
 				// TODO: this object is deprecated and should be removed
 				new JdbcEventHandler(
 						factory.getStatistics(),
@@ -1709,6 +1712,14 @@ public SessionAssociationMarkers getSessionAssociationMarkers() {
 		return sessionAssociationMarkers;
 	}
 
+	@Override
+	public KeysetPaginationMemory getKeysetPaginationMemory() {
+		if ( keysetPaginationMemory == null ) {
+			keysetPaginationMemory = new KeysetPaginationMemory();
+		}
+		return keysetPaginationMemory;
+	}
+
 	@Serial
 	private void writeObject(ObjectOutputStream oos) throws IOException {
 		SESSION_LOGGER.serializingSession( getSessionIdentifier() );
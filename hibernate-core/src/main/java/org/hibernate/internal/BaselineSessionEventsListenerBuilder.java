@@ -6,6 +6,7 @@
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
 
 import org.hibernate.HibernateException;
 import org.hibernate.SessionEventListener;
@@ -28,9 +29,22 @@ public class BaselineSessionEventsListenerBuilder {
 	private static final SessionEventListener[] EMPTY = new SessionEventListener[0];
 
 	private final Class<? extends SessionEventListener> autoListener;
+	private final int statisticsSampleRate;
 
 	public BaselineSessionEventsListenerBuilder(Class<? extends SessionEventListener> autoListener) {
+		this( autoListener, 1 );
+	}
+
+	/**
+	 * @param statisticsSampleRate session metrics are logged for one session in this number
+	 *
+	 * @see org.hibernate.cfg.StatisticsSettings#STATISTICS_SAMPLE_RATE
+	 */
+	public BaselineSessionEventsListenerBuilder(
+			Class<? extends SessionEventListener> autoListener,
+			int statisticsSampleRate) {
 		this.autoListener = autoListener;
+		this.statisticsSampleRate = statisticsSampleRate;
 	}
 
 	@SuppressWarnings("unused")
@@ -49,7 +63,7 @@ public List<SessionEventListener> buildBaselineList() {
 	}
 
 	public SessionEventListener[] buildBaseline() {
-		if ( StatisticalLoggingSessionEventListener.isLoggingEnabled() ) {
+		if ( StatisticalLoggingSessionEventListener.isLoggingEnabled() && sampled() ) {
 			return autoListener == null
 					? new SessionEventListener[] { statsListener() }
 					: new SessionEventListener[] { statsListener(), autoListener() };
@@ -61,6 +75,11 @@ public SessionEventListener[] buildBaseline() {
 		}
 	}
 
+	private boolean sampled() {
+		return statisticsSampleRate <= 1
+			|| ThreadLocalRandom.current().nextInt( statisticsSampleRate ) == 0;
+	}
+
 	private SessionEventListener autoListener() {
 		try {
 			return autoListener.newInstance();
@@ -6,6 +6,7 @@
 
 import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
+import org.hibernate.engine.jdbc.batch.spi.TableDependencies;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.jpa.spi.JpaCompliance;
@@ -24,6 +25,7 @@ class JdbcSessionContextImpl implements JdbcSessionContext {
 	private final PhysicalConnectionHandlingMode connectionHandlingMode;
 	private final JdbcServices jdbcServices;
 	private final BatchBuilder batchBuilder;
+	private final TableDependencies tableDependencies;
 
 	private final transient JdbcEventHandler jdbcEventHandler;
 
@@ -33,12 +35,14 @@ class JdbcSessionContextImpl implements JdbcSessionContext {
 			PhysicalConnectionHandlingMode connectionHandlingMode,
 			JdbcServices jdbcServices,
 			BatchBuilder batchBuilder,
+			TableDependencies tableDependencies,
 			JdbcEventHandler jdbcEventHandler) {
 		this.sessionFactory = sessionFactory;
 		this.statementInspector = statementInspector;
 		this.connectionHandlingMode = connectionHandlingMode;
 		this.jdbcServices = jdbcServices;
 		this.batchBuilder = batchBuilder;
+		this.tableDependencies = tableDependencies;
 		this.jdbcEventHandler = jdbcEventHandler;
 
 		if ( statementInspector == null ) {
@@ -110,6 +114,11 @@ public BatchBuilder getBatchBuilder() {
 		return batchBuilder;
 	}
 
+	@Override
+	public TableDependencies getTableDependencies() {
+		return tableDependencies;
+	}
+
 	@Override
 	public boolean isActive() {
 		return !sessionFactory.isClosed();
@@ -44,7 +44,9 @@
 import org.hibernate.engine.creation.internal.SessionBuilderImpl;
 import org.hibernate.engine.creation.internal.StatelessSessionBuilderImpl;
 import org.hibernate.engine.creation.spi.SessionBuilderImplementor;
+import org.hibernate.engine.jdbc.batch.internal.TableDependenciesImpl;
 import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
+import org.hibernate.engine.jdbc.batch.spi.TableDependencies;
 import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
 import org.hibernate.engine.jdbc.connections.spi.MultiTenantConnectionProvider;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
@@ -201,6 +203,7 @@ public class SessionFactoryImpl implements SessionFactoryImplementor {
 	final transient MultiTenantConnectionProvider<Object> multiTenantConnectionProvider;
 	final transient ManagedBeanRegistry managedBeanRegistry;
 	final transient BatchBuilder batchBuilder;
+	final transient TableDependencies tableDependencies;
 	final transient EventMonitor eventMonitor;
 	final transient EntityCopyObserverFactory entityCopyObserverFactory;
 	final transient ParameterMarkerStrategy parameterMarkerStrategy;
@@ -270,10 +273,13 @@ public SessionFactoryImpl(
 			final var runtimeMetamodelsImpl = new RuntimeMetamodelsImpl( typeConfiguration );
 			runtimeMetamodels = runtimeMetamodelsImpl;
 
+			eventMonitor = loadEventMonitor();
+
 			// we build this before creating the runtime metamodels
 			// because the SqlAstTranslators (unnecessarily, perhaps)
 			// use the SqmFunctionRegistry when rendering SQL for Loaders
-			queryEngine = new QueryEngineImpl( bootMetamodel, options, runtimeMetamodels, serviceRegistry, settings, name );
+			queryEngine = new QueryEngineImpl( bootMetamodel, options, runtimeMetamodels, serviceRegistry, settings, name,
+					eventMonitor );
 			final Map<String, FetchProfile> fetchProfiles = new HashMap<>();
 			sqlTranslationEngine = new SqlTranslationEngineImpl( this, typeConfiguration, fetchProfiles );
 
@@ -301,6 +307,10 @@ public SessionFactoryImpl(
 			entityCopyObserverFactory = serviceRegistry.requireService( EntityCopyObserverFactory.class );
 			parameterMarkerStrategy = serviceRegistry.requireService( ParameterMarkerStrategy.class );
 			batchBuilder = serviceRegistry.requireService( BatchBuilder.class );
+			tableDependencies =
+					options.isBatchPipeliningEnabled()
+							? new TableDependenciesImpl( bootMetamodel.collectTableMappings(), sqlStringGenerationContext )
+							: null;
 			managedBeanRegistry = serviceRegistry.getService( ManagedBeanRegistry.class );
 
 			final boolean multiTenancyEnabled = options.isMultiTenancyEnabled();
@@ -309,8 +319,6 @@ public SessionFactoryImpl(
 			multiTenantConnectionProvider =
 					multiTenancyEnabled ? serviceRegistry.requireService( MultiTenantConnectionProvider.class ) : null;
 
-			eventMonitor = loadEventMonitor();
-
 			eventListenerGroups = new EventListenerGroups( serviceRegistry );
 
 			// re-scope the TypeConfiguration to this SessionFactory,
@@ -1025,12 +1025,21 @@ public Object immediateLoad(String entityName, Object id) {
 			final var persister = requireEntityPersister( entityName );
 			SESSION_LOGGER.initializingProxy( infoString( persister, id, getFactory() ) );
 		}
-		final var event = makeLoadEvent( entityName, id, getReadOnlyFromLoadQueryInfluencers(), true );
-		fireLoadNoChecks( event, IMMEDIATE_LOAD );
-		final Object result = event.getResult();
-		releaseLoadEvent( event );
-		final var lazyInitializer = extractLazyInitializer( result );
-		return lazyInitializer != null ? lazyInitializer.getImplementation() : result;
+		final var eventMonitor = getEventMonitor();
+		final var proxyInitializationEvent = eventMonitor.beginProxyInitializationEvent();
+		boolean success = false;
+		try {
+			final var event = makeLoadEvent( entityName, id, getReadOnlyFromLoadQueryInfluencers(), true );
+			fireLoadNoChecks( event, IMMEDIATE_LOAD );
+			final Object result = event.getResult();
+			releaseLoadEvent( event );
+			final var lazyInitializer = extractLazyInitializer( result );
+			success = true;
+			return lazyInitializer != null ? lazyInitializer.getImplementation() : result;
+		}
+		finally {
+			eventMonitor.completeProxyInitializationEvent( proxyInitializationEvent, this, entityName, id, success );
+		}
 	}
 
 	@Override
@@ -1078,8 +1087,17 @@ protected static LoadType internalLoadType(boolean eager, boolean nullable) {
 	@Override
 	public Object loadFromSecondLevelCache(
 			EntityPersister persister, EntityKey entityKey, Object instanceToLoad, LockMode lockMode) {
-		final Object entity =
-				CacheLoadHelper.loadFromSecondLevelCache( this, instanceToLoad, lockMode, persister, entityKey );
+		return postLoadFromSecondLevelCache( persister, entityKey,
+				CacheLoadHelper.loadFromSecondLevelCache( this, instanceToLoad, lockMode, persister, entityKey ) );
+	}
+
+	@Override
+	public Object loadFromSecondLevelCacheEntry(EntityPersister persister, EntityKey entityKey, Object cacheEntry) {
+		return postLoadFromSecondLevelCache( persister, entityKey,
+				CacheLoadHelper.loadFromSecondLevelCacheEntry( this, persister, entityKey, cacheEntry ) );
+	}
+
+	private Object postLoadFromSecondLevelCache(EntityPersister persister, EntityKey entityKey, Object entity) {
 		if ( entity != null ) {
 			final Object id = entityKey.getIdentifierValue();
 			final var postLoadEvent = makePostLoadEvent( persister, id, entity );
@@ -76,6 +76,8 @@
 import java.util.Set;
 import java.util.function.BiConsumer;
 
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static org.hibernate.engine.internal.ManagedTypeHelper.asPersistentAttributeInterceptable;
 import static org.hibernate.engine.internal.ManagedTypeHelper.isPersistentAttributeInterceptable;
 import static org.hibernate.engine.internal.PersistenceContexts.createPersistenceContext;
@@ -999,12 +1001,14 @@ public void initializeCollection(PersistentCollection<?> collection, boolean wri
 				SESSION_LOGGER.collectionInitializedFromCache();
 			}
 			else {
+				final var statistics = getStatistics();
+				final long startTime = statistics.isStatisticsEnabled() ? System.nanoTime() : 0;
 				loadedPersister.initialize( loadedKey, this );
 				handlePotentiallyEmptyCollection( collection, persistenceContext, loadedKey, loadedPersister );
 				SESSION_LOGGER.collectionInitialized();
-				final var statistics = getStatistics();
 				if ( statistics.isStatisticsEnabled() ) {
-					statistics.fetchCollection( loadedPersister.getRole() );
+					statistics.fetchCollection( loadedPersister.getRole(),
+							MICROSECONDS.convert( System.nanoTime() - startTime, NANOSECONDS ) );
 				}
 			}
 		}
@@ -1166,13 +1170,15 @@ else if ( association instanceof PersistentCollection<?> collection ) {
 						SESSION_LOGGER.collectionFetchedFromCache();
 					}
 					else {
+						final var statistics = getStatistics();
+						final long startTime = statistics.isStatisticsEnabled() ? System.nanoTime() : 0;
 						collectionDescriptor.initialize( key, this );
 						handlePotentiallyEmptyCollection( collection, getPersistenceContextInternal(), key,
 								collectionDescriptor );
 						SESSION_LOGGER.collectionFetched();
-						final var statistics = getStatistics();
 						if ( statistics.isStatisticsEnabled() ) {
-							statistics.fetchCollection( collectionDescriptor.getRole() );
+							statistics.fetchCollection( collectionDescriptor.getRole(),
+									MICROSECONDS.convert( System.nanoTime() - startTime, NANOSECONDS ) );
 						}
 					}
 				}
@@ -1476,6 +1482,11 @@ public Object loadFromSecondLevelCache(EntityPersister persister, EntityKey enti
 		return CacheLoadHelper.loadFromSecondLevelCache( this, instanceToLoad, lockMode, persister, entityKey );
 	}
 
+	@Override
+	public Object loadFromSecondLevelCacheEntry(EntityPersister persister, EntityKey entityKey, Object cacheEntry) {
+		return CacheLoadHelper.loadFromSecondLevelCacheEntry( this, persister, entityKey, cacheEntry );
+	}
+
 	@Override
 	public TransactionCompletionCallbacksImplementor getTransactionCompletionCallbacksImplementor() {
 		return transactionCompletionCallbacks.forSharing();
@@ -123,4 +123,8 @@ public interface ConnectionInfoLogger extends BasicLogger {
 	@LogMessage(level = ERROR)
 	@Message(value = "Connection leak detected: there are %s unclosed connections", id = 10001023)
 	void connectionLeakDetected(int allocationCount);
+
+	@LogMessage(level = WARN)
+	@Message(value = "Possible connection leak: connection obtained by thread [%s] has not been returned to the pool after %s seconds", id = 10001024)
+	void connectionLeakSuspected(String thread, long seconds, @Cause Throwable stackTrace);
 }
@@ -4,6 +4,7 @@
  */
 package org.hibernate.internal.util.cache;
 
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 /**
@@ -56,4 +57,15 @@
 	 * @return Either the existing value, or the return from the provided function.
 	 */
 	V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction);
+
+	/**
+	 * Performs the given action for each key currently held in the cache, in no
+	 * particular order. The iteration is weakly consistent: keys added or evicted
+	 * concurrently might or might not be visited. Implementations which cannot
+	 * enumerate their content may visit no keys at all.
+	 *
+	 * @since 7.2
+	 */
+	default void forEachKey(Consumer<? super K> action) {
+	}
 }
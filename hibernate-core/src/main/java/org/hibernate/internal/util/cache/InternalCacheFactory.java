@@ -4,6 +4,8 @@
  */
 package org.hibernate.internal.util.cache;
 
+import java.util.function.Consumer;
+
 import org.hibernate.service.Service;
 
 /**
@@ -15,4 +17,15 @@ public interface InternalCacheFactory extends Service {
 
 	<K,V> InternalCache<K,V> createInternalCache(int intendedApproximateSize);
 
+	/**
+	 * Create a cache which notifies the given listener of the key of every entry
+	 * it evicts to make room for new entries.
+	 * Implementations which are not able to track evictions may ignore the listener.
+	 */
+	default <K,V> InternalCache<K,V> createInternalCache(
+			int intendedApproximateSize,
+			Consumer<? super K> evictionListener) {
+		return createInternalCache( intendedApproximateSize );
+	}
+
 }
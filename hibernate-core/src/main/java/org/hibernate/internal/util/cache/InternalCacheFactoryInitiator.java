@@ -5,10 +5,14 @@
 package org.hibernate.internal.util.cache;
 
 import org.hibernate.boot.registry.StandardServiceInitiator;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.service.spi.ServiceException;
 import org.hibernate.service.spi.ServiceRegistryImplementor;
 
 import java.util.Map;
 
+import static org.hibernate.cfg.QuerySettings.QUERY_PLAN_CACHE_IMPLEMENTATION;
+
 public class InternalCacheFactoryInitiator implements StandardServiceInitiator<InternalCacheFactory> {
 
 	/**
@@ -20,7 +24,35 @@ private InternalCacheFactoryInitiator() {}
 
 	@Override
 	public InternalCacheFactory initiateService(Map<String, Object> configurationValues, ServiceRegistryImplementor registry) {
-		return new InternalCacheFactoryImpl();
+		final Object implementation = configurationValues.get( QUERY_PLAN_CACHE_IMPLEMENTATION );
+		if ( implementation == null ) {
+			return new InternalCacheFactoryImpl();
+		}
+		else if ( implementation instanceof InternalCacheFactory factory ) {
+			return factory;
+		}
+
+		final Class<?> factoryClass;
+		if ( implementation instanceof Class<?> clazz ) {
+			factoryClass = clazz;
+		}
+		else {
+			final String name = implementation.toString().trim();
+			if ( name.isEmpty() || "legacy".equalsIgnoreCase( name ) ) {
+				return new InternalCacheFactoryImpl();
+			}
+			else if ( "tinylfu".equalsIgnoreCase( name ) ) {
+				return new TinyLfuInternalCacheFactoryImpl();
+			}
+			factoryClass = registry.requireService( ClassLoaderService.class ).classForName( name );
+		}
+
+		try {
+			return (InternalCacheFactory) factoryClass.getConstructor().newInstance();
+		}
+		catch (Exception e) {
+			throw new ServiceException( "Could not instantiate InternalCacheFactory [" + factoryClass.getName() + "]", e );
+		}
 	}
 
 	@Override
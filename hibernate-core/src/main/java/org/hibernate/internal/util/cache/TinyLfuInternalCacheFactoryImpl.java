@@ -0,0 +1,27 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.internal.util.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * An {@link InternalCacheFactory} creating frequency-aware caches.
+ *
+ * @see TinyLfuInternalCacheImplementation
+ */
+final class TinyLfuInternalCacheFactoryImpl implements InternalCacheFactory {
+
+	@Override
+	public <K, V> InternalCache<K, V> createInternalCache(int intendedApproximateSize) {
+		return new TinyLfuInternalCacheImplementation<>( intendedApproximateSize, null );
+	}
+
+	@Override
+	public <K, V> InternalCache<K, V> createInternalCache(
+			int intendedApproximateSize,
+			Consumer<? super K> evictionListener) {
+		return new TinyLfuInternalCacheImplementation<>( intendedApproximateSize, evictionListener );
+	}
+}
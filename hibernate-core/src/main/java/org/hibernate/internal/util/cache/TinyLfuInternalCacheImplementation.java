@@ -0,0 +1,476 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.internal.util.cache;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * An implementation of {@link InternalCache} using the W-TinyLFU eviction policy,
+ * as popularized by the Caffeine caching library.
+ * <p>
+ * New entries enter a small LRU <em>window</em>. Entries leaving the window compete
+ * for admission into the <em>main</em> segmented-LRU space against its least recently
+ * used entry, and the winner is the one which was accessed more frequently, as
+ * estimated by a compact {@linkplain FrequencySketch count-min sketch}. This makes the
+ * cache resistant to a flood of one-off entries, like dynamically generated queries,
+ * pushing out the entries which are used over and over again.
+ * <p>
+ * Reads never block: they are recorded in a lossy ring buffer which is replayed
+ * against the eviction policy whenever the eviction lock happens to be available.
+ * Writes, which in the intended usage only happen on a cache miss, take the lock.
+ *
+ * @param <K> The type of the keys
+ * @param <V> The type of the values
+ */
+final class TinyLfuInternalCacheImplementation<K,V> implements InternalCache<K,V> {
+
+	private static final byte UNLINKED = 0;
+	private static final byte WINDOW = 1;
+	private static final byte PROBATION = 2;
+	private static final byte PROTECTED = 3;
+	private static final byte DEAD = 4;
+
+	private static final int READ_BUFFER_SIZE = 128;
+	private static final int READ_BUFFER_MASK = READ_BUFFER_SIZE - 1;
+	private static final int READ_BUFFER_DRAIN_THRESHOLD = 32;
+
+	private final ConcurrentHashMap<K, Node<K,V>> data;
+	private final Consumer<? super K> evictionListener;
+
+	private final int maximumSize;
+	private final int maximumWindowSize;
+	private final int maximumProtectedSize;
+
+	// the eviction policy state, guarded by the evictionLock
+	private final ReentrantLock evictionLock = new ReentrantLock();
+	private final FrequencySketch sketch;
+	private final AccessOrderDeque<K,V> window = new AccessOrderDeque<>();
+	private final AccessOrderDeque<K,V> probation = new AccessOrderDeque<>();
+	private final AccessOrderDeque<K,V> protectedSpace = new AccessOrderDeque<>();
+	private int windowSize;
+	private int protectedSize;
+	private int size;
+
+	// the read buffer
+	private final AtomicReferenceArray<Node<K,V>> readBuffer = new AtomicReferenceArray<>( READ_BUFFER_SIZE );
+	private final AtomicLong readBufferWriteCounter = new AtomicLong();
+	private volatile long readBufferReadCounter;
+
+	TinyLfuInternalCacheImplementation(int intendedApproximateSize, Consumer<? super K> evictionListener) {
+		this.maximumSize = Math.max( 2, intendedApproximateSize );
+		this.maximumWindowSize = Math.max( 1, maximumSize / 100 );
+		this.maximumProtectedSize = (int) ( ( maximumSize - maximumWindowSize ) * 0.8d );
+		this.evictionListener = evictionListener;
+		this.data = new ConcurrentHashMap<>( Math.min( maximumSize, 1024 ) );
+		this.sketch = new FrequencySketch( maximumSize );
+	}
+
+	@Override
+	public int heldElementsEstimate() {
+		return data.size();
+	}
+
+	@Override
+	public V get(K key) {
+		final var node = data.get( key );
+		if ( node == null ) {
+			return null;
+		}
+		afterRead( node );
+		return node.value;
+	}
+
+	@Override
+	public void put(K key, V value) {
+		final var existing = data.get( key );
+		if ( existing != null ) {
+			existing.value = value;
+			afterRead( existing );
+		}
+		else {
+			final var node = new Node<>( key, value );
+			final var prior = data.putIfAbsent( key, node );
+			if ( prior == null ) {
+				afterWrite( node );
+			}
+			else {
+				prior.value = value;
+				afterRead( prior );
+			}
+		}
+	}
+
+	@Override
+	public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+		final var existing = data.get( key );
+		if ( existing != null ) {
+			afterRead( existing );
+			return existing.value;
+		}
+
+		final Object[] created = new Object[1];
+		final var node = data.computeIfAbsent( key, k -> {
+			final V value = mappingFunction.apply( k );
+			if ( value == null ) {
+				return null;
+			}
+			final var newNode = new Node<>( k, value );
+			created[0] = newNode;
+			return newNode;
+		} );
+		if ( node == null ) {
+			return null;
+		}
+		if ( created[0] == node ) {
+			afterWrite( node );
+		}
+		else {
+			afterRead( node );
+		}
+		return node.value;
+	}
+
+	@Override
+	public void forEachKey(Consumer<? super K> action) {
+		data.keySet().forEach( action );
+	}
+
+	@Override
+	public void clear() {
+		evictionLock.lock();
+		try {
+			drainReadBuffer();
+			for ( var node : data.values() ) {
+				node.queue = DEAD;
+			}
+			data.clear();
+			window.clear();
+			probation.clear();
+			protectedSpace.clear();
+			windowSize = 0;
+			protectedSize = 0;
+			size = 0;
+		}
+		finally {
+			evictionLock.unlock();
+		}
+	}
+
+	private void afterRead(Node<K,V> node) {
+		final long pending = offerToReadBuffer( node );
+		if ( pending >= READ_BUFFER_DRAIN_THRESHOLD && evictionLock.tryLock() ) {
+			try {
+				drainReadBuffer();
+			}
+			finally {
+				evictionLock.unlock();
+			}
+		}
+	}
+
+	private void afterWrite(Node<K,V> node) {
+		evictionLock.lock();
+		try {
+			drainReadBuffer();
+			onAdd( node );
+			evict();
+		}
+		finally {
+			evictionLock.unlock();
+		}
+	}
+
+	/**
+	 * Record an access in the read buffer, dropping it if the buffer is full
+	 * or contended, since the eviction policy only needs a sample of the reads.
+	 *
+	 * @return the number of pending reads, or 0 if the read was dropped
+	 */
+	private long offerToReadBuffer(Node<K,V> node) {
+		final long head = readBufferReadCounter;
+		final long tail = readBufferWriteCounter.get();
+		final long pending = tail - head;
+		if ( pending >= READ_BUFFER_SIZE ) {
+			return READ_BUFFER_SIZE;
+		}
+		if ( readBufferWriteCounter.compareAndSet( tail, tail + 1 ) ) {
+			readBuffer.lazySet( (int) ( tail & READ_BUFFER_MASK ), node );
+			return pending + 1;
+		}
+		return 0;
+	}
+
+	private void drainReadBuffer() {
+		long head = readBufferReadCounter;
+		final long tail = readBufferWriteCounter.get();
+		for ( ; head < tail; head++ ) {
+			final int index = (int) ( head & READ_BUFFER_MASK );
+			final var node = readBuffer.get( index );
+			if ( node == null ) {
+				// the slot was claimed, but the writer has not yet published it
+				break;
+			}
+			readBuffer.lazySet( index, null );
+			onAccess( node );
+		}
+		readBufferReadCounter = head;
+	}
+
+	private void onAdd(Node<K,V> node) {
+		if ( node.queue != UNLINKED || data.get( node.key ) != node ) {
+			// cleared concurrently
+			return;
+		}
+		sketch.increment( node.key );
+		node.queue = WINDOW;
+		window.addLast( node );
+		windowSize++;
+		size++;
+	}
+
+	private void onAccess(Node<K,V> node) {
+		switch ( node.queue ) {
+			case WINDOW -> {
+				sketch.increment( node.key );
+				window.moveToLast( node );
+			}
+			case PROBATION -> {
+				sketch.increment( node.key );
+				probation.remove( node );
+				node.queue = PROTECTED;
+				protectedSpace.addLast( node );
+				protectedSize++;
+				while ( protectedSize > maximumProtectedSize ) {
+					final var demoted = protectedSpace.pollFirst();
+					protectedSize--;
+					demoted.queue = PROBATION;
+					probation.addLast( demoted );
+				}
+			}
+			case PROTECTED -> {
+				sketch.increment( node.key );
+				protectedSpace.moveToLast( node );
+			}
+			default -> {
+				// not yet added, or already evicted
+			}
+		}
+	}
+
+	private void evict() {
+		// entries overflowing the window become candidates in the probation space
+		while ( windowSize > maximumWindowSize ) {
+			final var candidate = window.pollFirst();
+			windowSize--;
+			candidate.queue = PROBATION;
+			probation.addLast( candidate );
+		}
+
+		while ( size > maximumSize ) {
+			final var victim = probation.peekFirst();
+			final var candidate = probation.peekLast();
+			if ( victim == null ) {
+				// everything is either in the window or protected
+				evictEntry( protectedSize > 0 ? protectedSpace.peekFirst() : window.peekFirst() );
+			}
+			else if ( victim == candidate ) {
+				evictEntry( victim );
+			}
+			else if ( sketch.frequency( candidate.key ) > sketch.frequency( victim.key ) ) {
+				evictEntry( victim );
+			}
+			else {
+				evictEntry( candidate );
+			}
+		}
+	}
+
+	private void evictEntry(Node<K,V> node) {
+		switch ( node.queue ) {
+			case WINDOW -> {
+				window.remove( node );
+				windowSize--;
+			}
+			case PROBATION -> probation.remove( node );
+			case PROTECTED -> {
+				protectedSpace.remove( node );
+				protectedSize--;
+			}
+			default -> throw new IllegalStateException( "Evicting an entry which is not linked" );
+		}
+		node.queue = DEAD;
+		size--;
+		if ( data.remove( node.key, node ) && evictionListener != null ) {
+			evictionListener.accept( node.key );
+		}
+	}
+
+	private static final class Node<K,V> {
+		private final K key;
+		private volatile V value;
+
+		// guarded by the evictionLock
+		private byte queue = UNLINKED;
+		private Node<K,V> previous;
+		private Node<K,V> next;
+
+		private Node(K key, V value) {
+			this.key = key;
+			this.value = value;
+		}
+	}
+
+	/**
+	 * A doubly-linked list threaded through the {@link Node}s, ordered from the
+	 * least to the most recently accessed.
+	 */
+	private static final class AccessOrderDeque<K,V> {
+		private Node<K,V> first;
+		private Node<K,V> last;
+
+		Node<K,V> peekFirst() {
+			return first;
+		}
+
+		Node<K,V> peekLast() {
+			return last;
+		}
+
+		Node<K,V> pollFirst() {
+			final var node = first;
+			if ( node != null ) {
+				remove( node );
+			}
+			return node;
+		}
+
+		void addLast(Node<K,V> node) {
+			node.previous = last;
+			node.next = null;
+			if ( last == null ) {
+				first = node;
+			}
+			else {
+				last.next = node;
+			}
+			last = node;
+		}
+
+		void remove(Node<K,V> node) {
+			final var previous = node.previous;
+			final var next = node.next;
+			if ( previous == null ) {
+				first = next;
+			}
+			else {
+				previous.next = next;
+			}
+			if ( next == null ) {
+				last = previous;
+			}
+			else {
+				next.previous = previous;
+			}
+			node.previous = null;
+			node.next = null;
+		}
+
+		void moveToLast(Node<K,V> node) {
+			if ( node != last ) {
+				remove( node );
+				addLast( node );
+			}
+		}
+
+		void clear() {
+			first = null;
+			last = null;
+		}
+	}
+
+	/**
+	 * A probabilistic estimate of the access frequency of keys, using four 4-bit
+	 * counters per key in a count-min sketch. All counters are periodically halved,
+	 * so that keys which are no longer used eventually lose their advantage.
+	 * Not thread-safe: only ever accessed while holding the eviction lock.
+	 */
+	static final class FrequencySketch {
+		private static final long[] SEEDS = {
+				0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+		};
+		private static final long RESET_MASK = 0x7777777777777777L;
+
+		private final long[] table;
+		private final int tableMask;
+		private final int sampleSize;
+		private int additions;
+
+		FrequencySketch(int maximumSize) {
+			// each long holds sixteen 4-bit counters
+			final int tableSize = Integer.highestOneBit( Math.max( 8, maximumSize - 1 ) ) << 1;
+			this.table = new long[tableSize];
+			this.tableMask = tableSize - 1;
+			this.sampleSize = Math.max( 10 * maximumSize, 10 );
+		}
+
+		int frequency(Object key) {
+			final int hash = spread( key.hashCode() );
+			final int start = ( hash & 3 ) << 2;
+			int frequency = Integer.MAX_VALUE;
+			for ( int i = 0; i < 4; i++ ) {
+				final int offset = ( start + i ) << 2;
+				final int count = (int) ( ( table[indexOf( hash, i )] >>> offset ) & 0xfL );
+				frequency = Math.min( frequency, count );
+			}
+			return frequency;
+		}
+
+		void increment(Object key) {
+			final int hash = spread( key.hashCode() );
+			final int start = ( hash & 3 ) << 2;
+			boolean added = false;
+			for ( int i = 0; i < 4; i++ ) {
+				added |= incrementAt( indexOf( hash, i ), start + i );
+			}
+			if ( added && ++additions >= sampleSize ) {
+				reset();
+			}
+		}
+
+		private boolean incrementAt(int index, int counter) {
+			final int offset = counter << 2;
+			final long mask = 0xfL << offset;
+			if ( ( table[index] & mask ) != mask ) {
+				table[index] += 1L << offset;
+				return true;
+			}
+			return false;
+		}
+
+		private int indexOf(int hash, int i) {
+			long h = ( hash + SEEDS[i] ) * SEEDS[i];
+			h += h >>> 32;
+			return ( (int) h ) & tableMask;
+		}
+
+		private void reset() {
+			for ( int i = 0; i < table.length; i++ ) {
+				table[i] = ( table[i] >>> 1 ) & RESET_MASK;
+			}
+			additions = additions >>> 1;
+		}
+
+		private static int spread(int x) {
+			x = ( ( x >>> 16 ) ^ x ) * 0x45d9f3b;
+			x = ( ( x >>> 16 ) ^ x ) * 0x45d9f3b;
+			return ( x >>> 16 ) ^ x;
+		}
+	}
+}
@@ -4,6 +4,7 @@
  */
 package org.hibernate.jpa;
 
+import org.hibernate.Incubating;
 import org.hibernate.Locking;
 
 /**
@@ -272,4 +273,29 @@ public interface HibernateHints {
 	 * @since 6.5
 	 */
 	String HINT_QUERY_DATABASE = "hibernate.query.database";
+
+	/**
+	 * Hint to enable transparent key-based pagination of the results of a
+	 * query which returns a single entity type, and whose results are ordered
+	 * by non-null basic attributes of the entity including its identifier.
+	 * <p>
+	 * When a page of results is requested using
+	 * {@link org.hibernate.query.SelectionQuery#setFirstResult(int)} and
+	 * {@link org.hibernate.query.SelectionQuery#setMaxResults(int)}, and the
+	 * same session has already read the immediately preceding page of results
+	 * of the same query, with the same arguments and page size, the query is
+	 * executed with a restriction on the ordering key, instead of with an
+	 * offset, so that the database does not need to scan over the skipped rows.
+	 * If the ordering of the query is not unique, the hint has no effect.
+	 * <p>
+	 * Since the restriction is based on the key of the last row of the previous
+	 * page, the results may differ from those obtained using an offset when
+	 * rows are concurrently inserted or deleted.
+	 *
+	 * @see org.hibernate.query.KeyedPage
+	 *
+	 * @since 7.2
+	 */
+	@Incubating
+	String HINT_KEYSET_PAGINATION = "org.hibernate.keysetPagination";
 }
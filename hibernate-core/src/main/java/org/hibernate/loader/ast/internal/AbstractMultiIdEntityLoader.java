@@ -20,14 +20,17 @@
 import org.hibernate.metamodel.mapping.EntityMappingType;
 import org.hibernate.sql.ast.SqlAstTranslatorFactory;
 import org.hibernate.sql.exec.spi.JdbcSelectExecutor;
+import org.hibernate.type.descriptor.java.JavaType;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import static org.hibernate.event.spi.LoadEventListener.GET;
 import static org.hibernate.internal.util.collections.CollectionHelper.arrayList;
 import static org.hibernate.internal.util.collections.CollectionHelper.isEmpty;
 import static org.hibernate.loader.ast.internal.MultiKeyLoadLogging.MULTI_KEY_LOAD_LOGGER;
+import static org.hibernate.loader.internal.CacheLoadHelper.getAllFromSecondLevelCache;
 import static org.hibernate.loader.internal.CacheLoadHelper.loadFromSessionCache;
 
 /**
@@ -123,10 +126,13 @@ private List<T> orderedMultiLoad(
 
 		final var lockOptions = lockOptions( loadOptions );
 
-		for ( int i = 0; i < ids.length; i++ ) {
-			final Object id = idCoercionEnabled ? idType.coerce( ids[i], session ) : ids[i];
+		final Object[] coercedIds = idCoercionEnabled ? coerceIds( ids, idType, session ) : ids;
+		final var cacheEntries = getAllFromSecondLevelCacheIfEnabled( coercedIds, loadOptions, lockOptions, session );
+
+		for ( int i = 0; i < coercedIds.length; i++ ) {
+			final Object id = coercedIds[i];
 			final var entityKey = new EntityKey( id, getLoadable().getEntityPersister() );
-			if ( !loadFromEnabledCaches( loadOptions, session, id, lockOptions, entityKey, results, i ) ) {
+			if ( !loadFromEnabledCaches( loadOptions, session, id, lockOptions, entityKey, cacheEntries, results, i ) ) {
 				// if we did not hit any of the continues above,
 				// then we need to batch load the entity state.
 				idsInBatch.add( id );
@@ -201,17 +207,19 @@ private boolean loadFromEnabledCaches(
 			Object id,
 			LockOptions lockOptions,
 			EntityKey entityKey,
+			Map<Object, Object> cacheEntries,
 			List<Object> result,
 			int i) {
 		return (loadOptions.getSessionCheckMode() == SessionCheckMode.ENABLED
 				|| loadOptions.isSecondLevelCacheCheckingEnabled() )
-			&& isLoadFromCaches( loadOptions, entityKey, lockOptions, result, i, session );
+			&& isLoadFromCaches( loadOptions, entityKey, lockOptions, cacheEntries, result, i, session );
 	}
 
 	private boolean isLoadFromCaches(
 			MultiIdLoadOptions loadOptions,
 			EntityKey entityKey,
 			LockOptions lockOptions,
+			Map<Object, Object> cacheEntries,
 			List<Object> results, int i,
 			SharedSessionContractImplementor session) {
 
@@ -237,7 +245,7 @@ private boolean isLoadFromCaches(
 		if ( loadOptions.isSecondLevelCacheCheckingEnabled() ) {
 			// look for it in the second-level cache
 			final Object entity =
-					loadFromSecondLevelCache( entityKey, lockOptions, session );
+					loadFromSecondLevelCache( entityKey, cacheEntries, session );
 			if ( entity != null ) {
 				results.add( i, entity );
 				return true;
@@ -330,18 +338,22 @@ private <R> List<Object> unresolvedIds(
 			LockOptions lockOptions,
 			SharedSessionContractImplementor session,
 			ResolutionConsumer<R> resolutionConsumer) {
-		final boolean idCoercionEnabled = isIdCoercionEnabled();
-		final var idType = getLoadable().getIdentifierMapping().getJavaType();
+		final Object[] coercedIds =
+				isIdCoercionEnabled()
+						? coerceIds( ids, getLoadable().getIdentifierMapping().getJavaType(), session )
+						: ids;
+		final var cacheEntries = getAllFromSecondLevelCacheIfEnabled( coercedIds, loadOptions, lockOptions, session );
 		List<Object> unresolvedIds = null;
-		for ( int i = 0; i < ids.length; i++ ) {
-			final Object id = idCoercionEnabled ? idType.coerce( ids[i], session ) : ids[i];
+		for ( int i = 0; i < coercedIds.length; i++ ) {
+			final Object id = coercedIds[i];
 			unresolvedIds =
 					loadFromCaches(
 							loadOptions,
-							lockOptions,
 							resolutionConsumer,
 							id,
 							new EntityKey( id, getLoadable().getEntityPersister() ),
+							lockOptions,
+							cacheEntries,
 							unresolvedIds,
 							i,
 							session
@@ -350,6 +362,42 @@ private <R> List<Object> unresolvedIds(
 		return unresolvedIds;
 	}
 
+	private static Object[] coerceIds(Object[] ids, JavaType<?> idType, SharedSessionContractImplementor session) {
+		final Object[] coercedIds = new Object[ids.length];
+		for ( int i = 0; i < ids.length; i++ ) {
+			coercedIds[i] = idType.coerce( ids[i], session );
+		}
+		return coercedIds;
+	}
+
+	/**
+	 * Obtain the second-level cache entries for all the given ids which are
+	 * not already associated with the session, in a single interaction with
+	 * the cache, so that a remote cache is not hit once per id.
+	 */
+	private Map<Object, Object> getAllFromSecondLevelCacheIfEnabled(
+			Object[] ids,
+			MultiIdLoadOptions loadOptions,
+			LockOptions lockOptions,
+			SharedSessionContractImplementor session) {
+		if ( loadOptions.isSecondLevelCacheCheckingEnabled() ) {
+			final var persister = getLoadable().getEntityPersister();
+			final boolean checkSession = loadOptions.getSessionCheckMode() == SessionCheckMode.ENABLED;
+			final var persistenceContext = session.getPersistenceContextInternal();
+			final List<Object> idsToCheck = new ArrayList<>( ids.length );
+			for ( Object id : ids ) {
+				if ( id != null
+						&& ( !checkSession || persistenceContext.getEntity( persister, id ) == null ) ) {
+					idsToCheck.add( id );
+				}
+			}
+			return getAllFromSecondLevelCache( session, lockOptions.getLockMode(), persister, idsToCheck );
+		}
+		else {
+			return Map.of();
+		}
+	}
+
 	// Depending on the implementation, a specific subtype of Object[] (e.g. Integer[]) may be needed.
 	protected abstract Object[] toIdArray(List<Object> ids);
 
@@ -363,10 +411,11 @@ private boolean isIdCoercionEnabled() {
 
 	private <R> List<Object> loadFromCaches(
 			MultiIdLoadOptions loadOptions,
-			LockOptions lockOptions,
 			ResolutionConsumer<R> resolutionConsumer,
 			Object id,
 			EntityKey entityKey,
+			LockOptions lockOptions,
+			Map<Object, Object> cacheEntries,
 			List<Object> unresolvedIds, int i,
 			SharedSessionContractImplementor session) {
 
@@ -388,7 +437,7 @@ private <R> List<Object> loadFromCaches(
 
 		final Object cachedEntity =
 				sessionEntity == null && loadOptions.isSecondLevelCacheCheckingEnabled()
-						? loadFromSecondLevelCache( entityKey, lockOptions, session )
+						? loadFromSecondLevelCache( entityKey, cacheEntries, session )
 						: sessionEntity;
 
 		if ( cachedEntity != null ) {
@@ -404,8 +453,13 @@ private <R> List<Object> loadFromCaches(
 		return unresolvedIds;
 	}
 
-	private Object loadFromSecondLevelCache(EntityKey entityKey, LockOptions lockOptions, SharedSessionContractImplementor session) {
-		final var persister = getLoadable().getEntityPersister();
-		return session.loadFromSecondLevelCache( persister, entityKey, null, lockOptions.getLockMode() );
+	private Object loadFromSecondLevelCache(
+			EntityKey entityKey,
+			Map<Object, Object> cacheEntries,
+			SharedSessionContractImplementor session) {
+		final Object cacheEntry = cacheEntries.get( entityKey.getIdentifier() );
+		return cacheEntry == null
+				? null
+				: session.loadFromSecondLevelCacheEntry( getLoadable().getEntityPersister(), entityKey, cacheEntry );
 	}
 }
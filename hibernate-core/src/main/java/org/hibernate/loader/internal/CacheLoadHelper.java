@@ -4,6 +4,9 @@
  */
 package org.hibernate.loader.internal;
 
+import java.util.Collection;
+import java.util.Map;
+
 import org.hibernate.HibernateException;
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
@@ -27,6 +30,8 @@
 import static org.hibernate.engine.internal.ManagedTypeHelper.asPersistentAttributeInterceptable;
 import static org.hibernate.engine.internal.ManagedTypeHelper.isManagedEntity;
 import static org.hibernate.engine.internal.ManagedTypeHelper.isPersistentAttributeInterceptable;
+import static org.hibernate.internal.util.collections.CollectionHelper.linkedMapOfSize;
+import static org.hibernate.internal.util.collections.CollectionHelper.mapOfSize;
 import static org.hibernate.engine.internal.Versioning.getVersion;
 import static org.hibernate.loader.internal.CacheLoadHelper.PersistenceContextEntry.EntityStatus.INCONSISTENT_RTN_CLASS_MARKER;
 import static org.hibernate.loader.internal.CacheLoadHelper.PersistenceContextEntry.EntityStatus.MANAGED;
@@ -140,6 +145,75 @@ public static Object loadFromSecondLevelCache(
 		}
 	}
 
+	/**
+	 * Attempts to obtain the cached state of several entities from the
+	 * second-level cache, in a single interaction with the cache.
+	 *
+	 * @param source The source
+	 * @param lockMode The lock mode
+	 * @param persister The persister for the entities being requested for load
+	 * @param ids The identifiers of the entities
+	 *
+	 * @return The cache entries found, by identifier, to be passed to
+	 *         {@link #loadFromSecondLevelCacheEntry}. Empty if the
+	 *         second-level cache may not be used.
+	 *
+	 * @since 7.2
+	 */
+	public static Map<Object, Object> getAllFromSecondLevelCache(
+			final SharedSessionContractImplementor source,
+			final LockMode lockMode,
+			final EntityPersister persister,
+			final Collection<?> ids) {
+		final boolean useCache =
+				persister.canReadFromCache()
+						&& source.getCacheMode().isGetEnabled()
+						&& lockMode.lessThan( LockMode.READ );
+		if ( !useCache || ids.isEmpty() ) {
+			return Map.of();
+		}
+		final var cache = persister.getCacheAccessStrategy();
+		final var factory = source.getFactory();
+		final Map<Object, Object> idsByCacheKey = linkedMapOfSize( ids.size() );
+		for ( Object id : ids ) {
+			idsByCacheKey.put( cache.generateCacheKey( id, persister, factory, source.getTenantIdentifier() ), id );
+		}
+		final var cacheEntries = fromSharedCache( source, idsByCacheKey.keySet(), persister, cache );
+		final Map<Object, Object> cacheEntriesById = mapOfSize( cacheEntries.size() );
+		cacheEntries.forEach( (cacheKey, cacheEntry) -> cacheEntriesById.put( idsByCacheKey.get( cacheKey ), cacheEntry ) );
+		final var statistics = factory.getStatistics();
+		if ( statistics.isStatisticsEnabled() ) {
+			final var rootEntityRole = getRootEntityRole( persister );
+			final String regionName = cache.getRegion().getName();
+			for ( Object cacheKey : idsByCacheKey.keySet() ) {
+				if ( cacheEntries.containsKey( cacheKey ) ) {
+					statistics.entityCacheHit( rootEntityRole, regionName );
+				}
+				else {
+					statistics.entityCacheMiss( rootEntityRole, regionName );
+				}
+			}
+		}
+		return cacheEntriesById;
+	}
+
+	/**
+	 * Assembles an entity from a cache entry previously obtained from
+	 * {@link #getAllFromSecondLevelCache}.
+	 *
+	 * @return The entity, or null if the cache entry was for an instance of
+	 *         a different entity type
+	 *
+	 * @since 7.2
+	 */
+	public static Object loadFromSecondLevelCacheEntry(
+			final SharedSessionContractImplementor source,
+			final EntityPersister persister,
+			final EntityKey entityKey,
+			final Object cacheEntry) {
+		return processCachedEntry( null, persister, cacheEntry, source, entityKey );
+	}
+
 	private static Object getFromSharedCache(
 			final Object entityId,
 			final EntityPersister persister,
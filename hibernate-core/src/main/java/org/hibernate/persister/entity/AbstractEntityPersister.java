@@ -29,6 +29,8 @@
 import org.hibernate.bytecode.enhance.spi.interceptor.EnhancementHelper;
 import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributeDescriptor;
 import org.hibernate.bytecode.spi.BytecodeEnhancementMetadata;
+import org.hibernate.bytecode.spi.BytecodeProvider;
+import org.hibernate.bytecode.spi.DirtyCheckOptimizer;
 import org.hibernate.bytecode.spi.ReflectionOptimizer;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.NaturalIdDataAccess;
@@ -214,6 +216,7 @@
 import org.hibernate.sql.results.internal.SqlSelectionImpl;
 import org.hibernate.tuple.NonIdentifierAttribute;
 import org.hibernate.tuple.entity.EntityMetamodel;
+import org.hibernate.type.AbstractStandardBasicType;
 import org.hibernate.type.AnyType;
 import org.hibernate.type.AssociationType;
 import org.hibernate.type.BasicType;
@@ -223,7 +226,16 @@
 import org.hibernate.type.EntityType;
 import org.hibernate.type.ManyToOneType;
 import org.hibernate.type.Type;
+import org.hibernate.type.descriptor.java.BooleanJavaType;
+import org.hibernate.type.descriptor.java.ByteJavaType;
+import org.hibernate.type.descriptor.java.CharacterJavaType;
+import org.hibernate.type.descriptor.java.DoubleJavaType;
+import org.hibernate.type.descriptor.java.FloatJavaType;
+import org.hibernate.type.descriptor.java.IntegerJavaType;
 import org.hibernate.type.descriptor.java.JavaType;
+import org.hibernate.type.descriptor.java.LongJavaType;
+import org.hibernate.type.descriptor.java.ShortJavaType;
+import org.hibernate.type.descriptor.java.StringJavaType;
 import org.hibernate.type.spi.TypeConfiguration;
 
 import java.io.Serializable;
@@ -355,6 +367,7 @@
 	private final String[][] propertyColumnNames;
 	private final String[][] propertyColumnFormulaTemplates;
 	private final boolean[][] propertyColumnUpdateable;
+	private @Nullable DirtyCheckOptimizer dirtyCheckOptimizer;
 	private final boolean[][] propertyColumnInsertable;
 	private final Set<String> sharedColumnNames;
 
@@ -3229,6 +3242,57 @@ private void doLateInit() {
 
 		//select SQL
 		sqlVersionSelectString = generateSelectVersionString();
+
+		if ( getFactory().getSessionFactoryOptions().isDirtyCheckOptimizerEnabled() ) {
+			dirtyCheckOptimizer = buildDirtyCheckOptimizer();
+		}
+	}
+
+	private @Nullable DirtyCheckOptimizer buildDirtyCheckOptimizer() {
+		if ( getRepresentationStrategy().getMode() != POJO
+				|| getBytecodeEnhancementMetadata().isEnhancedForLazyLoading() ) {
+			return null;
+		}
+		final var dirtyCheckableTypes = getDirtyCheckablePropertyTypes();
+		final var propertyAccesses = new PropertyAccess[dirtyCheckableTypes.length];
+		boolean anyCandidates = false;
+		for ( int i = 0; i < getNumberOfAttributeMappings(); i++ ) {
+			final var attributeMapping = getAttributeMapping( i );
+			final int position = attributeMapping.getStateArrayPosition();
+			if ( isDirtyCheckedByEquality( dirtyCheckableTypes[position] )
+					&& isAllTrue( propertyColumnUpdateable[position] ) ) {
+				propertyAccesses[position] = attributeMapping.getPropertyAccess();
+				anyCandidates = true;
+			}
+		}
+		return anyCandidates
+				? getFactory().getServiceRegistry().requireService( BytecodeProvider.class )
+						.getDirtyCheckOptimizer( getMappedClass(), propertyAccesses )
+				: null;
+	}
+
+	/**
+	 * Is the given type a basic type of immutable values compared by
+	 * {@link Object#equals}, whose values may be compared directly by
+	 * a {@link DirtyCheckOptimizer}?
+	 */
+	private static boolean isDirtyCheckedByEquality(@Nullable Type type) {
+		if ( type instanceof AbstractStandardBasicType<?> basicType
+				&& !basicType.isMutable() ) {
+			final var javaTypeClass = basicType.getJavaTypeDescriptor().getClass();
+			return javaTypeClass == StringJavaType.class
+				|| javaTypeClass == IntegerJavaType.class
+				|| javaTypeClass == LongJavaType.class
+				|| javaTypeClass == ShortJavaType.class
+				|| javaTypeClass == ByteJavaType.class
+				|| javaTypeClass == BooleanJavaType.class
+				|| javaTypeClass == CharacterJavaType.class
+				|| javaTypeClass == FloatJavaType.class
+				|| javaTypeClass == DoubleJavaType.class;
+		}
+		else {
+			return false;
+		}
 	}
 
 	protected GeneratedValuesMutationDelegate createInsertDelegate() {
@@ -3705,6 +3769,45 @@ public int[] findDirty(Object[] currentState, Object[] previousState, Object ent
 		}
 	}
 
+	/**
+	 * Locate the property-indices of all properties considered to be dirty,
+	 * comparing the properties handled by the {@link DirtyCheckOptimizer}
+	 * directly with the fields or getters of the given entity.
+	 *
+	 * @param entity The entity for which we are checking state dirtiness.
+	 * @param currentState The current state of the entity, which must reflect the entity.
+	 * @param previousState The previous state of the entity (the state to be checked against).
+	 * @param session The session in which the check is occurring.
+	 *
+	 * @return {@code null} or the indices of the dirty properties
+	 */
+	@Override
+	public int[] findDirtyInEntity(
+			Object entity,
+			Object[] currentState,
+			Object[] previousState,
+			SharedSessionContractImplementor session) {
+		final var optimizer = dirtyCheckOptimizer;
+		if ( optimizer == null ) {
+			return findDirty( currentState, previousState, entity, session );
+		}
+		else {
+			final int[] dirty = DirtyHelper.findDirty(
+					getDirtyCheckablePropertyTypes(),
+					optimizer,
+					entity,
+					currentState,
+					previousState,
+					propertyColumnUpdateable,
+					session
+			);
+			if ( dirty != null ) {
+				logDirtyProperties( dirty );
+			}
+			return dirty;
+		}
+	}
+
 	/**
 	 * Locate the property-indices of all properties considered to be dirty.
 	 *
@@ -6,6 +6,7 @@
 
 import org.hibernate.Internal;
 import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
+import org.hibernate.bytecode.spi.DirtyCheckOptimizer;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.tuple.NonIdentifierAttribute;
@@ -107,6 +108,49 @@ public static int[] findDirty(
 		return count == 0 ? null : ArrayHelper.trim( results, count );
 	}
 
+	/**
+	 * Determine if any of the given field values are dirty, returning an array containing
+	 * indices of the dirty fields, using the given {@link DirtyCheckOptimizer} to compare
+	 * the optimized properties of the entity directly with their baseline values.
+	 * <p>
+	 * If it is determined that no fields are dirty, null is returned.
+	 *
+	 * @param propertyTypes The property types that are dirty checkable. null entry for non-dirty checkable properties
+	 * @param optimizer The dirty check optimizer for the class of the entity
+	 * @param entity The entity, whose current state has not changed since it was read
+	 * @param currentState The current state of the entity
+	 * @param previousState The baseline state of the entity
+	 * @param includeColumns Columns to be included in the dirty checking, per property
+	 * @param session The session from which the dirty check request originated.
+	 *
+	 * @return Array containing indices of the dirty properties, or null if no properties considered dirty.
+	 */
+	public static int[] findDirty(
+			@Nullable Type[] propertyTypes,
+			final DirtyCheckOptimizer optimizer,
+			final Object entity,
+			final Object[] currentState,
+			final Object[] previousState,
+			final boolean[][] includeColumns,
+			final SharedSessionContractImplementor session) {
+		int span = propertyTypes.length;
+		final long optimizedDirty = optimizer.findDirty( entity, previousState );
+		int[] results = null;
+		int count = 0;
+		for ( int i = 0; i < span; i++ ) {
+			final boolean dirty = optimizer.isOptimized( i )
+					? ( optimizedDirty & ( 1L << i ) ) != 0
+					: isDirty( propertyTypes, currentState, previousState, includeColumns, session, i );
+			if ( dirty ) {
+				if ( results == null ) {
+					results = new int[span];
+				}
+				results[count++] = i;
+			}
+		}
+		return count == 0 ? null : ArrayHelper.trim( results, count );
+	}
+
 	private static boolean isDirty(
 			@Nullable Type[] propertyTypes,
 			Object[] currentState,
@@ -454,6 +454,31 @@ default void visitQuerySpaces(Consumer<String> querySpaceConsumer) {
 	 */
 	int[] findDirty(Object[] currentState, Object[] previousState, Object owner, SharedSessionContractImplementor session);
 
+	/**
+	 * Compare the current state of the given entity with the baseline snapshot
+	 * to determine if it is dirty. The given current snapshot must have been
+	 * obtained from the entity by {@link #getValues} and not modified since,
+	 * so that an implementation may compare some properties by reading their
+	 * values directly from the entity.
+	 *
+	 * @param entity The entity
+	 * @param currentState The current snapshot, as just read from the entity
+	 * @param previousState The baseline snapshot
+	 * @param session The originating session
+	 * @return The indices of all dirty properties, or null if no properties
+	 * were dirty.
+	 *
+	 * @since 7.2
+	 */
+	@Incubating
+	default int[] findDirtyInEntity(
+			Object entity,
+			Object[] currentState,
+			Object[] previousState,
+			SharedSessionContractImplementor session) {
+		return findDirty( currentState, previousState, entity, session );
+	}
+
 	/**
 	 * Compare the two snapshots to determine if they represent modified state.
 	 *
@@ -14,6 +14,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Flow;
 import java.util.stream.Stream;
 
 import org.hibernate.HibernateException;
@@ -1227,6 +1228,11 @@ public Stream<R> stream() {
 		return getResultStream();
 	}
 
+	@Override
+	public Flow.Publisher<R> publish() {
+		throw new UnsupportedOperationException( "publish() is not implemented for ProcedureCall/StoredProcedureQuery" );
+	}
+
 	public ResultSetMapping getResultSetMapping() {
 		return resultSetMapping;
 	}
@@ -179,6 +179,10 @@ else if ( !session.isConnected() ) {
 							+ entityName + "#" + id + "] - the owning session is disconnected" );
 				}
 				else {
+					final var fetchPlanObservation = session.getLoadQueryInfluencers().getFetchPlanObservation();
+					if ( fetchPlanObservation != null ) {
+						fetchPlanObservation.proxyInitialized( entityName );
+					}
 					target = session.immediateLoad( entityName, id );
 					initialized = true;
 					checkTargetState( session );
@@ -246,6 +250,10 @@ protected void permissiveInitialization() {
 			}
 		}
 		else if ( session.isOpenOrWaitingForAutoClose() && session.isConnected() ) {
+			final var fetchPlanObservation = session.getLoadQueryInfluencers().getFetchPlanObservation();
+			if ( fetchPlanObservation != null ) {
+				fetchPlanObservation.proxyInitialized( entityName );
+			}
 			target = session.immediateLoad( entityName, id );
 			initialized = true;
 			checkTargetState( session );
@@ -57,4 +57,24 @@ static Logger subLogger(String subName) {
 	@LogMessage(level = WARN)
 	@Message(value = "firstResult/maxResults specified with collection fetch; applying in memory", id = 90003004)
 	void firstOrMaxResultsSpecifiedWithCollectionFetch();
+
+	@LogMessage(level = INFO)
+	@Message(value = "Learned that association '%s' should be fetched by query: %s", id = 90003005)
+	void learnedFetchPlan(String association, String hql);
+
+	@LogMessage(level = WARN)
+	@Message(value = "Unable to prepare query plan during warmup: %s", id = 90003006)
+	void unableToWarmUpQueryPlan(String message);
+
+	@LogMessage(level = WARN)
+	@Message(value = "Unable to read queries from warmup file '%s': %s", id = 90003007)
+	void unableToReadQueryPlanWarmupFile(Object file, String message);
+
+	@LogMessage(level = WARN)
+	@Message(value = "Unable to write queries to warmup file '%s': %s", id = 90003008)
+	void unableToWriteQueryPlanWarmupFile(Object file, String message);
+
+	@LogMessage(level = WARN)
+	@Message(value = "Ignoring query with unknown result type in warmup file: %s", id = 90003009)
+	void ignoringQueryPlanWarmupQuery(String message);
 }
@@ -34,6 +34,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Flow;
 import java.util.stream.Stream;
 
 /**
@@ -199,6 +200,32 @@ default Stream<R> stream() {
 		return list().stream();
 	}
 
+	/**
+	 * Execute the query and return the query results as a {@link Flow.Publisher}
+	 * which respects the demand signalled by its subscriber. The query is executed
+	 * each time the publisher is subscribed, when the first result is requested.
+	 * Results are then read from the JDBC {@link java.sql.ResultSet} in chunks of
+	 * the {@linkplain #getFetchSize fetch size}, as they are requested.
+	 * <p>
+	 * Every entity loaded while reading a chunk of results, including entities
+	 * fetched along with the results, is detached from the persistence context once
+	 * the chunk has been read, so that the persistence context does not grow with
+	 * the number of results published. The subscriber must therefore not expect to
+	 * lazily fetch unfetched associations of a result. Entities which were already
+	 * associated with the session when the query was executed are not detached.
+	 * <p>
+	 * No thread is dedicated to the subscription. Instead, results are delivered
+	 * to the subscriber on the thread which calls {@link Flow.Subscription#request}.
+	 * Since a session is not thread-safe, results must not be requested while the
+	 * session is in use by another thread.
+	 *
+	 * @return The results as a {@link Flow.Publisher}
+	 *
+	 * @since 7.2
+	 */
+	@Incubating
+	Flow.Publisher<R> publish();
+
 	/**
 	 * Execute the query and return the single result of the query,
 	 * or {@code null} if the query returns no results.
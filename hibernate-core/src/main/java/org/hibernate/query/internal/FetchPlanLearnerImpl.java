@@ -0,0 +1,190 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.query.internal;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.hibernate.metamodel.mapping.PluralAttributeMapping;
+import org.hibernate.metamodel.mapping.internal.ToOneAttributeMapping;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.query.spi.FetchPlanLearner;
+
+import static java.util.Collections.unmodifiableMap;
+import static java.util.Collections.unmodifiableSet;
+import static org.hibernate.query.QueryLogging.QUERY_MESSAGE_LOGGER;
+
+/**
+ * Standard implementation of {@link FetchPlanLearner}.
+ * <p>
+ * An association is learned for a query once it has been initialized
+ * after at least {@code threshold} executions of the query, and after
+ * more than half of all executions of the query. A learned association
+ * is never forgotten, since, once it is fetched by the query, it is no
+ * longer initialized lazily.
+ *
+ * @since 7.2
+ */
+public class FetchPlanLearnerImpl implements FetchPlanLearner {
+
+	private final Map<String, Plan> plans = new ConcurrentHashMap<>();
+	private final int threshold;
+	private final int maxPlans;
+	private volatile boolean enabled = true;
+
+	public FetchPlanLearnerImpl(int threshold, int maxPlans) {
+		this.threshold = threshold;
+		this.maxPlans = maxPlans;
+	}
+
+	@Override
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	@Override
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	@Override
+	public Map<String, Set<String>> getLearnedFetchPlans() {
+		final Map<String, Set<String>> learnedFetchPlans = new TreeMap<>();
+		plans.forEach( (hql, plan) -> {
+			if ( !plan.learned.isEmpty() ) {
+				learnedFetchPlans.put( hql, unmodifiableSet( new TreeSet<>( plan.learned ) ) );
+			}
+		} );
+		return unmodifiableMap( learnedFetchPlans );
+	}
+
+	@Override
+	public void clear() {
+		plans.clear();
+	}
+
+	@Override
+	public @Nullable Observation observe(String hql, EntityPersister entityDescriptor) {
+		if ( !enabled ) {
+			return null;
+		}
+		final var plan = plan( hql, entityDescriptor );
+		if ( plan == null ) {
+			return null;
+		}
+		plan.executions.increment();
+		return new ObservationImpl( plan );
+	}
+
+	private @Nullable Plan plan(String hql, EntityPersister entityDescriptor) {
+		final var plan = plans.get( hql );
+		if ( plan != null && plan.entityDescriptor == entityDescriptor ) {
+			return plan;
+		}
+		else if ( plan == null && plans.size() < maxPlans ) {
+			return plans.computeIfAbsent( hql, key -> new Plan( key, entityDescriptor ) );
+		}
+		else {
+			// too many queries, or the same HQL returns
+			// a different entity in a different context
+			return null;
+		}
+	}
+
+	private final class Plan {
+		private final String hql;
+		private final EntityPersister entityDescriptor;
+		// the to-one association to each associated entity,
+		// or null if there is more than one such association
+		private final Map<String, @Nullable String> toOneAssociations = new HashMap<>();
+		private final LongAdder executions = new LongAdder();
+		private final Map<String, LongAdder> initializations = new ConcurrentHashMap<>();
+		private final Set<String> learned = ConcurrentHashMap.newKeySet();
+
+		private Plan(String hql, EntityPersister entityDescriptor) {
+			this.hql = hql;
+			this.entityDescriptor = entityDescriptor;
+			entityDescriptor.forEachAttributeMapping( attributeMapping -> {
+				if ( attributeMapping instanceof ToOneAttributeMapping toOne ) {
+					final String entityName = toOne.getAssociatedEntityMappingType().getEntityName();
+					toOneAssociations.put( entityName,
+							toOneAssociations.containsKey( entityName ) ? null : toOne.getAttributeName() );
+				}
+			} );
+		}
+
+		private void initialized(String association) {
+			final var count = initializations.computeIfAbsent( association, key -> new LongAdder() );
+			count.increment();
+			final long initializationCount = count.sum();
+			if ( initializationCount >= threshold
+					&& initializationCount * 2 > executions.sum()
+					&& learned.add( association ) ) {
+				QUERY_MESSAGE_LOGGER.learnedFetchPlan( association, hql );
+			}
+		}
+	}
+
+	private static final class ObservationImpl implements Observation {
+		private final Plan plan;
+		private final Set<String> initialized = new HashSet<>();
+
+		private ObservationImpl(Plan plan) {
+			this.plan = plan;
+		}
+
+		@Override
+		public Set<String> getLearnedAssociations() {
+			return plan.learned;
+		}
+
+		@Override
+		public void collectionInitialized(CollectionPersister collectionDescriptor) {
+			final var attributeMapping = collectionDescriptor.getAttributeMapping();
+			final String attributeName = attributeMapping.getAttributeName();
+			if ( plan.entityDescriptor.findAttributeMapping( attributeName )
+					instanceof PluralAttributeMapping pluralAttribute
+					&& pluralAttribute.getCollectionDescriptor().getRole()
+							.equals( collectionDescriptor.getRole() ) ) {
+				initialized( attributeName );
+			}
+		}
+
+		@Override
+		public void proxyInitialized(String entityName) {
+			final String attributeName = plan.toOneAssociations.get( entityName );
+			if ( attributeName != null ) {
+				initialized( attributeName );
+			}
+		}
+
+		@Override
+		public void attributeInitialized(String entityName, String attributeName) {
+			final var entityDescriptor = plan.entityDescriptor;
+			if ( entityDescriptor.isSubclassEntityName( entityName ) ) {
+				final var attributeMapping = entityDescriptor.findAttributeMapping( attributeName );
+				if ( attributeMapping instanceof ToOneAttributeMapping
+						|| attributeMapping instanceof PluralAttributeMapping ) {
+					initialized( attributeName );
+				}
+			}
+		}
+
+		private void initialized(String attributeName) {
+			// count each association once per execution
+			if ( !plan.learned.contains( attributeName ) && initialized.add( attributeName ) ) {
+				plan.initialized( attributeName );
+			}
+		}
+	}
+}
@@ -11,6 +11,8 @@
 import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.query.spi.NativeQueryInterpreter;
+import org.hibernate.event.monitor.internal.EmptyEventMonitor;
+import org.hibernate.event.monitor.spi.EventMonitor;
 import org.hibernate.internal.util.config.ConfigurationException;
 import org.hibernate.metamodel.MappingMetamodel;
 import org.hibernate.metamodel.model.domain.JpaMetamodel;
@@ -18,6 +20,7 @@
 import org.hibernate.query.hql.HqlTranslator;
 import org.hibernate.query.hql.internal.StandardHqlTranslator;
 import org.hibernate.query.named.NamedObjectRepository;
+import org.hibernate.query.spi.FetchPlanLearner;
 import org.hibernate.query.spi.QueryEngine;
 import org.hibernate.query.spi.QueryEngineOptions;
 import org.hibernate.query.spi.QueryInterpretationCache;
@@ -31,6 +34,7 @@
 import org.hibernate.service.ServiceRegistry;
 import org.hibernate.service.spi.ServiceRegistryImplementor;
 import org.hibernate.type.spi.TypeConfiguration;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.jboss.logging.Logger;
 
 import java.util.ArrayList;
@@ -38,9 +42,12 @@
 import java.util.Map;
 
 import static java.util.Comparator.comparingInt;
+import static org.hibernate.cfg.QuerySettings.FETCH_PLAN_LEARNING;
+import static org.hibernate.cfg.QuerySettings.FETCH_PLAN_LEARNING_THRESHOLD;
 import static org.hibernate.cfg.QuerySettings.QUERY_PLAN_CACHE_ENABLED;
 import static org.hibernate.cfg.QuerySettings.QUERY_PLAN_CACHE_MAX_SIZE;
 import static org.hibernate.internal.util.config.ConfigurationHelper.getBoolean;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getInt;
 import static org.hibernate.internal.util.config.ConfigurationHelper.getInteger;
 
 /**
@@ -59,6 +66,7 @@ public class QueryEngineImpl implements QueryEngine {
 	private final BindingContext bindingContext;
 	private final ClassLoaderService classLoaderService;
 	private final QueryInterpretationCache interpretationCache;
+	private final @Nullable FetchPlanLearner fetchPlanLearner;
 	private final NodeBuilder nodeBuilder;
 	private final HqlTranslator hqlTranslator;
 	private final SqmTranslatorFactory sqmTranslatorFactory;
@@ -71,14 +79,16 @@ public QueryEngineImpl(
 			BindingContext context,
 			ServiceRegistryImplementor serviceRegistry,
 			Map<String,Object> properties,
-			String name) {
+			String name,
+			EventMonitor eventMonitor) {
 		dialect = serviceRegistry.requireService( JdbcServices.class ).getDialect();
 		bindingContext = context;
 		typeConfiguration = metadata.getTypeConfiguration();
 		sqmFunctionRegistry = createFunctionRegistry( serviceRegistry, metadata, options, dialect );
 		sqmTranslatorFactory = resolveSqmTranslatorFactory( options, dialect );
 		namedObjectRepository = metadata.buildNamedQueryRepository();
-		interpretationCache = buildInterpretationCache( serviceRegistry, properties );
+		interpretationCache = buildInterpretationCache( serviceRegistry, properties, eventMonitor );
+		fetchPlanLearner = buildFetchPlanLearner( properties );
 		nativeQueryInterpreter = serviceRegistry.getService( NativeQueryInterpreter.class );
 		classLoaderService = serviceRegistry.getService( ClassLoaderService.class );
 		// here we have something nasty: we need to pass a reference to the current object to
@@ -170,8 +180,27 @@ private static List<FunctionContributor> sortedFunctionContributors(ServiceRegis
 		return contributors;
 	}
 
+	private static @Nullable FetchPlanLearner buildFetchPlanLearner(Map<String, Object> properties) {
+		if ( getBoolean( FETCH_PLAN_LEARNING, properties ) ) {
+			final int threshold = getInt( FETCH_PLAN_LEARNING_THRESHOLD, properties, 10 );
+			if ( threshold < 1 ) {
+				throw new ConfigurationException( "Inconsistent configuration: '" + FETCH_PLAN_LEARNING_THRESHOLD
+													+ "' must be set to a value greater than zero" );
+			}
+			return new FetchPlanLearnerImpl( threshold, DEFAULT_QUERY_PLAN_MAX_COUNT );
+		}
+		else {
+			return null;
+		}
+	}
+
 	public static QueryInterpretationCache buildInterpretationCache(
 			ServiceRegistry serviceRegistry, Map<String, Object> properties) {
+		return buildInterpretationCache( serviceRegistry, properties, new EmptyEventMonitor() );
+	}
+
+	public static QueryInterpretationCache buildInterpretationCache(
+			ServiceRegistry serviceRegistry, Map<String, Object> properties, EventMonitor eventMonitor) {
 		final boolean useCache = getBoolean(
 				QUERY_PLAN_CACHE_ENABLED,
 				properties,
@@ -202,7 +231,7 @@ public static QueryInterpretationCache buildInterpretationCache(
 		}
 
 		return useCache
-				? new QueryInterpretationCacheStandardImpl( appliedMaxPlanSize, serviceRegistry )
+				? new QueryInterpretationCacheStandardImpl( appliedMaxPlanSize, serviceRegistry, eventMonitor )
 				: new QueryInterpretationCacheDisabledImpl( serviceRegistry ); // disabled
 	}
 
@@ -251,6 +280,11 @@ public QueryInterpretationCache getInterpretationCache() {
 		return interpretationCache;
 	}
 
+	@Override
+	public @Nullable FetchPlanLearner getFetchPlanLearner() {
+		return fetchPlanLearner;
+	}
+
 	@Override
 	public SqmFunctionRegistry getSqmFunctionRegistry() {
 		return sqmFunctionRegistry;
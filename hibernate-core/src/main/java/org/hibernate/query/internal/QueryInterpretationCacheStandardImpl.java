@@ -5,9 +5,12 @@
 package org.hibernate.query.internal;
 
 import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
+import org.hibernate.event.monitor.internal.EmptyEventMonitor;
+import org.hibernate.event.monitor.spi.EventMonitor;
 import org.hibernate.internal.util.cache.InternalCache;
 import org.hibernate.internal.util.cache.InternalCacheFactory;
 import org.hibernate.query.QueryLogging;
@@ -43,15 +46,35 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 	private final InternalCache<Object, HqlInterpretation<?>> hqlInterpretationCache;
 	private final InternalCache<String, ParameterInterpretation> nativeQueryParamCache;
 
+	private final EventMonitor eventMonitor;
+
 	private StatisticsImplementor statistics;
 
 	public QueryInterpretationCacheStandardImpl(int maxQueryPlanCount, ServiceRegistry serviceRegistry) {
+		this( maxQueryPlanCount, serviceRegistry, new EmptyEventMonitor() );
+	}
+
+	public QueryInterpretationCacheStandardImpl(
+			int maxQueryPlanCount,
+			ServiceRegistry serviceRegistry,
+			EventMonitor eventMonitor) {
 		LOG.tracef( "Starting query interpretation cache (size %s)", maxQueryPlanCount );
 		final var cacheFactory = serviceRegistry.requireService( InternalCacheFactory.class );
-		this.queryPlanCache = cacheFactory.createInternalCache( maxQueryPlanCount );
-		this.hqlInterpretationCache = cacheFactory.createInternalCache( maxQueryPlanCount );
-		this.nativeQueryParamCache = cacheFactory.createInternalCache( maxQueryPlanCount );
+		this.queryPlanCache = cacheFactory.createInternalCache( maxQueryPlanCount,
+				key -> evicted( QUERY_PLAN_CACHE_NAME ) );
+		this.hqlInterpretationCache = cacheFactory.createInternalCache( maxQueryPlanCount,
+				key -> evicted( HQL_INTERPRETATION_CACHE_NAME ) );
+		this.nativeQueryParamCache = cacheFactory.createInternalCache( maxQueryPlanCount,
+				key -> evicted( NATIVE_QUERY_PARAMETER_CACHE_NAME ) );
 		this.serviceRegistry = serviceRegistry;
+		this.eventMonitor = eventMonitor;
+	}
+
+	private void evicted(String cacheName) {
+		final var statistics = getStatistics();
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.internalCacheEviction( cacheName );
+		}
 	}
 
 	@Override
@@ -91,6 +114,7 @@ public <K extends Key, R> SelectQueryPlan<R> resolveSelectQueryPlan(
 		if ( cached != null ) {
 			if ( statisticsEnabled ) {
 				statistics.queryPlanCacheHit( key.getQueryString() );
+				statistics.internalCacheHit( QUERY_PLAN_CACHE_NAME );
 			}
 			return cached;
 		}
@@ -99,6 +123,7 @@ public <K extends Key, R> SelectQueryPlan<R> resolveSelectQueryPlan(
 		queryPlanCache.put( key.prepareForStore(), plan );
 		if ( statisticsEnabled ) {
 			statistics.queryPlanCacheMiss( key.getQueryString() );
+			statistics.internalCacheMiss( QUERY_PLAN_CACHE_NAME );
 		}
 		return plan;
 	}
@@ -119,6 +144,7 @@ public <R> HqlInterpretation<R> resolveHqlInterpretation(
 			HqlTranslator translator) {
 		LOG.tracef( "Resolving HQL interpretation for [%s]", queryString );
 		final var statistics = getStatistics();
+		final var interpretationEvent = eventMonitor.beginQueryInterpretationEvent();
 
 		final Object cacheKey =
 				expectedResultType != null
@@ -129,7 +155,9 @@ public <R> HqlInterpretation<R> resolveHqlInterpretation(
 		if ( existing != null ) {
 			if ( statistics.isStatisticsEnabled() ) {
 				statistics.queryPlanCacheHit( queryString );
+				statistics.internalCacheHit( HQL_INTERPRETATION_CACHE_NAME );
 			}
+			eventMonitor.completeQueryInterpretationEvent( interpretationEvent, queryString, true );
 			//noinspection unchecked
 			return (HqlInterpretation<R>) existing;
 		}
@@ -138,15 +166,21 @@ else if ( expectedResultType != null ) {
 			if ( existingQueryOnly != null ) {
 				if ( statistics.isStatisticsEnabled() ) {
 					statistics.queryPlanCacheHit( queryString );
+					statistics.internalCacheHit( HQL_INTERPRETATION_CACHE_NAME );
 				}
+				eventMonitor.completeQueryInterpretationEvent( interpretationEvent, queryString, true );
 				//noinspection unchecked
 				return (HqlInterpretation<R>) existingQueryOnly;
 			}
 		}
 
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.internalCacheMiss( HQL_INTERPRETATION_CACHE_NAME );
+		}
 		final var hqlInterpretation =
 				createHqlInterpretation( queryString, expectedResultType, translator, statistics );
 		hqlInterpretationCache.put( cacheKey, hqlInterpretation );
+		eventMonitor.completeQueryInterpretationEvent( interpretationEvent, queryString, false );
 		return hqlInterpretation;
 	}
 
@@ -155,6 +189,18 @@ public <R> void cacheHqlInterpretation(Object cacheKey, HqlInterpretation<R> hql
 		hqlInterpretationCache.put( cacheKey, hqlInterpretation );
 	}
 
+	@Override
+	public void visitCachedHqlInterpretations(BiConsumer<String, Class<?>> action) {
+		hqlInterpretationCache.forEachKey( key -> {
+			if ( key instanceof HqlInterpretationCacheKey cacheKey ) {
+				action.accept( cacheKey.queryString(), cacheKey.expectedResultType() );
+			}
+			else if ( key instanceof String queryString ) {
+				action.accept( queryString, null );
+			}
+		} );
+	}
+
 	protected static <R> HqlInterpretation<R> createHqlInterpretation(
 			String queryString,
 			Class<R> expectedResultType,
@@ -190,7 +236,24 @@ public ParameterInterpretation resolveNativeQueryParameters(
 			String queryString,
 			Function<String, ParameterInterpretation> creator) {
 		LOG.tracef( "Resolving native query parameters for [%s]", queryString );
-		return nativeQueryParamCache.computeIfAbsent( queryString, creator );
+		final var statistics = getStatistics();
+		if ( statistics.isStatisticsEnabled() ) {
+			final boolean[] created = new boolean[1];
+			final var interpretation = nativeQueryParamCache.computeIfAbsent( queryString, key -> {
+				created[0] = true;
+				return creator.apply( key );
+			} );
+			if ( created[0] ) {
+				statistics.internalCacheMiss( NATIVE_QUERY_PARAMETER_CACHE_NAME );
+			}
+			else {
+				statistics.internalCacheHit( NATIVE_QUERY_PARAMETER_CACHE_NAME );
+			}
+			return interpretation;
+		}
+		else {
+			return nativeQueryParamCache.computeIfAbsent( queryString, creator );
+		}
 	}
 
 	@Override
@@ -0,0 +1,190 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.query.internal;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.hibernate.HibernateException;
+import org.hibernate.Incubating;
+import org.hibernate.ScrollableResults;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link Flow.Publisher} of the results of a query, backed by
+ * {@link ScrollableResults}. The query is executed when the first
+ * results are requested by a subscriber, and rows are read from the
+ * underlying JDBC {@link java.sql.ResultSet} in chunks, as demanded
+ * by the subscriber.
+ * <p>
+ * No thread is dedicated to the subscription: signals are delivered
+ * synchronously on the thread which calls {@link Flow.Subscription#request}.
+ * Since a session is not thread-safe, the subscriber must not request
+ * results concurrently with other work in the same session.
+ *
+ * @since 7.2
+ */
+@Incubating
+public class ScrollableResultsPublisher<R> implements Flow.Publisher<R> {
+	/**
+	 * The chunk size used when the query does not specify a fetch size.
+	 */
+	public static final int DEFAULT_CHUNK_SIZE = 64;
+
+	private final Supplier<? extends ScrollableResults<R>> scroller;
+	private final int chunkSize;
+	private final @Nullable Supplier<? extends Runnable> detacher;
+
+	/**
+	 * @param scroller Executes the query
+	 * @param chunkSize The maximum number of rows read from the results at once,
+	 *                  or null to use the {@linkplain #DEFAULT_CHUNK_SIZE default}
+	 * @param detacher If not null, called just before the query is executed, and
+	 *                 returns an action called after each chunk of rows is read, so
+	 *                 that the entities loaded with the chunk do not remain in the
+	 *                 persistence context
+	 */
+	public ScrollableResultsPublisher(
+			Supplier<? extends ScrollableResults<R>> scroller,
+			@Nullable Integer chunkSize,
+			@Nullable Supplier<? extends Runnable> detacher) {
+		this.scroller = scroller;
+		this.chunkSize = chunkSize == null || chunkSize < 1 ? DEFAULT_CHUNK_SIZE : chunkSize;
+		this.detacher = detacher;
+	}
+
+	@Override
+	public void subscribe(Flow.Subscriber<? super R> subscriber) {
+		requireNonNull( subscriber, "Subscriber must not be null" );
+		subscriber.onSubscribe( new ScrollableResultsSubscription( subscriber ) );
+	}
+
+	private class ScrollableResultsSubscription implements Flow.Subscription {
+		private final Flow.Subscriber<? super R> subscriber;
+		private final Queue<R> chunk = new ArrayDeque<>();
+		private final AtomicLong demand = new AtomicLong();
+		// guards against reentrant calls from onNext()
+		private final AtomicInteger workInProgress = new AtomicInteger();
+		private volatile boolean cancelled;
+		private volatile @Nullable Throwable invalidRequest;
+		private @Nullable ScrollableResults<R> results;
+		private @Nullable Runnable chunkDetacher;
+		private boolean exhausted;
+		private boolean done;
+
+		private ScrollableResultsSubscription(Flow.Subscriber<? super R> subscriber) {
+			this.subscriber = subscriber;
+		}
+
+		@Override
+		public void request(long n) {
+			if ( n <= 0 ) {
+				invalidRequest = new IllegalArgumentException( "Requested number of results must be positive: " + n );
+			}
+			else {
+				demand.accumulateAndGet( n, (current, requested) -> {
+					final long sum = current + requested;
+					return sum < 0 ? Long.MAX_VALUE : sum;
+				} );
+			}
+			drain();
+		}
+
+		@Override
+		public void cancel() {
+			cancelled = true;
+			drain();
+		}
+
+		private void drain() {
+			if ( workInProgress.getAndIncrement() == 0 ) {
+				int missed = 1;
+				do {
+					emit();
+					missed = workInProgress.addAndGet( -missed );
+				}
+				while ( missed != 0 );
+			}
+		}
+
+		private void emit() {
+			if ( done ) {
+				return;
+			}
+			else if ( cancelled ) {
+				finish();
+				return;
+			}
+			else if ( invalidRequest != null ) {
+				finish();
+				subscriber.onError( invalidRequest );
+				return;
+			}
+			try {
+				while ( demand.get() > 0 && !cancelled ) {
+					if ( chunk.isEmpty() ) {
+						if ( !exhausted ) {
+							readChunk();
+						}
+						if ( chunk.isEmpty() ) {
+							finish();
+							subscriber.onComplete();
+							return;
+						}
+					}
+					demand.decrementAndGet();
+					subscriber.onNext( chunk.remove() );
+				}
+				if ( cancelled ) {
+					finish();
+				}
+			}
+			catch (RuntimeException e) {
+				finish();
+				subscriber.onError( e );
+			}
+		}
+
+		private void readChunk() {
+			if ( results == null ) {
+				if ( detacher != null ) {
+					chunkDetacher = detacher.get();
+				}
+				results = scroller.get();
+			}
+			for ( int i = 0; i < chunkSize; i++ ) {
+				if ( !results.next() ) {
+					// release the JDBC resources early
+					exhausted = true;
+					results.close();
+					break;
+				}
+				final R row = results.get();
+				if ( row == null ) {
+					// forbidden by the Flow specification
+					throw new HibernateException( "Query returned a null result, which cannot be published" );
+				}
+				chunk.add( row );
+			}
+			if ( chunkDetacher != null ) {
+				chunkDetacher.run();
+			}
+		}
+
+		private void finish() {
+			done = true;
+			chunk.clear();
+			if ( results != null ) {
+				results.close();
+			}
+		}
+	}
+}
@@ -66,6 +66,7 @@
 import static org.hibernate.jpa.HibernateHints.HINT_FLUSH_MODE;
 import static org.hibernate.jpa.HibernateHints.HINT_FOLLOW_ON_LOCKING;
 import static org.hibernate.jpa.HibernateHints.HINT_FOLLOW_ON_STRATEGY;
+import static org.hibernate.jpa.HibernateHints.HINT_KEYSET_PAGINATION;
 import static org.hibernate.jpa.HibernateHints.HINT_NATIVE_SPACES;
 import static org.hibernate.jpa.HibernateHints.HINT_QUERY_DATABASE;
 import static org.hibernate.jpa.HibernateHints.HINT_QUERY_PLAN_CACHEABLE;
@@ -303,6 +304,15 @@ public final boolean applyHint(String hintName, Object value) {
 		}
 	}
 
+	/**
+	 * Apply the {@value org.hibernate.jpa.HibernateHints#HINT_KEYSET_PAGINATION} hint.
+	 *
+	 * @return {@code true} if this query supports transparent key-based pagination
+	 */
+	protected boolean applyKeysetPaginationHint(boolean enabled) {
+		return false;
+	}
+
 	protected void applySynchronizeSpacesHint(Object value) {
 		throw new IllegalArgumentException( "Query spaces hint was specified for non-native query" );
 	}
@@ -323,6 +333,8 @@ protected final boolean applySelectionHint(String hintName, Object value) {
 				case HINT_QUERY_PLAN_CACHEABLE:
 					queryOptions.setQueryPlanCachingEnabled( getBoolean( value ) );
 					return true;
+				case HINT_KEYSET_PAGINATION:
+					return applyKeysetPaginationHint( getBoolean( value ) );
 				case HINT_CACHEABLE:
 					queryOptions.setResultCachingEnabled( getBoolean( value ) );
 					return true;
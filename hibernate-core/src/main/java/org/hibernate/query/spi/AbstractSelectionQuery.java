@@ -5,6 +5,7 @@
 package org.hibernate.query.spi;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Collection;
 import java.util.Date;
@@ -12,6 +13,8 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Flow;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -22,6 +25,7 @@
 import org.hibernate.Internal;
 import org.hibernate.Locking;
 import org.hibernate.ScrollableResults;
+import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.query.QueryFlushMode;
 import org.hibernate.HibernateException;
@@ -39,6 +43,7 @@
 import org.hibernate.query.QueryParameter;
 import org.hibernate.query.SelectionQuery;
 import org.hibernate.query.internal.ScrollableResultsIterator;
+import org.hibernate.query.internal.ScrollableResultsPublisher;
 import org.hibernate.query.named.NamedQueryMemento;
 import org.hibernate.sql.exec.internal.CallbackImpl;
 import org.hibernate.sql.exec.spi.Callback;
@@ -271,6 +276,50 @@ public Stream<R> stream() {
 		return StreamSupport.stream( spliterator, false ).onClose( results::close );
 	}
 
+	@Override
+	public Flow.Publisher<R> publish() {
+		return new ScrollableResultsPublisher<>(
+				() -> scroll( ScrollMode.FORWARD_ONLY ),
+				getFetchSize(),
+				getSession() instanceof SessionImplementor session ? () -> detacher( session ) : null
+		);
+	}
+
+	/**
+	 * Called just before the query is executed, returns an action which evicts
+	 * every entity loaded since then from the persistence context of the given
+	 * session, including entities fetched along with the results, except for
+	 * those which were already associated with the session, and which might
+	 * have unflushed changes.
+	 */
+	private static Runnable detacher(SessionImplementor session) {
+		final var persistenceContext = session.getPersistenceContextInternal();
+		final var entityHolders = persistenceContext.getEntityHoldersByKey();
+		final Set<EntityKey> alreadyManaged =
+				entityHolders == null || entityHolders.isEmpty()
+						? Set.of()
+						: Set.copyOf( entityHolders.keySet() );
+		return () -> {
+			final var holders = persistenceContext.getEntityHoldersByKey();
+			if ( holders != null && !holders.isEmpty() ) {
+				final List<Object> loaded = new ArrayList<>();
+				for ( var entry : holders.entrySet() ) {
+					if ( !alreadyManaged.contains( entry.getKey() ) ) {
+						final Object managed = entry.getValue().getManagedObject();
+						if ( managed != null ) {
+							loaded.add( managed );
+						}
+					}
+				}
+				// evicting an entity may cascade to other
+				// entities, which are then already detached
+				for ( Object entity : loaded ) {
+					session.evict( entity );
+				}
+			}
+		};
+	}
+
 	@Override
 	public R uniqueResult() {
 		return uniqueElement( list() );
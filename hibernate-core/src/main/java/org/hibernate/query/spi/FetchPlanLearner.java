@@ -0,0 +1,87 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.query.spi;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.hibernate.Incubating;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * Learns which associations of the entities returned by an HQL query are
+ * usually initialized after the query is executed, so that later executions
+ * of the query can fetch them up front. A learned to-one association is
+ * fetched using a join, and a learned collection is fetched using a
+ * subselect.
+ * <p>
+ * Only associations belonging to the single entity returned by the query are
+ * considered. A lazy association is attributed to the query most recently
+ * executed in the session which returned its owning entity type.
+ *
+ * @see org.hibernate.cfg.QuerySettings#FETCH_PLAN_LEARNING
+ *
+ * @since 7.2
+ */
+@Incubating
+public interface FetchPlanLearner {
+
+	/**
+	 * Whether learned fetch plans are being recorded and applied.
+	 */
+	boolean isEnabled();
+
+	/**
+	 * Stop, or resume, recording and applying learned fetch plans.
+	 * Disabling the learner does not forget the plans learned so far.
+	 */
+	void setEnabled(boolean enabled);
+
+	/**
+	 * The names of the associations which are fetched by each query,
+	 * keyed by the HQL query string.
+	 */
+	Map<String, Set<String>> getLearnedFetchPlans();
+
+	/**
+	 * Forget all observations and learned fetch plans.
+	 */
+	void clear();
+
+	/**
+	 * Begin observing an execution of the given HQL query, which returns
+	 * instances of the given entity.
+	 *
+	 * @return the observation, or {@code null} if the query is not observed
+	 */
+	@Nullable Observation observe(String hql, EntityPersister entityDescriptor);
+
+	/**
+	 * Records the lazy associations initialized after an execution of a query.
+	 */
+	interface Observation {
+		/**
+		 * The names of the associations already learned for the query.
+		 */
+		Set<String> getLearnedAssociations();
+
+		/**
+		 * A collection was initialized.
+		 */
+		void collectionInitialized(CollectionPersister collectionDescriptor);
+
+		/**
+		 * A proxy for an instance of the given entity was initialized.
+		 */
+		void proxyInitialized(String entityName);
+
+		/**
+		 * A lazy attribute of an instance of the given entity was initialized.
+		 */
+		void attributeInitialized(String entityName, String attributeName);
+	}
+}
@@ -0,0 +1,72 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.query.spi;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.hibernate.Incubating;
+
+/**
+ * Remembers, for each query executed by a session with the hint
+ * {@value org.hibernate.jpa.HibernateHints#HINT_KEYSET_PAGINATION},
+ * the key of the last row of the page of results most recently read,
+ * so that a request for the following page may be executed with a
+ * restriction on the key, instead of with an offset.
+ * <p>
+ * Only the most recently paginated queries are remembered. This object
+ * is not thread-safe, since it belongs to a single session.
+ *
+ * @see org.hibernate.engine.spi.SharedSessionContractImplementor#getKeysetPaginationMemory()
+ *
+ * @since 7.2
+ */
+@Incubating
+public final class KeysetPaginationMemory {
+	private static final int MAX_QUERIES = 64;
+
+	private record Position(int offset, List<Comparable<?>> key) {
+	}
+
+	private final Map<Object, Position> positions =
+			new LinkedHashMap<>( 16, 0.75f, true ) {
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<Object, Position> eldest) {
+					return size() > MAX_QUERIES;
+				}
+			};
+
+	/**
+	 * The key of the last row on the page of results preceding the given offset.
+	 *
+	 * @param query Identifies the query, its arguments, and its page size
+	 * @param offset The offset of the first row of the requested page
+	 *
+	 * @return the key, or {@code null} if the preceding page was not the
+	 *         last page of results of the query read by this session
+	 */
+	public @Nullable List<Comparable<?>> getKey(Object query, int offset) {
+		final var position = positions.get( query );
+		return position != null && position.offset == offset ? position.key : null;
+	}
+
+	/**
+	 * Remember the key of the last row on the page of results preceding
+	 * the given offset.
+	 */
+	public void remember(Object query, int offset, List<Comparable<?>> key) {
+		positions.put( query, new Position( offset, key ) );
+	}
+
+	/**
+	 * Forget the position of the given query, for example, because its
+	 * last page of results has been read.
+	 */
+	public void forget(Object query) {
+		positions.remove( query );
+	}
+}
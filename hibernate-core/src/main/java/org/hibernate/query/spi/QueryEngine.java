@@ -4,6 +4,7 @@
  */
 package org.hibernate.query.spi;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.hibernate.Incubating;
 import org.hibernate.Internal;
 import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
@@ -57,6 +58,19 @@ public interface QueryEngine extends BindingContext {
 	@Internal
 	ClassLoaderService getClassLoaderService();
 
+	/**
+	 * The {@link FetchPlanLearner}, or {@code null} if
+	 * {@value org.hibernate.cfg.QuerySettings#FETCH_PLAN_LEARNING}
+	 * is not enabled.
+	 *
+	 * @since 7.2
+	 */
+	@Incubating
+	default @Nullable FetchPlanLearner getFetchPlanLearner() {
+		//For backward compatibility
+		return null;
+	}
+
 	default <R> HqlInterpretation<R> interpretHql(String hql, Class<R> resultType) {
 		return getInterpretationCache().resolveHqlInterpretation( hql, resultType, getHqlTranslator() );
 	}
@@ -4,6 +4,7 @@
  */
 package org.hibernate.query.spi;
 
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -23,6 +24,23 @@
  */
 @Incubating
 public interface QueryInterpretationCache {
+	/**
+	 * The name under which {@linkplain org.hibernate.stat.Statistics#getInternalCacheStatistics
+	 * statistics} of the cache of {@link SelectQueryPlan}s are reported.
+	 */
+	String QUERY_PLAN_CACHE_NAME = "query-plan";
+
+	/**
+	 * The name under which statistics of the cache of {@link HqlInterpretation}s are reported.
+	 */
+	String HQL_INTERPRETATION_CACHE_NAME = "hql-interpretation";
+
+	/**
+	 * The name under which statistics of the cache of {@link ParameterInterpretation}s
+	 * of native queries are reported.
+	 */
+	String NATIVE_QUERY_PARAMETER_CACHE_NAME = "native-query-parameter";
+
 	interface Key {
 		/**
 		 * The possibility for a cache key to do defensive copying in case it has mutable state.
@@ -44,6 +62,16 @@ static Key createInterpretationsKey(InterpretationsKeySource keySource) {
 	<R> HqlInterpretation<R> resolveHqlInterpretation(String queryString, Class<R> expectedResultType, HqlTranslator translator);
 	<R> void cacheHqlInterpretation(Object cacheKey, HqlInterpretation<R> hqlInterpretation);
 
+	/**
+	 * Visit the HQL query strings, along with the expected result type, if any,
+	 * of the {@linkplain HqlInterpretation interpretations} currently held in
+	 * the cache.
+	 *
+	 * @since 7.2
+	 */
+	default void visitCachedHqlInterpretations(BiConsumer<String, Class<?>> action) {
+	}
+
 	<R> SelectQueryPlan<R> resolveSelectQueryPlan(Key key, Supplier<SelectQueryPlan<R>> creator);
 	default <K extends Key, R> SelectQueryPlan<R> resolveSelectQueryPlan(K key, Function<K, SelectQueryPlan<R>> creator) {
 		return resolveSelectQueryPlan( key, () -> creator.apply( key ) );
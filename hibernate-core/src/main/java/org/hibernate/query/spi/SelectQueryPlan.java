@@ -47,4 +47,12 @@
 	 */
 	ScrollableResultsImplementor<R> performScroll(ScrollMode scrollMode, DomainQueryExecutionContext executionContext);
 
+	/**
+	 * Prepare the plan for execution, without executing the query,
+	 * for example, by translating the query to SQL.
+	 *
+	 * @since 7.2
+	 */
+	default void prepare(DomainQueryExecutionContext executionContext) {
+	}
 }
@@ -7,12 +7,20 @@
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.hibernate.HibernateException;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.graph.GraphSemantic;
+import org.hibernate.graph.internal.RootGraphImpl;
+import org.hibernate.graph.spi.RootGraphImplementor;
+import org.hibernate.metamodel.mapping.PluralAttributeMapping;
+import org.hibernate.metamodel.model.domain.EntityDomainType;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.query.spi.FetchPlanLearner;
 import org.hibernate.query.spi.QueryParameterImplementor;
 import org.hibernate.query.sqm.tree.expression.JpaCriteriaParameter;
 import org.hibernate.query.sqm.tree.expression.ValueBindJpaCriteriaParameter;
 import org.hibernate.type.BindableType;
 import org.hibernate.query.KeyedPage;
 import org.hibernate.query.KeyedResultList;
+import org.hibernate.query.Order;
 import org.hibernate.query.Page;
 import org.hibernate.query.SelectionQuery;
 import org.hibernate.query.hql.internal.QuerySplitter;
@@ -26,17 +34,26 @@
 import org.hibernate.query.sqm.spi.NamedSqmQueryMemento;
 import org.hibernate.query.sqm.tree.SqmStatement;
 import org.hibernate.query.sqm.tree.expression.SqmJpaCriteriaParameterWrapper;
+import org.hibernate.query.sqm.tree.from.SqmRoot;
+import org.hibernate.query.sqm.tree.select.SqmQuerySpec;
 import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
 import org.hibernate.query.sqm.tree.select.SqmSelection;
 import org.hibernate.sql.results.internal.TupleMetadata;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import jakarta.persistence.TupleElement;
 import jakarta.persistence.criteria.CompoundSelection;
 
 import static org.hibernate.cfg.QuerySettings.FAIL_ON_PAGINATION_OVER_COLLECTION_FETCH;
+import static org.hibernate.jpa.HibernateHints.HINT_KEYSET_PAGINATION;
 import static org.hibernate.query.KeyedPage.KeyInterpretation.KEY_OF_FIRST_ON_NEXT_PAGE;
+import static org.hibernate.query.KeyedPage.KeyInterpretation.KEY_OF_LAST_ON_PREVIOUS_PAGE;
+import static org.hibernate.query.sqm.internal.KeyBasedPagination.inferKeyDefinition;
 import static org.hibernate.query.QueryLogging.QUERY_MESSAGE_LOGGER;
 import static org.hibernate.query.sqm.internal.KeyedResult.collectKeys;
 import static org.hibernate.query.sqm.internal.KeyedResult.collectResults;
@@ -48,12 +65,28 @@
  */
 abstract class AbstractSqmSelectionQuery<R> extends AbstractSelectionQuery<R> {
 
+	private boolean keysetPagination;
+
+	// the to-one associations learned for this query, and fetched
+	// by the graph applied to it, while the query is executing
+	private @Nullable Set<String> learnedFetchPlan;
+
+	/**
+	 * Identifies a query, its arguments, and its page size, for
+	 * {@linkplain org.hibernate.query.spi.KeysetPaginationMemory
+	 * transparent key-based pagination}.
+	 */
+	private record KeysetPaginatedQuery(Object query, Object parameterBindings, int pageSize) {
+	}
+
 	AbstractSqmSelectionQuery(SharedSessionContractImplementor session) {
 		super(session);
 	}
 
 	AbstractSqmSelectionQuery(AbstractSqmSelectionQuery<?> original) {
 		super( original );
+		// the copy shares our QueryOptions, and so the learned graph
+		learnedFetchPlan = original.learnedFetchPlan;
 	}
 
 	protected int max(boolean hasLimit, SqmSelectStatement<?> sqmStatement, List<R> list) {
@@ -97,9 +130,127 @@ protected void errorOrLogForPaginationWithCollectionFetch() {
 		}
 	}
 
+	@Override
+	public List<R> list() {
+		final var influencers = getSession().getLoadQueryInfluencers();
+		// lazy initializations which happen from now on are
+		// no longer attributed to the previously executed query
+		influencers.setFetchPlanObservation( null );
+		final var learner = getSessionFactory().getQueryEngine().getFetchPlanLearner();
+		final var root = learner == null || !learner.isEnabled() ? null : fetchPlanRoot();
+		if ( root == null ) {
+			return super.list();
+		}
+		else {
+			final var entityDescriptor =
+					getSessionFactory().getMappingMetamodel()
+							.getEntityDescriptor( root.getEntityName() );
+			final var observation = learner.observe( getQueryString(), entityDescriptor );
+			if ( observation == null ) {
+				return super.list();
+			}
+			else {
+				applyLearnedFetchPlan( observation, entityDescriptor, root.getModel() );
+				try {
+					final List<R> result = super.list();
+					influencers.setFetchPlanObservation( observation );
+					return result;
+				}
+				finally {
+					// only the entities loaded by this query have
+					// subselects registered for learned collections
+					influencers.endLearnedSubselectFetch();
+					if ( learnedFetchPlan != null ) {
+						learnedFetchPlan = null;
+						getQueryOptions().applyGraph( null, null );
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * The root entity returned by this query, if the query is an HQL query
+	 * which returns a single entity, and so may be observed by the
+	 * {@link FetchPlanLearner}.
+	 */
+	private @Nullable SqmRoot<?> fetchPlanRoot() {
+		if ( !CRITERIA_HQL_STRING.equals( getQueryString() )
+				&& getSqmStatement() instanceof SqmSelectStatement<R> statement
+				&& statement.getQueryPart() instanceof SqmQuerySpec<?> querySpec ) {
+			final var selections = querySpec.getSelectClause().getSelections();
+			if ( selections.size() == 1
+					&& selections.get( 0 ).getSelectableNode() instanceof SqmRoot<?> root ) {
+				return root;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Fetch the associations learned for this query: to-one associations
+	 * using a {@linkplain GraphSemantic#LOAD load graph}, unless a graph
+	 * was already applied to the query, and collections using subselects
+	 * registered for the entities loaded by this execution of the query.
+	 */
+	private void applyLearnedFetchPlan(
+			FetchPlanLearner.Observation observation,
+			EntityPersister entityDescriptor,
+			EntityDomainType<?> entityType) {
+		final var learnedAssociations = observation.getLearnedAssociations();
+		if ( !learnedAssociations.isEmpty() ) {
+			final boolean canApplyGraph = !hasAppliedGraph( getQueryOptions() );
+			final Set<String> toOneAssociations = new HashSet<>();
+			for ( String association : learnedAssociations ) {
+				final var attributeMapping = entityDescriptor.findAttributeMapping( association );
+				if ( attributeMapping instanceof PluralAttributeMapping pluralAttributeMapping ) {
+					getSession().getLoadQueryInfluencers()
+							.beginLearnedSubselectFetch( pluralAttributeMapping.getCollectionDescriptor() );
+				}
+				else if ( canApplyGraph ) {
+					toOneAssociations.add( association );
+				}
+			}
+			if ( !toOneAssociations.isEmpty() ) {
+				final RootGraphImplementor<?> graph = new RootGraphImpl<>( null, entityType );
+				for ( String association : toOneAssociations ) {
+					graph.findOrCreateAttributeNode( association );
+				}
+				applyGraph( graph, GraphSemantic.LOAD );
+				// the query plan for the graph is cached under a key
+				// which includes the learned to-one associations
+				learnedFetchPlan = Set.copyOf( toOneAssociations );
+			}
+		}
+	}
+
+	public @Nullable Set<String> learnedFetchPlan() {
+		return learnedFetchPlan;
+	}
+
 	public abstract SqmStatement<R> getSqmStatement();
+	public abstract Object getQueryStringCacheKey();
 	protected abstract void setSqmStatement(SqmSelectStatement<R> statement);
 	public abstract DomainParameterXref getDomainParameterXref();
+
+	protected abstract SelectQueryPlan<R> resolveSelectQueryPlan();
+
+	/**
+	 * Translate this query to SQL and cache the resulting plan,
+	 * without executing the query.
+	 *
+	 * @see SessionFactoryObserverForQueryPlanWarmup
+	 *
+	 * @since 7.2
+	 */
+	void prepareSelectQueryPlan() {
+		resolveSelectQueryPlan().prepare( this );
+	}
+
+	public int @Nullable [] multiValuedParameterShape() {
+		return SqmUtil.multiValuedParameterShape( getDomainParameterXref(), getQueryParameterBindings(),
+				getSessionFactory() );
+	}
 	public abstract TupleMetadata getTupleMetadata();
 
 	protected void copyParameterBindings(QueryParameterBindings oldParameterBindings) {
@@ -218,6 +369,92 @@ public KeyedResultList<R> getKeyedResultList(KeyedPage<R> keyedPage) {
 		);
 	}
 
+	@Override
+	protected boolean applyKeysetPaginationHint(boolean enabled) {
+		keysetPagination = enabled;
+		return true;
+	}
+
+	@Override
+	protected void collectHints(Map<String, Object> hints) {
+		super.collectHints( hints );
+		if ( keysetPagination ) {
+			hints.put( HINT_KEYSET_PAGINATION, true );
+		}
+	}
+
+	/**
+	 * If {@value org.hibernate.jpa.HibernateHints#HINT_KEYSET_PAGINATION}
+	 * was specified, and the query has a page size and a unique ordering,
+	 * execute the query using key-based pagination, restricting the results
+	 * by the key of the last row of the previous page when this session has
+	 * just read the previous page, or using the offset otherwise.
+	 *
+	 * @return the results, or {@code null} if key-based pagination does not
+	 *         apply to this query
+	 */
+	protected @Nullable List<R> listUsingKeysetPagination() {
+		if ( !keysetPagination
+				// a learned graph only fetches to-one associations
+				|| hasAppliedGraph( getQueryOptions() ) && learnedFetchPlan == null
+				|| !( getSqmStatement() instanceof SqmSelectStatement<R> statement ) ) {
+			return null;
+		}
+		final var limit = getQueryOptions().getLimit();
+		final Integer firstRow = limit.getFirstRow();
+		final Integer maxRows = limit.getMaxRows();
+		if ( maxRows == null || maxRows <= 0 ) {
+			return null;
+		}
+		final List<Order<? super R>> keyDefinition = inferKeyDefinition( statement );
+		if ( keyDefinition == null ) {
+			// the ordering is not unique
+			return null;
+		}
+
+		final var session = getSession();
+		final var memory = session.getKeysetPaginationMemory();
+		final var query = new KeysetPaginatedQuery(
+				getQueryStringCacheKey(),
+				getQueryParameterBindings().generateQueryKeyMemento( session ),
+				maxRows
+		);
+		final int offset = firstRow == null ? 0 : firstRow;
+		final var key = offset == 0 ? null : memory.getKey( query, offset );
+		final KeyedPage<R> keyedPage =
+				key == null
+						? Page.first( maxRows ).keyedBy( keyDefinition )
+						: Page.first( maxRows ).keyedBy( keyDefinition )
+								.withKey( key, KEY_OF_LAST_ON_PREVIOUS_PAGE );
+		final List<KeyedResult<R>> results;
+		try {
+			// the new query shares our QueryOptions
+			final var keyedQuery = new SqmSelectionQueryImpl<KeyedResult<R>>( this, keyedPage );
+			keyedQuery.setFirstResult( key == null ? offset : 0 );
+			keyedQuery.setMaxResults( maxRows );
+			results = keyedQuery.getResultList();
+		}
+		finally {
+			final var originalLimit = getQueryOptions().getLimit();
+			originalLimit.setFirstRow( firstRow );
+			originalLimit.setMaxRows( maxRows );
+		}
+
+		final int size = results.size();
+		if ( size == maxRows ) {
+			memory.remember( query, offset + size, results.get( size - 1 ).getKey() );
+		}
+		else {
+			// this was the last page
+			memory.forget( query );
+		}
+		final List<R> list = new ArrayList<>( size );
+		for ( var result : results ) {
+			list.add( result.getResult() );
+		}
+		return list;
+	}
+
 	private static <R> KeyedPage<R> nextPage(KeyedPage<R> keyedPage, List<KeyedResult<R>> results) {
 		if ( keyedPage.getKeyInterpretation() == KEY_OF_FIRST_ON_NEXT_PAGE ) {
 			// the results come in reverse order
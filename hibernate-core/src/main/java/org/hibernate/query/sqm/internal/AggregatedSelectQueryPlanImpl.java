@@ -73,6 +73,13 @@ else if ( elementsToSkip > 0 ) {
 		return overallResults;
 	}
 
+	@Override
+	public void prepare(DomainQueryExecutionContext executionContext) {
+		for ( SelectQueryPlan<R> aggregatedQueryPlan : aggregatedQueryPlans ) {
+			aggregatedQueryPlan.prepare( executionContext );
+		}
+	}
+
 	@Override
 	public ScrollableResultsImplementor<R> performScroll(ScrollMode scrollMode, DomainQueryExecutionContext executionContext) {
 		if ( executionContext.getQueryOptions().getEffectiveLimit().getMaxRowsJpa() == 0 ) {
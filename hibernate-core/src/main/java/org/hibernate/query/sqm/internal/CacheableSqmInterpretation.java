@@ -4,6 +4,7 @@
  */
 package org.hibernate.query.sqm.internal;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.hibernate.metamodel.mapping.MappingModelExpressible;
 import org.hibernate.query.spi.QueryParameterImplementor;
 import org.hibernate.query.sqm.tree.expression.SqmParameter;
@@ -15,12 +16,29 @@
 import java.util.Map;
 
 /**
+ * @param domainParameterXref If multivalued parameters were expanded during
+ *                            translation, a copy of the parameter xref which
+ *                            holds the expansions, otherwise {@code null}
+ * @param parameterShape If multivalued parameters were expanded during
+ *                       translation, the {@linkplain
+ *                       SqmUtil#multiValuedParameterShape shape} of the
+ *                       arguments, otherwise {@code null}
+ *
  * @since 7.1
  */
 public record CacheableSqmInterpretation<S extends Statement, J extends JdbcOperation>(
 		S statement,
 		J jdbcOperation,
 		Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<JdbcParametersList>>> jdbcParamsXref,
-		Map<SqmParameter<?>, MappingModelExpressible<?>> sqmParameterMappingModelTypes) {
+		Map<SqmParameter<?>, MappingModelExpressible<?>> sqmParameterMappingModelTypes,
+		@Nullable DomainParameterXref domainParameterXref,
+		int @Nullable [] parameterShape) {
 
+	public CacheableSqmInterpretation(
+			S statement,
+			J jdbcOperation,
+			Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<JdbcParametersList>>> jdbcParamsXref,
+			Map<SqmParameter<?>, MappingModelExpressible<?>> sqmParameterMappingModelTypes) {
+		this( statement, jdbcOperation, jdbcParamsXref, sqmParameterMappingModelTypes, null, null );
+	}
 }
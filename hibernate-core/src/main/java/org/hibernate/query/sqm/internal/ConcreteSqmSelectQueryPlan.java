@@ -47,6 +47,7 @@
 import org.hibernate.sql.results.spi.RowTransformer;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
@@ -55,6 +56,7 @@
 import static org.hibernate.internal.util.collections.ArrayHelper.toStringArray;
 import static org.hibernate.query.sqm.internal.AppliedGraphs.containsCollectionFetches;
 import static org.hibernate.query.sqm.internal.SqmQueryImpl.CRITERIA_HQL_STRING;
+import static org.hibernate.query.sqm.internal.SqmUtil.expandedParameterShape;
 import static org.hibernate.query.sqm.internal.SqmUtil.generateJdbcParamsXref;
 import static org.hibernate.query.sqm.internal.SqmUtil.isSelectionAssignableToResultType;
 
@@ -67,6 +69,7 @@
  */
 public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 	private final SqmSelectStatement<?> sqm;
+	private final String hql;
 	private final DomainParameterXref domainParameterXref;
 	private final SqmInterpreter<?, ? extends ResultsConsumer<?, R>> executeQueryInterpreter;
 	private final SqmInterpreter<List<R>, Void> listInterpreter;
@@ -82,6 +85,7 @@ public ConcreteSqmSelectQueryPlan(
 			TupleMetadata tupleMetadata,
 			QueryOptions queryOptions) {
 		this.sqm = sqm;
+		this.hql = hql;
 		this.domainParameterXref = domainParameterXref;
 
 		final var uniqueSemantic =
@@ -362,6 +366,17 @@ public ScrollableResultsImplementor<R> performScroll(ScrollMode scrollMode, Doma
 				: withCacheableSqmInterpretation( executionContext, scrollMode, scrollInterpreter );
 	}
 
+	@Override
+	public void prepare(DomainQueryExecutionContext executionContext) {
+		if ( cacheableSqmInterpretation == null ) {
+			synchronized ( this ) {
+				if ( cacheableSqmInterpretation == null ) {
+					rebuildInterpretation( executionContext, new MutableObject<>() );
+				}
+			}
+		}
+	}
+
 	private <T, X> T withCacheableSqmInterpretation(DomainQueryExecutionContext executionContext, X context, SqmInterpreter<T, X> interpreter) {
 		final var session = executionContext.getSession();
 
@@ -381,9 +396,14 @@ private <T, X> T withCacheableSqmInterpretation(DomainQueryExecutionContext exec
 				localCopy = cacheableSqmInterpretation;
 				if ( localCopy == null ) {
 					final MutableObject<JdbcParameterBindings> mutableValue = new MutableObject<>();
-					localCopy = buildInterpretation( sqm, domainParameterXref, executionContext, mutableValue );
+					localCopy = rebuildInterpretation( executionContext, mutableValue );
+					jdbcParameterBindings = mutableValue.get();
+				}
+				else if ( !hasCompatibleParameterShape( localCopy, executionContext ) ) {
+					// The multivalued parameters were expanded differently
+					final MutableObject<JdbcParameterBindings> mutableValue = new MutableObject<>();
+					localCopy = rebuildInterpretation( executionContext, mutableValue );
 					jdbcParameterBindings = mutableValue.get();
-					cacheableSqmInterpretation = localCopy;
 				}
 				else {
 					// If the translation depends on parameter bindings or it isn't compatible with the current query options,
@@ -396,13 +416,18 @@ private <T, X> T withCacheableSqmInterpretation(DomainQueryExecutionContext exec
 					// We could avoid this by putting the lock options into the cache key
 					if ( !jdbcSelect.isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() ) ) {
 						final MutableObject<JdbcParameterBindings> mutableValue = new MutableObject<>();
-						localCopy = buildInterpretation( sqm, domainParameterXref, executionContext, mutableValue );
+						localCopy = rebuildInterpretation( executionContext, mutableValue );
 						jdbcParameterBindings = mutableValue.get();
-						cacheableSqmInterpretation = localCopy;
 					}
 				}
 			}
 		}
+		else if ( !hasCompatibleParameterShape( localCopy, executionContext ) ) {
+			// The multivalued parameters were expanded differently
+			final MutableObject<JdbcParameterBindings> mutableValue = new MutableObject<>();
+			localCopy = rebuildInterpretation( executionContext, mutableValue );
+			jdbcParameterBindings = mutableValue.get();
+		}
 		else {
 			// If the translation depends on parameter bindings or it isn't compatible with the current query options,
 			// we have to rebuild the JdbcSelect, which is still better than having to translate from SQM to SQL AST again
@@ -414,9 +439,8 @@ private <T, X> T withCacheableSqmInterpretation(DomainQueryExecutionContext exec
 			// We could avoid this by putting the lock options into the cache key
 			if ( !jdbcSelect.isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() ) ) {
 				final MutableObject<JdbcParameterBindings> mutableValue = new MutableObject<>();
-				localCopy = buildInterpretation( sqm, domainParameterXref, executionContext, mutableValue );
+				localCopy = rebuildInterpretation( executionContext, mutableValue );
 				jdbcParameterBindings = mutableValue.get();
-				cacheableSqmInterpretation = localCopy;
 			}
 		}
 
@@ -427,13 +451,49 @@ private <T, X> T withCacheableSqmInterpretation(DomainQueryExecutionContext exec
 		return interpreter.interpret( context, executionContext, localCopy, jdbcParameterBindings, preFlushed );
 	}
 
+	private CacheableSqmInterpretation<SelectStatement, JdbcSelect> rebuildInterpretation(
+			DomainQueryExecutionContext executionContext,
+			MutableObject<JdbcParameterBindings> firstJdbcParameterBindingsConsumer) {
+		final var interpretation =
+				buildInterpretation( sqm, domainParameterXref, executionContext, firstJdbcParameterBindingsConsumer );
+		cacheableSqmInterpretation = interpretation;
+		final var statistics = executionContext.getSession().getFactory().getStatistics();
+		if ( statistics.isStatisticsEnabled() && !CRITERIA_HQL_STRING.equals( hql ) ) {
+			statistics.queryTranslated( hql, interpretation.jdbcOperation().getSqlString() );
+		}
+		return interpretation;
+	}
+
+	/**
+	 * A translation in which multivalued parameters were expanded may only
+	 * be reused if the arguments of the current execution expand the same
+	 * way, that is, if they have the same number of values, or, when the
+	 * {@code in} list was padded, the same padded number of values.
+	 */
+	private static boolean hasCompatibleParameterShape(
+			CacheableSqmInterpretation<SelectStatement, JdbcSelect> sqmInterpretation,
+			DomainQueryExecutionContext executionContext) {
+		final var parameterBindings = executionContext.getQueryParameterBindings();
+		final var parameterShape = sqmInterpretation.parameterShape();
+		final var expandedParameterXref = sqmInterpretation.domainParameterXref();
+		if ( parameterShape == null || expandedParameterXref == null ) {
+			return !parameterBindings.hasAnyMultiValuedBindings();
+		}
+		else {
+			return Arrays.equals( parameterShape,
+					expandedParameterShape( expandedParameterXref, parameterBindings,
+							executionContext.getSession().getFactory() ) );
+		}
+	}
+
 	// For Hibernate Reactive
 	protected JdbcParameterBindings createJdbcParameterBindings(
 			CacheableSqmInterpretation<SelectStatement, JdbcSelect> sqmInterpretation,
 			DomainQueryExecutionContext executionContext) {
+		final var expandedParameterXref = sqmInterpretation.domainParameterXref();
 		return SqmUtil.createJdbcParameterBindings(
 				executionContext.getQueryParameterBindings(),
-				domainParameterXref,
+				expandedParameterXref == null ? domainParameterXref : expandedParameterXref,
 				sqmInterpretation.jdbcParamsXref(),
 				new SqmParameterMappingModelResolutionAccess() {
 					//this is pretty ugly!
@@ -454,13 +514,22 @@ protected static CacheableSqmInterpretation<SelectStatement, JdbcSelect> buildIn
 			MutableObject<JdbcParameterBindings> firstJdbcParameterBindingsConsumer) {
 		final var session = executionContext.getSession();
 		final var sessionFactory = session.getFactory();
+		final var parameterBindings = executionContext.getQueryParameterBindings();
+
+		// Expand multivalued parameters in a copy of the xref, which is kept
+		// with the translation, so that the translation may be safely reused
+		// by concurrent executions of a cached plan
+		final var parameterXref =
+				parameterBindings.hasAnyMultiValuedBindings()
+						? domainParameterXref.copy()
+						: domainParameterXref;
 
 		final var sqmTranslator =
 				sessionFactory.getQueryEngine().getSqmTranslatorFactory()
 						.createSelectTranslator(
 								sqm,
 								executionContext.getQueryOptions(),
-								domainParameterXref,
+								parameterXref,
 								executionContext.getQueryParameterBindings(),
 								executionContext.getSession().getLoadQueryInfluencers(),
 								sessionFactory.getSqlTranslationEngine(),
@@ -474,11 +543,11 @@ protected static CacheableSqmInterpretation<SelectStatement, JdbcSelect> buildIn
 						.buildSelectTranslator( sessionFactory, sqmInterpretation.getSqlAst() );
 
 		final var jdbcParamsXref =
-				generateJdbcParamsXref( domainParameterXref, sqmInterpretation::getJdbcParamsBySqmParam );
+				generateJdbcParamsXref( parameterXref, sqmInterpretation::getJdbcParamsBySqmParam );
 
 		final var jdbcParameterBindings = SqmUtil.createJdbcParameterBindings(
-				executionContext.getQueryParameterBindings(),
-				domainParameterXref,
+				parameterBindings,
+				parameterXref,
 				jdbcParamsXref,
 				new SqmParameterMappingModelResolutionAccess() {
 					@Override @SuppressWarnings("unchecked")
@@ -490,11 +559,14 @@ public <T> MappingModelExpressible<T> getResolvedMappingModelType(SqmParameter<T
 				session
 		);
 		firstJdbcParameterBindingsConsumer.set( jdbcParameterBindings );
+		final boolean expanded = parameterXref != domainParameterXref;
 		return new CacheableSqmInterpretation<>(
 				sqmInterpretation.getSqlAst(),
 				selectTranslator.translate( jdbcParameterBindings, executionContext.getQueryOptions() ),
 				jdbcParamsXref,
-				sqmInterpretation.getSqmParameterMappingModelTypeResolutions()
+				sqmInterpretation.getSqmParameterMappingModelTypeResolutions(),
+				expanded ? parameterXref : null,
+				expanded ? expandedParameterShape( parameterXref, parameterBindings, sessionFactory ) : null
 		);
 	}
 
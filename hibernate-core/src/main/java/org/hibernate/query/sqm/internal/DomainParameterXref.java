@@ -5,10 +5,12 @@
 package org.hibernate.query.sqm.internal;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.hibernate.query.internal.QueryParameterIdentifiedImpl;
 import org.hibernate.query.internal.QueryParameterNamedImpl;
@@ -99,6 +101,7 @@ else if ( sqmParameter instanceof SqmJpaCriteriaParameterWrapper<?> criteriaPara
 	private final IdentityHashMap<SqmParameter<?>, QueryParameterImplementor<?>> queryParamBySqmParam;
 
 	private Map<SqmParameter<?>,List<SqmParameter<?>>> expansions;
+	private Set<QueryParameterImplementor<?>> paddedParameters;
 
 	private DomainParameterXref(
 			LinkedHashMap<QueryParameterImplementor<?>, List<SqmParameter<?>>> sqmParamsByQueryParam,
@@ -187,6 +190,29 @@ public List<SqmParameter<?>> getExpansions(SqmParameter<?> sqmParameter) {
 		}
 	}
 
+	/**
+	 * Record that the expansions of the given parameter, which occurs in
+	 * an {@code in} list, were padded to the next
+	 * {@linkplain SqmUtil#paddedInListSize padded size}.
+	 *
+	 * @since 7.2
+	 */
+	public void markPadded(QueryParameterImplementor<?> domainParam) {
+		if ( paddedParameters == null ) {
+			paddedParameters = new HashSet<>();
+		}
+		paddedParameters.add( domainParam );
+	}
+
+	/**
+	 * Were the expansions of the given parameter padded?
+	 *
+	 * @since 7.2
+	 */
+	public boolean isPadded(QueryParameterImplementor<?> domainParam) {
+		return paddedParameters != null && paddedParameters.contains( domainParam );
+	}
+
 	public void clearExpansions() {
 		if ( expansions != null ) {
 			for ( List<SqmParameter<?>> expansionList : expansions.values() ) {
@@ -196,5 +222,8 @@ public void clearExpansions() {
 			}
 			expansions.clear();
 		}
+		if ( paddedParameters != null ) {
+			paddedParameters.clear();
+		}
 	}
 }
@@ -5,6 +5,9 @@
 package org.hibernate.query.sqm.internal;
 
 import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Nulls;
+import jakarta.persistence.metamodel.Attribute.PersistentAttributeType;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.hibernate.AssertionFailure;
 import org.hibernate.query.IllegalQueryOperationException;
 import org.hibernate.query.Order;
@@ -13,7 +16,9 @@
 import org.hibernate.query.criteria.JpaSelection;
 import org.hibernate.query.sqm.NodeBuilder;
 import org.hibernate.query.sqm.tree.domain.SqmPath;
+import org.hibernate.query.sqm.tree.from.SqmAttributeJoin;
 import org.hibernate.query.sqm.tree.from.SqmFrom;
+import org.hibernate.query.sqm.tree.from.SqmRoot;
 import org.hibernate.query.sqm.tree.predicate.SqmPredicate;
 import org.hibernate.query.sqm.tree.select.SqmQuerySpec;
 import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
@@ -59,6 +64,65 @@ static <R> SqmSelectStatement<KeyedResult<R>> paginate(
 		}
 	}
 
+	/**
+	 * Infer a key definition from the {@code order by} clause of a query
+	 * which returns a single entity, if the results are ordered by non-null
+	 * basic attributes of the entity which include its identifier, so that
+	 * the ordering is unique.
+	 *
+	 * @return the key definition, or {@code null} if the query does not
+	 *         have a unique ordering by attributes of the returned entity
+	 */
+	static <R> @Nullable List<Order<? super R>> inferKeyDefinition(SqmSelectStatement<R> statement) {
+		if ( !( statement.getQueryPart() instanceof SqmQuerySpec<R> querySpec )
+				|| querySpec.getOffsetExpression() != null
+				|| querySpec.getFetchExpression() != null
+				|| querySpec.getOrderByClause() == null
+				|| !querySpec.getGroupByClauseExpressions().isEmpty() ) {
+			return null;
+		}
+		final var items = querySpec.getSelectClause().getSelectionItems();
+		if ( items.size() != 1 || !( items.get( 0 ) instanceof SqmRoot<?> root ) || hasFetches( root ) ) {
+			return null;
+		}
+		@SuppressWarnings("unchecked")
+		final Class<R> entityClass = (Class<R>) root.getJavaType();
+		final var entityType = root.getManagedType();
+		final List<Order<? super R>> keyDefinition = new ArrayList<>();
+		boolean unique = false;
+		for ( var sortSpecification : querySpec.getOrderByClause().getSortSpecifications() ) {
+			if ( sortSpecification.isIgnoreCase()
+					|| sortSpecification.getNullPrecedence() != Nulls.NONE
+					|| !( sortSpecification.getSortExpression() instanceof SqmPath<?> path )
+					|| path.getLhs() != root ) {
+				return null;
+			}
+			final String attributeName = path.getNavigablePath().getLocalName();
+			final var attribute = entityType.findSingularAttribute( attributeName );
+			if ( attribute == null
+					|| attribute.getPersistentAttributeType() != PersistentAttributeType.BASIC
+					// a null key cannot be compared
+					|| attribute.isOptional() && !attribute.isId() ) {
+				return null;
+			}
+			unique = unique || attribute.isId();
+			keyDefinition.add( switch ( sortSpecification.getSortDirection() ) {
+				case ASCENDING -> Order.asc( entityClass, attributeName );
+				case DESCENDING -> Order.desc( entityClass, attributeName );
+			} );
+		}
+		return unique ? keyDefinition : null;
+	}
+
+	private static boolean hasFetches(SqmRoot<?> root) {
+		for ( var join : root.getSqmJoins() ) {
+			if ( join instanceof SqmAttributeJoin<?, ?> attributeJoin && attributeJoin.isFetched() ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	@SuppressWarnings({"rawtypes", "unchecked"})
 	private static <R> SqmPredicate keyRestriction(
 			List<Order<? super R>> keyDefinition,
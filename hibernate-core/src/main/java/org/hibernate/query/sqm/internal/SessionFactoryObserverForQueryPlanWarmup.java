@@ -0,0 +1,206 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.query.sqm.internal;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.hibernate.SessionFactory;
+import org.hibernate.SessionFactoryObserver;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.query.QueryLogging;
+import org.hibernate.query.sqm.spi.NamedSqmQueryMemento;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
+
+import org.jboss.logging.Logger;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hibernate.cfg.QuerySettings.QUERY_PLAN_WARMUP;
+import static org.hibernate.cfg.QuerySettings.QUERY_PLAN_WARMUP_FILE;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getBoolean;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getString;
+import static org.hibernate.query.QueryLogging.QUERY_MESSAGE_LOGGER;
+
+/**
+ * Responsible for {@linkplain org.hibernate.cfg.QuerySettings#QUERY_PLAN_WARMUP
+ * warming up} the query plan cache when the {@link SessionFactory} is created,
+ * and for {@linkplain org.hibernate.cfg.QuerySettings#QUERY_PLAN_WARMUP_FILE
+ * recording} the HQL queries held in the cache when it is closed, so that they
+ * may be warmed up the next time.
+ *
+ * @since 7.2
+ */
+public final class SessionFactoryObserverForQueryPlanWarmup implements SessionFactoryObserver {
+	private static final Logger LOG = QueryLogging.subLogger( "plan.warmup" );
+
+	@Override
+	public void sessionFactoryCreated(SessionFactory factory) {
+		final var sessionFactory = (SessionFactoryImplementor) factory;
+		final var queryEngine = sessionFactory.getQueryEngine();
+		if ( queryEngine.getInterpretationCache().isEnabled() ) {
+			final List<Consumer<SessionImplementor>> preparations = new ArrayList<>();
+			if ( getBoolean( QUERY_PLAN_WARMUP, sessionFactory.getProperties() ) ) {
+				queryEngine.getNamedObjectRepository()
+						.visitSqmQueryMementos( memento -> preparations.add( session -> prepare( session, memento ) ) );
+			}
+			final var file = warmupFile( sessionFactory );
+			if ( file != null && Files.isReadable( file ) ) {
+				for ( var query : readQueries( file, sessionFactory ) ) {
+					preparations.add( session -> prepare( session, query.hql, query.resultType ) );
+				}
+			}
+			if ( !preparations.isEmpty() ) {
+				final long start = System.nanoTime();
+				preparations.parallelStream().forEach( preparation -> prepare( sessionFactory, preparation ) );
+				LOG.debugf( "Prepared %s query plans in %s ms",
+						preparations.size(), ( System.nanoTime() - start ) / 1_000_000 );
+			}
+		}
+	}
+
+	@Override
+	public void sessionFactoryClosing(SessionFactory factory) {
+		final var sessionFactory = (SessionFactoryImplementor) factory;
+		final var file = warmupFile( sessionFactory );
+		if ( file != null ) {
+			final Set<String> lines = new LinkedHashSet<>();
+			sessionFactory.getQueryEngine().getInterpretationCache()
+					.visitCachedHqlInterpretations( (hql, resultType) ->
+							lines.add( ( resultType == null ? "" : resultType.getName() ) + '\t' + escape( hql ) ) );
+			try {
+				Files.write( file, lines, UTF_8 );
+			}
+			catch (IOException e) {
+				QUERY_MESSAGE_LOGGER.unableToWriteQueryPlanWarmupFile( file, e.getMessage() );
+			}
+		}
+	}
+
+	private static @Nullable Path warmupFile(SessionFactoryImplementor sessionFactory) {
+		final String fileName = getString( QUERY_PLAN_WARMUP_FILE, sessionFactory.getProperties() );
+		return fileName == null || fileName.isBlank() ? null : Path.of( fileName );
+	}
+
+	private static void prepare(SessionFactoryImplementor sessionFactory, Consumer<SessionImplementor> preparation) {
+		// a query which cannot be prepared ahead of time is
+		// still prepared at its first execution, but a failure
+		// here usually means the query or warmup file is stale
+		try ( var session = sessionFactory.openTemporarySession() ) {
+			preparation.accept( session );
+		}
+		catch (RuntimeException e) {
+			QUERY_MESSAGE_LOGGER.unableToWarmUpQueryPlan( e.getMessage() );
+		}
+	}
+
+	private static void prepare(SessionImplementor session, NamedSqmQueryMemento<?> memento) {
+		final var query = memento.toQuery( session );
+		if ( query instanceof AbstractSqmSelectionQuery<?> selectionQuery
+				&& selectionQuery.getSqmStatement() instanceof SqmSelectStatement<?> statement ) {
+			if ( memento.getResultType() == null ) {
+				// the query is most likely executed with the type of its selection as the result type
+				final Class<?> selectionType = selectionType( statement );
+				if ( selectionType != null ) {
+					prepare( memento.toQuery( session, selectionType ) );
+				}
+			}
+			prepare( query );
+		}
+	}
+
+	private static void prepare(SessionImplementor session, String hql, @Nullable Class<?> resultType) {
+		prepare( session.createQuery( hql, resultType ) );
+	}
+
+	private static void prepare(Object query) {
+		if ( query instanceof AbstractSqmSelectionQuery<?> selectionQuery
+				&& selectionQuery.getSqmStatement() instanceof SqmSelectStatement<?> ) {
+			selectionQuery.prepareSelectQueryPlan();
+		}
+	}
+
+	private static @Nullable Class<?> selectionType(SqmSelectStatement<?> statement) {
+		final var selections =
+				statement.getQueryPart().getFirstQuerySpec().getSelectClause().getSelections();
+		return selections.size() == 1
+				? selections.get( 0 ).getSelectableNode().getJavaType()
+				: Object[].class;
+	}
+
+	private record WarmupQuery(String hql, @Nullable Class<?> resultType) {
+	}
+
+	private static List<WarmupQuery> readQueries(Path file, SessionFactoryImplementor sessionFactory) {
+		final var classLoaderService = sessionFactory.getServiceRegistry().requireService( ClassLoaderService.class );
+		final List<String> lines;
+		try {
+			lines = Files.readAllLines( file, UTF_8 );
+		}
+		catch (IOException e) {
+			QUERY_MESSAGE_LOGGER.unableToReadQueryPlanWarmupFile( file, e.getMessage() );
+			return List.of();
+		}
+		final List<WarmupQuery> queries = new ArrayList<>( lines.size() );
+		for ( String line : lines ) {
+			final int tab = line.indexOf( '\t' );
+			if ( tab > 0 ) {
+				try {
+					queries.add( new WarmupQuery( unescape( line.substring( tab + 1 ) ),
+							classLoaderService.classForName( line.substring( 0, tab ) ) ) );
+				}
+				catch (RuntimeException e) {
+					QUERY_MESSAGE_LOGGER.ignoringQueryPlanWarmupQuery( e.getMessage() );
+				}
+			}
+			else if ( tab == 0 ) {
+				queries.add( new WarmupQuery( unescape( line.substring( 1 ) ), null ) );
+			}
+		}
+		return queries;
+	}
+
+	private static String escape(String hql) {
+		final var escaped = new StringBuilder( hql.length() );
+		for ( int i = 0; i < hql.length(); i++ ) {
+			final char ch = hql.charAt( i );
+			switch ( ch ) {
+				case '\\' -> escaped.append( "\\\\" );
+				case '\n' -> escaped.append( "\\n" );
+				case '\r' -> escaped.append( "\\r" );
+				case '\t' -> escaped.append( "\\t" );
+				default -> escaped.append( ch );
+			}
+		}
+		return escaped.toString();
+	}
+
+	private static String unescape(String line) {
+		final var hql = new StringBuilder( line.length() );
+		for ( int i = 0; i < line.length(); i++ ) {
+			final char ch = line.charAt( i );
+			if ( ch == '\\' && i + 1 < line.length() ) {
+				switch ( line.charAt( ++i ) ) {
+					case 'n' -> hql.append( '\n' );
+					case 'r' -> hql.append( '\r' );
+					case 't' -> hql.append( '\t' );
+					default -> hql.append( line.charAt( i ) );
+				}
+			}
+			else {
+				hql.append( ch );
+			}
+		}
+		return hql.toString();
+	}
+}
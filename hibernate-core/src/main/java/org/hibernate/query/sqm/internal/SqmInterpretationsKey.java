@@ -23,15 +23,37 @@ public final class SqmInterpretationsKey implements QueryInterpretationCache.Key
 
 	public static SqmInterpretationsKey createInterpretationsKey(InterpretationsKeySource keySource) {
 		if ( isCacheable ( keySource ) ) {
+			final int @Nullable [] parameterShape;
+			if ( keySource.hasMultiValuedParameterBindingsChecker().getAsBoolean() ) {
+				// multivalued parameters are expanded in a copy of the DomainParameterXref
+				// held by the CacheableSqmInterpretation, so a plan may be cached for each
+				// distinct shape of the multivalued arguments, when in lists are padded
+				parameterShape = keySource.multiValuedParameterShape();
+				if ( parameterShape == null ) {
+					return null;
+				}
+			}
+			else {
+				parameterShape = null;
+			}
 			final Object query = keySource.getQueryStringCacheKey();
-			final int hashCode = query instanceof SqmStatement<?> statement ? statement.cacheHashCode() : query.hashCode();
+			final Set<String> learnedFetchPlan = keySource.learnedFetchPlan();
+			int hashCode = query instanceof SqmStatement<?> statement ? statement.cacheHashCode() : query.hashCode();
+			if ( parameterShape != null ) {
+				hashCode = 31 * hashCode + Arrays.hashCode( parameterShape );
+			}
+			if ( learnedFetchPlan != null ) {
+				hashCode = 31 * hashCode + learnedFetchPlan.hashCode();
+			}
 			return new SqmInterpretationsKey(
 					query,
 					keySource.unnamedParameterIndices(),
+					parameterShape,
 					hashCode,
 					keySource.getResultType(),
 					keySource.getQueryOptions().getLockOptions(),
-					memoryEfficientDefensiveSetCopy( keySource.getLoadQueryInfluencers().getEnabledFetchProfileNames() )
+					memoryEfficientDefensiveSetCopy( keySource.getLoadQueryInfluencers().getEnabledFetchProfileNames() ),
+					learnedFetchPlan
 			);
 		}
 		else {
@@ -65,15 +87,11 @@ private static boolean isCacheable(InterpretationsKeySource keySource) {
 		return keySource.isQueryPlanCacheable()
 				// At the moment we cannot cache query plan if there is filter enabled.
 			&& !keySource.getLoadQueryInfluencers().hasEnabledFilters()
-				// At the moment we cannot cache query plan if it has an entity graph
-			&& keySource.getQueryOptions().getAppliedGraph().getSemantic() == null
-				// todo (6.0) : this one may be ok because of how I implemented multi-valued param handling
-				// - the expansion is done per-execution based on the "static" SQM
-				// - Note from Christian: The call to domainParameterXref.clearExpansions()
-				//   in ConcreteSqmSelectQueryPlan is a concurrency issue when cached
-				// - This could be solved by using a method-local clone of domainParameterXref
-				//   when multi-valued params exist
-			&& !keySource.hasMultiValuedParameterBindingsChecker().getAsBoolean();
+				// At the moment we cannot cache query plan if it has an entity graph,
+				// unless the graph was applied by the fetch plan learner, in which
+				// case the learned associations are part of the key
+			&& ( keySource.getQueryOptions().getAppliedGraph().getSemantic() == null
+				|| keySource.learnedFetchPlan() != null );
 	}
 
 	public static QueryInterpretationCache.Key generateNonSelectKey(InterpretationsKeySource keyDetails) {
@@ -86,25 +104,31 @@ public static QueryInterpretationCache.Key generateNonSelectKey(InterpretationsK
 
 	private final Object query;
 	private final int @Nullable [] unnamedParameterIndices;
+	private final int @Nullable [] parameterShape;
 	private final Class<?> resultType;
 	private final LockOptions lockOptions;
 	private final Collection<String> enabledFetchProfiles;
+	private final @Nullable Set<String> learnedFetchPlan;
 	private final int hashCode;
 
 	private SqmInterpretationsKey(
 			Object query,
 			int @Nullable [] unnamedParameterIndices,
+			int @Nullable [] parameterShape,
 			int hash,
 			Class<?> resultType,
 			LockOptions lockOptions,
-			Collection<String> enabledFetchProfiles) {
+			Collection<String> enabledFetchProfiles,
+			@Nullable Set<String> learnedFetchPlan) {
 		assert query.getClass() == String.class || query instanceof SqmStatement<?>;
 		this.query = query;
 		this.unnamedParameterIndices = unnamedParameterIndices;
+		this.parameterShape = parameterShape;
 		this.hashCode = hash;
 		this.resultType = resultType;
 		this.lockOptions = lockOptions;
 		this.enabledFetchProfiles = enabledFetchProfiles;
+		this.learnedFetchPlan = learnedFetchPlan;
 	}
 
 	@Override
@@ -112,11 +136,13 @@ public QueryInterpretationCache.Key prepareForStore() {
 		return new SqmInterpretationsKey(
 				query,
 				unnamedParameterIndices,
+				parameterShape,
 				hashCode,
 				resultType,
 				// Since lock options might be mutable, we need a copy for the cache key
 				lockOptions.makeDefensiveCopy(),
-				enabledFetchProfiles
+				enabledFetchProfiles,
+				learnedFetchPlan
 		);
 	}
 
@@ -138,9 +164,11 @@ public boolean equals(Object other) {
 				? query.equals( that.query )
 				: ((SqmStatement<?>) query).isCompatible( that.query ) )
 			&& Arrays.equals( this.unnamedParameterIndices, that.unnamedParameterIndices )
+			&& Arrays.equals( this.parameterShape, that.parameterShape )
 			&& Objects.equals( this.resultType, that.resultType )
 			&& Objects.equals( this.lockOptions, that.lockOptions )
-			&& Objects.equals( this.enabledFetchProfiles, that.enabledFetchProfiles );
+			&& Objects.equals( this.enabledFetchProfiles, that.enabledFetchProfiles )
+			&& Objects.equals( this.learnedFetchPlan, that.learnedFetchPlan );
 	}
 
 	@Override
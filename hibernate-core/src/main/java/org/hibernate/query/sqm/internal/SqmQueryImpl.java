@@ -363,6 +363,10 @@ public QueryOptions getQueryOptions() {
 
 	protected List<R> doList() {
 		verifySelect();
+		final var keysetPaginatedList = listUsingKeysetPagination();
+		if ( keysetPaginatedList != null ) {
+			return keysetPaginatedList;
+		}
 		final var statement = (SqmSelectStatement<?>) getSqmStatement();
 		final boolean containsCollectionFetches =
 				statement.containsCollectionFetches()
@@ -452,8 +456,9 @@ public boolean isQueryPlanCacheable() {
 				: super.isQueryPlanCacheable();
 	}
 
-	// TODO: very similar, but not identical to SqmSelectionQueryImpl.resolveQueryPlan()
-	private SelectQueryPlan<R> resolveSelectQueryPlan() {
+	// TODO: very similar, but not identical to SqmSelectionQueryImpl.resolveSelectQueryPlan()
+	@Override
+	protected SelectQueryPlan<R> resolveSelectQueryPlan() {
 		final var queryCache = getInterpretationCache();
 		if ( queryCache.isEnabled() ) {
 			final var cacheKey = createInterpretationsKey( this );
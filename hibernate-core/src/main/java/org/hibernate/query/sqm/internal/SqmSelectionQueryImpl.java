@@ -400,13 +400,17 @@ public QueryOptions getQueryOptions() {
 
 	protected List<R> doList() {
 		final var statement = getSqmStatement();
+		final var keysetPaginatedList = listUsingKeysetPagination();
+		if ( keysetPaginatedList != null ) {
+			return keysetPaginatedList;
+		}
 		final boolean containsCollectionFetches =
 				//TODO: why is this different from QuerySqmImpl.doList()?
 				statement.containsCollectionFetches();
 		final boolean hasLimit = hasLimit( statement, getQueryOptions() );
 		final boolean needsDistinct = needsDistinct( containsCollectionFetches, hasLimit, statement );
 		final var list =
-				resolveQueryPlan()
+				resolveSelectQueryPlan()
 						.performList( executionContext( hasLimit, containsCollectionFetches ) );
 		return needsDistinct ? handleDistinct( hasLimit, statement, list ) : list;
 	}
@@ -458,12 +462,12 @@ public QueryOptions getQueryOptions() {
 
 	@Override
 	protected ScrollableResultsImplementor<R> doScroll(ScrollMode scrollMode) {
-		return resolveQueryPlan().performScroll( scrollMode, this );
+		return resolveSelectQueryPlan().performScroll( scrollMode, this );
 	}
 
 	@Override
 	public <T> T executeQuery(ResultsConsumer<T, R> resultsConsumer) {
-		return resolveQueryPlan().executeQuery( this, resultsConsumer );
+		return resolveSelectQueryPlan().executeQuery( this, resultsConsumer );
 	}
 
 	@Override
@@ -474,8 +478,9 @@ public Class<R> getExpectedResultType() {
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Query plan
 
-	// TODO: very similar, but not identical to SqmQueryImpl.resolveQueryPlan()
-	private SelectQueryPlan<R> resolveQueryPlan() {
+	// TODO: very similar, but not identical to SqmQueryImpl.resolveSelectQueryPlan()
+	@Override
+	protected SelectQueryPlan<R> resolveSelectQueryPlan() {
 		final var cacheKey = createInterpretationsKey( this );
 		return cacheKey == null
 				? buildSelectQueryPlan()
@@ -15,11 +15,13 @@
 import java.util.Map;
 import java.util.Set;
 import java.util.StringTokenizer;
+import java.util.function.Predicate;
 
 import jakarta.persistence.criteria.ParameterExpression;
 import org.hibernate.AssertionFailure;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.MathHelper;
 import org.hibernate.jpa.spi.JpaCompliance;
 import org.hibernate.metamodel.mapping.BasicValuedMapping;
 import org.hibernate.metamodel.mapping.Bindable;
@@ -512,6 +514,123 @@ private static List<JdbcParametersList> convert(final List<List<JdbcParameter>>
 //		);
 //	}
 
+	/**
+	 * The number of bind parameters to which an {@code in} list with
+	 * the given number of values is padded when
+	 * {@linkplain org.hibernate.cfg.QuerySettings#IN_CLAUSE_PARAMETER_PADDING
+	 * padding} is enabled. This is the next power of two or, when the
+	 * dialect limits the number of values in an {@code in} list, the
+	 * next power of two multiple of that limit.
+	 *
+	 * @param bindValueCount the number of values bound to the parameter
+	 * @param inExprLimit the {@linkplain org.hibernate.dialect.Dialect#getInExpressionCountLimit
+	 *                    limit} on the number of values in an {@code in} list
+	 *
+	 * @since 7.2
+	 */
+	public static int paddedInListSize(int bindValueCount, int inExprLimit) {
+		if ( bindValueCount <= 1 ) {
+			return bindValueCount;
+		}
+		final int ceilingPowerOfTwo = MathHelper.ceilingPowerOfTwo( bindValueCount );
+		if ( inExprLimit <= 0 || ceilingPowerOfTwo <= inExprLimit ) {
+			return ceilingPowerOfTwo;
+		}
+		else {
+			final int numberOfInClauses = MathHelper.divideRoundingUp( bindValueCount, inExprLimit );
+			return MathHelper.ceilingPowerOfTwo( numberOfInClauses ) * inExprLimit;
+		}
+	}
+
+	/**
+	 * May the given parameter be padded when it occurs as the list of
+	 * values of an {@code in} predicate? This is the case when padding
+	 * is enabled and the parameter occurs just once in the query, so
+	 * that every use of the parameter is padded in the same way.
+	 *
+	 * @since 7.2
+	 */
+	public static boolean isPaddableInListParameter(
+			QueryParameterImplementor<?> queryParameter,
+			DomainParameterXref domainParameterXref,
+			SessionFactoryImplementor factory) {
+		if ( factory.getSessionFactoryOptions().inClauseParameterPaddingEnabled() ) {
+			final var sqmParameters = domainParameterXref.getSqmParameters( queryParameter );
+			return sqmParameters != null && sqmParameters.size() == 1;
+		}
+		else {
+			return false;
+		}
+	}
+
+	/**
+	 * Determine the "shape" of the arguments bound to the parameters of
+	 * a query which accepts multivalued parameters: for each parameter,
+	 * {@code -1} if a single value is bound, or otherwise the number of
+	 * bind parameters to which the bound list of values is expanded. Two
+	 * executions of the query with the same shape may share a translation
+	 * of the query to SQL.
+	 *
+	 * @return the shape, or {@code null} if {@linkplain
+	 *         org.hibernate.cfg.QuerySettings#IN_CLAUSE_PARAMETER_PADDING
+	 *         padding} is disabled, in which case the translation should
+	 *         not be shared
+	 *
+	 * @since 7.2
+	 */
+	public static int @Nullable [] multiValuedParameterShape(
+			DomainParameterXref domainParameterXref,
+			QueryParameterBindings domainParamBindings,
+			SessionFactoryImplementor factory) {
+		if ( !factory.getSessionFactoryOptions().inClauseParameterPaddingEnabled() ) {
+			return null;
+		}
+		return parameterShape( domainParameterXref, domainParamBindings, factory,
+				queryParameter -> isPaddableInListParameter( queryParameter, domainParameterXref, factory ) );
+	}
+
+	/**
+	 * Determine the {@linkplain #multiValuedParameterShape shape} of the
+	 * arguments bound to the parameters of a query, according to how the
+	 * multivalued parameters were actually expanded in a translation of
+	 * the query. The translation may be reused for a later execution if
+	 * the shape of its arguments is identical.
+	 *
+	 * @param domainParameterXref the parameter xref holding the expansions
+	 *                            which occurred during translation
+	 *
+	 * @since 7.2
+	 */
+	public static int[] expandedParameterShape(
+			DomainParameterXref domainParameterXref,
+			QueryParameterBindings domainParamBindings,
+			SessionFactoryImplementor factory) {
+		return parameterShape( domainParameterXref, domainParamBindings, factory, domainParameterXref::isPadded );
+	}
+
+	private static int[] parameterShape(
+			DomainParameterXref domainParameterXref,
+			QueryParameterBindings domainParamBindings,
+			SessionFactoryImplementor factory,
+			Predicate<QueryParameterImplementor<?>> padded) {
+		final int inExprLimit = factory.getJdbcServices().getDialect().getInExpressionCountLimit();
+		final int[] shape = new int[domainParameterXref.getQueryParameterCount()];
+		int i = 0;
+		for ( var queryParameter : domainParameterXref.getQueryParameters().keySet() ) {
+			final var binding = domainParamBindings.getBinding( queryParameter );
+			if ( binding.isMultiValued() ) {
+				final int bindValueCount = binding.getBindValues().size();
+				shape[i++] = padded.test( queryParameter )
+						? paddedInListSize( bindValueCount, inExprLimit )
+						: bindValueCount;
+			}
+			else {
+				shape[i++] = -1;
+			}
+		}
+		return shape;
+	}
+
 	public static JdbcParameterBindings createJdbcParameterBindings(
 			QueryParameterBindings domainParamBindings,
 			DomainParameterXref domainParameterXref,
@@ -591,12 +710,16 @@ else if ( domainParamBinding.isMultiValued() ) {
 
 				// and then one for each of the expansions
 				final var expansions = domainParameterXref.getExpansions( sqmParameter );
-				final int expansionCount = bindValues.size() - 1;
 				final int parameterUseCount = jdbcParamsBinds.size();
-				assert expansions.size() == expansionCount * parameterUseCount;
-				int expansionPosition = 0;
-				while ( valueIterator.hasNext() ) {
-					final Object expandedValue = valueIterator.next();
+				final int expansionCount = expansions.size() / parameterUseCount;
+				// if the in list was padded, there are more expansions than values
+				assert expansionCount >= bindValues.size() - 1;
+				Object expandedValue = firstValue;
+				for ( int expansionPosition = 0; expansionPosition < expansionCount; expansionPosition++ ) {
+					// pad by repeating the last value
+					if ( valueIterator.hasNext() ) {
+						expandedValue = valueIterator.next();
+					}
 					for ( int j = 0; j < parameterUseCount; j++ ) {
 						final var expansionSqmParam = expansions.get( expansionPosition + j * expansionCount );
 						final var jdbcParamBinds = jdbcParamMap.get( expansionSqmParam );
@@ -613,7 +736,6 @@ else if ( domainParamBinding.isMultiValued() ) {
 							);
 						}
 					}
-					expansionPosition++;
 				}
 			}
 			else {
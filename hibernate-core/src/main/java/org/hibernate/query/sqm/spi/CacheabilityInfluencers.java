@@ -9,6 +9,7 @@
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.query.sqm.tree.SqmStatement;
 
+import java.util.Set;
 import java.util.function.BooleanSupplier;
 
 // Used by Hibernate Reactive
@@ -28,4 +29,27 @@ public interface CacheabilityInfluencers {
 	LoadQueryInfluencers getLoadQueryInfluencers();
 
 	BooleanSupplier hasMultiValuedParameterBindingsChecker();
+
+	/**
+	 * The {@linkplain org.hibernate.query.sqm.internal.SqmUtil#multiValuedParameterShape
+	 * shape} of the arguments bound to multivalued parameters, or {@code null}
+	 * if a query plan for these arguments should not be cached.
+	 *
+	 * @since 7.2
+	 */
+	default int @Nullable [] multiValuedParameterShape() {
+		return null;
+	}
+
+	/**
+	 * The to-one associations {@linkplain org.hibernate.query.spi.FetchPlanLearner
+	 * learned} for the query and fetched by the graph applied to it, or {@code null}
+	 * if no graph was applied by the fetch plan learner. A query plan for a learned
+	 * graph may be cached, since it is determined by these associations.
+	 *
+	 * @since 7.2
+	 */
+	default @Nullable Set<String> learnedFetchPlan() {
+		return null;
+	}
 }
@@ -11,6 +11,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Flow;
 import java.util.stream.Stream;
 
 import org.hibernate.CacheMode;
@@ -140,6 +141,11 @@ public Stream<R> stream() {
 		return getDelegate().stream();
 	}
 
+	@Override
+	public Flow.Publisher<R> publish() {
+		return getDelegate().publish();
+	}
+
 	@Override
 	public R uniqueResult() {
 		return getDelegate().uniqueResult();
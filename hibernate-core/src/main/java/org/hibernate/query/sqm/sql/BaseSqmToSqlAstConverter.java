@@ -455,6 +455,8 @@
 import static org.hibernate.query.sqm.internal.SqmMappingModelHelper.resolveExplicitTreatTarget;
 import static org.hibernate.query.sqm.internal.SqmMappingModelHelper.resolveMappingModelExpressible;
 import static org.hibernate.query.sqm.internal.SqmUtil.isFkOptimizationAllowed;
+import static org.hibernate.query.sqm.internal.SqmUtil.isPaddableInListParameter;
+import static org.hibernate.query.sqm.internal.SqmUtil.paddedInListSize;
 import static org.hibernate.query.sqm.sql.AggregateColumnAssignmentHandler.forEntityDescriptor;
 import static org.hibernate.sql.ast.internal.TableGroupJoinHelper.determineJoinForPredicateApply;
 import static org.hibernate.sql.ast.spi.SqlAstTreeHelper.combinePredicates;
@@ -8277,6 +8279,21 @@ private InListPredicate processInSingleParameter(
 				domainParameterXref.addExpansion( domainParam, sqmParameter, sqmParamToConsume );
 				inListPredicate.addExpression( consumeSingleSqmParameter( sqmParamToConsume ) );
 			}
+			if ( isPaddableInListParameter( domainParam, domainParameterXref, creationContext.getSessionFactory() ) ) {
+				// pad the list here, instead of when rendering the SQL, so that
+				// the translation may be reused for any list of the same padded
+				// size, with the last value repeated to fill the extra parameters
+				final int paddedSize = paddedInListSize(
+						domainParamBinding.getBindValues().size(),
+						getDialect().getInExpressionCountLimit()
+				);
+				for ( int i = inListPredicate.getListExpressions().size(); i < paddedSize; i++ ) {
+					final SqmParameter<?> sqmParamToConsume = sqmParameter.copy();
+					domainParameterXref.addExpansion( domainParam, sqmParameter, sqmParamToConsume );
+					inListPredicate.addExpression( consumeSingleSqmParameter( sqmParamToConsume ) );
+				}
+				domainParameterXref.markPadded( domainParam );
+			}
 			return inListPredicate;
 		}
 		finally {
@@ -13,6 +13,8 @@
 
 import org.jboss.logging.Logger;
 
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
 /**
  * Acts as an observer for various events regarding JDBC interactions and doing one or more of -<ol>
  *     <li>delegating to {@linkplain org.hibernate.stat.spi.StatisticsImplementor}</li>
@@ -31,6 +33,8 @@ public class JdbcEventHandler {
 	private final SessionEventListenerManager sessionListener;
 	private final Supplier<JdbcCoordinator> jdbcCoordinatorSupplier;
 
+	private long connectionAcquisitionStart;
+
 	public JdbcEventHandler(
 			StatisticsImplementor statistics,
 			SessionEventListenerManager sessionListener,
@@ -51,7 +55,11 @@ public JdbcEventHandler() {
 	public void jdbcConnectionAcquisitionStart() {
 		// NOTE : Connection acquisition and release events are propagated to
 		// SessionEventListenerManager via the JdbcConnectionAccess contracts
-		// which is the more proper place, so here we do nothing
+		// which is the more proper place, so here we only note the start time
+
+		if ( statistics != null && statistics.isStatisticsEnabled() ) {
+			connectionAcquisitionStart = System.nanoTime();
+		}
 	}
 
 	public void jdbcConnectionAcquisitionEnd(Connection connection) {
@@ -60,7 +68,14 @@ public void jdbcConnectionAcquisitionEnd(Connection connection) {
 		// which is the more proper place, so here we do nothing
 
 		if ( statistics != null && statistics.isStatisticsEnabled() ) {
-			statistics.connect();
+			if ( connectionAcquisitionStart == 0 ) {
+				// statistics were enabled after the acquisition started
+				statistics.connect();
+			}
+			else {
+				statistics.connect( NANOSECONDS.toMicros( System.nanoTime() - connectionAcquisitionStart ) );
+				connectionAcquisitionStart = 0;
+			}
 		}
 	}
 
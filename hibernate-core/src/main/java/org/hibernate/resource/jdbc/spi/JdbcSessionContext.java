@@ -4,7 +4,9 @@
  */
 package org.hibernate.resource.jdbc.spi;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
+import org.hibernate.engine.jdbc.batch.spi.TableDependencies;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.jpa.spi.JpaCompliance;
 import org.hibernate.stat.spi.StatisticsImplementor;
@@ -59,6 +61,20 @@ public interface JdbcSessionContext {
 
 	BatchBuilder getBatchBuilder();
 
+	/**
+	 * The foreign key dependencies between tables, if
+	 * {@linkplain org.hibernate.cfg.BatchSettings#BATCH_PIPELINING
+	 * batch pipelining} is enabled.
+	 *
+	 * @return the {@link TableDependencies}, or {@code null} if
+	 *         batch pipelining is disabled
+	 *
+	 * @since 7.2
+	 */
+	default @Nullable TableDependencies getTableDependencies() {
+		return null;
+	}
+
 	/**
 	 * @see org.hibernate.resource.transaction.spi.TransactionCoordinatorOwner#isActive()
 	 *
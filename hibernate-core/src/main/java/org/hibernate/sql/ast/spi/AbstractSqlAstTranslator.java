@@ -18,7 +18,6 @@
 import org.hibernate.engine.jdbc.Size;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
-import org.hibernate.internal.util.MathHelper;
 import org.hibernate.internal.util.QuotingHelper;
 import org.hibernate.internal.util.StringHelper;
 import org.hibernate.internal.util.collections.CollectionHelper;
@@ -235,6 +234,7 @@
 import static org.hibernate.query.common.TemporalUnit.NANOSECOND;
 import static org.hibernate.query.common.TemporalUnit.SECOND;
 import static org.hibernate.query.sqm.BinaryArithmeticOperator.DIVIDE_PORTABLE;
+import static org.hibernate.query.sqm.internal.SqmUtil.paddedInListSize;
 import static org.hibernate.sql.ast.SqlTreePrinter.logSqlAst;
 import static org.hibernate.sql.ast.tree.expression.SqlTupleContainer.getSqlTuple;
 import static org.hibernate.sql.results.graph.DomainResultGraphPrinter.logDomainResultGraph;
@@ -7771,7 +7771,7 @@ else if ( dialect.supportsRowValueConstructorSyntaxInInSubQuery() && dialect.sup
 		int inExprLimit = dialect.getInExpressionCountLimit();
 
 		if ( getSessionFactory().getSessionFactoryOptions().inClauseParameterPaddingEnabled() ) {
-			bindValueCountWithPadding = addPadding( bindValueCount, inExprLimit );
+			bindValueCountWithPadding = paddedInListSize( bindValueCount, inExprLimit );
 		}
 
 		final boolean parenthesis = !inListPredicate.isNegated()
@@ -7833,18 +7833,6 @@ private void appendInClauseSeparator(InListPredicate inListPredicate) {
 		appendSql( OPEN_PARENTHESIS );
 	}
 
-	private static int addPadding(int bindValueCount, int inExprLimit) {
-		final int ceilingPowerOfTwo = MathHelper.ceilingPowerOfTwo( bindValueCount );
-		if ( inExprLimit <= 0 || ceilingPowerOfTwo <= inExprLimit ) {
-			return ceilingPowerOfTwo;
-		}
-		else {
-			int numberOfInClauses = MathHelper.divideRoundingUp( bindValueCount, inExprLimit );
-			int numberOfInClausesWithPadding = MathHelper.ceilingPowerOfTwo( numberOfInClauses );
-			return numberOfInClausesWithPadding * inExprLimit;
-		}
-	}
-
 	@Override
 	public void visitInArrayPredicate(InArrayPredicate inArrayPredicate) {
 		sqlBuffer.append( "array_contains(" );
@@ -208,6 +208,8 @@ public boolean shouldReturnProxies() {
 		jdbcSelect.performPreActions( statementAccess, connection, executionContext );
 
 		try {
+			final var eventMonitor = session.getEventMonitor();
+			final var resultsProcessingEvent = eventMonitor.beginResultsProcessingEvent();
 			final T result = resultsConsumer.consume(
 					jdbcValues,
 					session,
@@ -216,6 +218,14 @@ public boolean shouldReturnProxies() {
 					rowProcessingState,
 					rowReader
 			);
+			if ( resultsProcessingEvent != null ) {
+				eventMonitor.completeResultsProcessingEvent(
+						resultsProcessingEvent,
+						session,
+						executionContext.getQueryIdentifier( jdbcSelect.getSqlString() ),
+						getResultSize( result )
+				);
+			}
 
 			jdbcSelect.performPostAction( true, statementAccess, connection, executionContext );
 
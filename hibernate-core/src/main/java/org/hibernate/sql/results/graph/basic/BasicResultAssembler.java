@@ -52,6 +52,16 @@ public Object extractRawValue(RowProcessingState rowProcessingState) {
 		return rowProcessingState.getJdbcValue( valuesArrayPosition );
 	}
 
+	/**
+	 * The position of the JDBC value in the row, if the JDBC value is the
+	 * assembled value, with no conversion, or {@code -1} otherwise.
+	 *
+	 * @since 7.2
+	 */
+	public int getUnconvertedValuesArrayPosition() {
+		return valueConverter == null && !unwrapRowProcessingState ? valuesArrayPosition : -1;
+	}
+
 	@Override
 	public J assemble(
 			RowProcessingState rowProcessingState) {
@@ -8,7 +8,6 @@
 
 import org.hibernate.Hibernate;
 import org.hibernate.engine.spi.EntityHolder;
-import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.metamodel.mapping.DiscriminatedAssociationModelPart;
 import org.hibernate.metamodel.mapping.ModelPart;
 import org.hibernate.persister.entity.EntityPersister;
@@ -155,9 +154,8 @@ public void resolveInstance(DiscriminatedEntityInitializerData data) {
 			final var session = data.getRowProcessingState().getSession();
 			final Object identifier = data.entityIdentifier;
 			final var concreteDescriptor = data.concreteDescriptor;
-			final var entityKey = new EntityKey( identifier, concreteDescriptor );
 			final var persistenceContext = session.getPersistenceContextInternal();
-			final var holder = persistenceContext.getEntityHolder( entityKey );
+			final var holder = persistenceContext.getEntityHolder( concreteDescriptor, identifier );
 			final Object instance;
 			if ( holder != null ) {
 				instance = holder.getEntity();
@@ -250,9 +248,9 @@ else if ( lazyInitializer.isUninitialized() ) {
 			data.entityIdentifier = lazyInitializer.getInternalIdentifier();
 		}
 
-		final var entityKey = new EntityKey( data.entityIdentifier, data.concreteDescriptor );
 		final var entityHolder = session.getPersistenceContextInternal().getEntityHolder(
-				entityKey
+				data.concreteDescriptor,
+				data.entityIdentifier
 		);
 
 		if ( entityHolder == null || entityHolder.getEntity() != instance && entityHolder.getProxy() != instance ) {
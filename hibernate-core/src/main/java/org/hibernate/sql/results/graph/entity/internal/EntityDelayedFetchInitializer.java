@@ -194,10 +194,9 @@ private Object instanceWithId(
 		final var session = rowProcessingState.getSession();
 		final var persistenceContext = session.getPersistenceContextInternal();
 
-		final var ek = entityKey == null ?
-				new EntityKey( data.entityIdentifier, concreteDescriptor ) :
-				entityKey;
-		final var holder = persistenceContext.getEntityHolder( ek );
+		final var holder = entityKey == null
+				? persistenceContext.getEntityHolder( concreteDescriptor, data.entityIdentifier )
+				: persistenceContext.getEntityHolder( entityKey );
 		if ( holder != null && holder.getEntity() != null ) {
 			return persistenceContext.proxyFor( holder, concreteDescriptor );
 		}
@@ -327,9 +326,9 @@ public void resolveInstance(Object instance, EntityDelayedFetchInitializerData d
 			final var entityDescriptor = getEntityDescriptor();
 			data.entityIdentifier = entityDescriptor.getIdentifier( instance, session );
 
-			final var entityKey = new EntityKey( data.entityIdentifier, entityDescriptor );
 			final var entityHolder = session.getPersistenceContextInternal().getEntityHolder(
-					entityKey
+					entityDescriptor,
+					data.entityIdentifier
 			);
 
 			if ( entityHolder == null || entityHolder.getEntity() != instance && entityHolder.getProxy() != instance ) {
@@ -340,7 +339,7 @@ public void resolveInstance(Object instance, EntityDelayedFetchInitializerData d
 					data.setInstance( managed );
 				}
 				else {
-					initialize( data, entityKey, entityDescriptor );
+					initialize( data, null, entityDescriptor );
 				}
 			}
 
@@ -167,9 +167,9 @@ else if ( lazyInitializer.isUninitialized() ) {
 				data.entityIdentifier = lazyInitializer.getInternalIdentifier();
 			}
 
-			final var entityKey = new EntityKey( data.entityIdentifier, concreteDescriptor );
 			final var entityHolder = persistenceContext.getEntityHolder(
-					entityKey
+					concreteDescriptor,
+					data.entityIdentifier
 			);
 
 			if ( entityHolder == null || entityHolder.getEntity() != instance && entityHolder.getProxy() != instance ) {
@@ -212,8 +212,8 @@ protected void initialize(EntitySelectFetchInitializerData data) {
 		final var rowProcessingState = data.getRowProcessingState();
 		final var session = rowProcessingState.getSession();
 		final var persistenceContext = session.getPersistenceContextInternal();
-		final EntityKey entityKey = new EntityKey( data.entityIdentifier, concreteDescriptor );
-		initialize( data, persistenceContext.getEntityHolder( entityKey ), session, persistenceContext );
+		initialize( data, persistenceContext.getEntityHolder( concreteDescriptor, data.entityIdentifier ),
+				session, persistenceContext );
 	}
 
 	protected void initialize(
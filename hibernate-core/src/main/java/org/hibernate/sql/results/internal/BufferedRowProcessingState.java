@@ -0,0 +1,175 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.sql.results.internal;
+
+import org.hibernate.LockMode;
+import org.hibernate.engine.spi.CollectionKey;
+import org.hibernate.engine.spi.EntityHolder;
+import org.hibernate.metamodel.mapping.EntityMappingType;
+import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.query.spi.QueryParameterBindings;
+import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
+import org.hibernate.sql.exec.internal.BaseExecutionContext;
+import org.hibernate.sql.exec.spi.Callback;
+import org.hibernate.sql.results.graph.InitializerData;
+import org.hibernate.sql.results.graph.entity.EntityFetch;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingState;
+import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
+import org.hibernate.sql.results.spi.RowReader;
+
+/**
+ * A {@link RowProcessingState} for a row whose JDBC values were read
+ * earlier, and buffered, allowing the row to be assembled by a thread
+ * other than the one reading the {@link java.sql.ResultSet}. All other
+ * operations are delegated to the {@link RowProcessingState} of the
+ * thread which read the row, and so this may only be used to assemble
+ * rows which involve no {@linkplain org.hibernate.sql.results.graph.Initializer
+ * initializers}.
+ *
+ * @since 7.2
+ */
+public class BufferedRowProcessingState extends BaseExecutionContext implements RowProcessingState {
+	private final RowProcessingState processingState;
+	private Object[] jdbcValues;
+
+	public BufferedRowProcessingState(RowProcessingState processingState) {
+		super( processingState.getSession() );
+		this.processingState = processingState;
+	}
+
+	/**
+	 * Make the given buffered JDBC values the values of the current row.
+	 */
+	public void setJdbcValues(Object[] jdbcValues) {
+		this.jdbcValues = jdbcValues;
+	}
+
+	@Override
+	public Object getJdbcValue(int position) {
+		return jdbcValues[position];
+	}
+
+	@Override
+	public RowProcessingState unwrap() {
+		return processingState;
+	}
+
+	// -- delegate the rest
+
+	@Override
+	public <T extends InitializerData> T getInitializerData(int initializerId) {
+		return processingState.getInitializerData( initializerId );
+	}
+
+	@Override
+	public void setInitializerData(int initializerId, InitializerData state) {
+		processingState.setInitializerData( initializerId, state );
+	}
+
+	@Override
+	public JdbcValuesSourceProcessingState getJdbcValuesSourceProcessingState() {
+		return processingState.getJdbcValuesSourceProcessingState();
+	}
+
+	@Override
+	public LockMode determineEffectiveLockMode(String alias) {
+		return processingState.determineEffectiveLockMode( alias );
+	}
+
+	@Override
+	public boolean needsResolveState() {
+		return processingState.needsResolveState();
+	}
+
+	@Override
+	public RowReader<?> getRowReader() {
+		return processingState.getRowReader();
+	}
+
+	@Override
+	public void registerNonExists(EntityFetch fetch) {
+		processingState.registerNonExists( fetch );
+	}
+
+	@Override
+	public boolean isQueryCacheHit() {
+		return processingState.isQueryCacheHit();
+	}
+
+	@Override
+	public void finishRowProcessing(boolean wasAdded) {
+		processingState.finishRowProcessing( wasAdded );
+	}
+
+	@Override
+	public QueryOptions getQueryOptions() {
+		return processingState.getQueryOptions();
+	}
+
+	@Override
+	public QueryParameterBindings getQueryParameterBindings() {
+		return processingState.getQueryParameterBindings();
+	}
+
+	@Override
+	public boolean isScrollResult(){
+		return processingState.isScrollResult();
+	}
+
+	@Override
+	public Callback getCallback() {
+		return processingState.getCallback();
+	}
+
+	@Override
+	public boolean hasCallbackActions() {
+		return processingState.hasCallbackActions();
+	}
+
+	@Override
+	public CollectionKey getCollectionKey() {
+		return processingState.getCollectionKey();
+	}
+
+	@Override
+	public Object getEntityInstance() {
+		return processingState.getEntityInstance();
+	}
+
+	@Override
+	public Object getEntityId() {
+		return processingState.getEntityId();
+	}
+
+	@Override
+	public String getEntityUniqueKeyAttributePath() {
+		return processingState.getEntityUniqueKeyAttributePath();
+	}
+
+	@Override
+	public Object getEntityUniqueKey() {
+		return processingState.getEntityUniqueKey();
+	}
+
+	@Override
+	public EntityMappingType getRootEntityDescriptor() {
+		return processingState.getRootEntityDescriptor();
+	}
+
+	@Override
+	public void registerLoadingEntityHolder(EntityHolder holder) {
+		processingState.registerLoadingEntityHolder( holder );
+	}
+
+	@Override
+	public void afterStatement(LogicalConnectionImplementor logicalConnection) {
+		processingState.afterStatement( logicalConnection );
+	}
+
+	@Override
+	public boolean hasQueryExecutionToBeAddedToStatistics() {
+		return processingState.hasQueryExecutionToBeAddedToStatistics();
+	}
+}
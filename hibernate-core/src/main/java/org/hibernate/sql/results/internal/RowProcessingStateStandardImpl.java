@@ -148,6 +148,21 @@ public Object getJdbcValue(int position) {
 		return jdbcValues.getCurrentRowValue( position );
 	}
 
+	@Override
+	public long getJdbcLongValue(int position) {
+		return jdbcValues.getCurrentRowLongValue( position );
+	}
+
+	@Override
+	public int getJdbcIntValue(int position) {
+		return jdbcValues.getCurrentRowIntValue( position );
+	}
+
+	@Override
+	public double getJdbcDoubleValue(int position) {
+		return jdbcValues.getCurrentRowDoubleValue( position );
+	}
+
 	@Override
 	public void registerNonExists(EntityFetch fetch) {
 	}
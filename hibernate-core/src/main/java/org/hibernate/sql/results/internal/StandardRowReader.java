@@ -13,6 +13,7 @@
 import org.hibernate.sql.results.graph.DomainResultAssembler;
 import org.hibernate.sql.results.graph.Initializer;
 import org.hibernate.sql.results.graph.InitializerData;
+import org.hibernate.sql.results.graph.basic.BasicResultAssembler;
 import org.hibernate.sql.results.graph.entity.EntityInitializer;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMappingResolution;
 import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
@@ -40,6 +41,9 @@
 
 	private final ComponentType componentType;
 	private final Class<?> resultElementClass;
+	// for a primitive array result, the positions of the JDBC
+	// values which may be read without boxing, or -1
+	private final int[] primitiveValuePositions;
 
 	public StandardRowReader(
 			JdbcValuesMappingResolution jdbcValuesMappingResolution,
@@ -91,6 +95,26 @@ public StandardRowReader(
 			this.resultElementClass = domainResultJavaType.getComponentType();
 			this.componentType = ComponentType.determineComponentType( domainResultJavaType );
 		}
+		this.primitiveValuePositions = primitiveValuePositions( resultAssemblers, componentType );
+	}
+
+	private static int[] primitiveValuePositions(DomainResultAssembler<?>[] resultAssemblers, ComponentType componentType) {
+		final Class<?> boxedType = switch ( componentType ) {
+			case LONG -> Long.class;
+			case INT -> Integer.class;
+			case DOUBLE -> Double.class;
+			default -> null;
+		};
+		final int[] positions = new int[resultAssemblers.length];
+		for ( int i = 0; i < resultAssemblers.length; i++ ) {
+			final var assembler = resultAssemblers[i];
+			positions[i] = boxedType != null
+					&& assembler.getClass() == BasicResultAssembler.class
+					&& assembler.getAssembledJavaType().getJavaTypeClass() == boxedType
+					? ( (BasicResultAssembler<?>) assembler ).getUnconvertedValuesArrayPosition()
+					: -1;
+		}
+		return positions;
 	}
 
 	@Override
@@ -193,13 +217,19 @@ private T readPrimitiveRow(RowProcessingState rowProcessingState) {
 			case INT:
 				final int[] resultIntRow = new int[resultAssemblers.length];
 				for ( int i = 0; i < resultAssemblers.length; i++ ) {
-					resultIntRow[i] = (int) resultAssemblers[i].assemble( rowProcessingState );
+					final int position = primitiveValuePositions[i];
+					resultIntRow[i] = position < 0
+							? (int) resultAssemblers[i].assemble( rowProcessingState )
+							: rowProcessingState.getJdbcIntValue( position );
 				}
 				return (T) resultIntRow;
 			case LONG:
 				final long[] resultLongRow = new long[resultAssemblers.length];
 				for ( int i = 0; i < resultAssemblers.length; i++ ) {
-					resultLongRow[i] = (long) resultAssemblers[i].assemble( rowProcessingState );
+					final int position = primitiveValuePositions[i];
+					resultLongRow[i] = position < 0
+							? (long) resultAssemblers[i].assemble( rowProcessingState )
+							: rowProcessingState.getJdbcLongValue( position );
 				}
 				return (T) resultLongRow;
 			case FLOAT:
@@ -211,7 +241,10 @@ private T readPrimitiveRow(RowProcessingState rowProcessingState) {
 			case DOUBLE:
 				final double[] resultDoubleRow = new double[resultAssemblers.length];
 				for ( int i = 0; i < resultAssemblers.length; i++ ) {
-					resultDoubleRow[i] = (double) resultAssemblers[i].assemble( rowProcessingState );
+					final int position = primitiveValuePositions[i];
+					resultDoubleRow[i] = position < 0
+							? (double) resultAssemblers[i].assemble( rowProcessingState )
+							: rowProcessingState.getJdbcDoubleValue( position );
 				}
 				return (T) resultDoubleRow;
 			default:
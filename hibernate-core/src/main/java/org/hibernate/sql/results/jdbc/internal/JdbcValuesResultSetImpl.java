@@ -9,6 +9,7 @@
 import java.util.Arrays;
 import java.util.BitSet;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.hibernate.JDBCException;
 import org.hibernate.QueryTimeoutException;
 import org.hibernate.cache.spi.QueryKey;
@@ -26,6 +27,11 @@
 import org.hibernate.sql.results.caching.internal.QueryCachePutManagerEnabledImpl;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
 import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
+import org.hibernate.type.descriptor.JdbcExtractingLogging;
+import org.hibernate.type.descriptor.jdbc.BasicExtractor;
+import org.hibernate.type.descriptor.jdbc.BigIntJdbcType;
+import org.hibernate.type.descriptor.jdbc.DoubleJdbcType;
+import org.hibernate.type.descriptor.jdbc.IntegerJdbcType;
 
 /**
  * {@link AbstractJdbcValues} implementation for a JDBC {@link ResultSet} as the source
@@ -33,6 +39,11 @@
  * @author Steve Ebersole
  */
 public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
+	// the kinds of value which may be read from the ResultSet without boxing
+	private static final byte NOT_PRIMITIVE = 0;
+	private static final byte LONG = 1;
+	private static final byte INT = 2;
+	private static final byte DOUBLE = 3;
 
 	private final QueryCachePutManager queryCachePutManager;
 	private final ResultSet resultSet;
@@ -45,6 +56,11 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 	private final SqlSelection[] sqlSelections;
 	private final BitSet initializedIndexes;
 	private final Object[] currentRowJdbcValues;
+	// null if no value may be read without boxing
+	private final byte @Nullable [] primitiveKinds;
+	// values read without boxing, with doubles stored as raw long bits
+	private final long @Nullable [] currentRowPrimitiveValues;
+	private final @Nullable BitSet primitiveIndexes;
 	private final int[] valueIndexesToCacheIndexes;
 	// Is only meaningful if valueIndexesToCacheIndexes is not null
 	// Contains the size of the row to cache, or if the value is negative,
@@ -82,6 +98,16 @@ public JdbcValuesResultSetImpl(
 		}
 		this.initializedIndexes = new BitSet( rowSize );
 		this.currentRowJdbcValues = new Object[rowSize];
+		// the query cache needs the boxed values anyway
+		this.primitiveKinds = queryCachePutManager == null ? primitiveKinds( sqlSelections ) : null;
+		if ( primitiveKinds == null ) {
+			this.currentRowPrimitiveValues = null;
+			this.primitiveIndexes = null;
+		}
+		else {
+			this.currentRowPrimitiveValues = new long[rowSize];
+			this.primitiveIndexes = new BitSet( rowSize );
+		}
 		if ( queryCachePutManager == null ) {
 			this.valueIndexesToCacheIndexes = null;
 			this.rowToCacheSize = -1;
@@ -104,6 +130,47 @@ public JdbcValuesResultSetImpl(
 		}
 	}
 
+	/**
+	 * Determine which values may be read directly as primitives, with the
+	 * same result as the standard {@linkplain SqlSelection#getJdbcValueExtractor
+	 * extractor}, or return null if no value may be read in this way.
+	 */
+	private static byte @Nullable [] primitiveKinds(SqlSelection[] sqlSelections) {
+		if ( JdbcExtractingLogging.LOGGER.isTraceEnabled() ) {
+			// the extractor logs every value
+			return null;
+		}
+		byte[] kinds = null;
+		for ( int i = 0; i < sqlSelections.length; i++ ) {
+			final var sqlSelection = sqlSelections[i];
+			final byte kind = sqlSelection == null ? NOT_PRIMITIVE : primitiveKind( sqlSelection );
+			if ( kind != NOT_PRIMITIVE ) {
+				if ( kinds == null ) {
+					kinds = new byte[sqlSelections.length];
+				}
+				kinds[i] = kind;
+			}
+		}
+		return kinds;
+	}
+
+	private static byte primitiveKind(SqlSelection sqlSelection) {
+		if ( sqlSelection.getJdbcValueExtractor() instanceof BasicExtractor<?> extractor ) {
+			final var jdbcTypeClass = extractor.getJdbcType().getClass();
+			final var javaTypeClass = extractor.getJavaType().getJavaTypeClass();
+			if ( jdbcTypeClass == BigIntJdbcType.class && javaTypeClass == Long.class ) {
+				return LONG;
+			}
+			else if ( jdbcTypeClass == IntegerJdbcType.class && javaTypeClass == Integer.class ) {
+				return INT;
+			}
+			else if ( jdbcTypeClass == DoubleJdbcType.class && javaTypeClass == Double.class ) {
+				return DOUBLE;
+			}
+		}
+		return NOT_PRIMITIVE;
+	}
+
 	private int determineResultCountEstimate(
 			ResultSetAccess resultSetAccess,
 			QueryOptions queryOptions,
@@ -324,6 +391,9 @@ private ExecutionException makeExecutionException(String message, SQLException c
 
 	public void readCurrentRowValues() {
 		initializedIndexes.clear();
+		if ( primitiveIndexes != null ) {
+			primitiveIndexes.clear();
+		}
 	}
 
 	@Override
@@ -379,6 +449,11 @@ else if ( rowToCacheSize < 1 ) {
 	public Object getCurrentRowValue(int valueIndex) {
 		if ( !initializedIndexes.get( valueIndex ) ) {
 			initializedIndexes.set( valueIndex );
+			if ( primitiveIndexes != null && primitiveIndexes.get( valueIndex ) ) {
+				// already read without boxing
+				currentRowJdbcValues[valueIndex] = boxPrimitiveValue( valueIndex );
+				return currentRowJdbcValues[valueIndex];
+			}
 			final SqlSelection sqlSelection = sqlSelections[valueIndex];
 			final int index = sqlSelection.getJdbcResultSetIndex();
 			try {
@@ -397,6 +472,77 @@ public Object getCurrentRowValue(int valueIndex) {
 		return currentRowJdbcValues[valueIndex];
 	}
 
+	@Override
+	public long getCurrentRowLongValue(int valueIndex) {
+		return readPrimitiveValue( valueIndex, LONG )
+				? currentRowPrimitiveValues[valueIndex]
+				: (Long) getCurrentRowValue( valueIndex );
+	}
+
+	@Override
+	public int getCurrentRowIntValue(int valueIndex) {
+		return readPrimitiveValue( valueIndex, INT )
+				? (int) currentRowPrimitiveValues[valueIndex]
+				: (Integer) getCurrentRowValue( valueIndex );
+	}
+
+	@Override
+	public double getCurrentRowDoubleValue(int valueIndex) {
+		return readPrimitiveValue( valueIndex, DOUBLE )
+				? Double.longBitsToDouble( currentRowPrimitiveValues[valueIndex] )
+				: (Double) getCurrentRowValue( valueIndex );
+	}
+
+	/**
+	 * Read the value at the given index directly from the {@link ResultSet}
+	 * as a primitive of the given kind, if possible.
+	 *
+	 * @return {@code false} if the value cannot be read as a primitive of the
+	 *         given kind, if it was already read as an object, or if it is null
+	 */
+	private boolean readPrimitiveValue(int valueIndex, byte kind) {
+		if ( primitiveKinds == null || primitiveKinds[valueIndex] != kind ) {
+			return false;
+		}
+		else if ( primitiveIndexes.get( valueIndex ) ) {
+			return true;
+		}
+		else if ( initializedIndexes.get( valueIndex ) ) {
+			return false;
+		}
+		else {
+			final int index = sqlSelections[valueIndex].getJdbcResultSetIndex();
+			try {
+				final long value = switch ( kind ) {
+					case LONG -> resultSet.getLong( index );
+					case INT -> resultSet.getInt( index );
+					default -> Double.doubleToRawLongBits( resultSet.getDouble( index ) );
+				};
+				if ( resultSet.wasNull() ) {
+					initializedIndexes.set( valueIndex );
+					currentRowJdbcValues[valueIndex] = null;
+					return false;
+				}
+				currentRowPrimitiveValues[valueIndex] = value;
+				primitiveIndexes.set( valueIndex );
+				return true;
+			}
+			catch ( SQLException e ) {
+				throw executionContext.getSession().getJdbcServices().getSqlExceptionHelper()
+						.convert( e, "Could not extract column [" + index + "] from JDBC ResultSet" );
+			}
+		}
+	}
+
+	private Object boxPrimitiveValue(int valueIndex) {
+		final long value = currentRowPrimitiveValues[valueIndex];
+		return switch ( primitiveKinds[valueIndex] ) {
+			case LONG -> Long.valueOf( value );
+			case INT -> Integer.valueOf( (int) value );
+			default -> Double.valueOf( Double.longBitsToDouble( value ) );
+		};
+	}
+
 	@Override
 	public void setFetchSize(int fetchSize) {
 		try {
@@ -74,6 +74,42 @@ public interface JdbcValues {
 	 */
 	Object getCurrentRowValue(int valueIndex);
 
+	/**
+	 * Get the JDBC value at the given index for the current row, as a
+	 * primitive {@code long}, avoiding boxing where possible.
+	 *
+	 * @throws NullPointerException if the value is null
+	 *
+	 * @since 7.2
+	 */
+	default long getCurrentRowLongValue(int valueIndex) {
+		return (Long) getCurrentRowValue( valueIndex );
+	}
+
+	/**
+	 * Get the JDBC value at the given index for the current row, as a
+	 * primitive {@code int}, avoiding boxing where possible.
+	 *
+	 * @throws NullPointerException if the value is null
+	 *
+	 * @since 7.2
+	 */
+	default int getCurrentRowIntValue(int valueIndex) {
+		return (Integer) getCurrentRowValue( valueIndex );
+	}
+
+	/**
+	 * Get the JDBC value at the given index for the current row, as a
+	 * primitive {@code double}, avoiding boxing where possible.
+	 *
+	 * @throws NullPointerException if the value is null
+	 *
+	 * @since 7.2
+	 */
+	default double getCurrentRowDoubleValue(int valueIndex) {
+		return (Double) getCurrentRowValue( valueIndex );
+	}
+
 	void finishRowProcessing(RowProcessingState rowProcessingState, boolean wasAdded);
 
 	/**
@@ -56,6 +56,45 @@ default Object getJdbcValue(SqlSelection sqlSelection) {
 	 */
 	Object getJdbcValue(int position);
 
+	/**
+	 * Retrieve the value corresponding to the given index as part of the
+	 * "current JDBC row", as a primitive {@code long}, without boxing it,
+	 * if possible.
+	 *
+	 * @throws NullPointerException if the value is null
+	 *
+	 * @since 7.2
+	 */
+	default long getJdbcLongValue(int position) {
+		return (Long) getJdbcValue( position );
+	}
+
+	/**
+	 * Retrieve the value corresponding to the given index as part of the
+	 * "current JDBC row", as a primitive {@code int}, without boxing it,
+	 * if possible.
+	 *
+	 * @throws NullPointerException if the value is null
+	 *
+	 * @since 7.2
+	 */
+	default int getJdbcIntValue(int position) {
+		return (Integer) getJdbcValue( position );
+	}
+
+	/**
+	 * Retrieve the value corresponding to the given index as part of the
+	 * "current JDBC row", as a primitive {@code double}, without boxing it,
+	 * if possible.
+	 *
+	 * @throws NullPointerException if the value is null
+	 *
+	 * @since 7.2
+	 */
+	default double getJdbcDoubleValue(int position) {
+		return (Double) getJdbcValue( position );
+	}
+
 	void registerNonExists(EntityFetch fetch);
 
 	boolean isQueryCacheHit();
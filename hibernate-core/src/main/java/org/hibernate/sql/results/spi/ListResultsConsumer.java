@@ -8,12 +8,15 @@
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 
 import org.hibernate.HibernateException;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.query.ResultListTransformer;
 import org.hibernate.sql.exec.spi.ExecutionContext;
+import org.hibernate.sql.results.internal.BufferedRowProcessingState;
 import org.hibernate.sql.results.internal.RowProcessingStateStandardImpl;
 import org.hibernate.sql.results.jdbc.spi.JdbcValues;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingOptions;
@@ -38,6 +41,14 @@
 	 */
 	private static final int INITIAL_COLLECTION_SIZE_LIMIT = 1 << 13;
 
+	/**
+	 * The number of rows read from the JDBC results before their assembly is
+	 * handed off to another thread, when parallel result assembly is enabled.
+	 *
+	 * @see org.hibernate.cfg.QuerySettings#PARALLEL_RESULT_ASSEMBLY
+	 */
+	private static final int PARALLEL_ASSEMBLY_CHUNK_SIZE = 1 << 10;
+
 	private static final ListResultsConsumer<?> NEVER_DE_DUP_CONSUMER = new ListResultsConsumer<>( UniqueSemantic.NEVER );
 	private static final ListResultsConsumer<?> ALLOW_DE_DUP_CONSUMER = new ListResultsConsumer<>( UniqueSemantic.ALLOW );
 	private static final ListResultsConsumer<?> IGNORE_DUP_CONSUMER = new ListResultsConsumer<>( UniqueSemantic.NONE );
@@ -163,7 +174,7 @@ public List<R> consume(
 			final boolean isEntityResultType = domainResultJavaType instanceof EntityJavaType;
 			final int initialCollectionSize = Math.min( jdbcValues.getResultCountEstimate(), INITIAL_COLLECTION_SIZE_LIMIT );
 			final Results<R> results = createResults( isEntityResultType, domainResultJavaType, initialCollectionSize );
-			final int readRows = readRows( rowProcessingState, rowReader, isEntityResultType, results );
+			final int readRows = readRows( jdbcValues, session, rowProcessingState, rowReader, isEntityResultType, results );
 			rowReader.finishUp( rowProcessingState );
 			jdbcValuesSourceProcessingState.finishUp( readRows > 1 );
 			return transformList( rowProcessingState, results );
@@ -219,6 +230,8 @@ private Results<R> createResults(
 	}
 
 	private int readRows(
+			JdbcValues jdbcValues,
+			SharedSessionContractImplementor session,
 			RowProcessingStateStandardImpl rowProcessingState,
 			RowReader<R> rowReader,
 			boolean isEntityResultType,
@@ -231,11 +244,108 @@ private int readRows(
 		else if ( uniqueSemantic == UniqueSemantic.ASSERT ) {
 			return readUniqueAssert( rowProcessingState, rowReader, results );
 		}
+		else if ( isParallelAssemblyPossible( session, rowProcessingState, rowReader ) ) {
+			return readParallel( jdbcValues.getValuesMapping().getRowSize(), rowProcessingState, rowReader, results );
+		}
 		else {
 			return read( rowProcessingState, rowReader, results );
 		}
 	}
 
+	/**
+	 * Parallel assembly is only possible if assembling a row does not touch
+	 * the persistence context, that is, if there are no initializers, and if
+	 * there is no user-written {@link org.hibernate.query.TupleTransformer},
+	 * which might not be thread-safe.
+	 */
+	private static boolean isParallelAssemblyPossible(
+			SharedSessionContractImplementor session,
+			RowProcessingStateStandardImpl rowProcessingState,
+			RowReader<?> rowReader) {
+		return session.getFactory().getSessionFactoryOptions().isParallelResultAssemblyEnabled()
+			&& rowReader.getInitializerCount() == 0
+			&& rowProcessingState.getQueryOptions().getTupleTransformer() == null;
+	}
+
+	/**
+	 * Read the JDBC values of the rows in chunks, assembling each full chunk
+	 * in the common pool while reading the next chunk.
+	 */
+	private static <R> int readParallel(
+			int rowSize,
+			RowProcessingStateStandardImpl rowProcessingState,
+			RowReader<R> rowReader,
+			Results<R> results) {
+		final List<AssemblyTask<R>> tasks = new ArrayList<>();
+		Object[][] chunk = new Object[PARALLEL_ASSEMBLY_CHUNK_SIZE][];
+		int chunkRows = 0;
+		int readRows = 0;
+		try {
+			while ( rowProcessingState.next() ) {
+				final Object[] jdbcValues = new Object[rowSize];
+				for ( int i = 0; i < rowSize; i++ ) {
+					jdbcValues[i] = rowProcessingState.getJdbcValue( i );
+				}
+				chunk[chunkRows++] = jdbcValues;
+				rowProcessingState.finishRowProcessing( true );
+				readRows++;
+				if ( chunkRows == PARALLEL_ASSEMBLY_CHUNK_SIZE ) {
+					final var task = new AssemblyTask<>( chunk, chunkRows, rowProcessingState, rowReader );
+					ForkJoinPool.commonPool().execute( task );
+					tasks.add( task );
+					chunk = new Object[PARALLEL_ASSEMBLY_CHUNK_SIZE][];
+					chunkRows = 0;
+				}
+			}
+			// assemble the last partial chunk on this thread
+			final var remainder = new AssemblyTask<>( chunk, chunkRows, rowProcessingState, rowReader ).compute();
+			for ( var task : tasks ) {
+				for ( R result : task.join() ) {
+					results.add( result );
+				}
+			}
+			for ( R result : remainder ) {
+				results.add( result );
+			}
+			return readRows;
+		}
+		catch (RuntimeException e) {
+			for ( var task : tasks ) {
+				task.cancel( false );
+			}
+			throw e;
+		}
+	}
+
+	private static class AssemblyTask<R> extends RecursiveTask<List<R>> {
+		private final Object[][] chunk;
+		private final int chunkRows;
+		private final RowProcessingStateStandardImpl rowProcessingState;
+		private final RowReader<R> rowReader;
+
+		private AssemblyTask(
+				Object[][] chunk,
+				int chunkRows,
+				RowProcessingStateStandardImpl rowProcessingState,
+				RowReader<R> rowReader) {
+			this.chunk = chunk;
+			this.chunkRows = chunkRows;
+			this.rowProcessingState = rowProcessingState;
+			this.rowReader = rowReader;
+		}
+
+		@Override
+		protected List<R> compute() {
+			final var bufferedRowProcessingState = new BufferedRowProcessingState( rowProcessingState );
+			final List<R> assembled = new ArrayList<>( chunkRows );
+			for ( int i = 0; i < chunkRows; i++ ) {
+				bufferedRowProcessingState.setJdbcValues( chunk[i] );
+				assembled.add( rowReader.readRow( bufferedRowProcessingState ) );
+			}
+			return assembled;
+		}
+	}
+
 	private static <R> int read(
 			RowProcessingStateStandardImpl rowProcessingState,
 			RowReader<R> rowReader,
@@ -6,6 +6,8 @@
 
 import java.io.Serializable;
 
+import org.hibernate.Incubating;
+
 /**
  * Second-level cache statistics of a specific region.
  *
@@ -76,4 +78,44 @@ public interface CacheRegionStatistics extends Serializable {
 	 * is returned instead.
 	 */
 	long getSizeInMemory();
+
+	/**
+	 * The number of query results stored in the region in compact form
+	 * since the last Statistics clearing.
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#QUERY_CACHE_COMPACT_RESULTS
+	 *
+	 * @since 7.2
+	 */
+	@Incubating
+	default long getQueryResultsEncodedPutCount() {
+		return 0;
+	}
+
+	/**
+	 * The total size in bytes of the query results stored in the region in
+	 * compact form since the last Statistics clearing, not including values
+	 * which could not be encoded.
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#QUERY_CACHE_COMPACT_RESULTS
+	 *
+	 * @since 7.2
+	 */
+	@Incubating
+	default long getQueryResultsEncodedSize() {
+		return 0;
+	}
+
+	/**
+	 * The average size in bytes of the query results stored in the region
+	 * in compact form, or zero if no results have been stored in compact
+	 * form since the last Statistics clearing.
+	 *
+	 * @since 7.2
+	 */
+	@Incubating
+	default long getAverageQueryResultsEncodedSize() {
+		final long count = getQueryResultsEncodedPutCount();
+		return count == 0 ? 0 : getQueryResultsEncodedSize() / count;
+	}
 }
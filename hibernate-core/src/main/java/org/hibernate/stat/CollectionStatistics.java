@@ -42,4 +42,20 @@ public interface CollectionStatistics extends CacheableDataStatistics, Serializa
 	 * has been updated
 	 */
 	long getUpdateCount();
+
+	/**
+	 * The estimated time in microseconds within which the given
+	 * fraction of the fetches of this collection completed, for
+	 * example, the 99th percentile of the fetch time when the
+	 * argument is {@code 0.99}. The estimate may exceed the real
+	 * value by up to an eighth.
+	 *
+	 * @param percentile a fraction between 0 and 1
+	 *
+	 * @since 7.2
+	 */
+	default long getFetchTimePercentileMicroseconds(double percentile) {
+		//For backward compatibility
+		return 0;
+	}
 }
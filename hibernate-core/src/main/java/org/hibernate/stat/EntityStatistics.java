@@ -48,4 +48,20 @@ public interface EntityStatistics extends CacheableDataStatistics, Serializable
 	 * has experienced an optimistic lock failure.
 	 */
 	long getOptimisticFailureCount();
+
+	/**
+	 * The estimated time in microseconds within which the given
+	 * fraction of the fetches of this entity completed, for
+	 * example, the 99th percentile of the fetch time when the
+	 * argument is {@code 0.99}. The estimate may exceed the real
+	 * value by up to an eighth.
+	 *
+	 * @param percentile a fraction between 0 and 1
+	 *
+	 * @since 7.2
+	 */
+	default long getFetchTimePercentileMicroseconds(double percentile) {
+		//For backward compatibility
+		return 0;
+	}
 }
@@ -0,0 +1,45 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.stat;
+
+import java.io.Serializable;
+
+import org.hibernate.Incubating;
+
+/**
+ * Statistics of one of the caches Hibernate uses internally, for example
+ * the caches making up the {@linkplain org.hibernate.query.spi.QueryInterpretationCache
+ * query interpretation cache}.
+ *
+ * @see Statistics#getInternalCacheStatistics(String)
+ *
+ * @since 7.2
+ */
+@Incubating
+public interface InternalCacheStatistics extends Serializable {
+	/**
+	 * The name of the cache.
+	 */
+	String getName();
+
+	/**
+	 * The number of successful look-ups since the last Statistics clearing
+	 */
+	long getHitCount();
+
+	/**
+	 * The number of unsuccessful look-ups since the last Statistics clearing
+	 */
+	long getMissCount();
+
+	/**
+	 * The number of entries evicted to make room for new entries since the
+	 * last Statistics clearing. A large number, relative to the number of
+	 * misses, indicates that the cache is too small for the workload.
+	 * <p>
+	 * Always zero for cache implementations which do not report evictions.
+	 */
+	long getEvictionCount();
+}
@@ -103,4 +103,35 @@ default long getPlanCompilationTotalMicroseconds() {
 		//For backward compatibility
 		return 0;
 	}
+
+	/**
+	 * The number of distinct SQL statements to which this query
+	 * has been translated. A query may be translated to more than
+	 * one SQL statement when arguments of different sizes are
+	 * bound to a multivalued parameter. Enabling
+	 * {@linkplain org.hibernate.cfg.QuerySettings#IN_CLAUSE_PARAMETER_PADDING
+	 * padding} of {@code in} lists reduces this number.
+	 *
+	 * @since 7.2
+	 */
+	default long getDistinctSqlCount() {
+		//For backward compatibility
+		return 0;
+	}
+
+	/**
+	 * The estimated time in milliseconds within which the given
+	 * fraction of the executions of this query completed, for
+	 * example, the 99th percentile of the execution time when
+	 * the argument is {@code 0.99}. The estimate may exceed the
+	 * real value by up to an eighth.
+	 *
+	 * @param percentile a fraction between 0 and 1
+	 *
+	 * @since 7.2
+	 */
+	default long getExecutionTimePercentile(double percentile) {
+		//For backward compatibility
+		return 0;
+	}
 }
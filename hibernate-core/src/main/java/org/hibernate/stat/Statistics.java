@@ -8,6 +8,7 @@
 import java.util.Map;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
+import org.hibernate.Incubating;
 
 /**
  * Exposes statistics collected from all sessions belonging to a given
@@ -262,6 +263,23 @@ public interface Statistics {
 	 */
 	long getConnectCount();
 
+	/**
+	 * The estimated time in microseconds within which the given
+	 * fraction of the connections requested by sessions were
+	 * obtained from the {@link org.hibernate.engine.jdbc.connections.spi.ConnectionProvider},
+	 * for example, the 99th percentile of the time spent waiting
+	 * for a connection when the argument is {@code 0.99}. The
+	 * estimate may exceed the real value by up to an eighth.
+	 *
+	 * @param percentile a fraction between 0 and 1
+	 *
+	 * @since 7.2
+	 */
+	default long getConnectTimePercentileMicroseconds(double percentile) {
+		//For backward compatibility
+		return 0;
+	}
+
 	/**
 	 * The global number of cacheable entities and collections successfully
 	 * retrieved from the cache.
@@ -354,6 +372,20 @@ public interface Statistics {
 	 */
 	Map<String,Long> getSlowQueries();
 
+	/**
+	 * If {@value org.hibernate.cfg.BatchSettings#ADAPTIVE_BATCH_SIZE}
+	 * is enabled, an immutable snapshot of the map from the batch key to
+	 * the JDBC batch size most recently chosen for it.
+	 *
+	 * @since 7.2
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#ADAPTIVE_BATCH_SIZE
+	 */
+	@Incubating
+	default Map<String,Integer> getJdbcBatchSizes() {
+		return Map.of();
+	}
+
 	/**
 	 * The names of all entities.
 	 */
@@ -391,6 +423,36 @@ public interface Statistics {
 	 */
 	long getCloseStatementCount();
 
+	/**
+	 * The number of batches of entity ids or collection keys assembled
+	 * for batch fetching.
+	 *
+	 * @see org.hibernate.annotations.BatchSize
+	 *
+	 * @since 7.2
+	 */
+	default long getBatchFetchCount() {
+		//For backward compatibility
+		return 0;
+	}
+
+	/**
+	 * The fraction of the positions in the batches assembled for batch
+	 * fetching which were filled with keys, that is, the average number
+	 * of keys fetched per batch, divided by the batch size. A low ratio
+	 * indicates that the batch size is larger than necessary, or that
+	 * few of the entities or collections were pending when batches were
+	 * fetched.
+	 *
+	 * @return a fraction between 0 and 1, or zero if no batch was fetched
+	 *
+	 * @since 7.2
+	 */
+	default double getBatchFetchHitRatio() {
+		//For backward compatibility
+		return 0;
+	}
+
 	/**
 	 * The number of Hibernate {@code StaleObjectStateException}s or JPA
 	 * {@code OptimisticLockException}s that have occurred.
@@ -406,4 +468,32 @@ public interface Statistics {
 	 * The global number of query plans lookups <em>not</em> found in cache.
 	 */
 	long getQueryPlanCacheMissCount();
+
+	/**
+	 * The names of the internal caches for which statistics have been
+	 * collected, for example the caches making up the
+	 * {@linkplain org.hibernate.query.spi.QueryInterpretationCache
+	 * query interpretation cache}.
+	 *
+	 * @since 7.2
+	 */
+	default String[] getInternalCacheNames() {
+		//For backward compatibility
+		return new String[0];
+	}
+
+	/**
+	 * Statistics of the internal cache with the given name, or {@code null}
+	 * if no statistics have been collected for a cache of that name.
+	 *
+	 * @param cacheName The name of the internal cache
+	 *
+	 * @see #getInternalCacheNames()
+	 *
+	 * @since 7.2
+	 */
+	default @Nullable InternalCacheStatistics getInternalCacheStatistics(String cacheName) {
+		//For backward compatibility
+		return null;
+	}
 }
@@ -25,6 +25,8 @@ public class CacheRegionStatisticsImpl implements CacheRegionStatistics, Seriali
 	private final LongAdder missCount = new LongAdder();
 	private final LongAdder putCount = new LongAdder();
 	private final LongAdder removeCount = new LongAdder();
+	private final LongAdder encodedPutCount = new LongAdder();
+	private final LongAdder encodedSize = new LongAdder();
 
 	CacheRegionStatisticsImpl(Region region) {
 		regionName = region.getName();
@@ -59,6 +61,16 @@ public long getRemoveCount() {
 		return removeCount.sum();
 	}
 
+	@Override
+	public long getQueryResultsEncodedPutCount() {
+		return encodedPutCount.sum();
+	}
+
+	@Override
+	public long getQueryResultsEncodedSize() {
+		return encodedSize.sum();
+	}
+
 	@Override
 	public long getElementCountInMemory() {
 		return extendedStatisticsSupport == null
@@ -92,6 +104,11 @@ void incrementPutCount() {
 		putCount.increment();
 	}
 
+	void incrementEncodedPutCount(long size) {
+		encodedPutCount.increment();
+		encodedSize.add( size );
+	}
+
 
 	public void incrementRemoveCount() {
 		removeCount.increment();
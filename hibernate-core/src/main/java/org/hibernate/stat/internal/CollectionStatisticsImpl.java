@@ -20,16 +20,19 @@ public class CollectionStatisticsImpl extends AbstractCacheableDataStatistics im
 	private final String collectionRole;
 	private final LongAdder loadCount = new LongAdder();
 	private final LongAdder fetchCount = new LongAdder();
+	private final LatencyHistogram fetchTimes = new LatencyHistogram();
 	private final LongAdder updateCount = new LongAdder();
 	private final LongAdder removeCount = new LongAdder();
 	private final LongAdder recreateCount = new LongAdder();
+	private final int sampleRate;
 
-	CollectionStatisticsImpl(CollectionPersister persister) {
+	CollectionStatisticsImpl(CollectionPersister persister, int sampleRate) {
 		super( () -> {
 			final var cache = persister.getCacheAccessStrategy();
 			return cache == null ? null : cache.getRegion();
 		} );
 		collectionRole = persister.getRole();
+		this.sampleRate = sampleRate;
 	}
 
 	public long getLoadCount() {
@@ -40,6 +43,10 @@ public long getFetchCount() {
 		return fetchCount.sum();
 	}
 
+	public long getFetchTimePercentileMicroseconds(double percentile) {
+		return fetchTimes.percentile( percentile );
+	}
+
 	public long getRecreateCount() {
 		return recreateCount.sum();
 	}
@@ -53,23 +60,28 @@ public long getUpdateCount() {
 	}
 
 	void incrementLoadCount() {
-		loadCount.increment();
+		loadCount.add( sampleRate );
 	}
 
 	void incrementFetchCount() {
-		fetchCount.increment();
+		fetchCount.add( sampleRate );
+	}
+
+	void fetched(long microseconds) {
+		fetchCount.add( sampleRate );
+		fetchTimes.record( microseconds );
 	}
 
 	void incrementUpdateCount() {
-		updateCount.increment();
+		updateCount.add( sampleRate );
 	}
 
 	void incrementRecreateCount() {
-		recreateCount.increment();
+		recreateCount.add( sampleRate );
 	}
 
 	void incrementRemoveCount() {
-		removeCount.increment();
+		removeCount.add( sampleRate );
 	}
 
 	public String toString() {
@@ -24,14 +24,17 @@ public class EntityStatisticsImpl extends AbstractCacheableDataStatistics implem
 	private final LongAdder insertCount = new LongAdder();
 	private final LongAdder deleteCount = new LongAdder();
 	private final LongAdder fetchCount = new LongAdder();
+	private final LatencyHistogram fetchTimes = new LatencyHistogram();
 	private final LongAdder optimisticFailureCount = new LongAdder();
+	private final int sampleRate;
 
-	EntityStatisticsImpl(EntityPersister rootEntityDescriptor) {
+	EntityStatisticsImpl(EntityPersister rootEntityDescriptor, int sampleRate) {
 		super( () -> {
 			final var cache = rootEntityDescriptor.getCacheAccessStrategy();
 			return cache != null ? cache.getRegion() : null;
 		} );
 		rootEntityName = rootEntityDescriptor.getRootEntityName();
+		this.sampleRate = sampleRate;
 	}
 
 	public long getDeleteCount() {
@@ -58,36 +61,45 @@ public long getFetchCount() {
 		return fetchCount.sum();
 	}
 
+	public long getFetchTimePercentileMicroseconds(double percentile) {
+		return fetchTimes.percentile( percentile );
+	}
+
 	public long getOptimisticFailureCount() {
 		return optimisticFailureCount.sum();
 	}
 
 	void incrementLoadCount() {
-		loadCount.increment();
+		loadCount.add( sampleRate );
 	}
 
 	void incrementFetchCount() {
-		fetchCount.increment();
+		fetchCount.add( sampleRate );
+	}
+
+	void fetched(long microseconds) {
+		fetchCount.add( sampleRate );
+		fetchTimes.record( microseconds );
 	}
 
 	void incrementUpdateCount() {
-		updateCount.increment();
+		updateCount.add( sampleRate );
 	}
 
 	void incrementUpsertCount() {
-		upsertCount.increment();
+		upsertCount.add( sampleRate );
 	}
 
 	void incrementInsertCount() {
-		insertCount.increment();
+		insertCount.add( sampleRate );
 	}
 
 	void incrementDeleteCount() {
-		deleteCount.increment();
+		deleteCount.add( sampleRate );
 	}
 
 	void incrementOptimisticFailureCount() {
-		optimisticFailureCount.increment();
+		optimisticFailureCount.add( sampleRate );
 	}
 
 	public String toString() {
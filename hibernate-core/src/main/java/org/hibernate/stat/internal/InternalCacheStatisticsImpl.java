@@ -0,0 +1,67 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.stat.internal;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.stat.InternalCacheStatistics;
+
+/**
+ * Statistics of a specific internal cache
+ */
+public class InternalCacheStatisticsImpl implements InternalCacheStatistics, Serializable {
+	private final String name;
+
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+	private final LongAdder evictionCount = new LongAdder();
+
+	InternalCacheStatisticsImpl(String name) {
+		this.name = name;
+	}
+
+	@Override
+	public String getName() {
+		return name;
+	}
+
+	@Override
+	public long getHitCount() {
+		return hitCount.sum();
+	}
+
+	@Override
+	public long getMissCount() {
+		return missCount.sum();
+	}
+
+	@Override
+	public long getEvictionCount() {
+		return evictionCount.sum();
+	}
+
+	void incrementHitCount() {
+		hitCount.increment();
+	}
+
+	void incrementMissCount() {
+		missCount.increment();
+	}
+
+	void incrementEvictionCount() {
+		evictionCount.increment();
+	}
+
+	@Override
+	public String toString() {
+		return "InternalCacheStatistics"
+				+ "[name=" + name
+				+ ",hitCount=" + this.hitCount
+				+ ",missCount=" + this.missCount
+				+ ",evictionCount=" + this.evictionCount
+				+ ']';
+	}
+}
@@ -0,0 +1,99 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.stat.internal;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free histogram of durations with a fixed memory footprint,
+ * from which percentiles may be estimated.
+ * <p>
+ * Small values are counted exactly, and larger values are counted in
+ * logarithmic buckets, each power of two being divided into eight
+ * linear sub-buckets, in the manner of an HdrHistogram. The estimated
+ * percentile is the highest value of its bucket, and so is at most
+ * 12.5% greater than the real value. Values beyond {@code 2^33} are
+ * counted in the last bucket.
+ * <p>
+ * The unit of the recorded values is determined by the caller.
+ */
+final class LatencyHistogram implements Serializable {
+	private static final int EXACT_VALUES = 16;
+	private static final int MIN_MAGNITUDE = 4; // log2( EXACT_VALUES )
+	private static final int MAX_MAGNITUDE = 32;
+	private static final int SUB_BUCKET_BITS = 3;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	private static final int BUCKETS = EXACT_VALUES + ( MAX_MAGNITUDE - MIN_MAGNITUDE + 1 ) * SUB_BUCKETS;
+
+	private final AtomicLongArray counts = new AtomicLongArray( BUCKETS );
+
+	/**
+	 * Count an occurrence of the given duration.
+	 */
+	void record(long value) {
+		counts.incrementAndGet( bucket( value ) );
+	}
+
+	/**
+	 * Estimate the duration below which the given fraction of the recorded
+	 * durations fall.
+	 *
+	 * @param percentile a fraction between 0 and 1, for example, 0.99
+	 *
+	 * @return the estimated duration, or zero if nothing was recorded
+	 */
+	long percentile(double percentile) {
+		final long[] snapshot = new long[BUCKETS];
+		long total = 0;
+		for ( int i = 0; i < BUCKETS; i++ ) {
+			snapshot[i] = counts.get( i );
+			total += snapshot[i];
+		}
+		if ( total == 0 ) {
+			return 0;
+		}
+		else {
+			final double fraction = Math.min( Math.max( percentile, 0.0 ), 1.0 );
+			final long rank = Math.max( 1, (long) Math.ceil( fraction * total ) );
+			long cumulative = 0;
+			for ( int i = 0; i < BUCKETS; i++ ) {
+				cumulative += snapshot[i];
+				if ( cumulative >= rank ) {
+					return highestValue( i );
+				}
+			}
+			return highestValue( BUCKETS - 1 );
+		}
+	}
+
+	static int bucket(long value) {
+		if ( value < EXACT_VALUES ) {
+			return value < 0 ? 0 : (int) value;
+		}
+		else {
+			final int magnitude = 63 - Long.numberOfLeadingZeros( value );
+			if ( magnitude > MAX_MAGNITUDE ) {
+				return BUCKETS - 1;
+			}
+			else {
+				final int subBucket = (int) ( value >>> ( magnitude - SUB_BUCKET_BITS ) ) & ( SUB_BUCKETS - 1 );
+				return EXACT_VALUES + ( magnitude - MIN_MAGNITUDE ) * SUB_BUCKETS + subBucket;
+			}
+		}
+	}
+
+	static long highestValue(int bucket) {
+		if ( bucket < EXACT_VALUES ) {
+			return bucket;
+		}
+		else {
+			final int magnitude = MIN_MAGNITUDE + ( bucket - EXACT_VALUES ) / SUB_BUCKETS;
+			final int subBucket = ( bucket - EXACT_VALUES ) % SUB_BUCKETS;
+			final int shift = magnitude - SUB_BUCKET_BITS;
+			return ( (long) ( SUB_BUCKETS + subBucket + 1 ) << shift ) - 1;
+		}
+	}
+}
@@ -4,6 +4,8 @@
  */
 package org.hibernate.stat.internal;
 
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.Lock;
@@ -30,17 +32,29 @@ public class QueryStatisticsImpl implements QueryStatistics {
 	private final AtomicLong executionMaxTime = new AtomicLong();
 	private final AtomicLong executionMinTime = new AtomicLong(Long.MAX_VALUE);
 	private final AtomicLong totalExecutionTime = new AtomicLong();
+	private final LatencyHistogram executionTimes = new LatencyHistogram();
 
 	private final LongAdder planCacheHitCount = new LongAdder();
 	private final LongAdder planCacheMissCount = new LongAdder();
 	private final AtomicLong planCompilationTotalMicroseconds = new AtomicLong();
+	private final Set<Integer> sqlHashCodes = ConcurrentHashMap.newKeySet();
 
+	private final int sampleRate;
 
 	private final Lock readLock;
 	private final Lock writeLock;
 
 	public QueryStatisticsImpl(String query) {
+		this( query, 1 );
+	}
+
+	/**
+	 * @param sampleRate the number of executions represented by each
+	 *                   execution reported to this object
+	 */
+	public QueryStatisticsImpl(String query, int sampleRate) {
 		this.query = query;
+		this.sampleRate = sampleRate;
 		final var lock = new ReentrantReadWriteLock();
 		readLock = lock.readLock();
 		writeLock = lock.writeLock();
@@ -130,6 +144,13 @@ public long getExecutionTotalTime() {
 		return totalExecutionTime.get();
 	}
 
+	/**
+	 * estimated time in ms below which the given fraction of the executions of this query completed
+	 */
+	public long getExecutionTimePercentile(double percentile) {
+		return executionTimes.percentile( percentile );
+	}
+
 	/**
 	 * Query plan successfully fetched from the cache
 	 */
@@ -151,6 +172,13 @@ public long getPlanCompilationTotalMicroseconds() {
 		return planCompilationTotalMicroseconds.get();
 	}
 
+	/**
+	 * Distinct SQL statements the query was translated to
+	 */
+	public long getDistinctSqlCount() {
+		return sqlHashCodes.size();
+	}
+
 	/**
 	 * add statistics report of a DB query
 	 *
@@ -162,46 +190,66 @@ public void executed(long rows, long time) {
 		// this only guards executed(long, long) to be called, when another thread is executing getExecutionAvgTime()
 		readLock.lock();
 		try {
-			// Less chances for a context switch
-			for ( long old = executionMinTime.get(); (time < old) && !executionMinTime.compareAndSet(old, time); old = executionMinTime.get() ) {}
-			for ( long old = executionMaxTime.get(); (time > old) && !executionMaxTime.compareAndSet(old, time); old = executionMaxTime.get() ) {}
-			executionCount.increment();
-			executionRowCount.add( rows );
-			totalExecutionTime.addAndGet( time );
+			executionTime( time );
+			executionCount.add( sampleRate );
+			executionRowCount.add( rows * sampleRate );
+			totalExecutionTime.addAndGet( time * sampleRate );
+			executionTimes.record( time );
 		}
 		finally {
 			readLock.unlock();
 		}
 	}
 
+	/**
+	 * update the minimum and maximum execution times of the query,
+	 * which are maintained even for executions which are not sampled
+	 *
+	 * @param time time taken
+	 */
+	void executionTime(long time) {
+		// Less chances for a context switch
+		for ( long old = executionMinTime.get(); (time < old) && !executionMinTime.compareAndSet(old, time); old = executionMinTime.get() ) {}
+		for ( long old = executionMaxTime.get(); (time > old) && !executionMaxTime.compareAndSet(old, time); old = executionMaxTime.get() ) {}
+	}
+
 	/**
 	 * add plan statistics report of a DB query
 	 *
 	 * @param microseconds time taken
 	 */
 	void compiled(long microseconds) {
-		planCacheMissCount.increment();
-		planCompilationTotalMicroseconds.addAndGet( microseconds );
+		planCacheMissCount.add( sampleRate );
+		planCompilationTotalMicroseconds.addAndGet( microseconds * sampleRate );
+	}
+
+	/**
+	 * add a translation of the query to SQL
+	 *
+	 * @param sql the SQL statement, of which only the hash code is kept
+	 */
+	void translated(String sql) {
+		sqlHashCodes.add( sql.hashCode() );
 	}
 
 	void incrementCacheHitCount() {
-		cacheHitCount.increment();
+		cacheHitCount.add( sampleRate );
 	}
 
 	void incrementCacheMissCount() {
-		cacheMissCount.increment();
+		cacheMissCount.add( sampleRate );
 	}
 
 	void incrementCachePutCount() {
-		cachePutCount.increment();
+		cachePutCount.add( sampleRate );
 	}
 
 	void incrementPlanCacheHitCount() {
-		planCacheHitCount.increment();
+		planCacheHitCount.add( sampleRate );
 	}
 
 	void incrementPlanCacheMissCount() {
-		planCacheMissCount.increment();
+		planCacheMissCount.add( sampleRate );
 	}
 
 	public String toString() {
@@ -212,11 +260,13 @@ public String toString() {
 			+ ",cachePutCount=" + cachePutCount
 			+ ",planCacheHitCount=" + planCacheHitCount
 			+ ",planCacheMissCount=" + planCacheMissCount
+			+ ",distinctSqlCount=" + sqlHashCodes.size()
 			+ ",executionCount=" + executionCount
 			+ ",executionRowCount=" + executionRowCount
 			+ ",executionAvgTime=" + getExecutionAvgTime()
 			+ ",executionMaxTime=" + executionMaxTime
 			+ ",executionMinTime=" + executionMinTime
+			+ ",executionP99Time=" + getExecutionTimePercentile( 0.99 )
 			+ ']';
 	}
 }
@@ -10,6 +10,7 @@
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
@@ -47,6 +48,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 	private final boolean secondLevelCacheEnabled;
 	private final boolean queryCacheEnabled;
+	private final int sampleRate;
 
 	private volatile boolean isStatisticsEnabled;
 	private volatile Instant startTime;
@@ -55,10 +57,15 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 	private final LongAdder sessionCloseCount = new LongAdder();
 	private final LongAdder flushCount = new LongAdder();
 	private final LongAdder connectCount = new LongAdder();
+	private volatile LatencyHistogram connectTimes = new LatencyHistogram();
 
 	private final LongAdder prepareStatementCount = new LongAdder();
 	private final LongAdder closeStatementCount = new LongAdder();
 
+	private final LongAdder batchFetchCount = new LongAdder();
+	private final LongAdder batchFetchKeyCount = new LongAdder();
+	private final LongAdder batchFetchPositionCount = new LongAdder();
+
 	private final LongAdder entityLoadCount = new LongAdder();
 	private final LongAdder entityUpdateCount = new LongAdder();
 	private final LongAdder entityUpsertCount = new LongAdder();
@@ -116,11 +123,21 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 	 */
 	private final StatsNamedContainer<CacheRegionStatisticsImpl> l2CacheStatsMap = new StatsNamedContainer<>();
 
+	/**
+	 * Keyed by internal cache name
+	 */
+	private final StatsNamedContainer<InternalCacheStatisticsImpl> internalCacheStatsMap = new StatsNamedContainer<>();
+
 	/**
 	 * Keyed by query SQL
 	 */
 	private final Map<String, Long> slowQueries = new ConcurrentHashMap<>();
 
+	/**
+	 * Keyed by JDBC batch key
+	 */
+	private final Map<String, Integer> jdbcBatchSizes = new ConcurrentHashMap<>();
+
 	public StatisticsImpl(SessionFactoryImplementor sessionFactory) {
 		Objects.requireNonNull( sessionFactory );
 		final var sessionFactoryOptions = sessionFactory.getSessionFactoryOptions();
@@ -133,6 +150,7 @@ public StatisticsImpl(SessionFactoryImplementor sessionFactory) {
 		cache = sessionFactory.getCache();
 		secondLevelCacheEnabled = sessionFactoryOptions.isSecondLevelCacheEnabled();
 		queryCacheEnabled = sessionFactoryOptions.isQueryCacheEnabled();
+		sampleRate = sessionFactoryOptions.getStatisticsSampleRate();
 
 		final List<String> entityNames = new ArrayList<>();
 		metamodel.forEachEntityDescriptor( entity -> entityNames.add( entity.getEntityName() ) );
@@ -163,10 +181,15 @@ public void clear() {
 		sessionOpenCount.reset();
 		flushCount.reset();
 		connectCount.reset();
+		connectTimes = new LatencyHistogram();
 
 		prepareStatementCount.reset();
 		closeStatementCount.reset();
 
+		batchFetchCount.reset();
+		batchFetchKeyCount.reset();
+		batchFetchPositionCount.reset();
+
 		entityDeleteCount.reset();
 		entityInsertCount.reset();
 		entityUpdateCount.reset();
@@ -204,6 +227,7 @@ public void clear() {
 
 		queryPlanCacheHitCount.reset();
 		queryPlanCacheMissCount.reset();
+		internalCacheStatsMap.clear();
 
 		resetStart();
 
@@ -298,43 +322,65 @@ public long getOptimisticFailureCount() {
 	@Override
 	public void loadEntity(String entityName) {
 		entityLoadCount.increment();
-		getEntityStatistics( entityName ).incrementLoadCount();
+		if ( sampled() ) {
+			getEntityStatistics( entityName ).incrementLoadCount();
+		}
 	}
 
 	@Override
 	public void fetchEntity(String entityName) {
 		entityFetchCount.increment();
-		getEntityStatistics( entityName ).incrementFetchCount();
+		if ( sampled() ) {
+			getEntityStatistics( entityName ).incrementFetchCount();
+		}
+	}
+
+	@Override
+	public void fetchEntity(String entityName, long microseconds) {
+		entityFetchCount.increment();
+		if ( sampled() ) {
+			getEntityStatistics( entityName ).fetched( microseconds );
+		}
 	}
 
 	@Override
 	public void updateEntity(String entityName) {
 		entityUpdateCount.increment();
-		getEntityStatistics( entityName ).incrementUpdateCount();
+		if ( sampled() ) {
+			getEntityStatistics( entityName ).incrementUpdateCount();
+		}
 	}
 
 	@Override
 	public void upsertEntity(String entityName) {
 		entityUpsertCount.increment();
-		getEntityStatistics( entityName ).incrementUpsertCount();
+		if ( sampled() ) {
+			getEntityStatistics( entityName ).incrementUpsertCount();
+		}
 	}
 
 	@Override
 	public void insertEntity(String entityName) {
 		entityInsertCount.increment();
-		getEntityStatistics( entityName ).incrementInsertCount();
+		if ( sampled() ) {
+			getEntityStatistics( entityName ).incrementInsertCount();
+		}
 	}
 
 	@Override
 	public void deleteEntity(String entityName) {
 		entityDeleteCount.increment();
-		getEntityStatistics( entityName ).incrementDeleteCount();
+		if ( sampled() ) {
+			getEntityStatistics( entityName ).incrementDeleteCount();
+		}
 	}
 
 	@Override
 	public void optimisticFailure(String entityName) {
 		optimisticFailureCount.increment();
-		getEntityStatistics( entityName ).incrementOptimisticFailureCount();
+		if ( sampled() ) {
+			getEntityStatistics( entityName ).incrementOptimisticFailureCount();
+		}
 	}
 
 	@Override
@@ -412,31 +458,49 @@ public long getCollectionRecreateCount() {
 	@Override
 	public void loadCollection(String role) {
 		collectionLoadCount.increment();
-		getCollectionStatistics( role ).incrementLoadCount();
+		if ( sampled() ) {
+			getCollectionStatistics( role ).incrementLoadCount();
+		}
 	}
 
 	@Override
 	public void fetchCollection(String role) {
 		collectionFetchCount.increment();
-		getCollectionStatistics( role ).incrementFetchCount();
+		if ( sampled() ) {
+			getCollectionStatistics( role ).incrementFetchCount();
+		}
+	}
+
+	@Override
+	public void fetchCollection(String role, long microseconds) {
+		collectionFetchCount.increment();
+		if ( sampled() ) {
+			getCollectionStatistics( role ).fetched( microseconds );
+		}
 	}
 
 	@Override
 	public void updateCollection(String role) {
 		collectionUpdateCount.increment();
-		getCollectionStatistics( role ).incrementUpdateCount();
+		if ( sampled() ) {
+			getCollectionStatistics( role ).incrementUpdateCount();
+		}
 	}
 
 	@Override
 	public void recreateCollection(String role) {
 		collectionRecreateCount.increment();
-		getCollectionStatistics( role ).incrementRecreateCount();
+		if ( sampled() ) {
+			getCollectionStatistics( role ).incrementRecreateCount();
+		}
 	}
 
 	@Override
 	public void removeCollection(String role) {
 		collectionRemoveCount.increment();
-		getCollectionStatistics( role ).incrementRemoveCount();
+		if ( sampled() ) {
+			getCollectionStatistics( role ).incrementRemoveCount();
+		}
 	}
 
 	@Override
@@ -684,7 +748,7 @@ public QueryStatisticsImpl getQueryStatistics(String queryString) {
 		return NullnessUtil.castNonNull(
 					queryStatsMap.getOrCompute(
 						queryString,
-						QueryStatisticsImpl::new
+						query -> new QueryStatisticsImpl( query, sampleRate )
 					)
 		);
 	}
@@ -735,7 +799,14 @@ public void queryExecuted(String query, int rows, long time) {
 		}
 
 		if ( query != null ) {
-			getQueryStatistics( query ).executed( rows, time );
+			final var queryStatistics = getQueryStatistics( query );
+			if ( sampled() ) {
+				queryStatistics.executed( rows, time );
+			}
+			else {
+				// the extreme execution times can't be extrapolated
+				queryStatistics.executionTime( time );
+			}
 		}
 	}
 
@@ -745,7 +816,7 @@ public void queryCacheHit(String hql, String regionName) {
 
 		getQueryRegionStats( regionName ).incrementHitCount();
 
-		if ( hql != null ) {
+		if ( hql != null && sampled() ) {
 			getQueryStatistics( hql ).incrementCacheHitCount();
 		}
 	}
@@ -756,7 +827,7 @@ public void queryCacheMiss(String hql, String regionName) {
 
 		getQueryRegionStats( regionName ).incrementMissCount();
 
-		if ( hql != null ) {
+		if ( hql != null && sampled() ) {
 			getQueryStatistics( hql ).incrementCacheMissCount();
 		}
 	}
@@ -767,11 +838,16 @@ public void queryCachePut(String hql, String regionName) {
 
 		getQueryRegionStats( regionName ).incrementPutCount();
 
-		if ( hql != null ) {
+		if ( hql != null && sampled() ) {
 			getQueryStatistics( hql ).incrementCachePutCount();
 		}
 	}
 
+	@Override
+	public void queryCacheEncodedPut(String regionName, long encodedSize) {
+		getQueryRegionStats( regionName ).incrementEncodedPutCount( encodedSize );
+	}
+
 	@Override
 	public long getQueryPlanCacheHitCount() {
 		return queryPlanCacheHitCount.sum();
@@ -786,16 +862,23 @@ public long getQueryPlanCacheMissCount() {
 	public void queryCompiled(String hql, long microseconds) {
 		queryPlanCacheMissCount.increment();
 
-		if ( hql != null ) {
+		if ( hql != null && sampled() ) {
 			getQueryStatistics( hql ).compiled( microseconds );
 		}
 	}
 
+	@Override
+	public void queryTranslated(String query, String sql) {
+		if ( query != null ) {
+			getQueryStatistics( query ).translated( sql );
+		}
+	}
+
 	@Override
 	public void queryPlanCacheHit(String query) {
 		queryPlanCacheHitCount.increment();
 
-		if ( query != null ) {
+		if ( query != null && sampled() ) {
 			getQueryStatistics( query ).incrementPlanCacheHitCount();
 		}
 	}
@@ -804,11 +887,45 @@ public void queryPlanCacheHit(String query) {
 	public void queryPlanCacheMiss(String query) {
 		queryPlanCacheMissCount.increment();
 
-		if ( query != null ) {
+		if ( query != null && sampled() ) {
 			getQueryStatistics( query ).incrementPlanCacheMissCount();
 		}
 	}
 
+	@Override
+	public String[] getInternalCacheNames() {
+		return internalCacheStatsMap.keysAsArray();
+	}
+
+	@Override
+	public @Nullable InternalCacheStatisticsImpl getInternalCacheStatistics(String cacheName) {
+		return internalCacheStatsMap.get( cacheName );
+	}
+
+	@Override
+	public void internalCacheHit(String cacheName) {
+		getInternalCacheStats( cacheName ).incrementHitCount();
+	}
+
+	@Override
+	public void internalCacheMiss(String cacheName) {
+		getInternalCacheStats( cacheName ).incrementMissCount();
+	}
+
+	@Override
+	public void internalCacheEviction(String cacheName) {
+		getInternalCacheStats( cacheName ).incrementEvictionCount();
+	}
+
+	private InternalCacheStatisticsImpl getInternalCacheStats(String cacheName) {
+		return NullnessUtil.castNonNull(
+					internalCacheStatsMap.getOrCompute(
+						cacheName,
+						InternalCacheStatisticsImpl::new
+					)
+		);
+	}
+
 	private CacheRegionStatisticsImpl getQueryRegionStats(String regionName) {
 		return NullnessUtil.castNonNull(
 					l2CacheStatsMap.getOrCompute(
@@ -841,6 +958,11 @@ public long getConnectCount() {
 		return connectCount.sum();
 	}
 
+	@Override
+	public long getConnectTimePercentileMicroseconds(double percentile) {
+		return connectTimes.percentile( percentile );
+	}
+
 	@Override
 	public long getSuccessfulTransactionCount() {
 		return committedTransactionCount.sum();
@@ -861,6 +983,17 @@ public long getPrepareStatementCount() {
 		return prepareStatementCount.sum();
 	}
 
+	@Override
+	public long getBatchFetchCount() {
+		return batchFetchCount.sum();
+	}
+
+	@Override
+	public double getBatchFetchHitRatio() {
+		final long positions = batchFetchPositionCount.sum();
+		return positions == 0 ? 0 : (double) batchFetchKeyCount.sum() / positions;
+	}
+
 	@Override
 	public void openSession() {
 		sessionOpenCount.increment();
@@ -881,6 +1014,12 @@ public void connect() {
 		connectCount.increment();
 	}
 
+	@Override
+	public void connect(long microseconds) {
+		connectCount.increment();
+		connectTimes.record( microseconds );
+	}
+
 	@Override
 	public void prepareStatement() {
 		prepareStatementCount.increment();
@@ -891,6 +1030,13 @@ public void closeStatement() {
 		closeStatementCount.increment();
 	}
 
+	@Override
+	public void batchFetch(int batchSize, int keyCount) {
+		batchFetchCount.increment();
+		batchFetchKeyCount.add( keyCount );
+		batchFetchPositionCount.add( batchSize );
+	}
+
 	@Override
 	public void endTransaction(boolean success) {
 		transactionCount.increment();
@@ -989,12 +1135,23 @@ public String toString() {
 				']';
 	}
 
+	/**
+	 * Should an event be recorded in the statistics of the
+	 * entity, collection, or query it relates to? When the
+	 * {@linkplain org.hibernate.cfg.StatisticsSettings#STATISTICS_SAMPLE_RATE
+	 * sample rate} is {@code N}, one event in {@code N} is
+	 * recorded, and counted {@code N} times.
+	 */
+	private boolean sampled() {
+		return sampleRate == 1 || ThreadLocalRandom.current().nextInt( sampleRate ) == 0;
+	}
+
 	private EntityStatisticsImpl instantiateEntityStatistics(final String entityName) {
-		return new EntityStatisticsImpl( metamodel.getEntityDescriptor( entityName ) );
+		return new EntityStatisticsImpl( metamodel.getEntityDescriptor( entityName ), sampleRate );
 	}
 
 	private CollectionStatisticsImpl instantiateCollectionStatistics(final String role) {
-		return new CollectionStatisticsImpl( metamodel.getCollectionDescriptor( role ) );
+		return new CollectionStatisticsImpl( metamodel.getCollectionDescriptor( role ), sampleRate );
 	}
 
 	private NaturalIdStatisticsImpl instantiateNaturalStatistics(final String entityName) {
@@ -1044,4 +1201,14 @@ public Map<String, Long> getSlowQueries() {
 	public void slowQuery(String sql, long executionTime) {
 		slowQueries.merge( sql, executionTime, Math::max );
 	}
+
+	@Override
+	public Map<String, Integer> getJdbcBatchSizes() {
+		return Map.copyOf( jdbcBatchSizes );
+	}
+
+	@Override
+	public void adaptiveJdbcBatchSize(String batchKey, int batchSize) {
+		jdbcBatchSizes.put( batchKey, batchSize );
+	}
 }
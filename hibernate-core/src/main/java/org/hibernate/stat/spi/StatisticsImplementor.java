@@ -40,6 +40,18 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	void connect();
 
+	/**
+	 * Callback about a connection being obtained from {@link org.hibernate.engine.jdbc.connections.spi.ConnectionProvider}
+	 * after the given time.
+	 *
+	 * @param microseconds The time taken to obtain the connection.
+	 *
+	 * @since 7.2
+	 */
+	default void connect(long microseconds) {
+		connect();
+	}
+
 	/**
 	 * Callback about a statement being prepared.
 	 */
@@ -50,6 +62,19 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	void closeStatement();
 
+	/**
+	 * Callback about a batch of entity ids or collection keys being
+	 * assembled for batch fetching.
+	 *
+	 * @param batchSize The maximum number of keys in the batch.
+	 * @param keyCount The number of keys in the batch, including the
+	 *                 key that was requested.
+	 *
+	 * @since 7.2
+	 */
+	default void batchFetch(int batchSize, int keyCount) {
+	}
+
 	/**
 	 * Callback about a transaction completing.
 	 *
@@ -73,6 +98,19 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	void fetchEntity(String entityName);
 
+	/**
+	 * Callback about an entity being fetched by a separate query
+	 * which took the given time.
+	 *
+	 * @param entityName The name of the entity fetched.
+	 * @param microseconds The time taken to fetch the entity.
+	 *
+	 * @since 7.2
+	 */
+	default void fetchEntity(String entityName, long microseconds) {
+		fetchEntity( entityName );
+	}
+
 	/**
 	 * Callback about an entity being updated.
 	 *
@@ -124,6 +162,19 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	void fetchCollection(String role);
 
+	/**
+	 * Callback to indicate a collection being fetched by a separate
+	 * query which took the given time.
+	 *
+	 * @param role The collection role.
+	 * @param microseconds The time taken to fetch the collection.
+	 *
+	 * @since 7.2
+	 */
+	default void fetchCollection(String role, long microseconds) {
+		fetchCollection( role );
+	}
+
 	/**
 	 * Callback indicating a collection was updated.
 	 *
@@ -225,6 +276,19 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	void queryCachePut(String hql, String regionName);
 
+	/**
+	 * Callback indicating that query results were stored in the query cache
+	 * in compact form.
+	 *
+	 * @param regionName The cache region
+	 * @param encodedSize The size of the encoded results, in bytes
+	 *
+	 * @since 7.2
+	 */
+	default void queryCacheEncodedPut(String regionName, long encodedSize) {
+		//For backward compatibility
+	}
+
 	/**
 	 * Callback indicating a get from the query cache resulted in a hit.
 	 *
@@ -283,6 +347,51 @@ default void queryPlanCacheMiss(String query) {
 		//For backward compatibility
 	}
 
+	/**
+	 * Callback indicating that a query was translated to SQL.
+	 *
+	 * @param query The query
+	 * @param sql The SQL statement
+	 *
+	 * @since 7.2
+	 */
+	default void queryTranslated(String query, String sql) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating a get from the named internal cache resulted in a hit.
+	 *
+	 * @param cacheName The name of the internal cache
+	 *
+	 * @since 7.2
+	 */
+	default void internalCacheHit(String cacheName) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating a get from the named internal cache resulted in a miss.
+	 *
+	 * @param cacheName The name of the internal cache
+	 *
+	 * @since 7.2
+	 */
+	default void internalCacheMiss(String cacheName) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating that the named internal cache evicted an entry.
+	 *
+	 * @param cacheName The name of the internal cache
+	 *
+	 * @since 7.2
+	 */
+	default void internalCacheEviction(String cacheName) {
+		//For backward compatibility
+	}
+
 	/**
 	 * Callback indicating compilation of a sql/hql query
 	 *
@@ -300,6 +409,15 @@ default void slowQuery(String sql, long executionTime) {
 		//For backward compatibility
 	}
 
+	/**
+	 * Register a new batch size chosen by adaptive JDBC batching.
+	 *
+	 * @since 7.2
+	 */
+	default void adaptiveJdbcBatchSize(String batchKey, int batchSize) {
+		//For backward compatibility
+	}
+
 	@Override
 	default Map<String, Long> getSlowQueries() {
 		//For backward compatibility
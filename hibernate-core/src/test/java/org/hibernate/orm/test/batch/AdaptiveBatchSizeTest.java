@@ -0,0 +1,100 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.batch;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import org.hibernate.cfg.BatchSettings;
+import org.hibernate.engine.jdbc.batch.internal.AdaptiveBatchSizing;
+import org.hibernate.engine.jdbc.batch.internal.BasicBatchKey;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@value BatchSettings#ADAPTIVE_BATCH_SIZE}.
+ */
+@DomainModel(annotatedClasses = AdaptiveBatchSizeTest.Event.class)
+@SessionFactory(generateStatistics = true)
+@ServiceRegistry(settings = {
+		@Setting(name = BatchSettings.STATEMENT_BATCH_SIZE, value = "5"),
+		@Setting(name = BatchSettings.ADAPTIVE_BATCH_SIZE, value = "true"),
+		// every batch is much faster than this
+		@Setting(name = BatchSettings.ADAPTIVE_BATCH_TARGET_LATENCY, value = "60000"),
+		@Setting(name = BatchSettings.ADAPTIVE_BATCH_MAX_SIZE, value = "40")
+})
+public class AdaptiveBatchSizeTest {
+
+	@AfterEach
+	public void cleanup(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testBatchSizeGrows(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 200; i++ ) {
+				session.persist( new Event( i, "Event " + i ) );
+			}
+		} );
+
+		final var batchSizes = scope.getSessionFactory().getStatistics().getJdbcBatchSizes();
+		assertThat( batchSizes ).hasSize( 1 );
+		final var entry = batchSizes.entrySet().iterator().next();
+		assertThat( entry.getKey() ).contains( "Event" );
+		assertThat( entry.getValue() ).isEqualTo( 40 );
+		assertThatThrownBy( batchSizes::clear ).isInstanceOf( UnsupportedOperationException.class );
+
+		scope.inTransaction( session -> assertThat(
+				session.createSelectionQuery( "select count(*) from Event", Long.class ).getSingleResult()
+		).isEqualTo( 200L ) );
+	}
+
+	@Test
+	public void testAdjustment() {
+		final var sizing = new AdaptiveBatchSizing( 10, 2, 100 );
+		final var key = new BasicBatchKey( "Event#INSERT" );
+		final long millis = 1_000_000L;
+		assertThat( sizing.getBatchSize( key, 50 ) ).isEqualTo( 50 );
+		assertThat( sizing.getBatchSize( key, 500 ) ).isEqualTo( 100 );
+
+		// one millisecond per row, so the target is ten rows,
+		// but the size is at most halved on each execution
+		assertThat( sizing.executed( key, 50, 50, 50 * millis ) ).isEqualTo( 25 );
+		assertThat( sizing.executed( key, 25, 25, 25 * millis ) ).isEqualTo( 12 );
+		assertThat( sizing.executed( key, 12, 12, 12 * millis ) ).isEqualTo( 10 );
+		assertThat( sizing.getBatchSize( key, 50 ) ).isEqualTo( 10 );
+
+		// a small remainder batch is ignored
+		assertThat( sizing.executed( key, 10, 3, 100 * millis ) ).isEqualTo( 10 );
+
+		// rows become cheaper, and the size grows gradually
+		assertThat( sizing.executed( key, 10, 10, millis ) ).isEqualTo( 13 );
+	}
+
+	@Entity(name = "Event")
+	public static class Event {
+		@Id
+		int id;
+		String name;
+
+		Event() {
+		}
+
+		Event(int id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
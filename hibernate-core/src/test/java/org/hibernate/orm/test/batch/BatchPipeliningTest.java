@@ -0,0 +1,148 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.batch;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import org.hibernate.cfg.BatchSettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value BatchSettings#BATCH_PIPELINING}.
+ */
+@DomainModel(annotatedClasses = {
+		BatchPipeliningTest.Book.class,
+		BatchPipeliningTest.Author.class,
+		BatchPipeliningTest.Review.class
+})
+@SessionFactory(generateStatistics = true)
+@ServiceRegistry(settings = {
+		@Setting(name = BatchSettings.STATEMENT_BATCH_SIZE, value = "20"),
+		@Setting(name = BatchSettings.BATCH_PIPELINING, value = "true")
+})
+public class BatchPipeliningTest {
+	private static final int COUNT = 10;
+
+	@AfterEach
+	public void cleanup(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testInterleavedInserts(SessionFactoryScope scope) {
+		final var statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < COUNT; i++ ) {
+				final var book = new Book( i, "Book " + i );
+				session.persist( book );
+				session.persist( new Author( i, "Author " + i ) );
+				session.persist( new Review( i, book ) );
+			}
+		} );
+		// the Author batch stays open, but the Book and
+		// Review batches must be executed in turn
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1 + 2 * COUNT );
+
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < COUNT; i++ ) {
+				final var review = session.find( Review.class, i );
+				assertThat( review.book.title ).isEqualTo( "Book " + i );
+				assertThat( session.find( Author.class, i ).name ).isEqualTo( "Author " + i );
+			}
+		} );
+	}
+
+	@Test
+	public void testInterleavedUpdatesAndDeletes(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < COUNT; i++ ) {
+				session.persist( new Book( i, "Book " + i ) );
+				session.persist( new Author( i, "Author " + i ) );
+			}
+		} );
+
+		final var statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < COUNT; i++ ) {
+				session.find( Book.class, i ).title = "Updated Book " + i;
+				session.find( Author.class, i ).name = "Updated Author " + i;
+			}
+			statistics.clear();
+			session.flush();
+			// one batch for each table
+			assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 2 );
+
+			for ( int i = 0; i < COUNT; i++ ) {
+				session.remove( session.find( Book.class, i ) );
+				session.remove( session.find( Author.class, i ) );
+			}
+			statistics.clear();
+			session.flush();
+			assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 2 );
+		} );
+
+		scope.inTransaction( session -> assertThat(
+				session.createSelectionQuery( "select count(*) from Book", Long.class ).getSingleResult()
+		).isZero() );
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		int id;
+		String title;
+
+		Book() {
+		}
+
+		Book(int id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		int id;
+		String name;
+
+		Author() {
+		}
+
+		Author(int id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Review")
+	public static class Review {
+		@Id
+		int id;
+		@ManyToOne
+		Book book;
+
+		Review() {
+		}
+
+		Review(int id, Book book) {
+			this.id = id;
+			this.book = book;
+		}
+	}
+}
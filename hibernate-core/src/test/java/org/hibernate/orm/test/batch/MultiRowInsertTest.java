@@ -0,0 +1,117 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.batch;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import org.hibernate.cfg.BatchSettings;
+import org.hibernate.engine.jdbc.batch.internal.MultiRowInserts;
+
+import org.hibernate.testing.orm.junit.DialectFeatureChecks;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialectFeature;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value BatchSettings#MULTI_ROW_INSERTS}.
+ */
+@DomainModel(annotatedClasses = MultiRowInsertTest.Event.class)
+@SessionFactory(generateStatistics = true)
+@ServiceRegistry(settings = {
+		@Setting(name = BatchSettings.STATEMENT_BATCH_SIZE, value = "16"),
+		@Setting(name = BatchSettings.MULTI_ROW_INSERTS, value = "true")
+})
+@RequiresDialectFeature(feature = DialectFeatureChecks.SupportsValuesListForInsert.class)
+public class MultiRowInsertTest {
+
+	@AfterEach
+	public void cleanup(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testPersist(SessionFactoryScope scope) {
+		final var statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 13; i++ ) {
+				session.persist( new Event( i, "Event " + i ) );
+			}
+		} );
+		// one statement each for 8 rows, 4 rows, and 1 row
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 3 );
+
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 13; i++ ) {
+				assertThat( session.find( Event.class, i ).name ).isEqualTo( "Event " + i );
+			}
+		} );
+	}
+
+	@Test
+	public void testInsertMultiple(SessionFactoryScope scope) {
+		final var statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inStatelessTransaction( session -> {
+			final List<Event> events = new ArrayList<>();
+			for ( int i = 0; i < 40; i++ ) {
+				events.add( new Event( i, i % 2 == 0 ? null : "Event " + i ) );
+			}
+			session.insertMultiple( events );
+		} );
+		// a single batch of 40 rows, executed as one statement
+		// of 32 rows, and one statement of 8 rows
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 2 );
+
+		scope.inTransaction( session -> {
+			assertThat( session.createSelectionQuery( "select count(*) from Event", Long.class ).getSingleResult() )
+					.isEqualTo( 40L );
+			assertThat( session.find( Event.class, 6 ).name ).isNull();
+			assertThat( session.find( Event.class, 39 ).name ).isEqualTo( "Event 39" );
+		} );
+	}
+
+	@Test
+	public void testTemplate() {
+		final var multiRowInserts = new MultiRowInserts();
+		final var template = multiRowInserts.getTemplate( "insert into Event (name,id) values (?,?)" );
+		assertThat( template ).isNotNull();
+		assertThat( template.getParameterCount() ).isEqualTo( 2 );
+		assertThat( template.getMaxRowCount( 50, 0 ) ).isEqualTo( 32 );
+		assertThat( template.getMaxRowCount( 50, 20 ) ).isEqualTo( 8 );
+		assertThat( template.getSql( 2 ) ).isEqualTo( "insert into Event (name,id) values (?,?),(?,?)" );
+		assertThat( multiRowInserts.getTemplate( "insert into Event (name,id) values (?,?)" ) ).isSameAs( template );
+
+		assertThat( multiRowInserts.getTemplate( "insert into Event (name,id) select ?,? from dual" ) ).isNull();
+		assertThat( multiRowInserts.getTemplate( "insert into Event (name,id) values (?,default)" ) ).isNull();
+		assertThat( multiRowInserts.getTemplate( "insert into Event (name,id) values (?,?) returning id" ) ).isNull();
+	}
+
+	@Entity(name = "Event")
+	public static class Event {
+		@Id
+		int id;
+		String name;
+
+		Event() {
+		}
+
+		Event(int id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
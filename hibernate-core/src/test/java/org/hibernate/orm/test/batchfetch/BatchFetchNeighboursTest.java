@@ -0,0 +1,117 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.batchfetch;
+
+import java.util.Arrays;
+import java.util.List;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.BatchSize;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Tests that a batch is made of the keys queued next to the key being loaded,
+ * and that the fill ratio of batches is reported.
+ */
+@DomainModel(annotatedClasses = {BatchFetchNeighboursTest.Owner.class, BatchFetchNeighboursTest.Child.class})
+@SessionFactory(generateStatistics = true)
+public class BatchFetchNeighboursTest {
+	private static final int COUNT = 10;
+
+	@BeforeAll
+	public void createData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < COUNT; i++ ) {
+				final var child = new Child( i );
+				session.persist( child );
+				session.persist( new Owner( i, child ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void dropData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testBatchesOfNeighbours(SessionFactoryScope scope) {
+		final var statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> {
+			final List<Owner> owners =
+					session.createSelectionQuery( "from Owner order by id", Owner.class ).getResultList();
+
+			// the keys queued after the one being loaded
+			Hibernate.initialize( owners.get( 5 ).child );
+			assertInitialized( owners, 5, 6, 7, 8 );
+
+			// then the keys queued before it
+			Hibernate.initialize( owners.get( 9 ).child );
+			assertInitialized( owners, 2, 3, 4, 5, 6, 7, 8, 9 );
+
+			// a batch which is not full
+			Hibernate.initialize( owners.get( 0 ).child );
+			assertInitialized( owners, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9 );
+		} );
+		assertThat( statistics.getBatchFetchCount() ).isEqualTo( 3 );
+		assertThat( statistics.getBatchFetchHitRatio() ).isCloseTo( 10.0 / 12.0, within( 0.001 ) );
+	}
+
+	private static void assertInitialized(List<Owner> owners, int... ids) {
+		for ( int i = 0; i < COUNT; i++ ) {
+			final int id = i;
+			final boolean expected = Arrays.stream( ids ).anyMatch( value -> value == id );
+			assertThat( Hibernate.isInitialized( owners.get( i ).child ) )
+					.describedAs( "Child#" + i )
+					.isEqualTo( expected );
+		}
+	}
+
+	@Entity(name = "Owner")
+	public static class Owner {
+		@Id
+		int id;
+		@ManyToOne(fetch = FetchType.LAZY)
+		Child child;
+
+		Owner() {
+		}
+
+		Owner(int id, Child child) {
+			this.id = id;
+			this.child = child;
+		}
+	}
+
+	@Entity(name = "Child")
+	@BatchSize(size = 4)
+	public static class Child {
+		@Id
+		int id;
+		String name;
+
+		Child() {
+		}
+
+		Child(int id) {
+			this.id = id;
+		}
+	}
+}
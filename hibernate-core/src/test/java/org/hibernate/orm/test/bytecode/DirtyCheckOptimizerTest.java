@@ -0,0 +1,137 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.bytecode;
+
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import org.hibernate.bytecode.spi.BytecodeProvider;
+import org.hibernate.cfg.BytecodeSettings;
+import org.hibernate.property.access.internal.PropertyAccessStrategyFieldImpl;
+import org.hibernate.property.access.spi.PropertyAccess;
+import org.hibernate.type.YesNoConverter;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.bytecode.internal.BytecodeProviderInitiator.buildDefaultBytecodeProvider;
+
+/**
+ * Tests for {@link org.hibernate.bytecode.spi.DirtyCheckOptimizer}.
+ */
+@DomainModel(annotatedClasses = DirtyCheckOptimizerTest.Measurement.class)
+@SessionFactory(generateStatistics = true)
+@ServiceRegistry(settings = @Setting(name = BytecodeSettings.DIRTY_CHECK_OPTIMIZER, value = "true"))
+public class DirtyCheckOptimizerTest {
+
+	@AfterEach
+	public void cleanup(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testGeneratedComparator() {
+		final BytecodeProvider provider = buildDefaultBytecodeProvider();
+		try {
+			final String[] names = { "samples", "total", "ratio", "valid", "grade", "label", "boxed", "hidden" };
+			final PropertyAccess[] accesses = new PropertyAccess[names.length];
+			for ( int i = 0; i < names.length; i++ ) {
+				accesses[i] = PropertyAccessStrategyFieldImpl.INSTANCE
+						.buildPropertyAccess( Measurement.class, names[i], true );
+			}
+			final var optimizer = provider.getDirtyCheckOptimizer( Measurement.class, accesses );
+			assertThat( optimizer ).isNotNull();
+			for ( int i = 0; i < names.length - 1; i++ ) {
+				assertThat( optimizer.isOptimized( i ) ).isTrue();
+			}
+			// the private field cannot be read by generated code
+			assertThat( optimizer.isOptimized( names.length - 1 ) ).isFalse();
+
+			final var measurement = new Measurement();
+			measurement.samples = 1;
+			measurement.total = 2L;
+			measurement.ratio = Double.NaN;
+			measurement.valid = true;
+			measurement.grade = 'A';
+			measurement.label = "label";
+			measurement.boxed = 3;
+
+			final Object[] loadedState = { 1, 2L, Double.NaN, true, 'A', "label", 3, "hidden" };
+			assertThat( optimizer.findDirty( measurement, loadedState ) ).isZero();
+
+			measurement.total = 5L;
+			measurement.ratio = -0.0;
+			measurement.label = null;
+			loadedState[2] = 0.0;
+			loadedState[3] = null;
+			assertThat( optimizer.findDirty( measurement, loadedState ) )
+					.isEqualTo( 1L << 1 | 1L << 2 | 1L << 3 | 1L << 5 );
+		}
+		finally {
+			provider.resetCaches();
+		}
+	}
+
+	@Test
+	public void testFlush(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final var measurement = new Measurement();
+			measurement.id = 1L;
+			measurement.samples = 1;
+			measurement.grade = 'A';
+			measurement.label = "first";
+			measurement.flag = true;
+			session.persist( measurement );
+		} );
+
+		final var statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		// nothing modified
+		scope.inTransaction( session -> session.find( Measurement.class, 1L ) );
+		assertThat( statistics.getEntityUpdateCount() ).isZero();
+
+		// a primitive field modified
+		scope.inTransaction( session -> session.find( Measurement.class, 1L ).samples = 2 );
+		assertThat( statistics.getEntityUpdateCount() ).isEqualTo( 1 );
+
+		// a field which is dirty checked in the usual way modified
+		scope.inTransaction( session -> session.find( Measurement.class, 1L ).flag = false );
+		assertThat( statistics.getEntityUpdateCount() ).isEqualTo( 2 );
+
+		scope.inTransaction( session -> session.find( Measurement.class, 1L ).label = "second" );
+		assertThat( statistics.getEntityUpdateCount() ).isEqualTo( 3 );
+
+		scope.inTransaction( session -> {
+			final var measurement = session.find( Measurement.class, 1L );
+			assertThat( measurement.samples ).isEqualTo( 2 );
+			assertThat( measurement.flag ).isFalse();
+			assertThat( measurement.label ).isEqualTo( "second" );
+		} );
+	}
+
+	@Entity(name = "Measurement")
+	public static class Measurement {
+		@Id
+		Long id;
+		int samples;
+		long total;
+		double ratio;
+		boolean valid;
+		char grade;
+		String label;
+		Integer boxed;
+		@Convert(converter = YesNoConverter.class)
+		boolean flag;
+		private String hidden;
+	}
+}
@@ -0,0 +1,244 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.cache;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Version;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.internal.OffHeapRegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.CacheSettings;
+import org.hibernate.stat.CacheRegionStatistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static jakarta.persistence.EnumType.STRING;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = {
+		OffHeapRegionFactoryTest.Book.class,
+		OffHeapRegionFactoryTest.Manuscript.class,
+		OffHeapRegionFactoryTest.Draft.class
+})
+@SessionFactory(generateStatistics = true)
+@ServiceRegistry(
+		settings = {
+				@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+				@Setting(name = AvailableSettings.USE_QUERY_CACHE, value = "true"),
+				@Setting(name = AvailableSettings.CACHE_REGION_FACTORY,
+						value = "org.hibernate.cache.internal.OffHeapRegionFactory"),
+				@Setting(name = CacheSettings.OFF_HEAP_REGION_MAX_BYTES, value = "1048576"),
+		}
+)
+public class OffHeapRegionFactoryTest {
+
+	@Test
+	public void testEntityAndCollectionCaching(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final var book = new Book();
+			book.isbn = 1L;
+			book.title = "Hibernate in Action";
+			book.price = new BigDecimal( "39.95" );
+			book.published = LocalDate.of( 2004, 8, 1 );
+			book.format = Format.PAPERBACK;
+			book.authors.add( "Christian Bauer" );
+			book.authors.add( "Gavin King" );
+			session.persist( book );
+		} );
+		// collections are cached when they're first loaded
+		scope.inTransaction( session -> session.find( Book.class, 1L ).authors.size() );
+
+		final var statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inTransaction( session -> {
+			final var book = session.find( Book.class, 1L );
+			assertThat( book.title ).isEqualTo( "Hibernate in Action" );
+			assertThat( book.price ).isEqualTo( new BigDecimal( "39.95" ) );
+			assertThat( book.published ).isEqualTo( LocalDate.of( 2004, 8, 1 ) );
+			assertThat( book.format ).isEqualTo( Format.PAPERBACK );
+			assertThat( book.authors ).containsExactly( "Christian Bauer", "Gavin King" );
+		} );
+
+		final CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics( "books" );
+		assertThat( regionStatistics.getHitCount() ).isEqualTo( 2 );
+		assertThat( regionStatistics.getMissCount() ).isEqualTo( 0 );
+
+		scope.inTransaction( session -> session.find( Book.class, 1L ).title = "Java Persistence with Hibernate" );
+		scope.inTransaction( session -> {
+			final var book = session.find( Book.class, 1L );
+			assertThat( book.title ).isEqualTo( "Java Persistence with Hibernate" );
+			assertThat( book.version ).isEqualTo( 1 );
+		} );
+		assertThat( regionStatistics.getMissCount() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testQueryCaching(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final var book = new Book();
+			book.isbn = 2L;
+			book.title = "Hibernate Reactive";
+			book.format = Format.EBOOK;
+			session.persist( book );
+		} );
+
+		final var statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		for ( int i = 0; i < 2; i++ ) {
+			scope.inTransaction( session -> assertThat(
+					session.createSelectionQuery( "select title from Book where format = :format", String.class )
+							.setParameter( "format", Format.EBOOK )
+							.setCacheable( true )
+							.getResultList()
+			).containsExactly( "Hibernate Reactive" ) );
+		}
+
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testEvictionWhenRegionIsFull(SessionFactoryScope scope) {
+		// each entry needs a 128 KiB block, so the 1 MiB region holds at most 8
+		final String text = "x".repeat( 100_000 );
+		scope.inTransaction( session -> {
+			for ( long id = 0; id < 20; id++ ) {
+				final var manuscript = new Manuscript();
+				manuscript.id = id;
+				manuscript.text = text;
+				session.persist( manuscript );
+			}
+		} );
+
+		final var regionFactory =
+				(OffHeapRegionFactory) scope.getSessionFactory().getCache().getRegionFactory();
+		assertThat( regionFactory.getEvictionCount( "manuscripts" ) ).isEqualTo( 12 );
+
+		final var statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> {
+			// most recently inserted first, since loading the others evicts them
+			for ( long id = 19; id >= 0; id-- ) {
+				assertThat( session.find( Manuscript.class, id ).text ).isEqualTo( text );
+			}
+		} );
+		final var regionStatistics = statistics.getDomainDataRegionStatistics( "manuscripts" );
+		assertThat( regionStatistics.getHitCount() ).isEqualTo( 8 );
+		assertThat( regionStatistics.getMissCount() ).isEqualTo( 12 );
+	}
+
+	@Test
+	public void testBoundedEvictionForMixedSizes(SessionFactoryScope scope) {
+		final var sessionFactory = scope.getSessionFactory();
+		final var regionFactory = (OffHeapRegionFactory) sessionFactory.getCache().getRegionFactory();
+		final long initialEvictionCount = regionFactory.getEvictionCount( "drafts" );
+
+		// each entry needs an 8 KiB block, so these fill the 1 MiB region
+		final String small = "x".repeat( 6_000 );
+		scope.inTransaction( session -> {
+			for ( long id = 0; id < 128; id++ ) {
+				final var draft = new Draft();
+				draft.id = id;
+				draft.text = small;
+				session.persist( draft );
+			}
+		} );
+		assertThat( regionFactory.getEvictionCount( "drafts" ) ).isEqualTo( initialEvictionCount );
+
+		// a value of another size class is not cached, rather than
+		// evicting every entry in the full page
+		final String large = "x".repeat( 100_000 );
+		scope.inTransaction( session -> {
+			final var draft = new Draft();
+			draft.id = 1000L;
+			draft.text = large;
+			session.persist( draft );
+		} );
+		assertThat( regionFactory.getEvictionCount( "drafts" ) ).isEqualTo( initialEvictionCount );
+		assertThat( sessionFactory.getCache().containsEntity( Draft.class, 1000L ) ).isFalse();
+		assertThat( sessionFactory.getCache().containsEntity( Draft.class, 0L ) ).isTrue();
+
+		// once the page is sparse enough, it's reclaimed for the other size class
+		for ( long id = 0; id < 100; id++ ) {
+			sessionFactory.getCache().evictEntityData( Draft.class, id );
+		}
+		scope.inTransaction( session -> {
+			final var draft = new Draft();
+			draft.id = 1001L;
+			draft.text = large;
+			session.persist( draft );
+		} );
+		assertThat( regionFactory.getEvictionCount( "drafts" ) ).isEqualTo( initialEvictionCount + 28 );
+		assertThat( sessionFactory.getCache().containsEntity( Draft.class, 1001L ) ).isTrue();
+		assertThat( sessionFactory.getCache().containsEntity( Draft.class, 127L ) ).isFalse();
+	}
+
+	@AfterEach
+	public void cleanup(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	public enum Format {
+		PAPERBACK, HARDCOVER, EBOOK
+	}
+
+	@Entity(name = "Book")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "books")
+	public static class Book {
+		@Id
+		Long isbn;
+		@Version
+		int version;
+		String title;
+		BigDecimal price;
+		LocalDate published;
+		@Enumerated(STRING)
+		Format format;
+		@ElementCollection
+		@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "books")
+		List<String> authors = new ArrayList<>();
+	}
+
+	@Entity(name = "Manuscript")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "manuscripts")
+	public static class Manuscript {
+		@Id
+		Long id;
+		@Lob
+		String text;
+	}
+
+	@Entity(name = "Draft")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "drafts")
+	public static class Draft {
+		@Id
+		Long id;
+		@Lob
+		String text;
+	}
+}
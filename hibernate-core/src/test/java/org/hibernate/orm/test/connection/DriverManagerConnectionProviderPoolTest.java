@@ -0,0 +1,107 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.connection;
+
+import java.sql.Connection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.HibernateException;
+import org.hibernate.cfg.Environment;
+import org.hibernate.cfg.JdbcSettings;
+import org.hibernate.engine.jdbc.connections.internal.DriverManagerConnectionProvider;
+import org.hibernate.internal.util.PropertiesHelper;
+
+import org.hibernate.testing.orm.junit.BaseUnitTest;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for waiting for a connection, and for leak detection, in the built-in pool.
+ */
+@BaseUnitTest
+public class DriverManagerConnectionProviderPoolTest {
+
+	@Test
+	public void testWaitForConnection() throws Exception {
+		final var provider = buildProvider( Map.of(
+				JdbcSettings.POOL_SIZE, "2",
+				DriverManagerConnectionProvider.ACQUISITION_TIMEOUT, "200"
+		) );
+		try {
+			final Connection first = provider.getConnection();
+			final Connection second = provider.getConnection();
+			assertThat( provider.getOpenConnections() ).isEqualTo( 2 );
+
+			// the pool is exhausted, so we give up after the timeout
+			final long start = System.nanoTime();
+			assertThatThrownBy( provider::getConnection ).isInstanceOf( HibernateException.class );
+			assertThat( TimeUnit.NANOSECONDS.toMillis( System.nanoTime() - start ) ).isGreaterThanOrEqualTo( 200 );
+
+			// a thread waiting for a connection obtains the next one returned
+			final var waiting = new CompletableFuture<Connection>();
+			new Thread( () -> {
+				try {
+					waiting.complete( provider.getConnection() );
+				}
+				catch (Throwable e) {
+					waiting.completeExceptionally( e );
+				}
+			} ).start();
+			provider.closeConnection( first );
+			final Connection third = waiting.get( 10, TimeUnit.SECONDS );
+			assertThat( provider.getOpenConnections() ).isEqualTo( 2 );
+
+			provider.closeConnection( second );
+			provider.closeConnection( third );
+			assertThat( provider.getOpenConnections() ).isZero();
+		}
+		finally {
+			provider.stop();
+		}
+	}
+
+	@Test
+	public void testLeakDetection() throws Exception {
+		final var provider = buildProvider( Map.of(
+				DriverManagerConnectionProvider.VALIDATION_INTERVAL, "1",
+				DriverManagerConnectionProvider.LEAK_DETECTION_THRESHOLD, "1"
+		) );
+		try {
+			final Connection connection = provider.getConnection();
+			for ( int i = 0; i < 50 && provider.getLeakedConnections() == 0; i++ ) {
+				Thread.sleep( 100 );
+			}
+			assertThat( provider.getLeakedConnections() ).isEqualTo( 1 );
+			provider.closeConnection( connection );
+		}
+		finally {
+			provider.stop();
+		}
+	}
+
+	private static TestConnectionProvider buildProvider(Map<String, String> settings) {
+		final Map<String, Object> configuration = PropertiesHelper.map( Environment.getProperties() );
+		configuration.putAll( settings );
+		final var provider = new TestConnectionProvider();
+		provider.configure( configuration );
+		return provider;
+	}
+
+	private static class TestConnectionProvider extends DriverManagerConnectionProvider {
+		@Override
+		protected int getOpenConnections() {
+			return super.getOpenConnections();
+		}
+
+		@Override
+		protected long getLeakedConnections() {
+			return super.getLeakedConnections();
+		}
+	}
+}
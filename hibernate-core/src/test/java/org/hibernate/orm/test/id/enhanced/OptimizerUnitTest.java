@@ -159,6 +159,32 @@ public void testSubsequentPooledOptimizerUsage() {
 		assertEquals( (1001+6), sequence.getCurrentValue() );
 	}
 
+	@Test
+	public void testBasicPooledConcurrentOptimizerUsage() {
+		Long next;
+		SourceMock sequence = new SourceMock( 1, 10 );
+		Optimizer optimizer = buildPooledConcurrentOptimizer( -1, 10 );
+		for ( int i = 1; i <= 9; i++ ) {
+			next = ( Long ) optimizer.generate( sequence );
+			assertEquals( i, next.intValue() );
+		}
+		assertEquals( 2, sequence.getTimesCalled() ); // twice to initialize state
+		assertEquals( 11, sequence.getCurrentValue() );
+		// the next block is read when a quarter of the current block remains
+		next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 10, next.intValue() );
+		assertEquals( 3, sequence.getTimesCalled() );
+		assertEquals( 21, sequence.getCurrentValue() );
+		assertEquals( 21, optimizer.getLastSourceValue().toLong() );
+		// and used once the current block is exhausted
+		for ( int i = 11; i <= 12; i++ ) {
+			next = ( Long ) optimizer.generate( sequence );
+			assertEquals( i, next.intValue() );
+		}
+		assertEquals( 3, sequence.getTimesCalled() );
+		assertEquals( 21, sequence.getCurrentValue() );
+	}
+
 	@Test
 	public void testBasicPooledLoOptimizerUsage() {
 		final SourceMock sequence = new SourceMock( 1, 3 );
@@ -314,6 +340,10 @@ private static Optimizer buildPooledOptimizer(long initial, int increment) {
 		return buildOptimizer( StandardOptimizerDescriptor.POOLED, initial, increment );
 	}
 
+	private static Optimizer buildPooledConcurrentOptimizer(long initial, int increment) {
+		return buildOptimizer( StandardOptimizerDescriptor.POOLED_CONCURRENT, initial, increment );
+	}
+
 	private static Optimizer buildPooledLoOptimizer(long initial, int increment) {
 		return buildOptimizer( StandardOptimizerDescriptor.POOLED_LO, initial, increment );
 	}
@@ -0,0 +1,254 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.loading.multiLoad;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.internal.DefaultCacheKeysFactory;
+import org.hibernate.cache.spi.DomainDataRegion;
+import org.hibernate.cache.spi.support.DomainDataRegionImpl;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+import org.hibernate.testing.cache.CachingRegionFactory;
+import org.hibernate.testing.cache.MapStorageAccessImpl;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.hibernate.testing.orm.junit.SettingProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.cfg.CacheSettings.CACHE_REGION_FACTORY;
+import static org.hibernate.cfg.CacheSettings.USE_SECOND_LEVEL_CACHE;
+
+/**
+ * Verifies that multi-id loads and batch loads of entities and collections
+ * check the second-level cache with a single bulk lookup, instead of one
+ * lookup per id.
+ */
+@ServiceRegistry(
+		settings = @Setting(name = USE_SECOND_LEVEL_CACHE, value = "true"),
+		settingProviders = @SettingProvider(
+				settingName = CACHE_REGION_FACTORY,
+				provider = MultiLoadBulkCacheAccessTest.CountingRegionFactory.Provider.class
+		)
+)
+@DomainModel(annotatedClasses = MultiLoadBulkCacheAccessTest.Event.class)
+@SessionFactory(generateStatistics = true)
+public class MultiLoadBulkCacheAccessTest {
+
+	@BeforeEach
+	void setUp(SessionFactoryScope factoryScope) {
+		factoryScope.inTransaction( session -> {
+			for ( int id = 1; id <= 5; id++ ) {
+				session.persist( new Event( id, "text" + id ) );
+			}
+		} );
+		storageAccess( factoryScope ).reset();
+	}
+
+	@AfterEach
+	void tearDown(SessionFactoryScope factoryScope) {
+		factoryScope.dropData();
+		factoryScope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testOrderedMultiLoad(SessionFactoryScope factoryScope) {
+		testMultiLoad( factoryScope, true );
+	}
+
+	@Test
+	public void testUnorderedMultiLoad(SessionFactoryScope factoryScope) {
+		testMultiLoad( factoryScope, false );
+	}
+
+	private void testMultiLoad(SessionFactoryScope factoryScope, boolean ordered) {
+		final var statistics = factoryScope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		factoryScope.inSession( session -> {
+			// one of the ids is already associated with the session
+			session.find( Event.class, 5 );
+			final var storageAccess = storageAccess( factoryScope );
+			storageAccess.reset();
+
+			final var events = session.byMultipleIds( Event.class )
+					.enableOrderedReturn( ordered )
+					.enableSessionCheck( true )
+					.multiLoad( List.of( 1, 2, 3, 4, 5 ) );
+			assertThat( events ).hasSize( 5 ).doesNotContainNull();
+			assertThat( storageAccess.bulkGets.get() ).isOne();
+			assertThat( storageAccess.singleGets.get() ).isZero();
+		} );
+
+		assertThat( statistics.getEntityLoadCount() ).isZero();
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 5 );
+		assertThat( statistics.getSecondLevelCacheMissCount() ).isZero();
+	}
+
+	@Test
+	public void testBatchLoad(SessionFactoryScope factoryScope) {
+		factoryScope.getSessionFactory().getCache().evictEntityData( Event.class, 1 );
+		final var statistics = factoryScope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		factoryScope.inSession( session -> {
+			final List<Event> proxies = List.of(
+					session.getReference( Event.class, 1 ),
+					session.getReference( Event.class, 2 ),
+					session.getReference( Event.class, 3 ),
+					session.getReference( Event.class, 4 )
+			);
+			final var storageAccess = storageAccess( factoryScope );
+			storageAccess.reset();
+
+			Hibernate.initialize( proxies.get( 0 ) );
+			// the other entities are cached, so they were not added to the batch
+			assertThat( storageAccess.bulkGets.get() ).isOne();
+			assertThat( statistics.getEntityLoadCount() ).isOne();
+			for ( int i = 1; i < proxies.size(); i++ ) {
+				assertThat( Hibernate.isInitialized( proxies.get( i ) ) ).isFalse();
+			}
+		} );
+	}
+
+	@Test
+	public void testCollectionBatchLoad(SessionFactoryScope factoryScope) {
+		// cache the collections
+		factoryScope.inSession( session -> {
+			for ( int id = 1; id <= 5; id++ ) {
+				Hibernate.initialize( session.find( Event.class, id ).tags );
+			}
+		} );
+		final var cache = factoryScope.getSessionFactory().getCache();
+		cache.evictCollectionData( Event.class.getName() + ".tags", 1 );
+		final var statistics = factoryScope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		factoryScope.inSession( session -> {
+			final List<Event> events = List.of(
+					session.find( Event.class, 1 ),
+					session.find( Event.class, 2 ),
+					session.find( Event.class, 3 ),
+					session.find( Event.class, 4 )
+			);
+			final var storageAccess = storageAccess( factoryScope );
+			storageAccess.reset();
+
+			Hibernate.initialize( events.get( 0 ).tags );
+			assertThat( events.get( 0 ).tags ).containsExactly( "tag1" );
+			// the other collections are cached, so they were not added to the batch
+			assertThat( storageAccess.bulkGets.get() ).isOne();
+			assertThat( statistics.getCollectionLoadCount() ).isOne();
+			for ( int i = 1; i < events.size(); i++ ) {
+				assertThat( Hibernate.isInitialized( events.get( i ).tags ) ).isFalse();
+			}
+		} );
+	}
+
+	private static CountingStorageAccess storageAccess(SessionFactoryScope factoryScope) {
+		return ( (CountingRegionFactory) factoryScope.getSessionFactory().getCache().getRegionFactory() )
+				.storageAccess;
+	}
+
+	public static class CountingRegionFactory extends CachingRegionFactory {
+		private final CountingStorageAccess storageAccess = new CountingStorageAccess();
+
+		@Override
+		public DomainDataRegion buildDomainDataRegion(
+				DomainDataRegionConfig regionConfig,
+				DomainDataRegionBuildingContext buildingContext) {
+			return new DomainDataRegionImpl(
+					regionConfig,
+					this,
+					storageAccess,
+					DefaultCacheKeysFactory.INSTANCE,
+					buildingContext
+			);
+		}
+
+		public static class Provider implements SettingProvider.Provider<CountingRegionFactory> {
+			@Override
+			public CountingRegionFactory getSetting() {
+				return new CountingRegionFactory();
+			}
+		}
+	}
+
+	public static class CountingStorageAccess extends MapStorageAccessImpl {
+		private final AtomicInteger singleGets = new AtomicInteger();
+		private final AtomicInteger bulkGets = new AtomicInteger();
+
+		void reset() {
+			singleGets.set( 0 );
+			bulkGets.set( 0 );
+		}
+
+		@Override
+		public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+			singleGets.incrementAndGet();
+			return super.getFromCache( key, session );
+		}
+
+		@Override
+		public Map<Object, Object> getAllFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+			bulkGets.incrementAndGet();
+			final Map<Object, Object> items = new HashMap<>();
+			for ( Object key : keys ) {
+				final Object item = getFromData( key );
+				if ( item != null ) {
+					items.put( key, item );
+				}
+			}
+			return items;
+		}
+	}
+
+	@Entity(name = "Event")
+	@Cacheable
+	@BatchSize(size = 10)
+	public static class Event {
+		@Id
+		private Integer id;
+
+		private String text;
+
+		@ElementCollection
+		@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+		@BatchSize(size = 10)
+		private Set<String> tags = new HashSet<>();
+
+		public Event() {
+		}
+
+		public Event(Integer id, String text) {
+			this.id = id;
+			this.text = text;
+			this.tags.add( "tag" + id );
+		}
+	}
+}
@@ -0,0 +1,126 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.paging.keybased;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.engine.spi.SessionImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.jpa.HibernateHints.HINT_KEYSET_PAGINATION;
+
+/**
+ * Tests for {@value org.hibernate.jpa.HibernateHints#HINT_KEYSET_PAGINATION}.
+ */
+@DomainModel(annotatedClasses = KeysetPaginationHintTest.Item.class)
+@SessionFactory(useCollectingStatementInspector = true)
+public class KeysetPaginationHintTest {
+	private static final int COUNT = 23;
+	private static final int PAGE_SIZE = 5;
+
+	@BeforeAll
+	public void createData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < COUNT; i++ ) {
+				session.persist( new Item( i, "Item " + i, i % 4 ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void dropData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testSequentialPages(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Integer> expected =
+					session.createSelectionQuery( "select id from Item order by priority, id", Integer.class )
+							.getResultList();
+			assertThat( readAllPages( session, "from Item order by priority, id" ) )
+					.containsExactlyElementsOf( expected );
+			assertThat( readAllPages( session, "from Item order by id desc" ) )
+					.containsExactlyElementsOf( expected.stream().sorted( ( x, y ) -> y - x ).toList() );
+		} );
+	}
+
+	@Test
+	@RequiresDialect(H2Dialect.class)
+	public void testOffsetOnlyWhenNecessary(SessionFactoryScope scope) {
+		final var inspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			assertThat( page( session, "from Item order by id", 0 ) ).hasSize( PAGE_SIZE );
+			inspector.clear();
+			// the previous page was just read
+			assertThat( page( session, "from Item order by id", 1 ) )
+					.extracting( item -> item.id )
+					.containsExactly( 5, 6, 7, 8, 9 );
+			assertThat( inspector.getSqlQueries().get( 0 ) ).doesNotContainIgnoringCase( "offset" );
+
+			inspector.clear();
+			// skipping a page
+			assertThat( page( session, "from Item order by id", 3 ) )
+					.extracting( item -> item.id )
+					.containsExactly( 15, 16, 17, 18, 19 );
+			assertThat( inspector.getSqlQueries().get( 0 ) ).containsIgnoringCase( "offset" );
+
+			assertThat( page( session, "from Item order by priority", 0 ) ).hasSize( PAGE_SIZE );
+			inspector.clear();
+			// the ordering is not unique
+			assertThat( page( session, "from Item order by priority", 1 ) ).hasSize( PAGE_SIZE );
+			assertThat( inspector.getSqlQueries().get( 0 ) ).containsIgnoringCase( "offset" );
+		} );
+	}
+
+	private static List<Integer> readAllPages(SessionImplementor session, String hql) {
+		final List<Integer> ids = new ArrayList<>();
+		for ( int page = 0; ; page++ ) {
+			final var items = page( session, hql, page );
+			items.forEach( item -> ids.add( item.id ) );
+			if ( items.size() < PAGE_SIZE ) {
+				return ids;
+			}
+		}
+	}
+
+	private static List<Item> page(SessionImplementor session, String hql, int page) {
+		return session.createQuery( hql, Item.class )
+				.setHint( HINT_KEYSET_PAGINATION, true )
+				.setFirstResult( page * PAGE_SIZE )
+				.setMaxResults( PAGE_SIZE )
+				.getResultList();
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		int id;
+		String name;
+		int priority;
+
+		Item() {
+		}
+
+		Item(int id, String name, int priority) {
+			this.id = id;
+			this.name = name;
+			this.priority = priority;
+		}
+	}
+}
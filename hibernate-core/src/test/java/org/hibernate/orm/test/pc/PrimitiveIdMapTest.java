@@ -0,0 +1,225 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.pc;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import org.hibernate.Hibernate;
+import org.hibernate.cfg.PersistenceSettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value PersistenceSettings#PERSISTENCE_CONTEXT_PRIMITIVE_ID_MAP}.
+ */
+@DomainModel(annotatedClasses = {
+		PrimitiveIdMapTest.Book.class,
+		PrimitiveIdMapTest.EBook.class,
+		PrimitiveIdMapTest.Author.class,
+		PrimitiveIdMapTest.Publisher.class,
+		PrimitiveIdMapTest.Review.class
+})
+@SessionFactory
+@ServiceRegistry(settings = @Setting(name = PersistenceSettings.PERSISTENCE_CONTEXT_PRIMITIVE_ID_MAP, value = "true"))
+public class PrimitiveIdMapTest {
+	private static final int COUNT = 1000;
+
+	@AfterEach
+	public void cleanup(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testManyEntities(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < COUNT; i++ ) {
+				session.persist( i % 2 == 0 ? new Book( i, "Book " + i ) : new EBook( i, "EBook " + i ) );
+				session.persist( new Author( i, "Author " + i ) );
+				session.persist( new Publisher( "P" + i ) );
+			}
+			assertThat( session.getManagedEntities() ).hasSize( 3 * COUNT );
+		} );
+
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < COUNT; i++ ) {
+				final var book = session.find( Book.class, (long) i );
+				assertThat( book.title ).endsWith( " " + i );
+				assertThat( book ).isInstanceOf( i % 2 == 0 ? Book.class : EBook.class );
+				// the same instance is found via the subclass
+				if ( i % 2 == 1 ) {
+					assertThat( session.find( EBook.class, (long) i ) ).isSameAs( book );
+				}
+				assertThat( session.find( Author.class, i ).name ).isEqualTo( "Author " + i );
+				assertThat( session.find( Publisher.class, "P" + i ) ).isNotNull();
+			}
+			assertThat( session.getManagedEntities() ).hasSize( 3 * COUNT );
+			assertThat( session.getManagedEntities( Author.class ) ).hasSize( COUNT );
+
+			// remove half the entities, and check that the rest are still there
+			for ( int i = 0; i < COUNT; i += 2 ) {
+				session.remove( session.find( Book.class, (long) i ) );
+				session.detach( session.find( Author.class, i ) );
+			}
+			session.flush();
+			for ( int i = 0; i < COUNT; i++ ) {
+				final Object author = session.getPersistenceContextInternal()
+						.getEntity( session.getFactory().getMappingMetamodel().getEntityDescriptor( Author.class ), i );
+				if ( i % 2 == 0 ) {
+					assertThat( author ).isNull();
+					assertThat( session.find( Book.class, (long) i ) ).isNull();
+				}
+				else {
+					assertThat( author ).isNotNull();
+					assertThat( session.contains( session.find( Book.class, (long) i ) ) ).isTrue();
+				}
+			}
+		} );
+
+		scope.inTransaction( session -> assertThat(
+				session.createSelectionQuery( "select count(*) from Book", Long.class ).getSingleResult()
+		).isEqualTo( COUNT / 2L ) );
+	}
+
+	@Test
+	public void testProxies(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 10; i++ ) {
+				session.persist( new Book( i, "Book " + i ) );
+			}
+		} );
+
+		scope.inTransaction( session -> {
+			final var reference = session.getReference( Book.class, 3L );
+			assertThat( Hibernate.isInitialized( reference ) ).isFalse();
+			assertThat( session.getReference( Book.class, 3L ) ).isSameAs( reference );
+			final var book = session.find( Book.class, 3L );
+			assertThat( book ).isSameAs( reference );
+			assertThat( Hibernate.isInitialized( reference ) ).isTrue();
+
+			session.clear();
+			assertThat( session.getManagedEntities() ).isEmpty();
+			assertThat( session.find( Book.class, 3L ) ).isNotSameAs( reference );
+		} );
+	}
+
+	@Test
+	public void testAssociations(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 10; i++ ) {
+				final var book = new Book( i, "Book " + i );
+				final var author = new Author( i, "Author " + i );
+				session.persist( book );
+				session.persist( author );
+				session.persist( new Review( i, book, author ) );
+			}
+		} );
+
+		scope.inTransaction( session -> {
+			final var persistenceContext = session.getPersistenceContextInternal();
+			final var bookDescriptor = session.getFactory().getMappingMetamodel().getEntityDescriptor( Book.class );
+			final var book = session.find( Book.class, 3L );
+			final var holder = persistenceContext.getEntityHolder( bookDescriptor, 3L );
+			assertThat( holder ).isNotNull();
+			assertThat( holder ).isSameAs( persistenceContext.getEntityHolder( session.generateEntityKey( 3L, bookDescriptor ) ) );
+			assertThat( holder.getEntity() ).isSameAs( book );
+			assertThat( persistenceContext.getEntityHolder( bookDescriptor, 42L ) ).isNull();
+
+			// the initializers resolve the already managed instances by persister and id
+			final var author = session.find( Author.class, 3 );
+			final var reviews =
+					session.createSelectionQuery( "from Review order by id", Review.class ).getResultList();
+			assertThat( reviews ).hasSize( 10 );
+			assertThat( reviews.get( 3 ).book ).isSameAs( book );
+			assertThat( reviews.get( 3 ).author ).isSameAs( author );
+			for ( var review : reviews ) {
+				assertThat( review.book.id ).isEqualTo( review.id );
+				assertThat( review.author.name ).isEqualTo( "Author " + review.id );
+			}
+		} );
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		Long id;
+		String title;
+
+		Book() {
+		}
+
+		Book(long id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+
+	@Entity(name = "EBook")
+	public static class EBook extends Book {
+		EBook() {
+		}
+
+		EBook(long id, String title) {
+			super( id, title );
+		}
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		int id;
+		String name;
+
+		Author() {
+		}
+
+		Author(int id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Review")
+	public static class Review {
+		@Id
+		long id;
+		@ManyToOne
+		Book book;
+		@ManyToOne(fetch = FetchType.LAZY)
+		Author author;
+
+		Review() {
+		}
+
+		Review(long id, Book book, Author author) {
+			this.id = id;
+			this.book = book;
+			this.author = author;
+		}
+	}
+
+	@Entity(name = "Publisher")
+	public static class Publisher {
+		@Id
+		String name;
+
+		Publisher() {
+		}
+
+		Publisher(String name) {
+			this.name = name;
+		}
+	}
+}
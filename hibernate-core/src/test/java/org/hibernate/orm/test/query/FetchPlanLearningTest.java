@@ -0,0 +1,280 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import org.hibernate.Hibernate;
+import org.hibernate.cfg.QuerySettings;
+import org.hibernate.cfg.StatisticsSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.query.spi.FetchPlanLearner;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.jpa.HibernateHints.HINT_KEYSET_PAGINATION;
+import static org.hibernate.query.spi.QueryInterpretationCache.QUERY_PLAN_CACHE_NAME;
+
+/**
+ * Tests for {@value QuerySettings#FETCH_PLAN_LEARNING}.
+ */
+@DomainModel(annotatedClasses = {
+		FetchPlanLearningTest.Author.class,
+		FetchPlanLearningTest.Publisher.class,
+		FetchPlanLearningTest.Book.class
+})
+@SessionFactory(useCollectingStatementInspector = true)
+@ServiceRegistry(settings = {
+		@Setting(name = QuerySettings.FETCH_PLAN_LEARNING, value = "true"),
+		@Setting(name = QuerySettings.FETCH_PLAN_LEARNING_THRESHOLD, value = "2"),
+		@Setting(name = StatisticsSettings.GENERATE_STATISTICS, value = "true")
+})
+public class FetchPlanLearningTest {
+	private static final String HQL = "from Author order by id";
+	private static final int COUNT = 3;
+
+	@BeforeAll
+	public void createData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < COUNT; i++ ) {
+				final var publisher = new Publisher( i );
+				session.persist( publisher );
+				final var author = new Author( i, publisher );
+				session.persist( author );
+				for ( int j = 0; j < 2; j++ ) {
+					session.persist( new Book( i * 10 + j, author ) );
+				}
+			}
+		} );
+	}
+
+	@AfterAll
+	public void dropData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@AfterEach
+	public void reset(SessionFactoryScope scope) {
+		final var learner = learner( scope );
+		learner.clear();
+		learner.setEnabled( true );
+	}
+
+	@Test
+	public void testLearnedFetchPlan(SessionFactoryScope scope) {
+		final var learner = learner( scope );
+		for ( int i = 0; i < 2; i++ ) {
+			scope.inTransaction( session -> {
+				final List<Author> authors = session.createSelectionQuery( HQL, Author.class ).getResultList();
+				assertThat( Hibernate.isInitialized( authors.get( 0 ).publisher ) ).isFalse();
+				assertThat( Hibernate.isInitialized( authors.get( 0 ).books ) ).isFalse();
+				Hibernate.initialize( authors.get( 0 ).publisher );
+				Hibernate.initialize( authors.get( 0 ).books );
+			} );
+		}
+		assertThat( learner.getLearnedFetchPlans() )
+				.containsEntry( HQL, Set.of( "books", "publisher" ) );
+
+		final var inspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final List<Author> authors = session.createSelectionQuery( HQL, Author.class ).getResultList();
+			// the publishers were fetched using a join
+			for ( var author : authors ) {
+				assertThat( Hibernate.isInitialized( author.publisher ) ).isTrue();
+			}
+			// and the books are fetched using a subselect
+			inspector.clear();
+			Hibernate.initialize( authors.get( 0 ).books );
+			assertThat( inspector.getSqlQueries() ).hasSize( 1 );
+			for ( var author : authors ) {
+				assertThat( Hibernate.isInitialized( author.books ) ).isTrue();
+				assertThat( author.books ).hasSize( 2 );
+			}
+		} );
+	}
+
+	@Test
+	public void testLearnedFetchPlanCached(SessionFactoryScope scope) {
+		learnPublisherAndBooks( scope );
+
+		final var statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		for ( int i = 0; i < 2; i++ ) {
+			scope.inTransaction( session -> {
+				final List<Author> authors = session.createSelectionQuery( HQL, Author.class ).getResultList();
+				assertThat( Hibernate.isInitialized( authors.get( 0 ).publisher ) ).isTrue();
+			} );
+		}
+		// the plan for the learned graph was cached and then reused
+		final var queryPlanCacheStatistics = statistics.getInternalCacheStatistics( QUERY_PLAN_CACHE_NAME );
+		assertThat( queryPlanCacheStatistics ).isNotNull();
+		assertThat( queryPlanCacheStatistics.getMissCount() ).isLessThanOrEqualTo( 1 );
+		assertThat( queryPlanCacheStatistics.getHitCount() ).isGreaterThanOrEqualTo( 1 );
+	}
+
+	@Test
+	@RequiresDialect(H2Dialect.class)
+	public void testLearnedFetchPlanWithKeysetPagination(SessionFactoryScope scope) {
+		learnPublisherAndBooks( scope );
+
+		final var inspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			assertThat( page( session, 0 ) ).extracting( author -> author.id ).containsExactly( 0, 1 );
+			inspector.clear();
+			// the previous page was just read
+			final List<Author> authors = page( session, 1 );
+			assertThat( authors ).extracting( author -> author.id ).containsExactly( 2 );
+			assertThat( inspector.getSqlQueries().get( 0 ) ).doesNotContainIgnoringCase( "offset" );
+			assertThat( Hibernate.isInitialized( authors.get( 0 ).publisher ) ).isTrue();
+		} );
+	}
+
+	@Test
+	public void testLearnedSubselectFetchOnlyForQueryResults(SessionFactoryScope scope) {
+		learnPublisherAndBooks( scope );
+
+		final var inspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			session.createSelectionQuery( HQL, Author.class ).getResultList();
+			session.clear();
+			// the authors are now loaded by a query with no learned fetch plan
+			final List<Author> authors =
+					session.createSelectionQuery( "from Author where id < 2 order by id", Author.class )
+							.getResultList();
+			inspector.clear();
+			Hibernate.initialize( authors.get( 0 ).books );
+			assertThat( inspector.getSqlQueries() ).hasSize( 1 );
+			assertThat( Hibernate.isInitialized( authors.get( 1 ).books ) ).isFalse();
+		} );
+	}
+
+	@Test
+	public void testAssociationNotUsuallyInitialized(SessionFactoryScope scope) {
+		final var learner = learner( scope );
+		for ( int i = 0; i < 5; i++ ) {
+			final boolean initialize = i == 2 || i == 4;
+			scope.inTransaction( session -> {
+				final List<Author> authors = session.createSelectionQuery( HQL, Author.class ).getResultList();
+				if ( initialize ) {
+					Hibernate.initialize( authors.get( 0 ).books );
+				}
+			} );
+		}
+		// initialized after the threshold of two executions, but not after most executions
+		assertThat( learner.getLearnedFetchPlans() ).isEmpty();
+	}
+
+	@Test
+	public void testDisabled(SessionFactoryScope scope) {
+		final var learner = learner( scope );
+		for ( int i = 0; i < 2; i++ ) {
+			scope.inTransaction( session -> {
+				final List<Author> authors = session.createSelectionQuery( HQL, Author.class ).getResultList();
+				Hibernate.initialize( authors.get( 0 ).publisher );
+			} );
+		}
+		assertThat( learner.getLearnedFetchPlans() ).containsKey( HQL );
+
+		learner.setEnabled( false );
+		scope.inTransaction( session -> {
+			final List<Author> authors = session.createSelectionQuery( HQL, Author.class ).getResultList();
+			assertThat( Hibernate.isInitialized( authors.get( 0 ).publisher ) ).isFalse();
+		} );
+	}
+
+	private static void learnPublisherAndBooks(SessionFactoryScope scope) {
+		for ( int i = 0; i < 2; i++ ) {
+			scope.inTransaction( session -> {
+				final List<Author> authors = session.createSelectionQuery( HQL, Author.class ).getResultList();
+				Hibernate.initialize( authors.get( 0 ).publisher );
+				Hibernate.initialize( authors.get( 0 ).books );
+			} );
+		}
+		assertThat( learner( scope ).getLearnedFetchPlans() )
+				.containsEntry( HQL, Set.of( "books", "publisher" ) );
+	}
+
+	private static List<Author> page(SessionImplementor session, int page) {
+		return session.createSelectionQuery( HQL, Author.class )
+				.setHint( HINT_KEYSET_PAGINATION, true )
+				.setFirstResult( page * 2 )
+				.setMaxResults( 2 )
+				.getResultList();
+	}
+
+	private static FetchPlanLearner learner(SessionFactoryScope scope) {
+		final var learner = scope.getSessionFactory().getQueryEngine().getFetchPlanLearner();
+		assertThat( learner ).isNotNull();
+		return learner;
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		int id;
+		@ManyToOne(fetch = FetchType.LAZY)
+		Publisher publisher;
+		@OneToMany(mappedBy = "author")
+		Set<Book> books = new HashSet<>();
+
+		Author() {
+		}
+
+		Author(int id, Publisher publisher) {
+			this.id = id;
+			this.publisher = publisher;
+		}
+	}
+
+	@Entity(name = "Publisher")
+	public static class Publisher {
+		@Id
+		int id;
+		String name;
+
+		Publisher() {
+		}
+
+		Publisher(int id) {
+			this.id = id;
+			this.name = "Publisher " + id;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		int id;
+		@ManyToOne(fetch = FetchType.LAZY)
+		Author author;
+
+		Book() {
+		}
+
+		Book(int id, Author author) {
+			this.id = id;
+			this.author = author;
+		}
+	}
+}
@@ -0,0 +1,131 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import org.hibernate.cfg.QuerySettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for caching of the translation of queries with
+ * {@value QuerySettings#IN_CLAUSE_PARAMETER_PADDING padded}
+ * multivalued parameters.
+ */
+@DomainModel(annotatedClasses = InListPlanCachingTest.Book.class)
+@SessionFactory(generateStatistics = true)
+@ServiceRegistry(settings = @Setting(name = QuerySettings.IN_CLAUSE_PARAMETER_PADDING, value = "true"))
+public class InListPlanCachingTest {
+
+	@BeforeAll
+	public void createData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 20; i++ ) {
+				session.persist( new Book( i, "Book " + i ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void dropData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testTranslationSharedByPaddedSize(SessionFactoryScope scope) {
+		final var statistics = scope.getSessionFactory().getStatistics();
+		final String hql = "select id from Book where id in :ids order by id";
+		scope.inTransaction( session -> {
+			for ( int size = 5; size <= 8; size++ ) {
+				final var ids = ids( size );
+				assertThat( session.createSelectionQuery( hql, Integer.class )
+						.setParameter( "ids", ids )
+						.getResultList() )
+						.containsExactlyElementsOf( ids );
+			}
+		} );
+		assertThat( statistics.getQueryStatistics( hql ).getDistinctSqlCount() ).isEqualTo( 1 );
+
+		scope.inTransaction( session -> {
+			final var ids = ids( 9 );
+			assertThat( session.createSelectionQuery( hql, Integer.class )
+					.setParameter( "ids", ids )
+					.getResultList() )
+					.containsExactlyElementsOf( ids );
+			// the smaller bucket is still cached
+			assertThat( session.createSelectionQuery( hql, Integer.class )
+					.setParameter( "ids", ids( 3 ) )
+					.getResultList() )
+					.containsExactly( 0, 1, 2 );
+		} );
+		assertThat( statistics.getQueryStatistics( hql ).getDistinctSqlCount() ).isEqualTo( 3 );
+	}
+
+	@Test
+	public void testParameterOccurringTwice(SessionFactoryScope scope) {
+		final String hql = "select id from Book where id in :ids and (id in :ids or title is null) order by id";
+		scope.inTransaction( session -> {
+			for ( int size : new int[] { 5, 6, 5, 7, 1, 6 } ) {
+				final var ids = ids( size );
+				assertThat( session.createSelectionQuery( hql, Integer.class )
+						.setParameter( "ids", ids )
+						.getResultList() )
+						.containsExactlyElementsOf( ids );
+			}
+		} );
+	}
+
+	@Test
+	public void testSingleValuedAndEmptyArguments(SessionFactoryScope scope) {
+		final String hql = "select b.id from Book b where b.id in :ids order by b.id";
+		scope.inTransaction( session -> {
+			assertThat( session.createSelectionQuery( hql, Integer.class )
+					.setParameter( "ids", 4 )
+					.getResultList() )
+					.containsExactly( 4 );
+			assertThat( session.createSelectionQuery( hql, Integer.class )
+					.setParameterList( "ids", List.of() )
+					.getResultList() )
+					.isEmpty();
+			assertThat( session.createSelectionQuery( hql, Integer.class )
+					.setParameterList( "ids", List.of( 4, 6 ) )
+					.getResultList() )
+					.containsExactly( 4, 6 );
+		} );
+	}
+
+	private static List<Integer> ids(int size) {
+		return IntStream.range( 0, size ).boxed().toList();
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		int id;
+		String title;
+
+		Book() {
+		}
+
+		Book(int id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+}
@@ -0,0 +1,129 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Tuple;
+
+import org.hibernate.cfg.BatchSettings;
+import org.hibernate.cfg.QuerySettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value QuerySettings#PARALLEL_RESULT_ASSEMBLY}.
+ */
+@DomainModel(annotatedClasses = ParallelResultAssemblyTest.Item.class)
+@SessionFactory
+@ServiceRegistry(settings = {
+		@Setting(name = QuerySettings.PARALLEL_RESULT_ASSEMBLY, value = "true"),
+		@Setting(name = BatchSettings.STATEMENT_BATCH_SIZE, value = "100")
+})
+public class ParallelResultAssemblyTest {
+	// several chunks, and a partial chunk
+	private static final int COUNT = 5000;
+
+	@BeforeAll
+	public void createData(SessionFactoryScope scope) {
+		scope.inStatelessTransaction( session -> {
+			for ( int i = 0; i < COUNT; i++ ) {
+				session.insert( new Item( i, "Item " + i, i * 0.5 ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void dropData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testScalars(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final var names = session.createSelectionQuery( "select name from Item order by id", String.class )
+					.getResultList();
+			assertThat( names ).hasSize( COUNT );
+			for ( int i = 0; i < COUNT; i++ ) {
+				assertThat( names.get( i ) ).isEqualTo( "Item " + i );
+			}
+
+			final var rows = session.createSelectionQuery( "select id, price from Item order by id", Object[].class )
+					.getResultList();
+			assertThat( rows ).hasSize( COUNT );
+			for ( int i = 0; i < COUNT; i++ ) {
+				assertThat( rows.get( i ) ).containsExactly( i, i * 0.5 );
+			}
+		} );
+	}
+
+	@Test
+	public void testInstantiation(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final var summaries = session.createSelectionQuery(
+					"select new org.hibernate.orm.test.query.ParallelResultAssemblyTest$Summary(id, name) from Item order by id",
+					Summary.class
+			).getResultList();
+			assertThat( summaries ).hasSize( COUNT );
+			for ( int i = 0; i < COUNT; i++ ) {
+				assertThat( summaries.get( i ).id ).isEqualTo( i );
+				assertThat( summaries.get( i ).name ).isEqualTo( "Item " + i );
+			}
+
+			final var tuples = session.createSelectionQuery( "select id as id, name as name from Item order by id", Tuple.class )
+					.getResultList();
+			assertThat( tuples ).hasSize( COUNT );
+			assertThat( tuples.get( COUNT - 1 ).get( "name" ) ).isEqualTo( "Item " + ( COUNT - 1 ) );
+		} );
+	}
+
+	@Test
+	public void testEntities(SessionFactoryScope scope) {
+		// entity results are never assembled in parallel
+		scope.inTransaction( session -> {
+			final var items = session.createSelectionQuery( "from Item order by id", Item.class )
+					.getResultList();
+			assertThat( items ).hasSize( COUNT );
+			assertThat( items.get( 17 ).name ).isEqualTo( "Item 17" );
+			assertThat( session.contains( items.get( COUNT - 1 ) ) ).isTrue();
+		} );
+	}
+
+	public static class Summary {
+		final int id;
+		final String name;
+
+		public Summary(int id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		int id;
+		String name;
+		double price;
+
+		Item() {
+		}
+
+		Item(int id, String name, double price) {
+			this.id = id;
+			this.name = name;
+			this.price = price;
+		}
+	}
+}
@@ -0,0 +1,115 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for queries returning primitive arrays, whose
+ * elements are read from the JDBC results without boxing.
+ */
+@DomainModel(annotatedClasses = PrimitiveArrayResultTest.Measurement.class)
+@SessionFactory
+public class PrimitiveArrayResultTest {
+
+	@BeforeAll
+	public void createData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 10; i++ ) {
+				session.persist( new Measurement( i, i * 1_000_000_000L, i * 0.25 ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void dropData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testLongArray(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final var builder = session.getCriteriaBuilder();
+			final var query = builder.createQuery( long[].class );
+			final var root = query.from( Measurement.class );
+			query.multiselect( root.get( "takenAt" ), root.get( "takenAt" ) )
+					.orderBy( builder.asc( root.get( "id" ) ) );
+			final var results = session.createQuery( query ).getResultList();
+			assertThat( results ).hasSize( 10 );
+			for ( int i = 0; i < 10; i++ ) {
+				assertThat( results.get( i ) ).containsExactly( i * 1_000_000_000L, i * 1_000_000_000L );
+			}
+		} );
+	}
+
+	@Test
+	public void testIntArray(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final var builder = session.getCriteriaBuilder();
+			final var query = builder.createQuery( int[].class );
+			final var root = query.from( Measurement.class );
+			query.multiselect( root.get( "id" ), builder.sum( root.<Integer>get( "id" ), 1 ) )
+					.orderBy( builder.asc( root.get( "id" ) ) );
+			final var results = session.createQuery( query ).getResultList();
+			assertThat( results ).hasSize( 10 );
+			for ( int i = 0; i < 10; i++ ) {
+				assertThat( results.get( i ) ).containsExactly( i, i + 1 );
+			}
+		} );
+	}
+
+	@Test
+	public void testDoubleArray(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final var builder = session.getCriteriaBuilder();
+			final var query = builder.createQuery( double[].class );
+			final var root = query.from( Measurement.class );
+			query.multiselect( root.get( "reading" ), builder.prod( root.<Double>get( "reading" ), 2.0 ) )
+					.orderBy( builder.asc( root.get( "id" ) ) );
+			final var results = session.createQuery( query ).getResultList();
+			assertThat( results ).hasSize( 10 );
+			for ( int i = 0; i < 10; i++ ) {
+				assertThat( results.get( i ) ).containsExactly( i * 0.25, i * 0.5 );
+			}
+		} );
+	}
+
+	@Test
+	public void testBoxedAccessToSameColumn(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final var rows = session.createSelectionQuery( "select id, takenAt, reading from Measurement order by id", Object[].class )
+					.getResultList();
+			assertThat( rows ).hasSize( 10 );
+			assertThat( rows.get( 3 ) ).containsExactly( 3, 3_000_000_000L, 0.75 );
+		} );
+	}
+
+	@Entity(name = "Measurement")
+	public static class Measurement {
+		@Id
+		int id;
+		long takenAt;
+		double reading;
+
+		Measurement() {
+		}
+
+		Measurement(int id, long takenAt, double reading) {
+			this.id = id;
+			this.takenAt = takenAt;
+			this.reading = reading;
+		}
+	}
+}
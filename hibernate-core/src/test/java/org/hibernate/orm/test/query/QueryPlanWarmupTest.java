@@ -0,0 +1,108 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.NamedQuery;
+
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.QuerySettings;
+import org.hibernate.cfg.StatisticsSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import org.hibernate.testing.util.ServiceRegistryUtil;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value QuerySettings#QUERY_PLAN_WARMUP} and
+ * {@value QuerySettings#QUERY_PLAN_WARMUP_FILE}.
+ */
+public class QueryPlanWarmupTest {
+
+	@Test
+	public void testNamedQueriesWarmedUp() {
+		final var registry = ServiceRegistryUtil.serviceRegistryBuilder()
+				.applySetting( AvailableSettings.HBM2DDL_AUTO, "create-drop" )
+				.applySetting( StatisticsSettings.GENERATE_STATISTICS, "true" )
+				.applySetting( QuerySettings.QUERY_PLAN_WARMUP, "true" )
+				.build();
+		try ( var factory = buildSessionFactory( registry ) ) {
+			assertThat( factory.getQueryEngine().getInterpretationCache().getNumberOfCachedQueryPlans() )
+					.isPositive();
+			factory.getStatistics().clear();
+			factory.inTransaction( session ->
+					assertThat( session.createNamedQuery( "Book.byTitle", Book.class )
+							.setParameter( "title", "Hibernate" )
+							.getResultList() )
+							.isEmpty() );
+			assertThat( factory.getStatistics().getQueryPlanCacheHitCount() ).isPositive();
+			assertThat( factory.getStatistics().getQueryPlanCacheMissCount() ).isZero();
+		}
+		finally {
+			StandardServiceRegistryBuilder.destroy( registry );
+		}
+	}
+
+	@Test
+	public void testQueriesRecordedAndReplayed(@TempDir Path directory) throws Exception {
+		final var file = directory.resolve( "queries.txt" );
+		final String hql = "select title\nfrom Book\twhere id = :id";
+		final var first = warmupFileRegistry( file );
+		try ( var factory = buildSessionFactory( first ) ) {
+			factory.inTransaction( session ->
+					session.createSelectionQuery( hql, String.class ).setParameter( "id", 1 ).getResultList() );
+		}
+		finally {
+			StandardServiceRegistryBuilder.destroy( first );
+		}
+		assertThat( Files.readAllLines( file ) )
+				.contains( "java.lang.String\tselect title\\nfrom Book\\twhere id = :id" );
+
+		final var second = warmupFileRegistry( file );
+		try ( var factory = buildSessionFactory( second ) ) {
+			factory.getStatistics().clear();
+			factory.inTransaction( session ->
+					session.createSelectionQuery( hql, String.class ).setParameter( "id", 1 ).getResultList() );
+			assertThat( factory.getStatistics().getQueryPlanCacheHitCount() ).isPositive();
+			assertThat( factory.getStatistics().getQueryPlanCacheMissCount() ).isZero();
+		}
+		finally {
+			StandardServiceRegistryBuilder.destroy( second );
+		}
+	}
+
+	private static StandardServiceRegistry warmupFileRegistry(Path file) {
+		return ServiceRegistryUtil.serviceRegistryBuilder()
+				.applySetting( AvailableSettings.HBM2DDL_AUTO, "create-drop" )
+				.applySetting( StatisticsSettings.GENERATE_STATISTICS, "true" )
+				.applySetting( QuerySettings.QUERY_PLAN_WARMUP_FILE, file.toString() )
+				.build();
+	}
+
+	private static SessionFactoryImplementor buildSessionFactory(StandardServiceRegistry registry) {
+		return (SessionFactoryImplementor) new MetadataSources( registry )
+				.addAnnotatedClass( Book.class )
+				.buildMetadata()
+				.buildSessionFactory();
+	}
+
+	@Entity(name = "Book")
+	@NamedQuery(name = "Book.byTitle", query = "from Book where title = :title")
+	public static class Book {
+		@Id
+		int id;
+		String title;
+	}
+}
@@ -0,0 +1,257 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import org.hibernate.FlushMode;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link org.hibernate.query.SelectionQuery#publish()}.
+ */
+@DomainModel(annotatedClasses = {
+		QueryPublisherTest.Item.class,
+		QueryPublisherTest.Product.class,
+		QueryPublisherTest.Category.class
+})
+@SessionFactory
+public class QueryPublisherTest {
+	private static final int COUNT = 25;
+
+	@BeforeAll
+	public void createData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < COUNT; i++ ) {
+				session.persist( new Item( i, "Item " + i ) );
+			}
+			for ( int i = 0; i < COUNT; i++ ) {
+				final var category = new Category( i );
+				session.persist( category );
+				session.persist( new Product( i, category ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void dropData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testDemand(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final var publisher = session.createSelectionQuery( "from Item order by id", Item.class )
+					.setFetchSize( 10 )
+					.publish();
+			final var subscriber = new RecordingSubscriber<Item>();
+			publisher.subscribe( subscriber );
+			// nothing is executed until there is demand
+			assertThat( subscriber.items ).isEmpty();
+
+			subscriber.subscription.request( 3 );
+			assertThat( subscriber.items ).hasSize( 3 );
+			assertThat( subscriber.completed ).isFalse();
+			// each chunk is detached once it has been read
+			assertThat( session.contains( subscriber.items.get( 0 ) ) ).isFalse();
+			assertThat( session.getPersistenceContext().getNumberOfManagedEntities() ).isZero();
+
+			subscriber.subscription.request( Long.MAX_VALUE );
+			assertThat( subscriber.items ).hasSize( COUNT );
+			assertThat( subscriber.items.get( COUNT - 1 ).name ).isEqualTo( "Item " + ( COUNT - 1 ) );
+			assertThat( subscriber.completed ).isTrue();
+			assertThat( subscriber.error ).isNull();
+		} );
+	}
+
+	@Test
+	public void testManagedEntityNotDetached(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			// so that executing the query does not flush the change
+			session.setHibernateFlushMode( FlushMode.COMMIT );
+			final var managed = session.find( Item.class, 5 );
+			managed.name = "Modified";
+
+			final var subscriber = new RecordingSubscriber<Item>();
+			session.createSelectionQuery( "from Item order by id", Item.class ).publish().subscribe( subscriber );
+			subscriber.subscription.request( Long.MAX_VALUE );
+			assertThat( subscriber.items ).hasSize( COUNT );
+			assertThat( subscriber.items.get( 5 ) ).isSameAs( managed );
+			// only the entities loaded by the query were detached
+			assertThat( session.contains( managed ) ).isTrue();
+			assertThat( session.getPersistenceContext().getNumberOfManagedEntities() ).isOne();
+
+			session.flush();
+		} );
+		scope.inTransaction( session -> {
+			final var item = session.find( Item.class, 5 );
+			assertThat( item.name ).isEqualTo( "Modified" );
+			item.name = "Item 5";
+		} );
+	}
+
+	@Test
+	public void testEagerAssociationsDetached(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final var subscriber = new RecordingSubscriber<Product>();
+			session.createSelectionQuery( "from Product order by id", Product.class )
+					.setFetchSize( 5 )
+					.publish()
+					.subscribe( subscriber );
+			final var persistenceContext = session.getPersistenceContext();
+			for ( int i = 0; i < COUNT; i += 5 ) {
+				subscriber.subscription.request( 5 );
+				assertThat( subscriber.items ).hasSize( i + 5 );
+				// the eagerly fetched categories were detached along with the products
+				assertThat( persistenceContext.getNumberOfManagedEntities() ).isZero();
+				assertThat( session.contains( subscriber.items.get( i ).category ) ).isFalse();
+			}
+			assertThat( subscriber.items.get( COUNT - 1 ).category.id ).isEqualTo( COUNT - 1 );
+		} );
+	}
+
+	@Test
+	public void testRequestFromOnNext(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<String> names = new ArrayList<>();
+			final boolean[] completed = new boolean[1];
+			session.createSelectionQuery( "select name from Item order by id", String.class )
+					.publish()
+					.subscribe( new Flow.Subscriber<>() {
+						private Flow.Subscription subscription;
+
+						@Override
+						public void onSubscribe(Flow.Subscription subscription) {
+							this.subscription = subscription;
+							subscription.request( 1 );
+						}
+
+						@Override
+						public void onNext(String name) {
+							names.add( name );
+							subscription.request( 1 );
+						}
+
+						@Override
+						public void onError(Throwable throwable) {
+						}
+
+						@Override
+						public void onComplete() {
+							completed[0] = true;
+						}
+					} );
+			assertThat( names ).hasSize( COUNT );
+			assertThat( completed[0] ).isTrue();
+		} );
+	}
+
+	@Test
+	public void testCancel(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final var subscriber = new RecordingSubscriber<Item>();
+			session.createSelectionQuery( "from Item", Item.class ).publish().subscribe( subscriber );
+			subscriber.subscription.request( 2 );
+			subscriber.subscription.cancel();
+			subscriber.subscription.request( 5 );
+			assertThat( subscriber.items ).hasSize( 2 );
+			assertThat( subscriber.completed ).isFalse();
+		} );
+	}
+
+	@Test
+	public void testInvalidRequest(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final var subscriber = new RecordingSubscriber<Item>();
+			session.createSelectionQuery( "from Item", Item.class ).publish().subscribe( subscriber );
+			subscriber.subscription.request( 0 );
+			assertThat( subscriber.error ).isInstanceOf( IllegalArgumentException.class );
+		} );
+	}
+
+	private static class RecordingSubscriber<T> implements Flow.Subscriber<T> {
+		private final List<T> items = new ArrayList<>();
+		private Flow.Subscription subscription;
+		private Throwable error;
+		private boolean completed;
+
+		@Override
+		public void onSubscribe(Flow.Subscription subscription) {
+			this.subscription = subscription;
+		}
+
+		@Override
+		public void onNext(T item) {
+			items.add( item );
+		}
+
+		@Override
+		public void onError(Throwable throwable) {
+			error = throwable;
+		}
+
+		@Override
+		public void onComplete() {
+			completed = true;
+		}
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		int id;
+		String name;
+
+		Item() {
+		}
+
+		Item(int id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Product")
+	public static class Product {
+		@Id
+		int id;
+		@ManyToOne
+		Category category;
+
+		Product() {
+		}
+
+		Product(int id, Category category) {
+			this.id = id;
+			this.category = category;
+		}
+	}
+
+	@Entity(name = "Category")
+	public static class Category {
+		@Id
+		int id;
+
+		Category() {
+		}
+
+		Category(int id) {
+			this.id = id;
+		}
+	}
+}
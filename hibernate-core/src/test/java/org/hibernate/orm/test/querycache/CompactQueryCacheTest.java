@@ -0,0 +1,157 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.querycache;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import org.hibernate.cfg.CacheSettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.cache.spi.RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME;
+
+/**
+ * Tests for {@value CacheSettings#QUERY_CACHE_COMPACT_RESULTS}.
+ */
+@DomainModel(annotatedClasses = CompactQueryCacheTest.Reading.class)
+@SessionFactory(generateStatistics = true)
+@ServiceRegistry(settings = {
+		@Setting(name = CacheSettings.USE_QUERY_CACHE, value = "true"),
+		@Setting(name = CacheSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = CacheSettings.QUERY_CACHE_COMPACT_RESULTS, value = "true"),
+		@Setting(name = CacheSettings.QUERY_CACHE_COMPRESSION, value = "true")
+})
+public class CompactQueryCacheTest {
+	private static final int COUNT = 300;
+
+	@BeforeAll
+	public void createData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < COUNT; i++ ) {
+				session.persist( new Reading(
+						i,
+						"Reading " + i,
+						i * 1.5,
+						i % 3 == 0 ? null : -i * 10_000_000_000L,
+						i % 2 == 0,
+						LocalDate.of( 2025, 1, 1 ).plusDays( i )
+				) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void dropData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@BeforeEach
+	public void clearCache(SessionFactoryScope scope) {
+		scope.getSessionFactory().getCache().evictQueryRegions();
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@Test
+	public void testRows(SessionFactoryScope scope) {
+		final var statistics = scope.getSessionFactory().getStatistics();
+		final String hql = "select id, label, amount, code, active, takenOn from Reading order by id";
+		final List<Object[]> missed = scope.fromTransaction( session ->
+				session.createSelectionQuery( hql, Object[].class ).setCacheable( true ).getResultList() );
+		final List<Object[]> hit = scope.fromTransaction( session ->
+				session.createSelectionQuery( hql, Object[].class ).setCacheable( true ).getResultList() );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+		assertThat( hit ).hasSize( COUNT );
+		for ( int i = 0; i < COUNT; i++ ) {
+			assertThat( hit.get( i ) ).containsExactly( missed.get( i ) );
+		}
+		assertThat( hit.get( 3 ) )
+				.containsExactly( 3, "Reading 3", 4.5, null, false, LocalDate.of( 2025, 1, 4 ) );
+		assertThat( hit.get( 4 ) )
+				.containsExactly( 4, "Reading 4", 6.0, -40_000_000_000L, true, LocalDate.of( 2025, 1, 5 ) );
+
+		final var regionStatistics =
+				statistics.getQueryRegionStatistics( DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME );
+		assertThat( regionStatistics.getQueryResultsEncodedPutCount() ).isEqualTo( 1 );
+		assertThat( regionStatistics.getQueryResultsEncodedSize() ).isPositive();
+		assertThat( regionStatistics.getAverageQueryResultsEncodedSize() )
+				.isEqualTo( regionStatistics.getQueryResultsEncodedSize() );
+	}
+
+	@Test
+	public void testSingleValues(SessionFactoryScope scope) {
+		final var statistics = scope.getSessionFactory().getStatistics();
+		final String hql = "select label from Reading where id < :max order by id";
+		for ( int i = 0; i < 2; i++ ) {
+			final List<String> labels = scope.fromTransaction( session ->
+					session.createSelectionQuery( hql, String.class )
+							.setParameter( "max", 10 )
+							.setCacheable( true )
+							.getResultList() );
+			assertThat( labels ).hasSize( 10 );
+			assertThat( labels.get( 9 ) ).isEqualTo( "Reading 9" );
+		}
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+
+		final List<String> none = scope.fromTransaction( session ->
+				session.createSelectionQuery( hql, String.class )
+						.setParameter( "max", -1 )
+						.setCacheable( true )
+						.getResultList() );
+		assertThat( none ).isEmpty();
+	}
+
+	@Test
+	public void testEntities(SessionFactoryScope scope) {
+		final var statistics = scope.getSessionFactory().getStatistics();
+		for ( int i = 0; i < 2; i++ ) {
+			scope.inTransaction( session -> {
+				final var readings =
+						session.createSelectionQuery( "from Reading where active order by id", Reading.class )
+								.setCacheable( true )
+								.getResultList();
+				assertThat( readings ).hasSize( COUNT / 2 );
+				assertThat( readings.get( 5 ).label ).isEqualTo( "Reading 10" );
+				assertThat( readings.get( 5 ).code ).isEqualTo( -100_000_000_000L );
+			} );
+		}
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+	}
+
+	@Entity(name = "Reading")
+	public static class Reading {
+		@Id
+		int id;
+		String label;
+		double amount;
+		Long code;
+		boolean active;
+		LocalDate takenOn;
+
+		Reading() {
+		}
+
+		Reading(int id, String label, double amount, Long code, boolean active, LocalDate takenOn) {
+			this.id = id;
+			this.label = label;
+			this.amount = amount;
+			this.code = code;
+			this.active = active;
+			this.takenOn = takenOn;
+		}
+	}
+}
@@ -0,0 +1,71 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.stat.internal;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.hibernate.cfg.QuerySettings;
+import org.hibernate.stat.InternalCacheStatistics;
+import org.hibernate.stat.spi.StatisticsImplementor;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import static org.hibernate.query.spi.QueryInterpretationCache.HQL_INTERPRETATION_CACHE_NAME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SuppressWarnings("JUnitMalformedDeclaration")
+@DomainModel(annotatedClasses = QueryPlanCacheEvictionStatisticsTest.Employee.class)
+@SessionFactory(generateStatistics = true)
+@ServiceRegistry(
+		settings = {
+				@Setting(name = QuerySettings.QUERY_PLAN_CACHE_IMPLEMENTATION, value = "tinylfu"),
+				@Setting(name = QuerySettings.QUERY_PLAN_CACHE_MAX_SIZE, value = "10")
+		}
+)
+public class QueryPlanCacheEvictionStatisticsTest {
+
+	@Test
+	public void testHitMissAndEvictionCounts(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inSession( session -> {
+			for ( int i = 0; i < 3; i++ ) {
+				session.createSelectionQuery( "from Employee", Employee.class );
+			}
+
+			final InternalCacheStatistics hqlStatistics =
+					statistics.getInternalCacheStatistics( HQL_INTERPRETATION_CACHE_NAME );
+			assertNotNull( hqlStatistics );
+			assertEquals( 1, hqlStatistics.getMissCount() );
+			assertEquals( 2, hqlStatistics.getHitCount() );
+			assertEquals( 0, hqlStatistics.getEvictionCount() );
+
+			for ( int i = 0; i < 30; i++ ) {
+				session.createSelectionQuery( "from Employee e where e.id = " + i, Employee.class );
+			}
+			assertEquals( 31, hqlStatistics.getMissCount() );
+			// the cache holds at most 10 interpretations
+			assertTrue( hqlStatistics.getEvictionCount() >= 21 );
+			assertTrue( scope.getSessionFactory().getQueryEngine().getInterpretationCache()
+					.getNumberOfCachedHqlInterpretations() <= 10 );
+		} );
+	}
+
+	@Entity(name = "Employee")
+	@Table(name = "employees")
+	public static class Employee {
+		@Id
+		private Long id;
+		private String name;
+	}
+}
@@ -0,0 +1,111 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.stats;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import org.hibernate.stat.internal.QueryStatisticsImpl;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the execution and fetch time percentiles.
+ */
+@DomainModel(annotatedClasses = {LatencyPercentilesTest.Author.class, LatencyPercentilesTest.Book.class})
+@SessionFactory(generateStatistics = true)
+public class LatencyPercentilesTest {
+
+	@BeforeAll
+	public void createData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final var author = new Author( 1 );
+			session.persist( author );
+			session.persist( new Book( 1, author ) );
+			session.persist( new Book( 2, author ) );
+		} );
+	}
+
+	@AfterAll
+	public void dropData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testQueryExecutionTimePercentiles() {
+		final var statistics = new QueryStatisticsImpl( "from Book" );
+		assertThat( statistics.getExecutionTimePercentile( 0.5 ) ).isZero();
+		for ( int time = 1; time <= 100; time++ ) {
+			statistics.executed( 1, time );
+		}
+		assertThat( statistics.getExecutionTimePercentile( 0.0 ) ).isEqualTo( 1 );
+		assertThat( statistics.getExecutionTimePercentile( 0.1 ) ).isEqualTo( 10 );
+		assertThat( statistics.getExecutionTimePercentile( 0.5 ) ).isBetween( 50L, 57L );
+		assertThat( statistics.getExecutionTimePercentile( 0.99 ) ).isBetween( 99L, 112L );
+		assertThat( statistics.getExecutionTimePercentile( 1.0 ) ).isBetween( 100L, 113L );
+
+		// beyond the range of the histogram
+		statistics.executed( 1, 1L << 40 );
+		assertThat( statistics.getExecutionTimePercentile( 1.0 ) ).isGreaterThan( 1L << 32 );
+	}
+
+	@Test
+	public void testFetchTimePercentiles(SessionFactoryScope scope) {
+		final var statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> {
+			final var author = session.find( Author.class, 1 );
+			assertThat( author.books ).hasSize( 2 );
+		} );
+		final var collectionStatistics =
+				statistics.getCollectionStatistics( Author.class.getName() + ".books" );
+		assertThat( collectionStatistics.getFetchCount() ).isEqualTo( 1 );
+		assertThat( collectionStatistics.getFetchTimePercentileMicroseconds( 1.0 ) ).isPositive();
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		int id;
+		@OneToMany(mappedBy = "author", fetch = FetchType.LAZY)
+		Set<Book> books = new HashSet<>();
+
+		Author() {
+		}
+
+		Author(int id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		int id;
+		@ManyToOne
+		Author author;
+
+		Book() {
+		}
+
+		Book(int id, Author author) {
+			this.id = id;
+			this.author = author;
+		}
+	}
+}
@@ -0,0 +1,80 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.stats;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import org.hibernate.cfg.StatisticsSettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value StatisticsSettings#STATISTICS_SAMPLE_RATE}.
+ */
+@DomainModel(annotatedClasses = StatisticsSamplingTest.Ping.class)
+@SessionFactory(generateStatistics = true)
+@ServiceRegistry(settings = @Setting(name = StatisticsSettings.STATISTICS_SAMPLE_RATE, value = "4"))
+public class StatisticsSamplingTest {
+	private static final int COUNT = 400;
+
+	@AfterEach
+	public void dropData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testExtrapolatedCounts(SessionFactoryScope scope) {
+		final var statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < COUNT; i++ ) {
+				session.persist( new Ping( i ) );
+			}
+		} );
+		for ( int i = 0; i < COUNT; i++ ) {
+			scope.inTransaction( session ->
+					session.createSelectionQuery( "from Ping where id = 1", Ping.class ).getResultList() );
+		}
+
+		// the global counts are exact
+		assertThat( statistics.getEntityInsertCount() ).isEqualTo( COUNT );
+		assertThat( statistics.getQueryExecutionCount() ).isEqualTo( COUNT );
+
+		// the detailed counts are estimates
+		final long insertCount = statistics.getEntityStatistics( Ping.class.getName() ).getInsertCount();
+		assertThat( insertCount % 4 ).isZero();
+		assertThat( insertCount ).isBetween( COUNT / 2L, COUNT * 3 / 2L );
+		final var queryStatistics = statistics.getQueryStatistics( "from Ping where id = 1" );
+		final long executionCount = queryStatistics.getExecutionCount();
+		assertThat( executionCount % 4 ).isZero();
+		assertThat( executionCount ).isBetween( COUNT / 2L, COUNT * 3 / 2L );
+
+		// but the extreme execution times are exact
+		assertThat( queryStatistics.getExecutionMaxTime() ).isEqualTo( statistics.getQueryExecutionMaxTime() );
+		assertThat( queryStatistics.getExecutionMinTime() ).isLessThanOrEqualTo( queryStatistics.getExecutionMaxTime() );
+	}
+
+	@Entity(name = "Ping")
+	public static class Ping {
+		@Id
+		int id;
+
+		Ping() {
+		}
+
+		Ping(int id) {
+			this.id = id;
+		}
+	}
+}
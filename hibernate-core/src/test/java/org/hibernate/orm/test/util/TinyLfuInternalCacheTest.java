@@ -0,0 +1,86 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.internal.util.cache.InternalCache;
+import org.hibernate.internal.util.cache.InternalCacheFactory;
+import org.hibernate.internal.util.cache.InternalCacheFactoryInitiator;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.cfg.QuerySettings.QUERY_PLAN_CACHE_IMPLEMENTATION;
+
+public class TinyLfuInternalCacheTest {
+
+	private static InternalCacheFactory cacheFactory() {
+		return InternalCacheFactoryInitiator.INSTANCE.initiateService(
+				Map.of( QUERY_PLAN_CACHE_IMPLEMENTATION, "tinylfu" ),
+				null
+		);
+	}
+
+	@Test
+	public void testBasicOperations() {
+		final InternalCache<String, String> cache = cacheFactory().createInternalCache( 100 );
+		assertThat( cache.get( "a" ) ).isNull();
+
+		cache.put( "a", "1" );
+		assertThat( cache.get( "a" ) ).isEqualTo( "1" );
+
+		cache.put( "a", "2" );
+		assertThat( cache.get( "a" ) ).isEqualTo( "2" );
+		assertThat( cache.heldElementsEstimate() ).isEqualTo( 1 );
+
+		final AtomicInteger computations = new AtomicInteger();
+		assertThat( cache.computeIfAbsent( "b", key -> key + computations.incrementAndGet() ) ).isEqualTo( "b1" );
+		assertThat( cache.computeIfAbsent( "b", key -> key + computations.incrementAndGet() ) ).isEqualTo( "b1" );
+		assertThat( computations ).hasValue( 1 );
+		assertThat( cache.computeIfAbsent( "c", key -> null ) ).isNull();
+		assertThat( cache.heldElementsEstimate() ).isEqualTo( 2 );
+
+		cache.clear();
+		assertThat( cache.get( "a" ) ).isNull();
+		assertThat( cache.heldElementsEstimate() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testBoundedAndReportsEvictions() {
+		final List<Integer> evicted = new ArrayList<>();
+		final InternalCache<Integer, Integer> cache = cacheFactory().createInternalCache( 50, evicted::add );
+		for ( int i = 0; i < 1000; i++ ) {
+			cache.put( i, i );
+		}
+		assertThat( cache.heldElementsEstimate() ).isLessThanOrEqualTo( 50 );
+		assertThat( evicted ).hasSize( 1000 - cache.heldElementsEstimate() );
+	}
+
+	@Test
+	public void testFrequentlyUsedEntriesSurviveScan() {
+		final InternalCache<String, String> cache = cacheFactory().createInternalCache( 100 );
+		for ( int round = 0; round < 20; round++ ) {
+			for ( int i = 0; i < 20; i++ ) {
+				cache.computeIfAbsent( "hot" + i, key -> key );
+			}
+		}
+
+		// a scan of entries which are only ever used once
+		for ( int i = 0; i < 10_000; i++ ) {
+			cache.computeIfAbsent( "cold" + i, key -> key );
+		}
+
+		int retained = 0;
+		for ( int i = 0; i < 20; i++ ) {
+			if ( cache.get( "hot" + i ) != null ) {
+				retained++;
+			}
+		}
+		assertThat( retained ).isEqualTo( 20 );
+	}
+}
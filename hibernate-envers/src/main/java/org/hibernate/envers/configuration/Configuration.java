@@ -20,6 +20,7 @@
 import org.hibernate.envers.boot.internal.LegacyModifiedColumnNamingStrategy;
 import org.hibernate.envers.boot.spi.ModifiedColumnNamingStrategy;
 import org.hibernate.envers.configuration.internal.RevisionInfoConfiguration;
+import org.hibernate.envers.exception.AuditException;
 import org.hibernate.envers.internal.tools.ReflectionTools;
 import org.hibernate.envers.internal.tools.StringTools;
 import org.hibernate.envers.strategy.AuditStrategy;
@@ -88,6 +89,7 @@ public class Configuration {
 	private final boolean revisionEndTimestampNumeric;
 	private final boolean revisionEndTimestampUseLegacyPlacement;
 	private final boolean revisionSequenceNoCache;
+	private final int statelessAuditWritesBatchSize;
 
 	private final Map<String, String> customAuditTableNames = new HashMap<>();
 
@@ -177,6 +179,17 @@ public Configuration(Properties properties, EnversService enversService, InFligh
 				false
 		);
 
+		if ( configProps.getBoolean( EnversSettings.STATELESS_AUDIT_WRITES, false ) ) {
+			statelessAuditWritesBatchSize = configProps.getInt( EnversSettings.STATELESS_AUDIT_WRITES_BATCH_SIZE, 50 );
+			if ( statelessAuditWritesBatchSize < 1 ) {
+				throw new AuditException( "'" + EnversSettings.STATELESS_AUDIT_WRITES_BATCH_SIZE
+						+ "' must be greater than zero" );
+			}
+		}
+		else {
+			statelessAuditWritesBatchSize = 0;
+		}
+
 		revisionPropertyBasePath = originalIdPropertyName + "." + revisionFieldName + ".";
 		revisionNumberPath = revisionPropertyBasePath + "id";
 
@@ -247,6 +260,16 @@ public boolean isRevisionSequenceNoCache() {
 		return revisionSequenceNoCache;
 	}
 
+	/**
+	 * The JDBC batch size used to write audit rows via a stateless session,
+	 * or zero if audit rows are persisted by the session.
+	 *
+	 * @see EnversSettings#STATELESS_AUDIT_WRITES
+	 */
+	public int getStatelessAuditWritesBatchSize() {
+		return statelessAuditWritesBatchSize;
+	}
+
 	public String getDefaultCatalogName() {
 		return defaultCatalogName;
 	}
@@ -430,6 +453,10 @@ boolean getBoolean(String propertyName, boolean defaultValue) {
 			return ConfigurationHelper.getBoolean( propertyName, properties, defaultValue );
 		}
 
+		int getInt(String propertyName, int defaultValue) {
+			return ConfigurationHelper.getInt( propertyName, properties, defaultValue );
+		}
+
 		boolean getBooleanWithFallback(String basePropertyName, String newPropertyName, boolean defaultValue) {
 			if ( !properties.containsKey( basePropertyName ) ) {
 				return getBoolean( newPropertyName, defaultValue );
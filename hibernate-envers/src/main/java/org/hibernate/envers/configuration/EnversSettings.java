@@ -184,6 +184,31 @@ public interface EnversSettings {
 	 */
 	String GLOBAL_RELATION_NOT_FOUND_LEGACY_FLAG = "org.hibernate.envers.global_relation_not_found_legacy_flag";
 
+	/**
+	 * When enabled, the audit rows for changes made in a stateful session are not persisted
+	 * by the session, but are written, at the end of the transaction, by a stateless session
+	 * which shares its connection. The rows are grouped by audit table and written using JDBC
+	 * batches of size {@value #STATELESS_AUDIT_WRITES_BATCH_SIZE}, and are never attached to
+	 * the persistence context of the session.
+	 * <p>
+	 * This is recommended when a transaction changes a large number of audited entities.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * @since 7.2
+	 */
+	String STATELESS_AUDIT_WRITES = "org.hibernate.envers.stateless_audit_writes";
+
+	/**
+	 * The JDBC batch size used to write audit rows when {@value #STATELESS_AUDIT_WRITES}
+	 * is enabled.
+	 *
+	 * Defaults to {@literal 50}.
+	 *
+	 * @since 7.2
+	 */
+	String STATELESS_AUDIT_WRITES_BATCH_SIZE = "org.hibernate.envers.stateless_audit_writes_batch_size";
+
 	/**
 	 * Whether to apply a nocache configuration for the revision sequence.
 	 * This is mostly interesting for testing.
@@ -4,8 +4,12 @@
  */
 package org.hibernate.envers.internal.synchronization;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 
@@ -17,6 +21,7 @@
 import org.hibernate.envers.exception.AuditException;
 import org.hibernate.envers.internal.revisioninfo.RevisionInfoGenerator;
 import org.hibernate.envers.internal.synchronization.work.AuditWorkUnit;
+import org.hibernate.envers.internal.synchronization.work.PersistentCollectionChangeWorkUnit;
 import org.hibernate.envers.tools.Pair;
 import org.jboss.logging.Logger;
 
@@ -32,6 +37,10 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
 
 	private final RevisionInfoGenerator revisionInfoGenerator;
 	private final SharedSessionContractImplementor session;
+	// if positive, the audit rows are written in JDBC batches
+	// of this size via a stateless session, instead of being
+	// persisted by the session
+	private final int statelessBatchSize;
 
 	private final LinkedList<AuditWorkUnit> workUnits;
 	private final Queue<AuditWorkUnit> undoQueue;
@@ -43,8 +52,22 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
 	private boolean revisionDataSaved;
 
 	public AuditProcess(RevisionInfoGenerator revisionInfoGenerator, SharedSessionContractImplementor session) {
+		this( revisionInfoGenerator, session, 0 );
+	}
+
+	/**
+	 * @param statelessBatchSize if positive, the JDBC batch size used to write the audit
+	 *                           rows for a stateful session via a stateless session
+	 *
+	 * @see org.hibernate.envers.configuration.EnversSettings#STATELESS_AUDIT_WRITES
+	 */
+	public AuditProcess(
+			RevisionInfoGenerator revisionInfoGenerator,
+			SharedSessionContractImplementor session,
+			int statelessBatchSize) {
 		this.revisionInfoGenerator = revisionInfoGenerator;
 		this.session = session;
+		this.statelessBatchSize = statelessBatchSize;
 
 		workUnits = new LinkedList<>();
 		undoQueue = new LinkedList<>();
@@ -159,6 +182,17 @@ public void doBeforeTransactionCompletion(SharedSessionContractImplementor sessi
 				executeInStatelessSession( statelessSession );
 			}
 		}
+		else if ( statelessBatchSize > 0 ) {
+			assert session instanceof SessionImplementor;
+			final SessionImplementor statefulSession = (SessionImplementor) session;
+			// the audit rows are never attached to the session
+			try (StatelessSessionImplementor statelessSession = (StatelessSessionImplementor) statefulSession.statelessWithOptions()
+					.connection()
+					.noSessionInterceptorCreation()
+					.open()) {
+				executeBatchedInStatelessSession( statefulSession, statelessSession );
+			}
+		}
 		else if ( FlushMode.MANUAL.equals( session.getHibernateFlushMode() ) || session.isClosed() ) {
 			assert session instanceof SessionImplementor;
 			final SessionImplementor statefulSession = (SessionImplementor) session;
@@ -213,4 +247,66 @@ private void executeInStatelessSession(StatelessSessionImplementor statelessSess
 			entityChangeNotifier.entityChanged( statelessSession, currentRevisionData, vwu );
 		}
 	}
+
+	private void executeBatchedInStatelessSession(
+			SessionImplementor statefulSession,
+			StatelessSessionImplementor statelessSession) {
+		if ( revisionData == null ) {
+			revisionData = revisionInfoGenerator.generate();
+		}
+
+		// Notifying about the changes before the revision data is inserted,
+		// since it is not updated afterward
+		for ( AuditWorkUnit vwu : workUnits ) {
+			entityChangeNotifier.entityChanged( statelessSession, revisionData, vwu );
+		}
+
+		// Making sure the revision data is persisted, without flushing
+		// a session which the application flushes manually
+		if ( !statefulSession.isClosed()
+				&& !FlushMode.MANUAL.equals( statefulSession.getHibernateFlushMode() )
+				&& statefulSession.contains( revisionData ) ) {
+			statefulSession.flush();
+		}
+		else if ( !revisionDataSaved ) {
+			revisionInfoGenerator.saveRevisionData( statelessSession, revisionData );
+			revisionDataSaved = true;
+		}
+
+		final Integer jdbcBatchSize = statelessSession.getJdbcBatchSize();
+		statelessSession.setJdbcBatchSize( statelessBatchSize );
+		try {
+			AuditWorkUnit vwu;
+
+			// First undoing any performed work units
+			while ( (vwu = undoQueue.poll()) != null ) {
+				vwu.undo( statelessSession );
+			}
+
+			// Consecutive rows of the same audit table are written in the same batch
+			for ( List<AuditWorkUnit> group : groupByAuditTable( workUnits ) ) {
+				for ( AuditWorkUnit workUnit : group ) {
+					workUnit.perform( statelessSession, revisionData );
+				}
+			}
+
+			statelessSession.getJdbcCoordinator().executeBatch();
+		}
+		finally {
+			statelessSession.setJdbcBatchSize( jdbcBatchSize );
+		}
+	}
+
+	private static Collection<List<AuditWorkUnit>> groupByAuditTable(Queue<AuditWorkUnit> workUnits) {
+		final Map<String, List<AuditWorkUnit>> groups = new LinkedHashMap<>();
+		AuditWorkUnit vwu;
+		while ( (vwu = workUnits.poll()) != null ) {
+			// a collection change is written to the middle table of the collection
+			final String auditTableKey = vwu instanceof PersistentCollectionChangeWorkUnit collectionChange
+					? vwu.getEntityName() + '.' + collectionChange.getReferencingPropertyName()
+					: vwu.getEntityName();
+			groups.computeIfAbsent( auditTableKey, key -> new ArrayList<>() ).add( vwu );
+		}
+		return groups.values();
+	}
 }
@@ -20,11 +20,21 @@
 public class AuditProcessManager {
 	private final Map<Transaction, AuditProcess> auditProcesses;
 	private final RevisionInfoGenerator revisionInfoGenerator;
+	private final int statelessBatchSize;
 
 	public AuditProcessManager(RevisionInfoGenerator revisionInfoGenerator) {
+		this( revisionInfoGenerator, 0 );
+	}
+
+	/**
+	 * @param statelessBatchSize the JDBC batch size used to write audit rows
+	 * via a stateless session, or zero if they are persisted by the session
+	 */
+	public AuditProcessManager(RevisionInfoGenerator revisionInfoGenerator, int statelessBatchSize) {
 		auditProcesses = new ConcurrentHashMap<>();
 
 		this.revisionInfoGenerator = revisionInfoGenerator;
+		this.statelessBatchSize = statelessBatchSize;
 	}
 
 	public AuditProcess get(SharedSessionContractImplementor session) {
@@ -33,7 +43,7 @@ public AuditProcess get(SharedSessionContractImplementor session) {
 		AuditProcess auditProcess = auditProcesses.get( transaction );
 		if ( auditProcess == null ) {
 			// No worries about registering a transaction twice - a transaction is single thread
-			auditProcess = new AuditProcess( revisionInfoGenerator, session );
+			auditProcess = new AuditProcess( revisionInfoGenerator, session, statelessBatchSize );
 			auditProcesses.put( transaction, auditProcess );
 
 			final TransactionCompletionCallbacks transactionCompletionCallbacks = session.getTransactionCompletionCallbacks();
@@ -0,0 +1,147 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.envers.stateless;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.hibernate.FlushMode;
+import org.hibernate.envers.AuditReaderFactory;
+import org.hibernate.envers.Audited;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.enhanced.SequenceIdRevisionEntity;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value EnversSettings#STATELESS_AUDIT_WRITES}.
+ */
+@DomainModel(annotatedClasses = StatelessAuditWritesTest.Person.class)
+@SessionFactory(useCollectingStatementInspector = true)
+@ServiceRegistry(settings = {
+		@Setting(name = EnversSettings.STATELESS_AUDIT_WRITES, value = "true"),
+		@Setting(name = EnversSettings.STATELESS_AUDIT_WRITES_BATCH_SIZE, value = "" + BATCH_SIZE)
+})
+public class StatelessAuditWritesTest {
+	private static final int COUNT = 20;
+	private static final int BATCH_SIZE = 7;
+
+	@Test
+	void testBatchedAuditWrites(SessionFactoryScope factoryScope) {
+		final var inspector = factoryScope.getCollectingStatementInspector();
+		inspector.clear();
+		factoryScope.inSession( (session) -> {
+			session.getTransaction().begin();
+			for ( int i = 0; i < COUNT; i++ ) {
+				session.persist( new Person( i, "Person " + i, Set.of( "a" + i, "b" + i ) ) );
+			}
+			session.getTransaction().commit();
+			// the audit rows and the revision were not attached to the session
+			assertThat( session.getPersistenceContextInternal().getNumberOfManagedEntities() )
+					.isEqualTo( COUNT );
+		} );
+		// the audit rows were written in batches
+		assertThat( countAuditInserts( inspector.getSqlQueries() ) )
+				.isEqualTo( ( COUNT + BATCH_SIZE - 1 ) / BATCH_SIZE );
+
+		factoryScope.inTransaction( (session) -> {
+			final List<Person> people = session.createSelectionQuery( "from Person", Person.class ).getResultList();
+			for ( var person : people ) {
+				person.name = person.name + "!";
+				person.nicknames.add( "c" + person.id );
+			}
+		} );
+
+		assertThat( countAuditRows( factoryScope ) ).isEqualTo( 2 * COUNT );
+
+		factoryScope.inTransaction( (session) -> {
+			final var auditReader = AuditReaderFactory.get( session );
+			for ( int i = 0; i < COUNT; i++ ) {
+				final List<Number> revisions = auditReader.getRevisions( Person.class, i );
+				assertThat( revisions ).hasSize( 2 );
+
+				final var first = auditReader.find( Person.class, i, revisions.get( 0 ) );
+				assertThat( first.name ).isEqualTo( "Person " + i );
+				assertThat( first.nicknames ).containsExactlyInAnyOrder( "a" + i, "b" + i );
+
+				final var second = auditReader.find( Person.class, i, revisions.get( 1 ) );
+				assertThat( second.name ).isEqualTo( "Person " + i + "!" );
+				assertThat( second.nicknames ).containsExactlyInAnyOrder( "a" + i, "b" + i, "c" + i );
+			}
+		} );
+	}
+
+	@Test
+	void testManualFlushMode(SessionFactoryScope factoryScope) {
+		factoryScope.inSession( (session) -> {
+			session.setHibernateFlushMode( FlushMode.MANUAL );
+			session.getTransaction().begin();
+			final var person = new Person( 1, "Person", Set.of( "a" ) );
+			session.persist( person );
+			session.flush();
+			// the revision is persisted, but not flushed, by the session
+			AuditReaderFactory.get( session ).getCurrentRevision( SequenceIdRevisionEntity.class, true );
+			person.name = "Unflushed";
+			session.getTransaction().commit();
+		} );
+
+		// the session was not flushed by the audit process
+		factoryScope.inTransaction( (session) ->
+				assertThat( session.find( Person.class, 1 ).name ).isEqualTo( "Person" ) );
+		assertThat( countAuditRows( factoryScope ) ).isEqualTo( 1 );
+	}
+
+	private static long countAuditInserts(List<String> sqlQueries) {
+		return sqlQueries.stream()
+				.filter( sql -> sql.toLowerCase( Locale.ROOT ).startsWith( "insert into batched_persons_aud " ) )
+				.count();
+	}
+
+	private static Long countAuditRows(SessionFactoryScope factoryScope) {
+		return factoryScope.fromTransaction( (session) -> session.createQuery( String.format(
+						"select count(*) from %s_AUD",
+						StatelessAuditWritesTest.Person.class.getName() ),
+				Long.class
+		).getSingleResult() );
+	}
+
+	@AfterEach
+	void dropTestData(SessionFactoryScope factoryScope) {
+		factoryScope.dropData();
+	}
+
+	@Entity(name = "Person")
+	@Table(name = "batched_persons")
+	@Audited
+	public static class Person {
+		@Id
+		private Integer id;
+		private String name;
+		@ElementCollection
+		private Set<String> nicknames = new HashSet<>();
+
+		public Person() {
+		}
+
+		public Person(Integer id, String name, Set<String> nicknames) {
+			this.id = id;
+			this.name = name;
+			this.nicknames.addAll( nicknames );
+		}
+	}
+}
@@ -42,4 +42,21 @@ public interface ConfigSettings {
 	 * @see javax.cache.spi.CachingProvider#getCacheManager(URI, ClassLoader)
 	 */
 	String CONFIG_URI = PROP_PREFIX + "uri";
+
+	/**
+	 * Enables an in-process near cache in front of the JCache {@link javax.cache.Cache}
+	 * backing a domain data region, holding at most the given number of entries.
+	 * The full setting name is this prefix followed by the unqualified region name,
+	 * for example {@code hibernate.javax.cache.near_cache.max_entries.com.acme.Book}.
+	 *
+	 * The near cache is kept coherent by writing through to the JCache, by never
+	 * holding soft locks, and by listening for updates, removals, and expirations
+	 * of entries in the JCache. It's most useful with a remote or serializing
+	 * JCache provider, for regions whose data is read far more often than written.
+	 *
+	 * By default, no region has a near cache.
+	 *
+	 * @since 7.2
+	 */
+	String NEAR_CACHE_MAX_ENTRIES_PREFIX = PROP_PREFIX + "near_cache.max_entries.";
 }
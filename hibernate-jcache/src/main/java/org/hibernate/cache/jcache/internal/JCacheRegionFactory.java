@@ -7,6 +7,7 @@
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -42,6 +43,7 @@ public class JCacheRegionFactory extends RegionFactoryTemplate {
 
 	private volatile CacheManager cacheManager;
 	private volatile MissingCacheStrategy missingCacheStrategy;
+	private volatile Map<String, Integer> nearCacheSizes = Map.of();
 
 	@SuppressWarnings("unused")
 	public JCacheRegionFactory() {
@@ -78,9 +80,12 @@ public DomainDataRegion buildDomainDataRegion(
 	protected DomainDataStorageAccess createDomainDataStorageAccess(
 			DomainDataRegionConfig regionConfig,
 			DomainDataRegionBuildingContext buildingContext) {
-		return new JCacheAccessImpl(
-				getOrCreateCache( regionConfig.getRegionName(), buildingContext.getSessionFactory() )
-		);
+		final Cache<Object, Object> cache =
+				getOrCreateCache( regionConfig.getRegionName(), buildingContext.getSessionFactory() );
+		final Integer nearCacheSize = nearCacheSizes.get( regionConfig.getRegionName() );
+		return nearCacheSize == null
+				? new JCacheAccessImpl( cache )
+				: new NearCacheJCacheAccessImpl( cache, nearCacheSize );
 	}
 
 	protected Cache<Object, Object> getOrCreateCache(String unqualifiedRegionName, SessionFactoryImplementor sessionFactory) {
@@ -190,6 +195,27 @@ protected void prepareForUse(SessionFactoryOptions settings, Map<String,Object>
 		this.missingCacheStrategy = MissingCacheStrategy.interpretSetting(
 				getProp( configValues, ConfigSettings.MISSING_CACHE_STRATEGY )
 		);
+		this.nearCacheSizes = resolveNearCacheSizes( configValues );
+	}
+
+	private static Map<String, Integer> resolveNearCacheSizes(Map<String,Object> configValues) {
+		if ( configValues == null ) {
+			return Map.of();
+		}
+		final Map<String, Integer> nearCacheSizes = new HashMap<>();
+		for ( var entry : configValues.entrySet() ) {
+			final String key = entry.getKey();
+			if ( key.startsWith( ConfigSettings.NEAR_CACHE_MAX_ENTRIES_PREFIX ) ) {
+				final int maxEntries = Integer.parseInt( entry.getValue().toString().trim() );
+				if ( maxEntries > 0 ) {
+					nearCacheSizes.put(
+							key.substring( ConfigSettings.NEAR_CACHE_MAX_ENTRIES_PREFIX.length() ),
+							maxEntries
+					);
+				}
+			}
+		}
+		return nearCacheSizes;
 	}
 
 	protected CacheManager resolveCacheManager(SessionFactoryOptions settings, Map<String,Object> properties) {
@@ -0,0 +1,206 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.jcache.internal;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import javax.cache.Cache;
+import javax.cache.configuration.Factory;
+import javax.cache.configuration.MutableCacheEntryListenerConfiguration;
+import javax.cache.event.CacheEntryEvent;
+import javax.cache.event.CacheEntryExpiredListener;
+import javax.cache.event.CacheEntryRemovedListener;
+import javax.cache.event.CacheEntryUpdatedListener;
+
+import org.hibernate.cache.spi.support.AbstractReadWriteAccess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
+
+/**
+ * StorageAccess implementation wrapping a JCache {@link Cache} reference,
+ * with a size-bounded in-process near cache in front of it.
+ * <p>
+ * Writes go through to the JCache and then evict the near cache entry, which
+ * is filled by the next read. Updating the near cache after the JCache is not
+ * atomic, so a racing write could otherwise leave a stale value behind. Soft
+ * locks written by {@link AbstractReadWriteAccess} are never held in the near
+ * cache, so that a locked entry is always read from the JCache. Updates,
+ * removals, and expirations of JCache entries, including those made by other
+ * nodes, evict the corresponding near cache entries.
+ * <p>
+ * Before a value read from the JCache is put in the near cache, a placeholder
+ * is put in its place. An invalidation arriving during the read removes the
+ * placeholder, and the value read, which may be stale, is then not kept.
+ *
+ * @since 7.2
+ */
+public class NearCacheJCacheAccessImpl extends JCacheAccessImpl {
+	private final ConcurrentMap<Object, Object> nearCache;
+	private final MutableCacheEntryListenerConfiguration<Object, Object> listenerConfiguration;
+
+	@SuppressWarnings("unchecked")
+	public NearCacheJCacheAccessImpl(Cache underlyingCache, int maxEntries) {
+		super( underlyingCache );
+		this.nearCache = new BoundedConcurrentHashMap<>( maxEntries, 16, BoundedConcurrentHashMap.Eviction.LRU );
+		final Invalidator invalidator = new Invalidator();
+		this.listenerConfiguration = new MutableCacheEntryListenerConfiguration<>(
+				(Factory<Invalidator>) () -> invalidator,
+				null,
+				false,
+				// synchronous, so that a read racing a write never keeps the overwritten value
+				true
+		);
+		underlyingCache.registerCacheEntryListener( listenerConfiguration );
+	}
+
+	@Override
+	public boolean contains(Object key) {
+		return getFromNearCache( key ) != null || super.contains( key );
+	}
+
+	@Override
+	public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+		final Object nearValue = getFromNearCache( key );
+		if ( nearValue != null ) {
+			return nearValue;
+		}
+		final var fill = beginFill( key );
+		final Object value = super.getFromCache( key, session );
+		completeFill( key, fill, value );
+		return value;
+	}
+
+	@Override
+	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+		super.putIntoCache( key, value, session );
+		// this also discards the placeholder of any read in progress
+		nearCache.remove( key );
+	}
+
+	@Override
+	public Map<Object, Object> getAllFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+		final Map<Object, Object> values = new HashMap<>();
+		final Map<Object, Fill> fills = new HashMap<>();
+		for ( Object key : keys ) {
+			final Object nearValue = getFromNearCache( key );
+			if ( nearValue == null ) {
+				fills.put( key, beginFill( key ) );
+			}
+			else {
+				values.put( key, nearValue );
+			}
+		}
+		if ( !fills.isEmpty() ) {
+			final Map<Object, Object> jcacheValues = super.getAllFromCache( fills.keySet(), session );
+			fills.forEach( (key, fill) -> completeFill( key, fill, jcacheValues.get( key ) ) );
+			values.putAll( jcacheValues );
+		}
+		return values;
+	}
+
+	@Override
+	public void removeFromCache(Object key, SharedSessionContractImplementor session) {
+		nearCache.remove( key );
+		super.removeFromCache( key, session );
+	}
+
+	@Override
+	public void evictData(Object key) {
+		nearCache.remove( key );
+		super.evictData( key );
+	}
+
+	@Override
+	public void clearCache(SharedSessionContractImplementor session) {
+		nearCache.clear();
+		super.clearCache( session );
+	}
+
+	@Override
+	public void evictData() {
+		nearCache.clear();
+		super.evictData();
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void release() {
+		nearCache.clear();
+		try {
+			getUnderlyingCache().deregisterCacheEntryListener( listenerConfiguration );
+		}
+		finally {
+			super.release();
+		}
+	}
+
+	private Object getFromNearCache(Object key) {
+		final Object nearValue = nearCache.get( key );
+		return nearValue instanceof Fill ? null : nearValue;
+	}
+
+	/**
+	 * Put a placeholder for a value about to be read from the JCache, unless
+	 * another read of the same key is already in progress.
+	 *
+	 * @return the placeholder, or {@code null} if none was put
+	 */
+	private Fill beginFill(Object key) {
+		final var fill = new Fill();
+		return nearCache.putIfAbsent( key, fill ) == null ? fill : null;
+	}
+
+	/**
+	 * Replace the placeholder with the value read from the JCache, unless the
+	 * placeholder has since been removed by an invalidation or a write.
+	 */
+	private void completeFill(Object key, Fill fill, Object value) {
+		if ( fill != null ) {
+			if ( isNearCacheable( value ) ) {
+				nearCache.replace( key, fill, value );
+			}
+			else {
+				nearCache.remove( key, fill );
+			}
+		}
+	}
+
+	private static boolean isNearCacheable(Object value) {
+		return value != null && !( value instanceof AbstractReadWriteAccess.SoftLockImpl );
+	}
+
+	/**
+	 * A placeholder for a value being read from the JCache.
+	 */
+	private static final class Fill {
+	}
+
+	private class Invalidator
+			implements CacheEntryUpdatedListener<Object, Object>, CacheEntryRemovedListener<Object, Object>,
+					CacheEntryExpiredListener<Object, Object> {
+		@Override
+		public void onUpdated(Iterable<CacheEntryEvent<?, ?>> events) {
+			invalidate( events );
+		}
+
+		@Override
+		public void onRemoved(Iterable<CacheEntryEvent<?, ?>> events) {
+			invalidate( events );
+		}
+
+		@Override
+		public void onExpired(Iterable<CacheEntryEvent<?, ?>> events) {
+			invalidate( events );
+		}
+
+		private void invalidate(Iterable<CacheEntryEvent<?, ?>> events) {
+			for ( var event : events ) {
+				nearCache.remove( event.getKey() );
+			}
+		}
+	}
+}
@@ -0,0 +1,249 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.jcache;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.cache.Cache;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.jcache.internal.JCacheAccessImpl;
+import org.hibernate.cache.jcache.internal.NearCacheJCacheAccessImpl;
+import org.hibernate.cache.spi.Region;
+import org.hibernate.cache.spi.support.DomainDataRegionTemplate;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import org.hibernate.testing.orm.junit.BaseUnitTest;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hibernate.testing.transaction.TransactionUtil2.inSession;
+
+/**
+ * Tests for {@link NearCacheJCacheAccessImpl}
+ */
+@BaseUnitTest
+public class NearCacheTest {
+
+	@Test
+	public void testNearCacheEnabledPerRegion() {
+		TestHelper.preBuildAllCaches();
+		try (final SessionFactoryImplementor sessionFactory = buildSessionFactory() ) {
+			assertThat( storageAccess( sessionFactory, TestHelper.entityRegionNames[0] ),
+					instanceOf( NearCacheJCacheAccessImpl.class ) );
+			assertThat( storageAccess( sessionFactory, TestHelper.entityRegionNames[1] ),
+					not( instanceOf( NearCacheJCacheAccessImpl.class ) ) );
+		}
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testNearCacheInvalidatedByJCacheChanges() {
+		TestHelper.preBuildAllCaches();
+		try (final SessionFactoryImplementor sessionFactory = buildSessionFactory() ) {
+			final JCacheAccessImpl access = storageAccess( sessionFactory, TestHelper.entityRegionNames[0] );
+			final Cache jcache = access.getUnderlyingCache();
+
+			inSession(
+					sessionFactory,
+					s -> {
+						access.putIntoCache( "key", "value", s );
+						assertThat( jcache.get( "key" ), equalTo( "value" ) );
+						assertThat( access.getFromCache( "key", s ), equalTo( "value" ) );
+
+						// a write made directly to the JCache, as if by another node
+						jcache.put( "key", "other" );
+						assertThat( access.getFromCache( "key", s ), equalTo( "other" ) );
+
+						jcache.remove( "key" );
+						assertThat( access.getFromCache( "key", s ), nullValue() );
+
+						access.putIntoCache( "key", "value", s );
+						access.evictData();
+						assertThat( jcache.get( "key" ), nullValue() );
+						assertThat( access.getFromCache( "key", s ), nullValue() );
+					}
+			);
+		}
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testInvalidationDuringJCacheRead() {
+		TestHelper.preBuildAllCaches();
+		try (final SessionFactoryImplementor sessionFactory = buildSessionFactory() ) {
+			final Cache jcache = storageAccess( sessionFactory, TestHelper.entityRegionNames[1] ).getUnderlyingCache();
+			jcache.put( "key", "value" );
+			jcache.put( "other", "value" );
+
+			// another node updates the entries just after they're read from the JCache
+			final AtomicBoolean invalidate = new AtomicBoolean( true );
+			final Cache interleaved = (Cache) Proxy.newProxyInstance(
+					Cache.class.getClassLoader(),
+					new Class<?>[] { Cache.class },
+					(proxy, method, args) -> {
+						if ( method.getName().equals( "close" ) ) {
+							// the JCache belongs to the session factory
+							return null;
+						}
+						try {
+							final Object result = method.invoke( jcache, args );
+							if ( ( method.getName().equals( "get" ) || method.getName().equals( "getAll" ) )
+									&& invalidate.compareAndSet( true, false ) ) {
+								jcache.put( "key", "updated" );
+								jcache.put( "other", "updated" );
+							}
+							return result;
+						}
+						catch (InvocationTargetException e) {
+							throw e.getCause();
+						}
+					}
+			);
+			final var access = new NearCacheJCacheAccessImpl( interleaved, 100 );
+			try {
+				inSession(
+						sessionFactory,
+						s -> {
+							// the stale value is returned by the read which raced the update,
+							assertThat( access.getFromCache( "key", s ), equalTo( "value" ) );
+							// but is not kept in the near cache
+							assertThat( access.getFromCache( "key", s ), equalTo( "updated" ) );
+
+							invalidate.set( true );
+							jcache.put( "key", "value" );
+							jcache.put( "other", "value" );
+							assertThat( access.getAllFromCache( List.of( "key", "other" ), s ),
+									equalTo( Map.of( "key", "value", "other", "value" ) ) );
+							assertThat( access.getAllFromCache( List.of( "key", "other" ), s ),
+									equalTo( Map.of( "key", "updated", "other", "updated" ) ) );
+						}
+				);
+			}
+			finally {
+				access.release();
+			}
+		}
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testRacingWrites() {
+		TestHelper.preBuildAllCaches();
+		try (final SessionFactoryImplementor sessionFactory = buildSessionFactory() ) {
+			final Cache jcache = storageAccess( sessionFactory, TestHelper.entityRegionNames[1] ).getUnderlyingCache();
+			final NearCacheJCacheAccessImpl[] access = new NearCacheJCacheAccessImpl[1];
+
+			// another write of the same key completes between
+			// the JCache write and the near cache update
+			final AtomicBoolean interleave = new AtomicBoolean( true );
+			final Cache interleaved = (Cache) Proxy.newProxyInstance(
+					Cache.class.getClassLoader(),
+					new Class<?>[] { Cache.class },
+					(proxy, method, args) -> {
+						if ( method.getName().equals( "close" ) ) {
+							// the JCache belongs to the session factory
+							return null;
+						}
+						try {
+							final Object result = method.invoke( jcache, args );
+							if ( method.getName().equals( "put" ) && interleave.compareAndSet( true, false ) ) {
+								access[0].putIntoCache( "key", "v2", null );
+							}
+							return result;
+						}
+						catch (InvocationTargetException e) {
+							throw e.getCause();
+						}
+					}
+			);
+			access[0] = new NearCacheJCacheAccessImpl( interleaved, 100 );
+			try {
+				inSession(
+						sessionFactory,
+						s -> {
+							access[0].putIntoCache( "key", "v1", s );
+							assertThat( jcache.get( "key" ), equalTo( "v2" ) );
+							// the near cache does not keep the value of the write which lost the race
+							assertThat( access[0].getFromCache( "key", s ), equalTo( "v2" ) );
+							assertThat( access[0].getFromCache( "key", s ), equalTo( "v2" ) );
+						}
+				);
+			}
+			finally {
+				access[0].release();
+			}
+		}
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testConcurrentReadsAndInvalidations() throws Exception {
+		TestHelper.preBuildAllCaches();
+		try (final SessionFactoryImplementor sessionFactory = buildSessionFactory() ) {
+			final JCacheAccessImpl access = storageAccess( sessionFactory, TestHelper.entityRegionNames[0] );
+			final Cache jcache = access.getUnderlyingCache();
+			jcache.put( "key", 0 );
+
+			final int readers = 4;
+			final int updates = 10_000;
+			final AtomicBoolean done = new AtomicBoolean();
+			final CountDownLatch start = new CountDownLatch( 1 );
+			final ExecutorService executor = Executors.newFixedThreadPool( readers );
+			try {
+				final Future<?>[] futures = new Future<?>[readers];
+				for ( int i = 0; i < readers; i++ ) {
+					futures[i] = executor.submit( () -> {
+						start.await();
+						while ( !done.get() ) {
+							access.getFromCache( "key", null );
+						}
+						return null;
+					} );
+				}
+				start.countDown();
+				// updates made directly to the JCache, as if by another node
+				for ( int i = 1; i <= updates; i++ ) {
+					jcache.put( "key", i );
+				}
+				done.set( true );
+				for ( var future : futures ) {
+					future.get( 30, TimeUnit.SECONDS );
+				}
+			}
+			finally {
+				executor.shutdownNow();
+			}
+
+			assertThat( access.getFromCache( "key", null ), equalTo( updates ) );
+		}
+	}
+
+	private static SessionFactoryImplementor buildSessionFactory() {
+		return TestHelper.buildStandardSessionFactory(
+				builder -> builder.applySetting(
+						ConfigSettings.NEAR_CACHE_MAX_ENTRIES_PREFIX + TestHelper.entityRegionNames[0],
+						"100"
+				)
+		);
+	}
+
+	private static JCacheAccessImpl storageAccess(SessionFactoryImplementor sessionFactory, String regionName) {
+		final Region region = sessionFactory.getCache().getRegion( regionName );
+		return (JCacheAccessImpl) ( (DomainDataRegionTemplate) region ).getCacheStorageAccess();
+	}
+}
@@ -19,6 +19,7 @@
 
 import jdk.jfr.EventType;
 
+import java.util.Collection;
 import java.util.Objects;
 
 
@@ -50,6 +51,10 @@ public class JfrEventMonitor implements EventMonitor {
 	private static final EventType collectionRecreateEventType = EventType.getEventType( CollectionRecreateEvent.class );
 	private static final EventType collectionUpdateEventType = EventType.getEventType( CollectionUpdateEvent.class );
 	private static final EventType collectionRemoveEventType = EventType.getEventType( CollectionRemoveEvent.class );
+	private static final EventType queryInterpretationEventType = EventType.getEventType( QueryInterpretationEvent.class );
+	private static final EventType resultsProcessingEventType = EventType.getEventType( ResultsProcessingEvent.class );
+	private static final EventType timestampsCheckEventType = EventType.getEventType( TimestampsCheckEvent.class );
+	private static final EventType proxyInitializationEventType = EventType.getEventType( ProxyInitializationEvent.class );
 
 	@Override
 	public SessionOpenEvent beginSessionOpenEvent() {
@@ -241,6 +246,26 @@ public void completeJdbcBatchExecutionEvent(
 		}
 	}
 
+	@Override
+	public void completeJdbcBatchExecutionEvent(
+			DiagnosticEvent monitoringEvent,
+			String statementSql,
+			String batchKey,
+			int rowCount,
+			int batchSize) {
+		if ( monitoringEvent != null ) {
+			final JdbcBatchExecutionEvent jdbcBatchExecutionEvent = (JdbcBatchExecutionEvent) monitoringEvent;
+			jdbcBatchExecutionEvent.end();
+			if ( jdbcBatchExecutionEvent.shouldCommit() ) {
+				jdbcBatchExecutionEvent.sql = statementSql;
+				jdbcBatchExecutionEvent.batchKey = batchKey;
+				jdbcBatchExecutionEvent.rowCount = rowCount;
+				jdbcBatchExecutionEvent.batchSize = batchSize;
+				jdbcBatchExecutionEvent.commit();
+			}
+		}
+	}
+
 	@Override
 	public DiagnosticEvent beginCachePutEvent() {
 		if ( cachePutEventType.isEnabled() ) {
@@ -779,6 +804,128 @@ public void completeCollectionRemoveEvent(
 		}
 	}
 
+	@Override
+	public DiagnosticEvent beginQueryInterpretationEvent() {
+		if ( queryInterpretationEventType.isEnabled() ) {
+			final QueryInterpretationEvent event = new QueryInterpretationEvent();
+			event.begin();
+			return event;
+		}
+		else {
+			return null;
+		}
+	}
+
+	@Override
+	public void completeQueryInterpretationEvent(
+			DiagnosticEvent event,
+			String queryString,
+			boolean cacheHit) {
+		if ( event != null ) {
+			final QueryInterpretationEvent queryInterpretationEvent = (QueryInterpretationEvent) event;
+			queryInterpretationEvent.end();
+			if ( queryInterpretationEvent.shouldCommit() ) {
+				queryInterpretationEvent.queryString = queryString;
+				queryInterpretationEvent.queryStringHash = Objects.hashCode( queryString );
+				queryInterpretationEvent.cacheHit = cacheHit;
+				queryInterpretationEvent.commit();
+			}
+		}
+	}
+
+	@Override
+	public DiagnosticEvent beginResultsProcessingEvent() {
+		if ( resultsProcessingEventType.isEnabled() ) {
+			final ResultsProcessingEvent event = new ResultsProcessingEvent();
+			event.begin();
+			return event;
+		}
+		else {
+			return null;
+		}
+	}
+
+	@Override
+	public void completeResultsProcessingEvent(
+			DiagnosticEvent event,
+			SharedSessionContractImplementor session,
+			String queryIdentifier,
+			int rowCount) {
+		if ( event != null ) {
+			final ResultsProcessingEvent resultsProcessingEvent = (ResultsProcessingEvent) event;
+			resultsProcessingEvent.end();
+			if ( resultsProcessingEvent.shouldCommit() ) {
+				resultsProcessingEvent.sessionIdentifier = getSessionIdentifier( session );
+				resultsProcessingEvent.queryString = queryIdentifier;
+				resultsProcessingEvent.queryStringHash = Objects.hashCode( queryIdentifier );
+				resultsProcessingEvent.rowCount = rowCount;
+				resultsProcessingEvent.commit();
+			}
+		}
+	}
+
+	@Override
+	public DiagnosticEvent beginTimestampsCheckEvent() {
+		if ( timestampsCheckEventType.isEnabled() ) {
+			final TimestampsCheckEvent event = new TimestampsCheckEvent();
+			event.begin();
+			return event;
+		}
+		else {
+			return null;
+		}
+	}
+
+	@Override
+	public void completeTimestampsCheckEvent(
+			DiagnosticEvent event,
+			SharedSessionContractImplementor session,
+			Collection<String> spaces,
+			boolean upToDate) {
+		if ( event != null ) {
+			final TimestampsCheckEvent timestampsCheckEvent = (TimestampsCheckEvent) event;
+			timestampsCheckEvent.end();
+			if ( timestampsCheckEvent.shouldCommit() ) {
+				timestampsCheckEvent.sessionIdentifier = getSessionIdentifier( session );
+				timestampsCheckEvent.querySpaces = String.join( ",", spaces );
+				timestampsCheckEvent.upToDate = upToDate;
+				timestampsCheckEvent.commit();
+			}
+		}
+	}
+
+	@Override
+	public DiagnosticEvent beginProxyInitializationEvent() {
+		if ( proxyInitializationEventType.isEnabled() ) {
+			final ProxyInitializationEvent event = new ProxyInitializationEvent();
+			event.begin();
+			return event;
+		}
+		else {
+			return null;
+		}
+	}
+
+	@Override
+	public void completeProxyInitializationEvent(
+			DiagnosticEvent event,
+			SharedSessionContractImplementor session,
+			String entityName,
+			Object id,
+			boolean success) {
+		if ( event != null ) {
+			final ProxyInitializationEvent proxyInitializationEvent = (ProxyInitializationEvent) event;
+			proxyInitializationEvent.end();
+			if ( proxyInitializationEvent.shouldCommit() ) {
+				proxyInitializationEvent.sessionIdentifier = getSessionIdentifier( session );
+				proxyInitializationEvent.entityName = entityName;
+				proxyInitializationEvent.id = Objects.toString( id );
+				proxyInitializationEvent.success = success;
+				proxyInitializationEvent.commit();
+			}
+		}
+	}
+
 	private String getSessionIdentifier(SharedSessionContractImplementor session) {
 		return session == null ? null : session.getSessionIdentifier().toString();
 	}
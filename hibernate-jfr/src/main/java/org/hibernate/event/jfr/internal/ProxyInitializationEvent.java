@@ -0,0 +1,43 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.event.jfr.internal;
+
+import org.hibernate.event.monitor.spi.DiagnosticEvent;
+import org.hibernate.internal.build.AllowNonPortable;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(ProxyInitializationEvent.NAME)
+@Label("Proxy Initialization")
+@Category("Hibernate ORM")
+@Description("Initialization of a Lazy Entity Proxy")
+@StackTrace
+@AllowNonPortable
+public class ProxyInitializationEvent extends Event implements DiagnosticEvent {
+	public static final String NAME = "org.hibernate.orm.ProxyInitializationEvent";
+
+	@Label("Session Identifier")
+	public String sessionIdentifier;
+
+	@Label("Entity Identifier")
+	public String id;
+
+	@Label("Entity Name")
+	public String entityName;
+
+	@Label("Success")
+	public boolean success;
+
+	@Override
+	public String toString() {
+		return NAME;
+	}
+
+}
@@ -0,0 +1,40 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.event.jfr.internal;
+
+import org.hibernate.event.monitor.spi.DiagnosticEvent;
+import org.hibernate.internal.build.AllowNonPortable;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(QueryInterpretationEvent.NAME)
+@Label("Query Interpretation")
+@Category("Hibernate ORM")
+@Description("HQL Query Parsing and Interpretation")
+@StackTrace
+@AllowNonPortable
+public class QueryInterpretationEvent extends Event implements DiagnosticEvent {
+	public static final String NAME = "org.hibernate.orm.QueryInterpretationEvent";
+
+	@Label("Query String")
+	public String queryString;
+
+	@Label("Query String Hash")
+	public int queryStringHash;
+
+	@Label("Plan Cache Hit")
+	public boolean cacheHit;
+
+	@Override
+	public String toString() {
+		return NAME;
+	}
+
+}
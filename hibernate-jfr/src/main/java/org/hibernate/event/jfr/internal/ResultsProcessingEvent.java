@@ -0,0 +1,43 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.event.jfr.internal;
+
+import org.hibernate.event.monitor.spi.DiagnosticEvent;
+import org.hibernate.internal.build.AllowNonPortable;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(ResultsProcessingEvent.NAME)
+@Label("Query Results Processing")
+@Category("Hibernate ORM")
+@Description("Processing of the Rows of a JDBC Result Set")
+@StackTrace
+@AllowNonPortable
+public class ResultsProcessingEvent extends Event implements DiagnosticEvent {
+	public static final String NAME = "org.hibernate.orm.ResultsProcessingEvent";
+
+	@Label("Session Identifier")
+	public String sessionIdentifier;
+
+	@Label("Query String")
+	public String queryString;
+
+	@Label("Query String Hash")
+	public int queryStringHash;
+
+	@Label("Row Count")
+	public int rowCount;
+
+	@Override
+	public String toString() {
+		return NAME;
+	}
+
+}
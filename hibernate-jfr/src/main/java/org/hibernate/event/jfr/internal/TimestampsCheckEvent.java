@@ -0,0 +1,40 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.event.jfr.internal;
+
+import org.hibernate.event.monitor.spi.DiagnosticEvent;
+import org.hibernate.internal.build.AllowNonPortable;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(TimestampsCheckEvent.NAME)
+@Label("Query Cache Timestamps Check")
+@Category("Hibernate ORM")
+@Description("Check of the Update Timestamps of the Query Spaces of Cached Query Results")
+@StackTrace
+@AllowNonPortable
+public class TimestampsCheckEvent extends Event implements DiagnosticEvent {
+	public static final String NAME = "org.hibernate.orm.TimestampsCheckEvent";
+
+	@Label("Session Identifier")
+	public String sessionIdentifier;
+
+	@Label("Query Spaces")
+	public String querySpaces;
+
+	@Label("Up To Date")
+	public boolean upToDate;
+
+	@Override
+	public String toString() {
+		return NAME;
+	}
+
+}
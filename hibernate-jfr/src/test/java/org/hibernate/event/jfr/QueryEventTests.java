@@ -0,0 +1,151 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.event.jfr;
+
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.event.jfr.internal.ProxyInitializationEvent;
+import org.hibernate.event.jfr.internal.QueryInterpretationEvent;
+import org.hibernate.event.jfr.internal.ResultsProcessingEvent;
+import org.hibernate.event.jfr.internal.TimestampsCheckEvent;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jdk.jfr.consumer.RecordedEvent;
+import org.moditect.jfrunit.EnableEvent;
+import org.moditect.jfrunit.JfrEventTest;
+import org.moditect.jfrunit.JfrEvents;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@JfrEventTest
+@DomainModel(annotatedClasses = QueryEventTests.TestEntity.class)
+@SessionFactory
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.USE_QUERY_CACHE, value = "true")
+})
+public class QueryEventTests {
+	public JfrEvents jfrEvents = new JfrEvents();
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new TestEntity( 1, "one" ) );
+			session.persist( new TestEntity( 2, "two" ) );
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	@EnableEvent(QueryInterpretationEvent.NAME)
+	@EnableEvent(ResultsProcessingEvent.NAME)
+	public void testQueryInterpretationAndResultsProcessingEvents(SessionFactoryScope scope) {
+		final String hql = "select t from TestEntity t where t.name is not null";
+		jfrEvents.reset();
+		scope.inTransaction( session -> {
+			session.createQuery( hql, TestEntity.class ).list();
+			session.createQuery( hql, TestEntity.class ).list();
+		} );
+
+		final List<RecordedEvent> interpretationEvents = events( QueryInterpretationEvent.NAME );
+		assertThat( interpretationEvents ).hasSize( 2 );
+		assertThat( interpretationEvents.get( 0 ).getString( "queryString" ) ).isEqualTo( hql );
+		assertThat( interpretationEvents.get( 0 ).getInt( "queryStringHash" ) ).isEqualTo( hql.hashCode() );
+		assertThat( interpretationEvents.get( 0 ).getBoolean( "cacheHit" ) ).isFalse();
+		assertThat( interpretationEvents.get( 1 ).getBoolean( "cacheHit" ) ).isTrue();
+
+		final List<RecordedEvent> resultsEvents = events( ResultsProcessingEvent.NAME );
+		assertThat( resultsEvents ).hasSize( 2 );
+		assertThat( resultsEvents.get( 0 ).getString( "queryString" ) ).isEqualTo( hql );
+		assertThat( resultsEvents.get( 0 ).getInt( "rowCount" ) ).isEqualTo( 2 );
+	}
+
+	@Test
+	@EnableEvent(ProxyInitializationEvent.NAME)
+	public void testProxyInitializationEvent(SessionFactoryScope scope) {
+		jfrEvents.reset();
+		final String sessionId = scope.fromTransaction( session -> {
+			final TestEntity reference = session.getReference( TestEntity.class, 1 );
+			assertThat( reference.getName() ).isEqualTo( "one" );
+			return session.getSessionIdentifier().toString();
+		} );
+
+		final List<RecordedEvent> events = events( ProxyInitializationEvent.NAME );
+		assertThat( events ).hasSize( 1 );
+		final RecordedEvent event = events.get( 0 );
+		assertThat( event.getDuration() ).isPositive();
+		assertThat( event.getString( "sessionIdentifier" ) ).isEqualTo( sessionId );
+		assertThat( event.getString( "entityName" ) ).isEqualTo( TestEntity.class.getName() );
+		assertThat( event.getString( "id" ) ).isEqualTo( "1" );
+		assertThat( event.getBoolean( "success" ) ).isTrue();
+	}
+
+	@Test
+	@EnableEvent(TimestampsCheckEvent.NAME)
+	public void testTimestampsCheckEvent(SessionFactoryScope scope) {
+		final String hql = "select t from TestEntity t order by t.id";
+		jfrEvents.reset();
+		// the first execution puts the results in the query cache,
+		// and the second checks that they are still up to date
+		scope.inTransaction( session -> session.createQuery( hql, TestEntity.class ).setCacheable( true ).list() );
+		final String sessionId = scope.fromTransaction( session -> {
+			session.createQuery( hql, TestEntity.class ).setCacheable( true ).list();
+			return session.getSessionIdentifier().toString();
+		} );
+		// an update to the table invalidates the cached results
+		scope.inTransaction( session -> session.find( TestEntity.class, 2 ).name = "deux" );
+		scope.inTransaction( session -> session.createQuery( hql, TestEntity.class ).setCacheable( true ).list() );
+		scope.inTransaction( session -> session.find( TestEntity.class, 2 ).name = "two" );
+
+		final List<RecordedEvent> events = events( TimestampsCheckEvent.NAME );
+		assertThat( events ).hasSize( 2 );
+		assertThat( events.get( 0 ).getString( "sessionIdentifier" ) ).isEqualTo( sessionId );
+		assertThat( events.get( 0 ).getString( "querySpaces" ) ).isEqualTo( "TestEntity" );
+		assertThat( events.get( 0 ).getBoolean( "upToDate" ) ).isTrue();
+		assertThat( events.get( 1 ).getString( "querySpaces" ) ).isEqualTo( "TestEntity" );
+		assertThat( events.get( 1 ).getBoolean( "upToDate" ) ).isFalse();
+	}
+
+	private List<RecordedEvent> events(String name) {
+		return jfrEvents.events()
+				.filter( recordedEvent -> recordedEvent.getEventType().getName().equals( name ) )
+				.toList();
+	}
+
+	@Entity(name = "TestEntity")
+	public static class TestEntity {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public TestEntity() {
+		}
+
+		public TestEntity(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+}
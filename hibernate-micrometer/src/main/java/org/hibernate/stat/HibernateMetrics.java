@@ -7,6 +7,7 @@
 import io.micrometer.common.lang.NonNullApi;
 import io.micrometer.common.lang.NonNullFields;
 import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Tags;
@@ -30,6 +31,7 @@
 public class HibernateMetrics implements MeterBinder {
 
 	private static final String SESSION_FACTORY_TAG_NAME = "entityManagerFactory";
+	private static final double[] PERCENTILES = { 0.5, 0.95, 0.99 };
 
 	private final String cacheFactoryPrefix;
 	private final Iterable<Tag> tags;
@@ -134,6 +136,18 @@ public void bindTo(MeterRegistry registry) {
 						"whether you use a connection pool or not)",
 				Statistics::getConnectCount
 		);
+		for ( double percentile : PERCENTILES ) {
+			TimeGauge.builder(
+					"hibernate.connections.obtained.percentile",
+					statistics,
+					TimeUnit.MICROSECONDS,
+					stats -> stats.getConnectTimePercentileMicroseconds( percentile )
+			)
+					.tags( tags )
+					.tags( "phi", Double.toString( percentile ) )
+					.description( "The time taken by sessions to obtain a connection" )
+					.register( registry );
+		}
 
 		// Statements
 		counter(registry, "hibernate.statements", "The number of prepared statements that were acquired",
@@ -143,6 +157,15 @@ public void bindTo(MeterRegistry registry) {
 				Statistics::getCloseStatementCount, "status", "closed"
 		);
 
+		// Batch fetching
+		counter(registry, "hibernate.batch.fetches", "The number of batch fetches of entities and collections",
+				Statistics::getBatchFetchCount
+		);
+		Gauge.builder( "hibernate.batch.fetches.fill", statistics, Statistics::getBatchFetchHitRatio )
+				.tags( tags )
+				.description( "The proportion of batch positions which were filled with a key" )
+				.register( registry );
+
 		// Second Level Caching
 		// AWKWARD: getSecondLevelCacheRegionNames is the only way to retrieve a list of names
 		// The returned names are all qualified.